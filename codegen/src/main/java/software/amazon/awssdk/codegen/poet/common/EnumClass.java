@@ -21,11 +21,13 @@ import static software.amazon.awssdk.codegen.poet.PoetUtils.createEnumBuilder;
 import static software.amazon.awssdk.codegen.poet.PoetUtils.toStringBuilder;
 
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -33,10 +35,12 @@ import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.codegen.poet.ClassSpec;
 import software.amazon.awssdk.codegen.poet.StaticImport;
+import software.amazon.awssdk.utils.EnumUtils;
 
 public final class EnumClass implements ClassSpec {
 
     private static final String VALUE = "value";
+    private static final String VALUE_MAP = "VALUE_MAP";
     private static final String UNKNOWN_TO_SDK_VERSION = "UNKNOWN_TO_SDK_VERSION";
     private final ShapeModel shape;
     private final ClassName className;
@@ -49,6 +53,7 @@ public final class EnumClass implements ClassSpec {
     @Override
     public TypeSpec poetSpec() {
         Builder enumBuilder = createEnumBuilder(className)
+            .addField(valueMapSpec())
             .addField(String.class, VALUE, Modifier.PRIVATE, Modifier.FINAL)
             .addMethod(toStringBuilder().addStatement("return $T.valueOf($N)", String.class, VALUE).build())
             .addMethod(fromValueSpec())
@@ -84,6 +89,14 @@ public final class EnumClass implements ClassSpec {
                          .build();
     }
 
+    private FieldSpec valueMapSpec() {
+        return FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(Map.class), ClassName.get(String.class), className),
+                                 VALUE_MAP)
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$1T.index($2T.class, $2T::toString)", EnumUtils.class, className)
+                        .build();
+    }
+
     private MethodSpec fromValueSpec() {
         return MethodSpec.methodBuilder("fromValue")
                          .returns(className)
@@ -96,13 +109,7 @@ public final class EnumClass implements ClassSpec {
                          .beginControlFlow("if ($N == null)", VALUE)
                          .addStatement("return null")
                          .endControlFlow()
-                         .addStatement("return $1T.of($2T.values())\n" +
-                                       ".filter(e -> e.toString().equals($3N))\n" +
-                                       ".findFirst()\n" +
-                                       ".orElse(UNKNOWN_TO_SDK_VERSION)",
-                                       Stream.class,
-                                       className,
-                                       VALUE)
+                         .addStatement("return $N.getOrDefault($N, $N)", VALUE_MAP, VALUE, UNKNOWN_TO_SDK_VERSION)
                          .build();
     }
 
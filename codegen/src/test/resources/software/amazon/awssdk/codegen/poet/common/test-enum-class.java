@@ -2,9 +2,11 @@ package software.amazon.awssdk.codegen.poet.common.model;
 
 import static java.util.stream.Collectors.toSet;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.utils.EnumUtils;
 
 /**
  * Some comment on the class itself
@@ -17,6 +19,8 @@ public enum TestEnumClass {
 
     UNKNOWN_TO_SDK_VERSION(null);
 
+    private static final Map<String, TestEnumClass> VALUE_MAP = EnumUtils.index(TestEnumClass.class, TestEnumClass::toString);
+
     private final String value;
 
     private TestEnumClass(String value) {
@@ -39,7 +43,7 @@ public enum TestEnumClass {
         if (value == null) {
             return null;
         }
-        return Stream.of(TestEnumClass.values()).filter(e -> e.toString().equals(value)).findFirst().orElse(UNKNOWN_TO_SDK_VERSION);
+        return VALUE_MAP.getOrDefault(value, UNKNOWN_TO_SDK_VERSION);
     }
 
     /**
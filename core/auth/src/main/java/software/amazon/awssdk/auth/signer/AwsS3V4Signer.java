@@ -16,28 +16,40 @@
 package software.amazon.awssdk.auth.signer;
 
 import static software.amazon.awssdk.auth.signer.internal.SignerConstant.X_AMZ_CONTENT_SHA256;
+import static software.amazon.awssdk.auth.signer.internal.SignerConstant.X_AMZ_DATE;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.auth.credentials.CredentialUtils;
 import software.amazon.awssdk.auth.signer.internal.AbstractAws4Signer;
 import software.amazon.awssdk.auth.signer.internal.Aws4SignerRequestParams;
+import software.amazon.awssdk.auth.signer.internal.Aws4SignerUtils;
+import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingAsyncRequestBody;
 import software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.auth.signer.params.AwsS3V4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.signer.AsyncRequestBodySigner;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * AWS4 signer implementation for AWS S3
+ * <p>
+ * When chunked encoding is used, the payload of asynchronous requests is signed chunk by chunk as it is sent, by the
+ * {@link AsyncRequestBody} returned from {@link #signAsyncRequestBody}.
  */
 @SdkPublicApi
-public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams, Aws4PresignerParams> {
+public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams, Aws4PresignerParams>
+    implements AsyncRequestBodySigner {
 
     private static final String CONTENT_SHA_256 = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
 
@@ -80,7 +92,51 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
         return doSign(request, requestParams, signingParams).build();
     }
 
+    /**
+     * Wraps the body of a request that was signed with chunked encoding, so that each chunk is signed as it is sent.
+     * Otherwise, returns the body unchanged.
+     *
+     * @param request The request signed by {@link #sign(SdkHttpFullRequest, ExecutionAttributes)}
+     * @param asyncRequestBody The body of the request
+     * @param executionAttributes Contains the attributes required for signing the request
+     * @return The body to send with the signed request
+     */
+    @Override
+    public AsyncRequestBody signAsyncRequestBody(SdkHttpFullRequest request, AsyncRequestBody asyncRequestBody,
+                                                 ExecutionAttributes executionAttributes) {
+        if (asyncRequestBody == null || !isChunkEncoded(request)) {
+            return asyncRequestBody;
+        }
+
+        // Sign the chunks for the same time as the headers, which might have been signed with a different clock.
+        Instant signingTime = Aws4SignerUtils.parseTimestamp(request.firstMatchingHeader(X_AMZ_DATE)
+                                                                    .orElseThrow(() -> missingHeader(X_AMZ_DATE)));
+        AwsS3V4SignerParams signingParams = awsS3SignerParamsBuilder(executionAttributes)
+            .signingClockOverride(Clock.fixed(signingTime, ZoneOffset.UTC))
+            .build();
+        Aws4SignerRequestParams requestParams = new Aws4SignerRequestParams(signingParams);
+        byte[] signingKey = deriveSigningKey(sanitizeCredentials(signingParams.awsCredentials()), requestParams);
+
+        return new AwsChunkedEncodingAsyncRequestBody(asyncRequestBody,
+                                                      signingKey,
+                                                      requestParams.getFormattedRequestSigningDateTime(),
+                                                      requestParams.getScope(),
+                                                      getHeaderSignature(request));
+    }
+
+    private static boolean isChunkEncoded(SdkHttpFullRequest request) {
+        return request.firstMatchingHeader(X_AMZ_CONTENT_SHA256).filter(CONTENT_SHA_256::equals).isPresent();
+    }
+
+    private static SdkClientException missingHeader(String header) {
+        return SdkClientException.create("Cannot sign the chunks of a request without the " + header + " header.");
+    }
+
     private AwsS3V4SignerParams constructAwsS3SignerParams(ExecutionAttributes executionAttributes) {
+        return awsS3SignerParamsBuilder(executionAttributes).build();
+    }
+
+    private AwsS3V4SignerParams.Builder awsS3SignerParamsBuilder(ExecutionAttributes executionAttributes) {
         AwsS3V4SignerParams.Builder signerParams = extractSignerParams(AwsS3V4SignerParams.builder(),
                                                                              executionAttributes);
 
@@ -90,7 +146,7 @@ public final class AwsS3V4Signer extends AbstractAws4Signer<AwsS3V4SignerParams,
         Optional.ofNullable(executionAttributes.getAttribute(S3SignerExecutionAttribute.ENABLE_PAYLOAD_SIGNING))
                 .ifPresent(signerParams::enablePayloadSigning);
 
-        return signerParams.build();
+        return signerParams;
     }
 
     @Override
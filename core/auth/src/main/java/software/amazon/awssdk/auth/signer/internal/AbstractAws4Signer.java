@@ -20,11 +20,13 @@ import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
 import java.io.InputStream;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
@@ -32,12 +34,16 @@ import software.amazon.awssdk.auth.signer.Aws4Signer;
 import software.amazon.awssdk.auth.signer.AwsSignerExecutionAttribute;
 import software.amazon.awssdk.auth.signer.params.Aws4PresignerParams;
 import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.internal.sync.FileContentStreamProvider;
 import software.amazon.awssdk.core.signer.Presigner;
+import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
@@ -52,11 +58,12 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     public static final String EMPTY_STRING_SHA256_HEX = BinaryUtils.toHex(hash(""));
 
     private static final Logger LOG = Logger.loggerFor(Aws4Signer.class);
-    private static final int SIGNER_CACHE_MAX_SIZE = 300;
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(SIGNER_CACHE_MAX_SIZE);
-    private static final List<String> LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE =
-        Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect");
+    private static final SigningKeyCache SIGNING_KEY_CACHE = new SigningKeyCache(signingKeyCacheSize());
+    private static final String[] HEADERS_TO_IGNORE_IN_LOWER_CASE =
+        {"connection", "x-amzn-trace-id", "user-agent", "expect"};
+    private static final Pattern AUTHENTICATION_HEADER_PATTERN = Pattern.compile(
+        SignerConstant.AWS4_SIGNING_ALGORITHM + "\\s" + "Credential=(\\S+)" + "\\s" + "SignedHeaders=(\\S+)" + "\\s"
+        + "Signature=(\\S+)");
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
@@ -76,16 +83,20 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        Aws4SignerBuffers buffers = Aws4SignerBuffers.get();
+        String signedHeaders = collectSignedHeaders(mutableRequest, buffers);
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        StringBuilder canonicalRequest = createCanonicalRequest(mutableRequest, signedHeaders, contentSha256,
+                                                                signingParams.doubleUrlEncode(), buffers);
+
+        StringBuilder stringToSign = createStringToSign(canonicalRequest, requestParams, buffers);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(stringToSign, signingKey, buffers);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
-                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, mutableRequest));
+                                 buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, signedHeaders));
 
         processRequestPayload(mutableRequest, signature, signingKey, requestParams, signingParams);
 
@@ -110,18 +121,22 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                 ((AwsSessionCredentials) sanitizedCredentials).sessionToken());
         }
 
+        Aws4SignerBuffers buffers = Aws4SignerBuffers.get();
+        String signedHeaders = collectSignedHeaders(mutableRequest, buffers);
+
         // Add the important parameters for v4 signing
-        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, expirationInSeconds);
+        addPreSignInformationToRequest(mutableRequest, sanitizedCredentials, requestParams, expirationInSeconds, signedHeaders);
 
         String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, contentSha256, signingParams.doubleUrlEncode());
+        StringBuilder canonicalRequest = createCanonicalRequest(mutableRequest, signedHeaders, contentSha256,
+                                                                signingParams.doubleUrlEncode(), buffers);
 
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        StringBuilder stringToSign = createStringToSign(canonicalRequest, requestParams, buffers);
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(stringToSign, signingKey, buffers);
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, BinaryUtils.toHex(signature));
 
@@ -140,12 +155,40 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * do any other necessary set-ups on the request headers. (e.g. aws-chunked
      * uses a pre-defined header value, and needs to change some headers
      * relating to content-encoding and content-length.)
+     * <p>
+     * A payload provided by a file is hashed by reading the file directly, which is much cheaper for large uploads than
+     * reading it through a stream.
      */
     protected String calculateContentHash(SdkHttpFullRequest.Builder mutableRequest, T signerParams) {
-        InputStream payloadStream = getBinaryRequestPayloadStream(mutableRequest.contentStreamProvider());
+        ContentStreamProvider contentStreamProvider = mutableRequest.contentStreamProvider();
+        if (contentStreamProvider instanceof FileContentStreamProvider) {
+            return BinaryUtils.toHex(hash(((FileContentStreamProvider) contentStreamProvider).filePath()));
+        }
+
+        InputStream payloadStream = getBinaryRequestPayloadStream(contentStreamProvider);
         return BinaryUtils.toHex(hash(payloadStream));
     }
 
+    /**
+     * Extract signature from Authentication header
+     *
+     * @param request signed request with Authentication header
+     * @return signature (Hex) string
+     */
+    protected String getHeaderSignature(SdkHttpFullRequest request) {
+        Optional<String> authHeader = request.firstMatchingHeader(SignerConstant.AUTHORIZATION);
+        if (authHeader.isPresent()) {
+            Matcher matcher = AUTHENTICATION_HEADER_PATTERN.matcher(authHeader.get());
+            if (matcher.matches()) {
+                String headerSignature = matcher.group(3);
+                return headerSignature;
+            }
+        }
+
+        // Without header signature, signer can not proceed. Thus throw out exception
+        throw SdkClientException.builder().message("Signature is missing in AUTHORIZATION header!").build();
+    }
+
     protected abstract void processRequestPayload(SdkHttpFullRequest.Builder mutableRequest,
                                                   byte[] signature,
                                                   byte[] signingKey,
@@ -162,13 +205,15 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      */
     protected byte[] deriveSigningKey(AwsCredentials credentials, Aws4SignerRequestParams signerRequestParams) {
 
-        String cacheKey = computeSigningCacheKeyName(credentials, signerRequestParams);
         long daysSinceEpochSigningDate = numberOfDaysSinceEpoch(signerRequestParams.getRequestSigningDateTimeMilli());
 
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        byte[] cachedSigningKey = SIGNING_KEY_CACHE.get(credentials.secretAccessKey(),
+                                                        signerRequestParams.getRegionName(),
+                                                        signerRequestParams.getServiceSigningName(),
+                                                        daysSinceEpochSigningDate);
 
-        if (signerKey != null && daysSinceEpochSigningDate == signerKey.getNumberOfDaysSinceEpoch()) {
-            return signerKey.getSigningKey();
+        if (cachedSigningKey != null) {
+            return cachedSigningKey;
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -177,32 +222,49 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
             signerRequestParams.getFormattedRequestSigningDate(),
             signerRequestParams.getRegionName(),
             signerRequestParams.getServiceSigningName());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(daysSinceEpochSigningDate, signingKey));
+        SIGNING_KEY_CACHE.put(credentials.secretAccessKey(),
+                              signerRequestParams.getRegionName(),
+                              signerRequestParams.getServiceSigningName(),
+                              daysSinceEpochSigningDate,
+                              signingKey);
         return signingKey;
     }
 
+    /**
+     * The cache of signing keys shared by all SigV4 signers, which reports how often signing keys were found in it.
+     */
+    public static SigningKeyCache signingKeyCache() {
+        return SIGNING_KEY_CACHE;
+    }
+
     /**
      * Step 1 of the AWS Signature version 4 calculation. Refer to
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
      * generate the canonical request.
+     *
+     * The canonical request is built in the buffers of the current thread, and the signed headers must already have been
+     * collected into them with {@link #collectSignedHeaders}.
      */
-    private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
-                                          String contentSha256,
-                                          boolean doubleUrlEncode) {
-
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getSignedHeadersString(request.headers()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
+    private StringBuilder createCanonicalRequest(SdkHttpFullRequest.Builder request,
+                                                 String signedHeaders,
+                                                 String contentSha256,
+                                                 boolean doubleUrlEncode,
+                                                 Aws4SignerBuffers buffers) {
+
+        StringBuilder canonicalRequest = buffers.canonicalRequest();
+        canonicalRequest.append(request.method().name())
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        // This would optionally double url-encode the resource path
+                        .append(getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode))
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(getCanonicalizedQueryString(request))
+                        .append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaders(canonicalRequest, buffers);
+        canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
+                        .append(signedHeaders)
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(contentSha256);
 
         LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
         return canonicalRequest;
@@ -213,40 +275,32 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
      */
-    private String createStringToSign(String canonicalRequest,
-                                      Aws4SignerRequestParams requestParams) {
-
-        String stringToSign = requestParams.getSigningAlgorithm() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getFormattedRequestSigningDateTime() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getScope() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
+    private StringBuilder createStringToSign(StringBuilder canonicalRequest,
+                                             Aws4SignerRequestParams requestParams,
+                                             Aws4SignerBuffers buffers) {
+
+        StringBuilder stringToSign = buffers.stringToSign();
+        stringToSign.append(requestParams.getSigningAlgorithm())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getFormattedRequestSigningDateTime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getScope())
+                    .append(SignerConstant.LINE_SEPARATOR);
+        appendHashHex(stringToSign, canonicalRequest, buffers);
 
         LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
         return stringToSign;
     }
 
 
-    /**
-     * Computes the name to be used to reference the signing key in the cache.
-     */
-    private String computeSigningCacheKeyName(AwsCredentials credentials,
-                                              Aws4SignerRequestParams signerRequestParams) {
-        return credentials.secretAccessKey() + "-" + signerRequestParams.getRegionName() + "-" +
-               signerRequestParams.getServiceSigningName();
-    }
-
     /**
      * Step 3 of the AWS Signature version 4 calculation. It involves deriving
      * the signing key and computing the signature. Refer to
      * http://docs.aws.amazon
      * .com/general/latest/gr/sigv4-calculate-signature.html
      */
-    private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
-                    SigningAlgorithm.HmacSHA256);
+    private byte[] computeSignature(StringBuilder stringToSign, byte[] signingKey, Aws4SignerBuffers buffers) {
+        return sign(stringToSign, signingKey, SigningAlgorithm.HmacSHA256, buffers);
     }
 
     /**
@@ -255,15 +309,15 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private String buildAuthorizationHeader(byte[] signature,
                                             AwsCredentials credentials,
                                             Aws4SignerRequestParams signerParams,
-                                            SdkHttpFullRequest.Builder mutableRequest) {
-
-        String signingCredentials = credentials.accessKeyId() + "/" + signerParams.getScope();
-        String credential = "Credential=" + signingCredentials;
-        String signerHeaders = "SignedHeaders=" +
-                               getSignedHeadersString(mutableRequest.headers());
-        String signatureHeader = "Signature=" + BinaryUtils.toHex(signature);
-
-        return SignerConstant.AWS4_SIGNING_ALGORITHM + " " + credential + ", " + signerHeaders + ", " + signatureHeader;
+                                            String signedHeaders) {
+
+        StringBuilder authorization = new StringBuilder(256);
+        authorization.append(SignerConstant.AWS4_SIGNING_ALGORITHM)
+                     .append(" Credential=").append(credentials.accessKeyId()).append('/').append(signerParams.getScope())
+                     .append(", SignedHeaders=").append(signedHeaders)
+                     .append(", Signature=");
+        Aws4SignerBuffers.appendHex(authorization, signature);
+        return authorization.toString();
     }
 
     /**
@@ -272,42 +326,64 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
     private void addPreSignInformationToRequest(SdkHttpFullRequest.Builder mutableRequest,
                                                 AwsCredentials sanitizedCredentials,
                                                 Aws4SignerRequestParams signerParams,
-                                                long expirationInSeconds) {
+                                                long expirationInSeconds,
+                                                String signedHeaders) {
 
         String signingCredentials = sanitizedCredentials.accessKeyId() + "/" + signerParams.getScope();
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_ALGORITHM, SignerConstant.AWS4_SIGNING_ALGORITHM);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_DATE, signerParams.getFormattedRequestSigningDateTime());
-        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER,
-                                            getSignedHeadersString(mutableRequest.headers()));
+        mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNED_HEADER, signedHeaders);
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_EXPIRES,
                                             Long.toString(expirationInSeconds));
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
     }
 
 
-    private String getCanonicalizedHeaderString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
+    /**
+     * Collect the headers of the request that are signed into the given buffers, sorted by name, and return the list of
+     * their names that is included in the canonical request and the authorization.
+     */
+    private String collectSignedHeaders(SdkHttpFullRequest.Builder request, Aws4SignerBuffers buffers) {
+        buffers.clearHeaders();
+        request.forEachHeader((name, values) -> {
+            if (!shouldExcludeHeaderFromSigning(name)) {
+                buffers.addHeader(name, values);
+            }
+        });
+        buffers.sortHeaders();
 
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
+        StringBuilder signedHeaders = buffers.stringToSign();
+        for (int i = 0; i < buffers.headerCount(); i++) {
+            if (i > 0) {
+                signedHeaders.append(';');
             }
-            String key = lowerCase(header);
+            appendLowerCase(signedHeaders, buffers.headerName(i));
+        }
+        String result = signedHeaders.toString();
+        signedHeaders.setLength(0);
+        return result;
+    }
 
-            for (String headerValue : headers.get(header)) {
-                appendCompactedString(buffer, key);
-                buffer.append(":");
+    private void appendCanonicalizedHeaders(StringBuilder destination, Aws4SignerBuffers buffers) {
+        for (int i = 0; i < buffers.headerCount(); i++) {
+            String key = buffers.headerName(i);
+
+            for (String headerValue : buffers.headerValues(i)) {
+                appendLowerCase(destination, key);
+                destination.append(':');
                 if (headerValue != null) {
-                    appendCompactedString(buffer, headerValue);
+                    appendCompactedString(destination, headerValue);
                 }
-                buffer.append("\n");
+                destination.append('\n');
             }
         }
+    }
 
-        return buffer.toString();
+    private String getCanonicalizedQueryString(SdkHttpFullRequest.Builder request) {
+        Map<String, List<String>> parameters = new HashMap<>();
+        request.forEachRawQueryParameter(parameters::put);
+        return getCanonicalizedQueryString(parameters);
     }
 
     /**
@@ -351,26 +427,32 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
     }
 
-    private String getSignedHeadersString(Map<String, List<String>> headers) {
-        List<String> sortedHeaders = new ArrayList<>(headers.keySet());
-        sortedHeaders.sort(String.CASE_INSENSITIVE_ORDER);
+    /**
+     * Appends the lower case form of a header name. Header names are expected to be ASCII, which is lower-cased without
+     * creating a lower case copy of the name.
+     */
+    private void appendLowerCase(StringBuilder destination, String headerName) {
+        int start = destination.length();
+        int length = headerName.length();
 
-        StringBuilder buffer = new StringBuilder();
-        for (String header : sortedHeaders) {
-            if (shouldExcludeHeaderFromSigning(header)) {
-                continue;
-            }
-            if (buffer.length() > 0) {
-                buffer.append(";");
+        for (int i = 0; i < length; i++) {
+            char ch = headerName.charAt(i);
+            if (ch >= 0x80) {
+                destination.setLength(start);
+                destination.append(lowerCase(headerName));
+                return;
             }
-            buffer.append(lowerCase(header));
+            destination.append(ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch);
         }
-
-        return buffer.toString();
     }
 
     private boolean shouldExcludeHeaderFromSigning(String header) {
-        return LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCase(header));
+        for (String headerToIgnore : HEADERS_TO_IGNORE_IN_LOWER_CASE) {
+            if (headerToIgnore.equalsIgnoreCase(header)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void addHostHeader(SdkHttpFullRequest.Builder mutableRequest) {
@@ -426,6 +508,18 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return sign(SignerConstant.AWS4_TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
     }
 
+    private static int signingKeyCacheSize() {
+        SdkSystemSetting setting = SdkSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE;
+        String cacheSize = setting.getStringValueOrThrow();
+        try {
+            return Validate.isPositive(Integer.parseInt(cacheSize.trim()), setting.property());
+        } catch (IllegalArgumentException e) {
+            LOG.warn(() -> "Ignoring invalid signing key cache size '" + cacheSize + "', using the default size of " +
+                           setting.defaultValue(), e);
+            return Integer.parseInt(setting.defaultValue());
+        }
+    }
+
     protected <B extends Aws4PresignerParams.Builder> B extractPresignerParams(B builder,
                                                                                ExecutionAttributes executionAttributes) {
         builder = extractSignerParams(builder, executionAttributes);
@@ -16,9 +16,13 @@
 package software.amazon.awssdk.auth.signer.internal;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.DigestException;
 import java.security.DigestInputStream;
+import java.security.InvalidKeyException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
@@ -139,6 +143,25 @@ public abstract class AbstractAwsSigner implements Signer {
         }
     }
 
+    /**
+     * Computes an RFC 2104-compliant HMAC signature of the characters, encoded as UTF-8, without copying them into a new
+     * string.
+     */
+    protected byte[] sign(CharSequence data, byte[] key, SigningAlgorithm algorithm,
+                          Aws4SignerBuffers buffers) throws SdkClientException {
+        try {
+            Mac mac = algorithm.getMac();
+            mac.init(new SecretKeySpec(key, algorithm.toString()));
+            buffers.update(mac, data);
+            return mac.doFinal();
+        } catch (InvalidKeyException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) throws SdkClientException {
         try {
             Mac mac = algorithm.getMac();
@@ -164,6 +187,26 @@ public abstract class AbstractAwsSigner implements Signer {
         return AbstractAwsSigner.doHash(text);
     }
 
+    /**
+     * Hashes the characters, encoded as UTF-8, using the SHA-256 algorithm and appends the hex encoding of the hash to the
+     * destination, without copying the characters into a new string.
+     *
+     * @throws SdkClientException If the hash cannot be computed.
+     */
+    static void appendHashHex(StringBuilder destination, CharSequence text, Aws4SignerBuffers buffers)
+            throws SdkClientException {
+        try {
+            MessageDigest md = getMessageDigestInstance();
+            buffers.update(md, text);
+            buffers.appendDigestHex(destination, md);
+        } catch (DigestException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to compute hash while signing request: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
     byte[] hash(InputStream input) throws SdkClientException {
         try {
             MessageDigest md = getMessageDigestInstance();
@@ -183,6 +226,26 @@ public abstract class AbstractAwsSigner implements Signer {
         }
     }
 
+    /**
+     * Hashes the contents of the file using the SHA-256 algorithm.
+     *
+     * @param file The file to hash.
+     * @return The hashed bytes from the specified file.
+     * @throws SdkClientException If the hash cannot be computed.
+     */
+    byte[] hash(Path file) throws SdkClientException {
+        try {
+            MessageDigest md = getMessageDigestInstance();
+            FilePayloadHasher.update(md, file);
+            return md.digest();
+        } catch (IOException e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to compute hash while signing request: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+    }
+
     /**
      * Hashes the binary data using the SHA-256 algorithm.
      *
@@ -215,6 +278,9 @@ public abstract class AbstractAwsSigner implements Signer {
      * @return A canonicalized form for the specified query string parameters.
      */
     protected String getCanonicalizedQueryString(Map<String, List<String>> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
 
         SortedMap<String, List<String>> sorted = new TreeMap<>();
 
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import javax.crypto.Mac;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Buffers used by {@link AbstractAws4Signer} to build the canonical request and the string to sign, and to encode them
+ * before they are hashed and signed. One instance is kept per thread and reused for every request signed on that thread, so
+ * that signing a request does not allocate a new copy of each intermediate value.
+ *
+ * <p>Buffers that grew to sign an unusually large request are released when the next request is signed, so that one large
+ * request does not pin memory to a thread forever.</p>
+ */
+@SdkInternalApi
+public final class Aws4SignerBuffers {
+    private static final int INITIAL_CHARS = 1024;
+    private static final int INITIAL_HEADERS = 16;
+    private static final int MAX_RETAINED_CHARS = 16 * 1024;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private static final ThreadLocal<Aws4SignerBuffers> BUFFERS = ThreadLocal.withInitial(Aws4SignerBuffers::new);
+
+    private StringBuilder canonicalRequest = new StringBuilder(INITIAL_CHARS);
+    private StringBuilder stringToSign = new StringBuilder(INITIAL_CHARS / 4);
+    private byte[] utf8 = new byte[INITIAL_CHARS * 2];
+    private final byte[] digest = new byte[32];
+
+    private String[] headerNames = new String[INITIAL_HEADERS];
+    private Object[] headerValues = new Object[INITIAL_HEADERS];
+    private int headerCount;
+
+    private Aws4SignerBuffers() {
+    }
+
+    /**
+     * Return the buffers of the current thread, emptied of the values of the previous request.
+     */
+    public static Aws4SignerBuffers get() {
+        Aws4SignerBuffers buffers = BUFFERS.get();
+        buffers.reset();
+        return buffers;
+    }
+
+    private void reset() {
+        if (canonicalRequest.capacity() > MAX_RETAINED_CHARS) {
+            canonicalRequest = new StringBuilder(INITIAL_CHARS);
+        }
+        if (stringToSign.capacity() > MAX_RETAINED_CHARS) {
+            stringToSign = new StringBuilder(INITIAL_CHARS / 4);
+        }
+        if (utf8.length > MAX_RETAINED_CHARS * 3) {
+            utf8 = new byte[INITIAL_CHARS * 2];
+        }
+        canonicalRequest.setLength(0);
+        stringToSign.setLength(0);
+        clearHeaders();
+    }
+
+    public StringBuilder canonicalRequest() {
+        return canonicalRequest;
+    }
+
+    public StringBuilder stringToSign() {
+        return stringToSign;
+    }
+
+    /**
+     * Remove the headers added with {@link #addHeader(String, List)}, without holding on to them.
+     */
+    public void clearHeaders() {
+        Arrays.fill(headerNames, 0, headerCount, null);
+        Arrays.fill(headerValues, 0, headerCount, null);
+        headerCount = 0;
+    }
+
+    public void addHeader(String name, List<String> values) {
+        if (headerCount == headerNames.length) {
+            headerNames = Arrays.copyOf(headerNames, headerCount * 2);
+            headerValues = Arrays.copyOf(headerValues, headerCount * 2);
+        }
+        headerNames[headerCount] = name;
+        headerValues[headerCount] = values;
+        ++headerCount;
+    }
+
+    /**
+     * Sort the added headers by name, ignoring case. The sort is stable, and does not allocate for the number of headers
+     * typically found on a request.
+     */
+    public void sortHeaders() {
+        for (int i = 1; i < headerCount; i++) {
+            String name = headerNames[i];
+            Object values = headerValues[i];
+            int j = i - 1;
+            while (j >= 0 && String.CASE_INSENSITIVE_ORDER.compare(headerNames[j], name) > 0) {
+                headerNames[j + 1] = headerNames[j];
+                headerValues[j + 1] = headerValues[j];
+                --j;
+            }
+            headerNames[j + 1] = name;
+            headerValues[j + 1] = values;
+        }
+    }
+
+    public int headerCount() {
+        return headerCount;
+    }
+
+    public String headerName(int index) {
+        return headerNames[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> headerValues(int index) {
+        return (List<String>) headerValues[index];
+    }
+
+    /**
+     * Update the digest with the given characters encoded as UTF-8.
+     */
+    public void update(MessageDigest messageDigest, CharSequence chars) {
+        int length = encodeUtf8(chars);
+        messageDigest.update(utf8, 0, length);
+    }
+
+    /**
+     * Update the MAC with the given characters encoded as UTF-8.
+     */
+    public void update(Mac mac, CharSequence chars) {
+        int length = encodeUtf8(chars);
+        mac.update(utf8, 0, length);
+    }
+
+    /**
+     * Complete the digest, and append its lower-case hex encoding to the given builder.
+     */
+    public void appendDigestHex(StringBuilder destination, MessageDigest messageDigest) throws DigestException {
+        int length = messageDigest.digest(digest, 0, digest.length);
+        for (int i = 0; i < length; i++) {
+            appendHex(destination, digest[i]);
+        }
+    }
+
+    /**
+     * Encode the given characters as UTF-8 into {@link #utf8}, the same way {@link String#getBytes(java.nio.charset.Charset)}
+     * would, and return the number of bytes written.
+     */
+    private int encodeUtf8(CharSequence chars) {
+        int length = chars.length();
+        if (utf8.length < length * 3) {
+            utf8 = new byte[length * 3];
+        }
+
+        byte[] bytes = utf8;
+        int position = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                bytes[position++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[position++] = (byte) (0xc0 | (c >> 6));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                bytes[position++] = (byte) (0xf0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3f));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced, like the JDK's UTF-8 encoder does.
+                bytes[position++] = (byte) '?';
+            } else {
+                bytes[position++] = (byte) (0xe0 | (c >> 12));
+                bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                bytes[position++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Append the lower-case hex encoding of the given bytes to the given builder.
+     */
+    public static void appendHex(StringBuilder destination, byte[] bytes) {
+        for (byte b : bytes) {
+            appendHex(destination, b);
+        }
+    }
+
+    private static void appendHex(StringBuilder destination, byte b) {
+        destination.append(HEX_DIGITS[(b >> 4) & 0xf]).append(HEX_DIGITS[b & 0xf]);
+    }
+}
@@ -64,4 +64,13 @@ public final class Aws4SignerUtils {
     public static String formatTimestamp(Instant instant) {
         return TIME_FORMATTER.format(instant);
     }
+
+    /**
+     * Parses a date time in the yyyyMMdd'T'HHmmss'Z' format returned by {@link #formatTimestamp(Instant)}.
+     *
+     * For example, given "20141124T211050Z", this method returns the instant "2014-11-24T21:10:50Z"
+     */
+    public static Instant parseTimestamp(String timestamp) {
+        return Instant.from(TIME_FORMATTER.parse(timestamp));
+    }
 }
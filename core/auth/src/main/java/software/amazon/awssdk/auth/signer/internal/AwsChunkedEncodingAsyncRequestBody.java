@@ -0,0 +1,264 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream.CHUNK_SIGNATURE_HEADER;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream.CHUNK_STRING_TO_SIGN_PREFIX;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream.CRLF;
+import static software.amazon.awssdk.auth.signer.internal.AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * An {@link AsyncRequestBody} that encodes the wrapped body with aws-chunked encoding, signing every chunk as the data flows
+ * through. This is the asynchronous counterpart of {@link AwsChunkedEncodingInputStream}, and produces the same bytes.
+ * <dl>
+ * <dt><b>Backpressure:</b></dt>
+ * <dd>Each signed chunk is one element for the downstream subscriber, and the wrapped body is only asked for more data
+ * when there is downstream demand for a chunk that it has not yet provided. The data of a chunk is copied into a single
+ * buffer of the chunk size, so at most one chunk is buffered per subscription.</dd>
+ * </dl>
+ */
+@SdkInternalApi
+public final class AwsChunkedEncodingAsyncRequestBody implements AsyncRequestBody {
+    private final AsyncRequestBody delegate;
+    private final byte[] signingKey;
+    private final String dateTime;
+    private final String keyPath;
+    private final String headerSignature;
+
+    /**
+     * @param delegate        The body to encode.
+     * @param signingKey      Signing key.
+     * @param dateTime        Datetime, as used in SigV4.
+     * @param keyPath         Keypath/Scope, as used in SigV4.
+     * @param headerSignature The signature of the signed headers. This will be used for calculating the signature of the
+     *                        first chunk.
+     */
+    public AwsChunkedEncodingAsyncRequestBody(AsyncRequestBody delegate, byte[] signingKey, String dateTime, String keyPath,
+                                              String headerSignature) {
+        this.delegate = delegate;
+        this.signingKey = signingKey.clone();
+        this.dateTime = dateTime;
+        this.keyPath = keyPath;
+        this.headerSignature = headerSignature;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return delegate.contentLength().map(AwsChunkedEncodingInputStream::calculateStreamContentLength);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        delegate.subscribe(new ChunkSigningSubscriber(subscriber));
+    }
+
+    /**
+     * Re-chunks the buffers of the wrapped body into chunks of {@link AwsChunkedEncodingInputStream#DEFAULT_CHUNK_SIZE} and
+     * signs them. All the work is done in {@link #drain()}, which only one thread runs at a time.
+     */
+    private final class ChunkSigningSubscriber implements Subscriber<ByteBuffer>, Subscription {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingDrains = new AtomicInteger();
+        private final ByteBuffer chunk = ByteBuffer.allocate(DEFAULT_CHUNK_SIZE);
+        private final MessageDigest sha256;
+        private final Mac hmacSha256;
+
+        private Subscription upstream;
+        private String priorChunkSignature = headerSignature;
+        private boolean upstreamRequested;
+        private boolean done;
+        private volatile ByteBuffer current;
+        private volatile boolean upstreamComplete;
+        private volatile Throwable upstreamError;
+        private volatile boolean cancelled;
+
+        private ChunkSigningSubscriber(Subscriber<? super ByteBuffer> downstream) {
+            this.downstream = downstream;
+            try {
+                this.sha256 = MessageDigest.getInstance("SHA-256");
+                String signingAlgorithm = SigningAlgorithm.HmacSHA256.toString();
+                this.hmacSha256 = Mac.getInstance(signingAlgorithm);
+                hmacSha256.init(new SecretKeySpec(signingKey, signingAlgorithm));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            } catch (InvalidKeyException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            current = byteBuffer;
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            upstreamError = t;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            upstreamComplete = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                upstream.cancel();
+                upstreamError = new IllegalArgumentException("n > 0 required but it was " + n);
+            } else {
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+        }
+
+        private void drain() {
+            if (pendingDrains.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                try {
+                    drainWhileThereIsDemand();
+                } catch (RuntimeException e) {
+                    upstream.cancel();
+                    done = true;
+                    downstream.onError(e);
+                }
+                missed = pendingDrains.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainWhileThereIsDemand() {
+            while (!done && !cancelled) {
+                if (upstreamError != null) {
+                    done = true;
+                    downstream.onError(upstreamError);
+                    return;
+                }
+
+                if (demand.get() == 0) {
+                    return;
+                }
+
+                ByteBuffer data = current;
+                if (data != null) {
+                    upstreamRequested = false;
+                    fillChunk(data);
+                    if (!data.hasRemaining()) {
+                        current = null;
+                    }
+                }
+
+                if (!chunk.hasRemaining()) {
+                    emitChunk();
+                } else if (current == null) {
+                    if (!upstreamComplete) {
+                        if (!upstreamRequested) {
+                            // Set before requesting, because the wrapped body may deliver the data from within request.
+                            upstreamRequested = true;
+                            upstream.request(1);
+                        }
+                        return;
+                    }
+
+                    boolean finalChunk = chunk.position() == 0;
+                    emitChunk();
+                    if (finalChunk) {
+                        done = true;
+                        downstream.onComplete();
+                    }
+                }
+            }
+        }
+
+        private void fillChunk(ByteBuffer data) {
+            int length = Math.min(data.remaining(), chunk.remaining());
+            ByteBuffer slice = data.duplicate();
+            slice.limit(slice.position() + length);
+            chunk.put(slice);
+            data.position(data.position() + length);
+        }
+
+        private void emitChunk() {
+            chunk.flip();
+            ByteBuffer signedChunk = createSignedChunk(chunk);
+            chunk.clear();
+            demand.decrementAndGet();
+            downstream.onNext(signedChunk);
+        }
+
+        private ByteBuffer createSignedChunk(ByteBuffer chunkData) {
+            int chunkLength = chunkData.remaining();
+            sha256.update(chunkData.duplicate());
+            String chunkStringToSign =
+                CHUNK_STRING_TO_SIGN_PREFIX + "\n" +
+                dateTime + "\n" +
+                keyPath + "\n" +
+                priorChunkSignature + "\n" +
+                AbstractAws4Signer.EMPTY_STRING_SHA256_HEX + "\n" +
+                BinaryUtils.toHex(sha256.digest());
+            String chunkSignature = BinaryUtils.toHex(hmacSha256.doFinal(chunkStringToSign.getBytes(StandardCharsets.UTF_8)));
+            priorChunkSignature = chunkSignature;
+
+            byte[] header = (Integer.toHexString(chunkLength) + CHUNK_SIGNATURE_HEADER + chunkSignature + CRLF)
+                .getBytes(StandardCharsets.UTF_8);
+            byte[] trailer = CRLF.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer signedChunk = ByteBuffer.allocate(header.length + chunkLength + trailer.length);
+            signedChunk.put(header).put(chunkData).put(trailer);
+            signedChunk.flip();
+            return signedChunk;
+        }
+    }
+}
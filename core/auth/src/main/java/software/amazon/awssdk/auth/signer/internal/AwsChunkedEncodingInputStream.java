@@ -37,12 +37,12 @@ import software.amazon.awssdk.utils.Logger;
 @SdkInternalApi
 public final class AwsChunkedEncodingInputStream extends SdkInputStream {
 
-    private static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
+    static final int DEFAULT_CHUNK_SIZE = 128 * 1024;
     private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
 
-    private static final String CRLF = "\r\n";
-    private static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
-    private static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
+    static final String CRLF = "\r\n";
+    static final String CHUNK_STRING_TO_SIGN_PREFIX = "AWS4-HMAC-SHA256-PAYLOAD";
+    static final String CHUNK_SIGNATURE_HEADER = ";chunk-signature=";
     private static final int SIGNATURE_LENGTH = 64;
     private static final byte[] FINAL_CHUNK = new byte[0];
     private static final Logger log = Logger.loggerFor(AwsChunkedEncodingInputStream.class);
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Feeds the contents of a file into a {@link MessageDigest}, reading it through a file channel in large blocks instead of
+ * through the small reads of an {@link java.io.InputStream}.
+ * <p>
+ * Files of at least {@link #READ_AHEAD_THRESHOLD} bytes are read asynchronously one block ahead of the digest, so that
+ * reading the next block from disk overlaps with hashing the current one.
+ */
+@SdkInternalApi
+public final class FilePayloadHasher {
+    static final int BLOCK_SIZE = 1024 * 1024;
+    static final long READ_AHEAD_THRESHOLD = 8L * BLOCK_SIZE;
+
+    private FilePayloadHasher() {
+    }
+
+    /**
+     * Update the digest with the contents of the file.
+     */
+    public static void update(MessageDigest digest, Path file) throws IOException {
+        update(digest, file, READ_AHEAD_THRESHOLD);
+    }
+
+    static void update(MessageDigest digest, Path file, long readAheadThreshold) throws IOException {
+        long size = Files.size(file);
+        if (size < readAheadThreshold) {
+            updateSequentially(digest, file, size);
+        } else {
+            updateWithReadAhead(digest, file);
+        }
+    }
+
+    private static void updateSequentially(MessageDigest digest, Path file, long size) throws IOException {
+        ByteBuffer block = ByteBuffer.allocate((int) Math.max(1, Math.min(size, BLOCK_SIZE)));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(block) >= 0) {
+                digest.update(block.array(), 0, block.position());
+                block.clear();
+            }
+        }
+    }
+
+    private static void updateWithReadAhead(MessageDigest digest, Path file) throws IOException {
+        ByteBuffer filling = ByteBuffer.allocate(BLOCK_SIZE);
+        ByteBuffer hashing = ByteBuffer.allocate(BLOCK_SIZE);
+        try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.READ)) {
+            long position = 0;
+            Future<Integer> pendingRead = channel.read(filling, position);
+            int bytesRead;
+            while ((bytesRead = awaitRead(pendingRead)) >= 0) {
+                position += bytesRead;
+
+                ByteBuffer filled = filling;
+                filling = hashing;
+                hashing = filled;
+
+                filling.clear();
+                pendingRead = channel.read(filling, position);
+                digest.update(hashing.array(), 0, hashing.position());
+            }
+        }
+    }
+
+    private static int awaitRead(Future<Integer> pendingRead) throws IOException {
+        try {
+            return pendingRead.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading the file to hash.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -33,7 +33,7 @@ public final class SignerConstant {
 
     static final String X_AMZ_CREDENTIAL = "X-Amz-Credential";
 
-    static final String X_AMZ_DATE = "X-Amz-Date";
+    public static final String X_AMZ_DATE = "X-Amz-Date";
 
     static final String X_AMZ_EXPIRES = "X-Amz-Expires";
 
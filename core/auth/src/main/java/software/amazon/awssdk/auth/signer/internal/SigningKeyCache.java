@@ -0,0 +1,189 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of SigV4 signing keys, keyed by the secret key, region and service they were derived for. Each key is
+ * only valid for the day it was derived for, and is derived again on the first request of the next day.
+ *
+ * <p>Lookups do not take a lock, so that signing scales with the number of threads. When the cache is full, the entry
+ * that was added first is evicted, unless it was used since the last time it was considered for eviction, in which case
+ * it is given a second chance. This keeps frequently used keys in the cache when there are more combinations of
+ * credentials, region and service than fit in it.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private final int maxSize;
+    private final ConcurrentHashMap<CacheKey, CacheEntry> entries;
+    private final Queue<CacheKey> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+        this.entries = new ConcurrentHashMap<>(Math.min(maxSize, 1024));
+    }
+
+    /**
+     * Returns the signing key derived for the given secret key, region, service and day, or null if it is not cached.
+     */
+    public byte[] get(String secretAccessKey, String region, String service, long daysSinceEpoch) {
+        CacheEntry entry = entries.get(new CacheKey(secretAccessKey, region, service));
+        if (entry == null || entry.signerKey.getNumberOfDaysSinceEpoch() != daysSinceEpoch) {
+            misses.increment();
+            return null;
+        }
+
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        hits.increment();
+        return entry.signerKey.getSigningKey();
+    }
+
+    /**
+     * Adds the signing key derived for the given secret key, region, service and day, replacing the key derived for an
+     * earlier day and evicting other keys if the cache is full.
+     */
+    public void put(String secretAccessKey, String region, String service, long daysSinceEpoch, byte[] signingKey) {
+        CacheKey key = new CacheKey(secretAccessKey, region, service);
+        if (entries.put(key, new CacheEntry(new SignerKey(daysSinceEpoch, signingKey))) == null) {
+            evictionQueue.add(key);
+            if (size.incrementAndGet() > maxSize) {
+                evict();
+            }
+        }
+    }
+
+    private void evict() {
+        // Every entry is given at most one second chance per pass, so two passes are enough unless other threads keep
+        // using the entries, which is bounded to avoid spinning.
+        int remainingCandidates = 2 * maxSize + 1;
+        while (size.get() > maxSize && remainingCandidates-- > 0) {
+            CacheKey candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+
+            CacheEntry entry = entries.get(candidate);
+            if (entry != null && entry.referenced) {
+                entry.referenced = false;
+                evictionQueue.add(candidate);
+            } else if (entries.remove(candidate) != null) {
+                size.decrementAndGet();
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * The number of lookups that found a signing key for the requested day.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups that did not find a signing key for the requested day, after which a new key was derived.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * The number of signing keys that were removed to make room for new ones.
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("SigningKeyCache")
+                       .add("size", size())
+                       .add("maxSize", maxSize)
+                       .add("hits", hits())
+                       .add("misses", misses())
+                       .add("evictions", evictions())
+                       .build();
+    }
+
+    private static final class CacheKey {
+        private final String secretAccessKey;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private CacheKey(String secretAccessKey, String region, String service) {
+            this.secretAccessKey = secretAccessKey;
+            this.region = region;
+            this.service = service;
+            this.hashCode = 31 * (31 * Objects.hashCode(secretAccessKey) + Objects.hashCode(region)) + Objects.hashCode(service);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return hashCode == that.hashCode &&
+                   Objects.equals(secretAccessKey, that.secretAccessKey) &&
+                   Objects.equals(region, that.region) &&
+                   Objects.equals(service, that.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final SignerKey signerKey;
+        private volatile boolean referenced;
+
+        private CacheEntry(SignerKey signerKey) {
+            this.signerKey = signerKey;
+        }
+    }
+}
@@ -22,8 +22,12 @@ import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.SimpleDateFormat;
 import java.time.Clock;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
@@ -37,8 +41,10 @@ import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
 import software.amazon.awssdk.auth.signer.internal.Aws4SignerUtils;
 import software.amazon.awssdk.auth.signer.internal.SignerTestUtils;
+import software.amazon.awssdk.core.internal.sync.FileContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 
@@ -156,6 +162,66 @@ public class Aws4SignerTest {
                           "Signature=581d0042389009a28d461124138f1fe8eeb8daed87611d2a2b47fd3d68d81d73");
     }
 
+    @Test
+    public void mixedCaseMultiValuedAndNonAsciiHeaders_AreCanonicalized() throws Exception {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create("access", "secret");
+        SdkHttpFullRequest.Builder request = generateBasicRequest()
+            .putHeader("X-Amz-Meta-B", Arrays.asList("  two  \t values ", "one"))
+            .putHeader("x-amz-meta-a", "\u00fcn\u00efc\u00f6de \u2713 \ud834\udd1e")
+            .putHeader("User-Agent", "not signed")
+            .putHeader("Connection", "keep-alive")
+            .putRawQueryParameter("b", "2")
+            .putRawQueryParameter("a", Arrays.asList("2", "1"))
+            .putRawQueryParameter("Space Name", "v w");
+
+        SdkHttpFullRequest signed = SignerTestUtils.signRequest(signer, request.build(), credentials,
+                                                                "demo", signingOverrideClock, "us-east-1");
+
+        assertThat(signed.firstMatchingHeader("Authorization"))
+            .hasValue("AWS4-HMAC-SHA256 Credential=access/19810216/us-east-1/demo/aws4_request, " +
+                      "SignedHeaders=host;x-amz-archive-description;x-amz-date;x-amz-meta-a;x-amz-meta-b, " +
+                      "Signature=7cbc179d415b1cf1e8cc208d92ee27dfd0df1a9c04df0c8db94f814b54fdf371");
+    }
+
+    @Test
+    public void presigningWithSessionCredentialsAndQueryParameters() throws Exception {
+        AwsSessionCredentials credentials = AwsSessionCredentials.create("access", "secret", "token");
+        SdkHttpFullRequest request = generateBasicRequest().putHeader("X-Amz-Meta-B", Arrays.asList("b  2", "b1"))
+                                                           .putRawQueryParameter("b", "2")
+                                                           .putRawQueryParameter("a", Arrays.asList("2", "1"))
+                                                           .build();
+
+        SdkHttpFullRequest signed = SignerTestUtils.presignRequest(signer, request, credentials, null, "demo",
+                                                                   signingOverrideClock, "us-east-1");
+
+        assertEquals("token", signed.rawQueryParameters().get("X-Amz-Security-Token").get(0));
+        assertEquals("host;x-amz-archive-description;x-amz-meta-b",
+                     signed.rawQueryParameters().get("X-Amz-SignedHeaders").get(0));
+        assertEquals("6202d3718f6e3e7f9db112c5e38b6a45ca427f3ede775865e10bcf7e75b49894",
+                     signed.rawQueryParameters().get("X-Amz-Signature").get(0));
+    }
+
+    @Test
+    public void fileContent_isSignedLikeTheSameStreamContent() throws Exception {
+        Path file = Files.createTempFile("Aws4SignerTest", ".json");
+        try {
+            Files.write(file, "{\"TableName\": \"foo\"}".getBytes(StandardCharsets.UTF_8));
+            AwsBasicCredentials credentials = AwsBasicCredentials.create("access", "secret");
+            SdkHttpFullRequest request = generateBasicRequest().contentStreamProvider(new FileContentStreamProvider(file))
+                                                               .build();
+
+            SdkHttpFullRequest signed = SignerTestUtils.signRequest(signer, request, credentials,
+                                                                    "demo", signingOverrideClock, "us-east-1");
+
+            assertThat(signed.firstMatchingHeader("Authorization"))
+                .hasValue("AWS4-HMAC-SHA256 Credential=access/19810216/us-east-1/demo/aws4_request, " +
+                          "SignedHeaders=host;x-amz-archive-description;x-amz-date, " +
+                          "Signature=77fe7c02927966018667f21d1dc3dfad9057e58401cbb9ed64f1b7868288e35a");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
     private SdkHttpFullRequest.Builder generateBasicRequest() {
         return SdkHttpFullRequest.builder()
                                  .contentStreamProvider(() -> new ByteArrayInputStream("{\"TableName\": \"foo\"}".getBytes()))
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.signer.params.AwsS3V4SignerParams;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class AwsS3V4SignerTest {
+    private static final AwsCredentials CREDENTIALS = AwsBasicCredentials.create("access", "secret");
+    private static final Clock SIGNING_CLOCK = Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneOffset.UTC);
+
+    private final AwsS3V4Signer signer = AwsS3V4Signer.create();
+
+    @Test
+    public void signAsyncRequestBody_signsChunksLikeSyncSigner() throws Exception {
+        byte[] content = new byte[300_000];
+        new Random(300_000).nextBytes(content);
+
+        SdkHttpFullRequest signedRequest = signer.sign(request(content), signerParams().build());
+        byte[] syncBody = IoUtils.toByteArray(signedRequest.contentStreamProvider().get().newStream());
+
+        AsyncRequestBody signedBody = signer.signAsyncRequestBody(signedRequest, AsyncRequestBody.fromBytes(content),
+                                                                  executionAttributes());
+        byte[] asyncBody = toByteArray(signedBody);
+
+        // The seed signature is the signature of the headers, and every chunk signature chains from the previous one, so
+        // equal bodies mean that every signature matches.
+        assertThat(new String(asyncBody, StandardCharsets.UTF_8)).contains("chunk-signature=");
+        assertThat(asyncBody).isEqualTo(syncBody);
+        assertThat(signedBody.contentLength()).contains((long) syncBody.length);
+    }
+
+    @Test
+    public void signAsyncRequestBody_requestNotChunkEncoded_returnsBodyUnchanged() {
+        byte[] content = "content".getBytes(StandardCharsets.UTF_8);
+        SdkHttpFullRequest signedRequest = signer.sign(request(content), signerParams().enableChunkedEncoding(false).build());
+        AsyncRequestBody body = AsyncRequestBody.fromBytes(content);
+
+        assertThat(signer.signAsyncRequestBody(signedRequest, body, executionAttributes())).isSameAs(body);
+    }
+
+    private static SdkHttpFullRequest request(byte[] content) {
+        return SdkHttpFullRequest.builder()
+                                 .method(SdkHttpMethod.PUT)
+                                 .protocol("http")
+                                 .host("bucket.s3.amazonaws.com")
+                                 .encodedPath("/key")
+                                 .putHeader("Content-Length", Integer.toString(content.length))
+                                 .contentStreamProvider(() -> new ByteArrayInputStream(content))
+                                 .build();
+    }
+
+    private static AwsS3V4SignerParams.Builder signerParams() {
+        return AwsS3V4SignerParams.builder()
+                                  .awsCredentials(CREDENTIALS)
+                                  .signingName("s3")
+                                  .signingRegion(Region.US_EAST_1)
+                                  .signingClockOverride(SIGNING_CLOCK)
+                                  .enableChunkedEncoding(true);
+    }
+
+    /**
+     * The attributes of the same signing parameters, except for the clock: the chunks are signed for the time in the
+     * X-Amz-Date header of the signed request.
+     */
+    private static ExecutionAttributes executionAttributes() {
+        return new ExecutionAttributes()
+            .putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, CREDENTIALS)
+            .putAttribute(AwsSignerExecutionAttribute.SERVICE_SIGNING_NAME, "s3")
+            .putAttribute(AwsSignerExecutionAttribute.SIGNING_REGION, Region.US_EAST_1)
+            .putAttribute(S3SignerExecutionAttribute.ENABLE_CHUNKED_ENCODING, true);
+    }
+
+    private static byte[] toByteArray(AsyncRequestBody body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Flowable.fromPublisher(body).blockingForEach(b -> {
+            byte[] chunk = new byte[b.remaining()];
+            b.get(chunk);
+            bytes.write(chunk);
+        });
+        return bytes.toByteArray();
+    }
+}
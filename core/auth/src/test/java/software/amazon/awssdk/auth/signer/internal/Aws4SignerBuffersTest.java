@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class Aws4SignerBuffersTest {
+
+    @Test
+    public void digestOfEncodedCharacters_matchesDigestOfStringBytes() throws Exception {
+        String[] values = {"", "ascii only", "ümläut", "✓ check", "clef 𝄞", "unpaired \ud834 high",
+                           "unpaired \udd1e low", "trailing high \ud834"};
+
+        for (String value : values) {
+            MessageDigest expected = MessageDigest.getInstance("SHA-256");
+            MessageDigest actual = MessageDigest.getInstance("SHA-256");
+            Aws4SignerBuffers.get().update(actual, new StringBuilder(value));
+
+            assertThat(actual.digest()).as(value).isEqualTo(expected.digest(value.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void largeValues_areEncoded() throws Exception {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            value.append("é");
+        }
+
+        MessageDigest expected = MessageDigest.getInstance("SHA-256");
+        MessageDigest actual = MessageDigest.getInstance("SHA-256");
+        Aws4SignerBuffers.get().update(actual, value);
+
+        assertThat(actual.digest()).isEqualTo(expected.digest(value.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void appendDigestHex_matchesBinaryUtils() throws Exception {
+        MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+        messageDigest.update("foo".getBytes(StandardCharsets.UTF_8));
+        StringBuilder hex = new StringBuilder("prefix ");
+
+        Aws4SignerBuffers.get().appendDigestHex(hex, messageDigest);
+
+        assertThat(hex.toString()).isEqualTo("prefix " + BinaryUtils.toHex(AbstractAwsSigner.hash("foo")));
+    }
+
+    @Test
+    public void sortHeaders_isCaseInsensitiveAndStable() {
+        Aws4SignerBuffers buffers = Aws4SignerBuffers.get();
+        String[] names = {"X-Amz-Date", "host", "Content-Type", "Host", "b", "a", "C", "d", "f", "e", "h", "g", "j", "i", "l", "k",
+                          "n", "m"};
+        for (String name : names) {
+            buffers.addHeader(name, singletonList(name));
+        }
+
+        buffers.sortHeaders();
+
+        String[] sorted = new String[buffers.headerCount()];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = buffers.headerName(i);
+            assertThat(buffers.headerValues(i)).containsExactly(sorted[i]);
+        }
+        assertThat(sorted).containsExactly("a", "b", "C", "Content-Type", "d", "e", "f", "g", "h", "host", "Host", "i", "j", "k",
+                                           "l", "m", "n", "X-Amz-Date");
+    }
+
+    @Test
+    public void get_clearsPreviousRequest() {
+        Aws4SignerBuffers buffers = Aws4SignerBuffers.get();
+        buffers.canonicalRequest().append("foo");
+        buffers.stringToSign().append("bar");
+        buffers.addHeader("Host", singletonList("localhost"));
+
+        buffers = Aws4SignerBuffers.get();
+
+        assertThat(buffers.canonicalRequest()).isEmpty();
+        assertThat(buffers.stringToSign()).isEmpty();
+        assertThat(buffers.headerCount()).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import io.reactivex.subscribers.TestSubscriber;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import software.amazon.awssdk.auth.signer.AwsS3V4Signer;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class AwsChunkedEncodingAsyncRequestBodyTest {
+    private static final byte[] SIGNING_KEY = "signing-key".getBytes();
+    private static final String DATE_TIME = "20200101T000000Z";
+    private static final String KEY_PATH = "20200101/us-east-1/s3/aws4_request";
+    private static final String HEADER_SIGNATURE = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void emptyBody_encodesLikeInputStream() throws IOException {
+        assertEncodesLikeInputStream(new byte[0], 1024);
+    }
+
+    @Test
+    public void bodySmallerThanChunk_encodesLikeInputStream() throws IOException {
+        assertEncodesLikeInputStream(randomBytes(1000), 64);
+    }
+
+    @Test
+    public void bodySpanningSeveralChunks_encodesLikeInputStream() throws IOException {
+        assertEncodesLikeInputStream(randomBytes(AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE * 2 + 17), 10_000);
+    }
+
+    @Test
+    public void bodyOfExactChunkMultiple_encodesLikeInputStream() throws IOException {
+        assertEncodesLikeInputStream(randomBytes(AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE * 2),
+                                     AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Test
+    public void contentLength_isTheEncodedLength() {
+        AsyncRequestBody body = chunkedBody(AsyncRequestBody.fromBytes(randomBytes(300_000)));
+
+        assertThat(body.contentLength()).contains(AwsChunkedEncodingInputStream.calculateStreamContentLength(300_000));
+    }
+
+    @Test
+    public void downstreamDemand_limitsTheChunksEmitted() {
+        byte[] content = randomBytes(AwsChunkedEncodingInputStream.DEFAULT_CHUNK_SIZE * 3);
+        TestSubscriber<ByteBuffer> subscriber = new TestSubscriber<>(1);
+
+        chunkedBody(AsyncRequestBody.fromPublisher(Flowable.fromIterable(split(content, 4096)))).subscribe(subscriber);
+
+        subscriber.assertValueCount(1);
+        subscriber.assertNotComplete();
+
+        subscriber.request(Long.MAX_VALUE);
+
+        // Three data chunks and the final empty chunk.
+        subscriber.assertValueCount(4);
+        subscriber.assertComplete();
+    }
+
+    @Test
+    public void upstreamError_isPropagated() {
+        RuntimeException error = new RuntimeException("boom");
+        TestSubscriber<ByteBuffer> subscriber = new TestSubscriber<>();
+
+        chunkedBody(AsyncRequestBody.fromPublisher(Flowable.error(error))).subscribe(subscriber);
+
+        subscriber.assertError(error);
+    }
+
+    private static void assertEncodesLikeInputStream(byte[] content, int bufferSize) throws IOException {
+        AsyncRequestBody body = chunkedBody(AsyncRequestBody.fromPublisher(Flowable.fromIterable(split(content, bufferSize))));
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        Flowable.fromPublisher(body).blockingForEach(b -> {
+            byte[] bytes = new byte[b.remaining()];
+            b.get(bytes);
+            actual.write(bytes);
+        });
+
+        InputStream expected = new AwsChunkedEncodingInputStream(new ByteArrayInputStream(content), SIGNING_KEY, DATE_TIME,
+                                                                 KEY_PATH, HEADER_SIGNATURE, AwsS3V4Signer.create());
+
+        assertThat(actual.toByteArray()).isEqualTo(IoUtils.toByteArray(expected));
+        assertThat((long) actual.size()).isEqualTo(AwsChunkedEncodingInputStream.calculateStreamContentLength(content.length));
+    }
+
+    private static AsyncRequestBody chunkedBody(AsyncRequestBody delegate) {
+        return new AwsChunkedEncodingAsyncRequestBody(delegate, SIGNING_KEY, DATE_TIME, KEY_PATH, HEADER_SIGNATURE);
+    }
+
+    private static List<ByteBuffer> split(byte[] content, int bufferSize) {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < content.length; offset += bufferSize) {
+            buffers.add(ByteBuffer.wrap(content, offset, Math.min(bufferSize, content.length - offset)));
+        }
+        return buffers;
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+}
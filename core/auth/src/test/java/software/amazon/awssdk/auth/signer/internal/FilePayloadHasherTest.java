@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Random;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FilePayloadHasherTest {
+    private Path file;
+
+    @Before
+    public void setup() throws IOException {
+        file = Files.createTempFile("FilePayloadHasherTest", ".bin");
+    }
+
+    @After
+    public void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void emptyFile_hashesLikeEmptyContent() throws Exception {
+        assertThat(hashFile(FilePayloadHasher.READ_AHEAD_THRESHOLD)).isEqualTo(sha256(new byte[0]));
+    }
+
+    @Test
+    public void fileBelowReadAheadThreshold_hashesLikeItsContent() throws Exception {
+        byte[] content = writeRandomContent(FilePayloadHasher.BLOCK_SIZE * 2 + 17);
+
+        assertThat(hashFile(FilePayloadHasher.READ_AHEAD_THRESHOLD)).isEqualTo(sha256(content));
+    }
+
+    @Test
+    public void fileAboveReadAheadThreshold_hashesLikeItsContent() throws Exception {
+        byte[] content = writeRandomContent(FilePayloadHasher.BLOCK_SIZE * 3 + 17);
+
+        assertThat(hashFile(FilePayloadHasher.BLOCK_SIZE)).isEqualTo(sha256(content));
+    }
+
+    @Test
+    public void fileOfExactlyOneBlock_withReadAhead_hashesLikeItsContent() throws Exception {
+        byte[] content = writeRandomContent(FilePayloadHasher.BLOCK_SIZE);
+
+        assertThat(hashFile(1)).isEqualTo(sha256(content));
+    }
+
+    @Test
+    public void missingFile_throwsIOException() throws Exception {
+        Files.delete(file);
+
+        assertThatThrownBy(() -> hashFile(FilePayloadHasher.READ_AHEAD_THRESHOLD)).isInstanceOf(NoSuchFileException.class);
+    }
+
+    private byte[] writeRandomContent(int length) throws IOException {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        Files.write(file, content);
+        return content;
+    }
+
+    private byte[] hashFile(long readAheadThreshold) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        FilePayloadHasher.update(digest, file, readAheadThreshold);
+        return digest.digest();
+    }
+
+    private static byte[] sha256(byte[] content) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(content);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class SigningKeyCacheTest {
+    private static final long DAY = 18_000;
+
+    @Test
+    public void get_countsHitsAndMisses() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+
+        assertThat(cache.get("secret", "us-east-1", "s3", DAY)).isNull();
+        cache.put("secret", "us-east-1", "s3", DAY, new byte[] {1});
+
+        assertThat(cache.get("secret", "us-east-1", "s3", DAY)).containsExactly(1);
+        assertThat(cache.get("secret", "us-west-2", "s3", DAY)).isNull();
+        assertThat(cache.get("other", "us-east-1", "s3", DAY)).isNull();
+        assertThat(cache.get("secret", "us-east-1", "sqs", DAY)).isNull();
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(4);
+    }
+
+    @Test
+    public void keyForAnotherDay_isAMissAndIsReplaced() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put("secret", "us-east-1", "s3", DAY, new byte[] {1});
+
+        assertThat(cache.get("secret", "us-east-1", "s3", DAY + 1)).isNull();
+        cache.put("secret", "us-east-1", "s3", DAY + 1, new byte[] {2});
+
+        assertThat(cache.get("secret", "us-east-1", "s3", DAY + 1)).containsExactly(2);
+        assertThat(cache.get("secret", "us-east-1", "s3", DAY)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void returnedKey_isACopy() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("secret", "us-east-1", "s3", DAY, new byte[] {1});
+
+        cache.get("secret", "us-east-1", "s3", DAY)[0] = 2;
+
+        assertThat(cache.get("secret", "us-east-1", "s3", DAY)).containsExactly(1);
+    }
+
+    @Test
+    public void fullCache_evictsOldestKeyThatWasNotUsedSinceItWasAdded() {
+        SigningKeyCache cache = new SigningKeyCache(3);
+        cache.put("secret", "region-1", "s3", DAY, new byte[] {1});
+        cache.put("secret", "region-2", "s3", DAY, new byte[] {2});
+        cache.put("secret", "region-3", "s3", DAY, new byte[] {3});
+        cache.get("secret", "region-1", "s3", DAY);
+
+        cache.put("secret", "region-4", "s3", DAY, new byte[] {4});
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.evictions()).isEqualTo(1);
+        assertThat(cache.get("secret", "region-1", "s3", DAY)).containsExactly(1);
+        assertThat(cache.get("secret", "region-2", "s3", DAY)).isNull();
+        assertThat(cache.get("secret", "region-3", "s3", DAY)).containsExactly(3);
+        assertThat(cache.get("secret", "region-4", "s3", DAY)).containsExactly(4);
+    }
+
+    @Test
+    public void fullCache_whereEveryKeyWasUsed_keepsTheUsedKeys() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+        cache.put("secret", "region-1", "s3", DAY, new byte[] {1});
+        cache.put("secret", "region-2", "s3", DAY, new byte[] {2});
+        cache.get("secret", "region-1", "s3", DAY);
+        cache.get("secret", "region-2", "s3", DAY);
+
+        cache.put("secret", "region-3", "s3", DAY, new byte[] {3});
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictions()).isEqualTo(1);
+        assertThat(cache.get("secret", "region-1", "s3", DAY)).containsExactly(1);
+        assertThat(cache.get("secret", "region-2", "s3", DAY)).containsExactly(2);
+        assertThat(cache.get("secret", "region-3", "s3", DAY)).isNull();
+    }
+
+    @Test
+    public void nonPositiveMaxSize_isRejected() {
+        assertThatThrownBy(() -> new SigningKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SigningKeyCache(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void concurrentGetAndPut_neverExceedsMaxSize() throws Exception {
+        int maxSize = 16;
+        int threads = 8;
+        SigningKeyCache cache = new SigningKeyCache(maxSize);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    try {
+                        for (int i = 0; i < 10_000; i++) {
+                            String region = "region-" + (i % 64);
+                            if (cache.get("secret", region, "s3", DAY) == null) {
+                                cache.put("secret", region, "s3", DAY, new byte[] {(byte) i});
+                            }
+                        }
+                    } catch (Throwable e) {
+                        synchronized (failures) {
+                            failures.add(e);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(cache.size()).isLessThanOrEqualTo(maxSize);
+        assertThat(cache.hits() + cache.misses()).isEqualTo(threads * 10_000L);
+    }
+}
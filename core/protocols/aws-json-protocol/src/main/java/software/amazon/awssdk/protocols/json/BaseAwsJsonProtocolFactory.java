@@ -36,10 +36,14 @@ import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
 import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
+import software.amazon.awssdk.protocols.json.internal.marshall.EncodedFieldNames;
+import software.amazon.awssdk.protocols.json.internal.marshall.JsonMarshaller;
+import software.amazon.awssdk.protocols.json.internal.marshall.JsonProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.internal.marshall.JsonProtocolMarshallerBuilder;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.AwsJsonErrorMessageParser;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.AwsJsonProtocolErrorUnmarshaller;
@@ -61,6 +65,8 @@ public abstract class BaseAwsJsonProtocolFactory {
     private final String customErrorCodeFieldName;
     private final SdkClientConfiguration clientConfiguration;
     private final JsonProtocolUnmarshaller protocolUnmarshaller;
+    private final MarshallingPlanCache<JsonMarshaller<Object>> marshallingPlanCache;
+    private final EncodedFieldNames encodedFieldNames;
 
     protected BaseAwsJsonProtocolFactory(Builder<?> builder) {
         this.protocolMetadata = builder.protocolMetadata.build();
@@ -71,8 +77,11 @@ public abstract class BaseAwsJsonProtocolFactory {
         this.protocolUnmarshaller = JsonProtocolUnmarshaller
             .builder()
             .parser(JsonDomParser.create(getSdkFactory().getJsonFactory()))
+            .jsonFactory(getSdkFactory().getJsonFactory())
             .defaultTimestampFormats(getDefaultTimestampFormats())
             .build();
+        this.marshallingPlanCache = JsonProtocolMarshaller.createMarshallingPlanCache();
+        this.encodedFieldNames = EncodedFieldNames.create();
     }
 
     /**
@@ -175,6 +184,8 @@ public abstract class BaseAwsJsonProtocolFactory {
                                             .contentType(getContentType())
                                             .operationInfo(operationInfo)
                                             .sendExplicitNullForPayload(false)
+                                            .marshallingPlanCache(marshallingPlanCache)
+                                            .encodedFieldNames(encodedFieldNames)
                                             .build();
     }
 
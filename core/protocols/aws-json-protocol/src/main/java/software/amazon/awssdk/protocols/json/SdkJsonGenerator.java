@@ -17,6 +17,7 @@ package software.amazon.awssdk.protocols.json;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -25,7 +26,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.core.io.ByteBufferContentStreamProvider;
 import software.amazon.awssdk.utils.DateUtils;
 
 /**
@@ -39,7 +40,7 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
      * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
      */
     private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final ContentOutputStream baos = new ContentOutputStream(DEFAULT_BUFFER_SIZE);
     private final JsonGenerator generator;
     private final String contentType;
 
@@ -116,6 +117,16 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
         return this;
     }
 
+    @Override
+    public StructuredJsonGenerator writeFieldName(SerializableString fieldName) {
+        try {
+            generator.writeFieldName(fieldName);
+        } catch (IOException e) {
+            throw new JsonGenerationException(e);
+        }
+        return this;
+    }
+
     @Override
     public StructuredJsonGenerator writeValue(String val) {
         try {
@@ -189,7 +200,12 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
     @Override
     public StructuredJsonGenerator writeValue(ByteBuffer bytes) {
         try {
-            generator.writeBinary(BinaryUtils.copyBytesFrom(bytes));
+            if (bytes.hasArray()) {
+                generator.writeBinary(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            } else {
+                // Read-only buffers, like those of SdkBytes, are encoded from a stream rather than copied into an array.
+                generator.writeBinary(ByteBufferContentStreamProvider.create(bytes).newStream(), bytes.remaining());
+            }
         } catch (IOException e) {
             throw new JsonGenerationException(e);
         }
@@ -267,6 +283,18 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
         return baos.toByteArray();
     }
 
+    /**
+     * Get the JSON content as a buffer over the generator's own storage. Unlike {@link #getBytes()} this does not copy the
+     * content, so the buffer must not be modified.
+     *
+     * @return Buffer of UTF-8 encoded bytes that make up the generated JSON.
+     */
+    @Override
+    public ByteBuffer getByteBuffer() {
+        close();
+        return baos.content();
+    }
+
     @Override
     public String getContentType() {
         return contentType;
@@ -276,6 +304,19 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
         return generator;
     }
 
+    /**
+     * A {@link ByteArrayOutputStream} that can hand out its content without copying it.
+     */
+    private static final class ContentOutputStream extends ByteArrayOutputStream {
+        private ContentOutputStream(int size) {
+            super(size);
+        }
+
+        private synchronized ByteBuffer content() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+
     /**
      * Indicates an issue writing JSON content.
      */
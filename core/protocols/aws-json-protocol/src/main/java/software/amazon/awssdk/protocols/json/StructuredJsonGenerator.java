@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.json;
 
+import com.fasterxml.jackson.core.SerializableString;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
@@ -147,6 +148,14 @@ public interface StructuredJsonGenerator {
 
     StructuredJsonGenerator writeFieldName(String fieldName);
 
+    /**
+     * Write a field name that has already been encoded, such as the cached location name of a member. Generators that can
+     * write the encoded form should override this; by default the name is written as a string.
+     */
+    default StructuredJsonGenerator writeFieldName(SerializableString fieldName) {
+        return writeFieldName(fieldName.getValue());
+    }
+
     StructuredJsonGenerator writeValue(String val);
 
     StructuredJsonGenerator writeValue(boolean bool);
@@ -173,6 +182,14 @@ public interface StructuredJsonGenerator {
 
     byte[] getBytes();
 
+    /**
+     * Get the generated content as a buffer. Implementations may return a view of their own storage instead of a copy, so the
+     * buffer must not be modified.
+     */
+    default ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(getBytes());
+    }
+
     /**
      * New clients use {@link SdkJsonProtocolFactory#getContentType()}.
      */
@@ -42,6 +42,14 @@ public final class JsonDomParser {
         }
     }
 
+    /**
+     * Parses the value starting at the given token of a parser that is already positioned within a document. On return, the
+     * parser is positioned on the last token of the value.
+     */
+    public SdkJsonNode parseValue(JsonParser parser, JsonToken token) throws IOException {
+        return parseToken(parser, token);
+    }
+
     private SdkJsonNode parseToken(JsonParser parser, JsonToken token) throws IOException {
         if (token == null) {
             return null;
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+
+/**
+ * Caches the location names of {@link SdkField}s in the form Jackson writes them, so that a field name is encoded once
+ * rather than on every request. The encoded forms of a name are computed on first use by {@link SerializedString}.
+ * <p>
+ * A cache is meant to live as long as the protocol factory, like the marshalling plans, and only holds the fields of the
+ * models marshalled by that factory.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class EncodedFieldNames {
+
+    private final ConcurrentMap<SdkField<?>, SerializableString> names = new ConcurrentHashMap<>();
+
+    private EncodedFieldNames() {
+    }
+
+    /**
+     * @return New, empty, {@link EncodedFieldNames}.
+     */
+    public static EncodedFieldNames create() {
+        return new EncodedFieldNames();
+    }
+
+    /**
+     * @param field Field with a location name.
+     * @return The encoded {@link SdkField#locationName()} of the field.
+     */
+    public SerializableString locationName(SdkField<?> field) {
+        SerializableString name = names.get(field);
+        if (name == null) {
+            name = names.computeIfAbsent(field, f -> new SerializedString(f.locationName()));
+        }
+        return name;
+    }
+}
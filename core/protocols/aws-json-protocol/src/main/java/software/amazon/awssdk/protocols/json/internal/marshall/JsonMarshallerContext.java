@@ -31,12 +31,14 @@ public final class JsonMarshallerContext {
     private final JsonProtocolMarshaller protocolHandler;
     private final JsonMarshallerRegistry marshallerRegistry;
     private final SdkHttpFullRequest.Builder request;
+    private final EncodedFieldNames encodedFieldNames;
 
     private JsonMarshallerContext(Builder builder) {
         this.jsonGenerator = builder.jsonGenerator;
         this.protocolHandler = builder.protocolHandler;
         this.marshallerRegistry = builder.marshallerRegistry;
         this.request = builder.request;
+        this.encodedFieldNames = builder.encodedFieldNames;
     }
 
     /**
@@ -70,6 +72,14 @@ public final class JsonMarshallerContext {
         return request;
     }
 
+    /**
+     * @return Cache of the encoded field names to write to the {@link #jsonGenerator()}, or null if field names should be
+     * written as strings.
+     */
+    public EncodedFieldNames encodedFieldNames() {
+        return encodedFieldNames;
+    }
+
     /**
      * Convenience method to marshall a nested object (may be simple or structured) at the given location.
      *
@@ -107,6 +117,7 @@ public final class JsonMarshallerContext {
         private JsonProtocolMarshaller protocolHandler;
         private JsonMarshallerRegistry marshallerRegistry;
         private SdkHttpFullRequest.Builder request;
+        private EncodedFieldNames encodedFieldNames;
 
         private Builder() {
         }
@@ -131,6 +142,11 @@ public final class JsonMarshallerContext {
             return this;
         }
 
+        public Builder encodedFieldNames(EncodedFieldNames encodedFieldNames) {
+            this.encodedFieldNames = encodedFieldNames;
+            return this;
+        }
+
         /**
          * @return An immutable {@link JsonMarshallerContext} object.
          */
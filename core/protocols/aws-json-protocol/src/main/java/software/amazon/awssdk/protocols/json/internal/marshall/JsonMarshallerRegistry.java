@@ -43,6 +43,14 @@ public final class JsonMarshallerRegistry extends AbstractMarshallingRegistry {
                                                       val == null ? MarshallingType.NULL : marshallingType);
     }
 
+    /**
+     * @return The marshaller registered for the given location and type, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonMarshaller<Object> findMarshaller(MarshallLocation marshallLocation, MarshallingType<?> marshallingType) {
+        return (JsonMarshaller<Object>) find(marshallLocation, marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link JsonMarshallerRegistry}.
      */
@@ -19,7 +19,6 @@ import static software.amazon.awssdk.core.internal.util.Mimetype.MIMETYPE_EVENT_
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 import static software.amazon.awssdk.http.Header.CONTENT_TYPE;
 
-import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Collections;
@@ -29,12 +28,14 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.io.ByteBufferContentStreamProvider;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache.FieldMarshaller;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
@@ -60,13 +61,16 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     private final boolean hasStreamingInput;
 
     private final JsonMarshallerContext marshallerContext;
+    private final MarshallingPlanCache<JsonMarshaller<Object>> marshallingPlanCache;
     private final boolean hasEventStreamingInput;
     private final boolean hasEvent;
 
     JsonProtocolMarshaller(URI endpoint,
                            StructuredJsonGenerator jsonGenerator,
                            String contentType,
-                           OperationInfo operationInfo) {
+                           OperationInfo operationInfo,
+                           MarshallingPlanCache<JsonMarshaller<Object>> marshallingPlanCache,
+                           EncodedFieldNames encodedFieldNames) {
         this.endpoint = endpoint;
         this.jsonGenerator = jsonGenerator;
         this.contentType = contentType;
@@ -80,7 +84,16 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
                                                       .marshallerRegistry(MARSHALLER_REGISTRY)
                                                       .protocolHandler(this)
                                                       .request(request)
+                                                      .encodedFieldNames(encodedFieldNames)
                                                       .build();
+        this.marshallingPlanCache = marshallingPlanCache;
+    }
+
+    /**
+     * @return New, empty, cache of the marshalling plans of this protocol.
+     */
+    public static MarshallingPlanCache<JsonMarshaller<Object>> createMarshallingPlanCache() {
+        return MarshallingPlanCache.create(MARSHALLER_REGISTRY::findMarshaller);
     }
 
     private static JsonMarshallerRegistry createMarshallerRegistry() {
@@ -160,29 +173,31 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
+        for (FieldMarshaller<JsonMarshaller<Object>> fieldMarshaller : marshallingPlanCache.plan(pojo)) {
+            SdkField<Object> field = fieldMarshaller.field();
             Object val = field.getValueOrDefault(pojo);
-            if (isBinary(field, val)) {
+            if (fieldMarshaller.isExplicitPayloadMember() && val instanceof SdkBytes) {
                 request.contentStreamProvider(((SdkBytes) val)::asInputStream);
             } else {
-                if (val != null && field.containsTrait(PayloadTrait.class)) {
+                if (val != null && fieldMarshaller.isExplicitPayloadMember()) {
                     jsonGenerator.writeStartObject();
                     doMarshall((SdkPojo) val);
                     jsonGenerator.writeEndObject();
                 } else {
-                    MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                                       .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
+                    getMarshaller(fieldMarshaller, val).marshall(val, marshallerContext, field.locationName(), field);
                 }
             }
         }
     }
 
-    private boolean isBinary(SdkField<?> field, Object val) {
-        return isExplicitPayloadMember(field) && val instanceof SdkBytes;
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
+    private JsonMarshaller<Object> getMarshaller(FieldMarshaller<JsonMarshaller<Object>> fieldMarshaller, Object val) {
+        JsonMarshaller<Object> marshaller = fieldMarshaller.marshaller(val);
+        if (marshaller == null) {
+            // Nothing is registered for this field, let the registry fail with its usual error.
+            SdkField<Object> field = fieldMarshaller.field();
+            return MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val);
+        }
+        return marshaller;
     }
 
     @Override
@@ -200,10 +215,11 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
                 jsonGenerator.writeEndObject();
             }
 
-            byte[] content = jsonGenerator.getBytes();
-            request.contentStreamProvider(() -> new ByteArrayInputStream(content));
-            if (content.length > 0) {
-                request.putHeader(CONTENT_LENGTH, Integer.toString(content.length));
+            // Hand the generated content to the HTTP client without copying it.
+            ByteBufferContentStreamProvider content = ByteBufferContentStreamProvider.create(jsonGenerator.getByteBuffer());
+            request.contentStreamProvider(content);
+            if (content.contentLength() > 0) {
+                request.putHeader(CONTENT_LENGTH, Integer.toString(content.contentLength()));
             }
         }
 
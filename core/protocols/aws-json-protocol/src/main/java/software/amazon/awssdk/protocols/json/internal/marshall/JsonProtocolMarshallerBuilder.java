@@ -18,6 +18,7 @@ package software.amazon.awssdk.protocols.json.internal.marshall;
 import java.net.URI;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
@@ -33,6 +34,8 @@ public final class JsonProtocolMarshallerBuilder {
     private String contentType;
     private OperationInfo operationInfo;
     private boolean sendExplicitNullForPayload;
+    private MarshallingPlanCache<JsonMarshaller<Object>> marshallingPlanCache;
+    private EncodedFieldNames encodedFieldNames;
 
     private JsonProtocolMarshallerBuilder() {
     }
@@ -92,6 +95,27 @@ public final class JsonProtocolMarshallerBuilder {
         return this;
     }
 
+    /**
+     * @param marshallingPlanCache Cache of marshalling plans to share between marshallers, usually one per protocol factory.
+     * Created with {@link JsonProtocolMarshaller#createMarshallingPlanCache()}. If not set, the marshaller uses a cache of
+     * its own.
+     * @return This builder for method chaining.
+     */
+    public JsonProtocolMarshallerBuilder marshallingPlanCache(MarshallingPlanCache<JsonMarshaller<Object>> marshallingPlanCache) {
+        this.marshallingPlanCache = marshallingPlanCache;
+        return this;
+    }
+
+    /**
+     * @param encodedFieldNames Cache of encoded field names to share between marshallers, usually one per protocol factory.
+     * If not set, the marshaller uses a cache of its own.
+     * @return This builder for method chaining.
+     */
+    public JsonProtocolMarshallerBuilder encodedFieldNames(EncodedFieldNames encodedFieldNames) {
+        this.encodedFieldNames = encodedFieldNames;
+        return this;
+    }
+
     /**
      * @return New instance of {@link ProtocolMarshaller}. If {@link #sendExplicitNullForPayload} is true then the marshaller
      * will be wrapped with {@link NullAsEmptyBodyProtocolRequestMarshaller}.
@@ -100,8 +124,18 @@ public final class JsonProtocolMarshallerBuilder {
         ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = new JsonProtocolMarshaller(endpoint,
                                                                                                jsonGenerator,
                                                                                                contentType,
-                                                                                               operationInfo);
+                                                                                               operationInfo,
+                                                                                               resolveMarshallingPlanCache(),
+                                                                                               resolveEncodedFieldNames());
         return sendExplicitNullForPayload ? protocolMarshaller
                                           : new NullAsEmptyBodyProtocolRequestMarshaller(protocolMarshaller);
     }
+
+    private MarshallingPlanCache<JsonMarshaller<Object>> resolveMarshallingPlanCache() {
+        return marshallingPlanCache != null ? marshallingPlanCache : JsonProtocolMarshaller.createMarshallingPlanCache();
+    }
+
+    private EncodedFieldNames resolveEncodedFieldNames() {
+        return encodedFieldNames != null ? encodedFieldNames : EncodedFieldNames.create();
+    }
 }
@@ -96,7 +96,7 @@ public final class SimpleTypeJsonMarshaller {
     public static final JsonMarshaller<Instant> INSTANT = (val, context, paramName, sdkField) -> {
         StructuredJsonGenerator jsonGenerator = context.jsonGenerator();
         if (paramName != null) {
-            jsonGenerator.writeFieldName(paramName);
+            writeFieldName(context, paramName, sdkField);
         }
         TimestampFormatTrait trait = sdkField.getTrait(TimestampFormatTrait.class);
         if (trait != null) {
@@ -181,6 +181,18 @@ public final class SimpleTypeJsonMarshaller {
     private SimpleTypeJsonMarshaller() {
     }
 
+    /**
+     * Writes the field name, using the pre-encoded name from the context when the name is the field's location name.
+     */
+    private static void writeFieldName(JsonMarshallerContext context, String paramName, SdkField<?> sdkField) {
+        EncodedFieldNames encodedFieldNames = context.encodedFieldNames();
+        if (encodedFieldNames != null && sdkField != null && paramName.equals(sdkField.locationName())) {
+            context.jsonGenerator().writeFieldName(encodedFieldNames.locationName(sdkField));
+        } else {
+            context.jsonGenerator().writeFieldName(paramName);
+        }
+    }
+
     /**
      * Base marshaller that emits the field name if present. The field name may be null in cases like
      * marshalling something inside a list or if the object is the explicit payload member.
@@ -195,7 +207,7 @@ public final class SimpleTypeJsonMarshaller {
                 return;
             }
             if (paramName != null) {
-                context.jsonGenerator().writeFieldName(paramName);
+                writeFieldName(context, paramName, sdkField);
             }
             marshall(val, context.jsonGenerator(), context);
         }
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.dom.JsonDomParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls a JSON payload directly from the parser's token stream into the {@link SdkPojo} builders, without first
+ * parsing it into an {@link software.amazon.awssdk.protocols.json.internal.dom.SdkJsonNode} tree.
+ * <p>
+ * Values that this class does not know how to read from the token stream, such as a member whose JSON type does not match
+ * its {@link MarshallingType}, are parsed into a DOM and unmarshalled with the {@link JsonUnmarshallerRegistry}, so the result
+ * is always the same as {@link JsonProtocolUnmarshaller}'s DOM based unmarshalling.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonStreamingUnmarshaller {
+    private final JsonFactory jsonFactory;
+    private final JsonDomParser domParser;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes;
+    private final ConcurrentMap<Class<?>, StructureFields> structureFields = new ConcurrentHashMap<>();
+
+    JsonStreamingUnmarshaller(JsonFactory jsonFactory,
+                              JsonDomParser domParser,
+                              StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+        this.domParser = domParser;
+
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes = new HashMap<>();
+        simpleTypes.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        simpleTypes.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        simpleTypes.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        simpleTypes.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        simpleTypes.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        simpleTypes.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        simpleTypes.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        simpleTypes.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        simpleTypes.put(MarshallingType.INSTANT, instantStringToValue);
+        this.simpleTypes = Collections.unmodifiableMap(simpleTypes);
+    }
+
+    /**
+     * Unmarshalls the JSON document in the provided content into the provided POJO, and builds it.
+     *
+     * @param sdkPojo The builder of the POJO to unmarshall into.
+     * @param content The JSON document. It is not closed by this method.
+     * @param context Context containing the HTTP response and the unmarshaller registry.
+     */
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                             InputStream content,
+                                             JsonUnmarshallerContext context) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(content)
+                                            .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+            return unmarshallStructure(context, parser, parser.nextToken(), sdkPojo);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStructure(JsonUnmarshallerContext context,
+                                                              JsonParser parser,
+                                                              JsonToken token,
+                                                              SdkPojo sdkPojo) throws IOException {
+        StructureFields fields = structureFields.computeIfAbsent(sdkPojo.getClass(), c -> new StructureFields(sdkPojo));
+
+        for (SdkField<?> field : fields.nonPayloadFields) {
+            JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+
+        if (fields.explicitPayloadField != null) {
+            // The whole value is the content of the payload member.
+            SdkField<Object> payloadField = fields.explicitPayloadField;
+            payloadField.set(sdkPojo, token == null ? null : unmarshallValue(context, parser, token, payloadField));
+        } else if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() != JsonToken.END_OBJECT) {
+                SdkField<Object> field = fields.payloadFields.get(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (field == null) {
+                    parser.skipChildren();
+                } else {
+                    field.set(sdkPojo, unmarshallValue(context, parser, valueToken, field));
+                }
+            }
+        } else if (token != null) {
+            parser.skipChildren();
+        }
+
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    private Object unmarshallValue(JsonUnmarshallerContext context,
+                                   JsonParser parser,
+                                   JsonToken token,
+                                   SdkField<Object> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO && token == JsonToken.START_OBJECT) {
+            return unmarshallStructure(context, parser, token, (SdkPojo) field.constructor().get());
+        }
+        if (marshallingType == MarshallingType.LIST && token == JsonToken.START_ARRAY) {
+            return unmarshallList(context, parser, field);
+        }
+        if (marshallingType == MarshallingType.MAP && token == JsonToken.START_OBJECT) {
+            return unmarshallMap(context, parser, field);
+        }
+        if (marshallingType == MarshallingType.SDK_BYTES && token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            // Binary protocols like CBOR may already have the raw bytes extracted.
+            return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+        }
+
+        StringToValueConverter.StringToValue<Object> stringToValue = simpleType(marshallingType);
+        if (stringToValue != null && token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return stringToValue.convert(scalarText(parser, token), field);
+        }
+
+        JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), marshallingType);
+        return unmarshaller.unmarshall(context, domParser.parseValue(parser, token), field);
+    }
+
+    private List<?> unmarshallList(JsonUnmarshallerContext context,
+                                   JsonParser parser,
+                                   SdkField<Object> field) throws IOException {
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(context, parser, token, memberInfo));
+            token = parser.nextToken();
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(JsonUnmarshallerContext context,
+                                         JsonParser parser,
+                                         SdkField<Object> field) throws IOException {
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            map.put(key, unmarshallValue(context, parser, parser.nextToken(), valueInfo));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringToValueConverter.StringToValue<Object> simpleType(MarshallingType<?> marshallingType) {
+        return (StringToValueConverter.StringToValue<Object>) simpleTypes.get(marshallingType);
+    }
+
+    /**
+     * The text of a scalar token, as {@link JsonDomParser} would store it in a scalar node.
+     */
+    private static String scalarText(JsonParser parser, JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_TRUE:
+                return "true";
+            case VALUE_FALSE:
+                return "false";
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return parser.getNumberValue().toString();
+            default:
+                return parser.getText();
+        }
+    }
+
+    /**
+     * The fields of a POJO type, grouped by how they are unmarshalled.
+     */
+    private static final class StructureFields {
+        private final Map<String, SdkField<Object>> payloadFields = new HashMap<>();
+        private final List<SdkField<?>> nonPayloadFields = new ArrayList<>();
+        private SdkField<Object> explicitPayloadField;
+
+        @SuppressWarnings("unchecked")
+        private StructureFields(SdkPojo sdkPojo) {
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.containsTrait(PayloadTrait.class)) {
+                    explicitPayloadField = (SdkField<Object>) field;
+                } else if (field.location() == MarshallLocation.PAYLOAD) {
+                    payloadFields.put(field.locationName(), (SdkField<Object>) field);
+                } else {
+                    nonPayloadFields.add(field);
+                }
+            }
+        }
+    }
+}
@@ -15,17 +15,20 @@
 
 package software.amazon.awssdk.protocols.json;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.time.Instant;
+import java.util.Arrays;
 import org.junit.Before;
 import org.junit.Test;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -81,6 +84,41 @@ public class SdkJsonGeneratorTest {
         assertEquals(BinaryUtils.toBase64(data), node.get("binaryProp").textValue());
     }
 
+    @Test
+    public void simpleObject_WithReadOnlyBinaryData_WritesRemainingBytesAsBase64() throws IOException {
+        byte[] data = new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        ByteBuffer buffer = ByteBuffer.wrap(data).asReadOnlyBuffer();
+        buffer.position(2);
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("binaryProp").writeValue(buffer);
+        jsonGenerator.writeEndObject();
+        JsonNode node = toJsonNode();
+        assertEquals(BinaryUtils.toBase64(Arrays.copyOfRange(data, 2, 10)), node.get("binaryProp").textValue());
+        assertEquals(2, buffer.position());
+    }
+
+    @Test
+    public void serializedFieldName_WritesSameJsonAsStringFieldName() throws IOException {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName(new SerializedString("stringProp")).writeValue("stringVal");
+        jsonGenerator.writeFieldName(new SerializedString("quoted\"Prop")).writeValue(42);
+        jsonGenerator.writeEndObject();
+        JsonNode node = toJsonNode();
+        assertEquals("stringVal", node.get("stringProp").textValue());
+        assertEquals(42, node.get("quoted\"Prop").longValue());
+    }
+
+    @Test
+    public void getByteBuffer_ContainsSameBytesAsGetBytes() {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("stringVal");
+        jsonGenerator.writeEndObject();
+        ByteBuffer buffer = jsonGenerator.getByteBuffer();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        assertArrayEquals(jsonGenerator.getBytes(), bytes);
+    }
+
     @Test
     public void simpleObject_WithServiceDate() throws IOException {
         Instant instant = Instant.ofEpochMilli(123456);
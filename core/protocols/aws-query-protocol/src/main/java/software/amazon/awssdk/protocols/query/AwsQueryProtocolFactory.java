@@ -30,8 +30,10 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.query.internal.marshall.QueryMarshaller;
 import software.amazon.awssdk.protocols.query.internal.marshall.QueryProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.internal.unmarshall.AwsQueryResponseHandler;
 import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
@@ -48,6 +50,7 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final AwsXmlErrorProtocolUnmarshaller errorUnmarshaller;
+    private final MarshallingPlanCache<QueryMarshaller<Object>> marshallingPlanCache;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
@@ -61,6 +64,7 @@ public class AwsQueryProtocolFactory {
             .errorUnmarshaller(QueryProtocolUnmarshaller.builder().build())
             .errorRootExtractor(this::getErrorRoot)
             .build();
+        this.marshallingPlanCache = QueryProtocolMarshaller.createMarshallingPlanCache(isEc2());
     }
 
     /**
@@ -75,6 +79,7 @@ public class AwsQueryProtocolFactory {
                                       .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
                                       .operationInfo(operationInfo)
                                       .isEc2(isEc2())
+                                      .marshallingPlanCache(marshallingPlanCache)
                                       .build();
     }
 
@@ -27,6 +27,8 @@ public class MapQueryMarshaller implements QueryMarshaller<Map<String, ?>> {
     @Override
     public void marshall(QueryMarshallerContext context, String path, Map<String, ?> val, SdkField<Map<String, ?>> sdkField) {
         MapTrait mapTrait = sdkField.getTrait(MapTrait.class);
+        QueryMarshaller<Object> marshaller = context.marshallerRegistry()
+            .getMarshaller(((SdkField<?>) mapTrait.valueFieldInfo()).marshallingType(), val);
         AtomicInteger entryNum = new AtomicInteger(1);
         val.forEach((key, value) -> {
 
@@ -36,8 +38,6 @@ public class MapQueryMarshaller implements QueryMarshaller<Map<String, ?>> {
 
             String mapValuePath = resolveMapPath(path, mapTrait, entryNum, mapTrait.valueLocationName());
 
-            QueryMarshaller<Object> marshaller = context.marshallerRegistry()
-                .getMarshaller(((SdkField<?>) mapTrait.valueFieldInfo()).marshallingType(), val);
             marshaller.marshall(context, mapValuePath, value, mapTrait.valueFieldInfo());
             entryNum.incrementAndGet();
         });
@@ -45,7 +45,7 @@ public class MapQueryMarshaller implements QueryMarshaller<Map<String, ?>> {
 
     private static String resolveMapPath(String path, MapTrait mapTrait, AtomicInteger entryNum, String s) {
         return mapTrait.isFlattened() ?
-               String.format("%s.%d.%s", path, entryNum.get(), s) :
-               String.format("%s.entry.%d.%s", path, entryNum.get(), s);
+               path + "." + entryNum.get() + "." + s :
+               path + ".entry." + entryNum.get() + "." + s;
     }
 }
@@ -43,6 +43,14 @@ public final class QueryMarshallerRegistry extends AbstractMarshallingRegistry {
                                                        val == null ? MarshallingType.NULL : marshallingType);
     }
 
+    /**
+     * @return The marshaller registered for the given type, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public QueryMarshaller<Object> findMarshaller(MarshallingType<?> marshallingType) {
+        return (QueryMarshaller<Object>) find(MarshallLocation.PAYLOAD, marshallingType);
+    }
+
     /**
      * @return Builder instance to construct a {@link AbstractMarshallingRegistry}.
      */
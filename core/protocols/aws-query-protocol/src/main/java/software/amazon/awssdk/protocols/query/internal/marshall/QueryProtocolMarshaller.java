@@ -21,6 +21,8 @@ import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache.FieldMarshaller;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
@@ -42,12 +44,28 @@ public final class QueryProtocolMarshaller
 
     private final SdkHttpFullRequest.Builder request;
     private final QueryMarshallerRegistry registry;
+    private final MarshallingPlanCache<QueryMarshaller<Object>> marshallingPlanCache;
     private final URI endpoint;
 
     private QueryProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
         this.request = fillBasicRequestParams(builder.operationInfo);
-        this.registry = builder.isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
+        this.registry = registry(builder.isEc2);
+        this.marshallingPlanCache = builder.marshallingPlanCache != null ? builder.marshallingPlanCache
+                                                                         : createMarshallingPlanCache(builder.isEc2);
+    }
+
+    /**
+     * @param isEc2 True if the plans are for the EC2 protocol, see {@link Builder#isEc2(boolean)}.
+     * @return New, empty, cache of the marshalling plans of this protocol.
+     */
+    public static MarshallingPlanCache<QueryMarshaller<Object>> createMarshallingPlanCache(boolean isEc2) {
+        QueryMarshallerRegistry registry = registry(isEc2);
+        return MarshallingPlanCache.create((location, marshallingType) -> registry.findMarshaller(marshallingType));
+    }
+
+    private static QueryMarshallerRegistry registry(boolean isEc2) {
+        return isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
@@ -69,10 +87,15 @@ public final class QueryProtocolMarshaller
     }
 
     private void doMarshall(String path, QueryMarshallerContext context, SdkPojo pojo) {
-        for (SdkField<?> sdkField : pojo.sdkFields()) {
+        for (FieldMarshaller<QueryMarshaller<Object>> fieldMarshaller : marshallingPlanCache.plan(pojo)) {
+            SdkField<Object> sdkField = fieldMarshaller.field();
             Object val = sdkField.getValueOrDefault(pojo);
-            QueryMarshaller<Object> marshaller = registry.getMarshaller(sdkField.marshallingType(), val);
-            marshaller.marshall(context, resolvePath(path, sdkField), val, (SdkField<Object>) sdkField);
+            QueryMarshaller<Object> marshaller = fieldMarshaller.marshaller(val);
+            if (marshaller == null) {
+                // Nothing is registered for this field, let the registry fail with its usual error.
+                marshaller = registry.getMarshaller(sdkField.marshallingType(), val);
+            }
+            marshaller.marshall(context, resolvePath(path, sdkField), val, sdkField);
         }
     }
 
@@ -112,6 +135,7 @@ public final class QueryProtocolMarshaller
         private OperationInfo operationInfo;
         private boolean isEc2;
         private URI endpoint;
+        private MarshallingPlanCache<QueryMarshaller<Object>> marshallingPlanCache;
 
         /**
          * @param operationInfo Metadata about the operation like URI, HTTP method, etc.
@@ -141,6 +165,17 @@ public final class QueryProtocolMarshaller
             return this;
         }
 
+        /**
+         * @param marshallingPlanCache Cache of marshalling plans to share between marshallers, usually one per protocol
+         * factory. Created with {@link QueryProtocolMarshaller#createMarshallingPlanCache(boolean)} for the same value
+         * of {@link #isEc2(boolean)}. If not set, the marshaller uses a cache of its own.
+         * @return This builder for method chaining.
+         */
+        public Builder marshallingPlanCache(MarshallingPlanCache<QueryMarshaller<Object>> marshallingPlanCache) {
+            this.marshallingPlanCache = marshallingPlanCache;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolMarshaller}.
          */
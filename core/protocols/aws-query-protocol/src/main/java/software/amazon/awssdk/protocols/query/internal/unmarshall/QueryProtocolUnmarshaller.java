@@ -28,7 +28,6 @@ import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -61,14 +60,23 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .build();
 
     private final boolean hasResultWrapper;
+    private final QueryStreamingUnmarshaller streamingUnmarshaller;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.streamingUnmarshaller = new QueryStreamingUnmarshaller(createContext(), hasResultWrapper);
     }
 
+    /**
+     * Unmarshalls a successful response. The body is read straight from the response content, without parsing it into an
+     * {@link XmlElement} tree first.
+     */
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
                                                                                SdkHttpFullResponse response) {
-        XmlElement document = response.content().map(XmlDomParser::parse).orElse(XmlElement.empty());
+        if (response.content().isPresent()) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get());
+        }
+        XmlElement document = XmlElement.empty();
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
@@ -81,11 +89,14 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        QueryUnmarshallerContext unmarshallerContext = QueryUnmarshallerContext.builder()
-                                                                               .registry(UNMARSHALLER_REGISTRY)
-                                                                               .protocolUnmarshaller(this)
-                                                                               .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(createContext(), sdkPojo, resultRoot);
+    }
+
+    private QueryUnmarshallerContext createContext() {
+        return QueryUnmarshallerContext.builder()
+                                       .registry(UNMARSHALLER_REGISTRY)
+                                       .protocolUnmarshaller(this)
+                                       .build();
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
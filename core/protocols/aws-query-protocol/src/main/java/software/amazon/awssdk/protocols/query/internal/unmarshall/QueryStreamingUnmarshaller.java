@@ -0,0 +1,371 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static java.util.Collections.singletonList;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.protocols.core.StringToInstant;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUtils;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an AWS/Query or EC2 response directly from an {@link XMLStreamReader} into the {@link SdkPojo} builders, without
+ * first parsing it into an {@link XmlElement} tree.
+ * <p>
+ * The few elements this class does not read from the stream itself, such as a response metadata element that is also a
+ * modeled member, are parsed into an {@link XmlElement} and unmarshalled with the {@link QueryUnmarshallerRegistry}, so the
+ * result is always the same as {@link QueryProtocolUnmarshaller}'s DOM based unmarshalling.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class QueryStreamingUnmarshaller {
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+    private static final String MAP_ENTRY = "entry";
+
+    private static final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> SIMPLE_TYPES = createSimpleTypes();
+
+    private final QueryUnmarshallerContext context;
+    private final boolean hasResultWrapper;
+    private final ConcurrentMap<Class<?>, Map<String, SdkField<Object>>> fieldsByLocationName = new ConcurrentHashMap<>();
+
+    QueryStreamingUnmarshaller(QueryUnmarshallerContext context, boolean hasResultWrapper) {
+        this.context = context;
+        this.hasResultWrapper = hasResultWrapper;
+    }
+
+    /**
+     * Unmarshalls the XML document in the provided content into the provided POJO, and builds it.
+     *
+     * @param sdkPojo The builder of the POJO to unmarshall into.
+     * @param content The XML document. It is not closed by this method.
+     * @return The built POJO and the response metadata found in the document.
+     */
+    <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo, InputStream content) {
+        XMLStreamReader reader = XmlStreamUtils.createReader(content);
+        try {
+            Map<String, String> metadata = new HashMap<>();
+            if (XmlStreamUtils.nextRootElement(reader)) {
+                if (hasResultWrapper) {
+                    unmarshallWrappedResult(reader, sdkPojo, metadata);
+                } else {
+                    unmarshallFields(reader, sdkPojo, metadata);
+                }
+            }
+            return Pair.of(build(sdkPojo), metadata);
+        } catch (XMLStreamException e) {
+            throw XmlStreamUtils.parseFailure(e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Unmarshalls the first child of the document as the result, and reads the response metadata from the other children.
+     */
+    private void unmarshallWrappedResult(XMLStreamReader reader,
+                                         SdkPojo sdkPojo,
+                                         Map<String, String> metadata) throws XMLStreamException {
+        boolean isResultRoot = true;
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (isResultRoot) {
+                isResultRoot = false;
+                if (isMetadata(name)) {
+                    // There is no result element, so the metadata is also the result root.
+                    XmlElement element = XmlStreamUtils.parseElement(reader);
+                    readMetadata(element, metadata);
+                    unmarshallFields(element, sdkPojo);
+                } else {
+                    unmarshallFields(reader, sdkPojo, null);
+                }
+            } else if (isMetadata(name)) {
+                readMetadata(reader, metadata);
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+    }
+
+    /**
+     * Unmarshalls the children of the element the reader is positioned on into the fields of the POJO, leaving the reader on
+     * the end of the element. As with the DOM, only the first element is used for a member unless it is a flattened list or
+     * map, in which case every element with the member's name is one of its entries.
+     *
+     * @param metadata If not null, response metadata found among the children is added to it.
+     */
+    private void unmarshallFields(XMLStreamReader reader,
+                                  SdkPojo sdkPojo,
+                                  Map<String, String> metadata) throws XMLStreamException {
+        Map<String, SdkField<Object>> fields = fieldsByLocationName.computeIfAbsent(sdkPojo.getClass(),
+                                                                                    c -> fieldsByLocationName(sdkPojo));
+        Set<SdkField<Object>> unmarshalled = new HashSet<>();
+        Map<SdkField<Object>, Object> flattenedValues = new HashMap<>();
+
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            SdkField<Object> field = fields.get(name);
+
+            if (metadata != null && isMetadata(name)) {
+                if (field == null) {
+                    readMetadata(reader, metadata);
+                } else {
+                    XmlElement element = XmlStreamUtils.parseElement(reader);
+                    readMetadata(element, metadata);
+                    if (isFlattened(field)) {
+                        addFlattenedValues(flattenedValues, field, unmarshallDom(field, element));
+                    } else if (unmarshalled.add(field)) {
+                        field.set(sdkPojo, unmarshallDom(field, element));
+                    }
+                }
+            } else if (field == null) {
+                XmlStreamUtils.skipElement(reader);
+            } else if (isFlattened(field)) {
+                addFlattenedValue(reader, flattenedValues, field);
+            } else if (unmarshalled.add(field)) {
+                field.set(sdkPojo, unmarshallValue(reader, field));
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+
+        flattenedValues.forEach((field, value) -> field.set(sdkPojo, value));
+    }
+
+    /**
+     * Unmarshalls the children of an already parsed element into the fields of the POJO, as {@link QueryProtocolUnmarshaller}
+     * does.
+     */
+    @SuppressWarnings("unchecked")
+    private void unmarshallFields(XmlElement root, SdkPojo sdkPojo) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            List<XmlElement> elements = root.getElementsByName(field.unmarshallLocationName());
+            if (!elements.isEmpty()) {
+                QueryUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, elements, (SdkField<Object>) field));
+            }
+        }
+    }
+
+    private Object unmarshallValue(XMLStreamReader reader, SdkField<Object> field) throws XMLStreamException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            SdkPojo sdkPojo = (SdkPojo) field.constructor().get();
+            unmarshallFields(reader, sdkPojo, null);
+            return build(sdkPojo);
+        }
+        if (marshallingType == MarshallingType.LIST) {
+            return unmarshallList(reader, field);
+        }
+        if (marshallingType == MarshallingType.MAP) {
+            return unmarshallMap(reader, field);
+        }
+        if (marshallingType == MarshallingType.NULL) {
+            XmlStreamUtils.skipElement(reader);
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<Object> stringToValue = simpleType(marshallingType);
+        if (stringToValue != null) {
+            return stringToValue.convert(XmlStreamUtils.readText(reader), field);
+        }
+        return unmarshallDom(field, XmlStreamUtils.parseElement(reader));
+    }
+
+    private List<?> unmarshallList(XMLStreamReader reader, SdkField<Object> field) throws XMLStreamException {
+        ListTrait listTrait = field.getTrait(ListTrait.class);
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            // A flattened list nested in another collection has this single element as its only member.
+            list.add(unmarshallValue(reader, listTrait.memberFieldInfo()));
+            return list;
+        }
+        // As with the DOM, every direct child is a member whatever its name, since EC2 does not always model the member
+        // name correctly.
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            list.add(unmarshallValue(reader, listTrait.memberFieldInfo()));
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(XMLStreamReader reader, SdkField<Object> field) throws XMLStreamException {
+        MapTrait mapTrait = field.getTrait(MapTrait.class);
+        Map<String, Object> map = new HashMap<>();
+        if (mapTrait.isFlattened()) {
+            unmarshallMapEntry(reader, mapTrait, map);
+            return map;
+        }
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            if (MAP_ENTRY.equals(reader.getLocalName())) {
+                unmarshallMapEntry(reader, mapTrait, map);
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallMapEntry(XMLStreamReader reader,
+                                    MapTrait mapTrait,
+                                    Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        boolean hasValue = false;
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (key == null && name.equals(mapTrait.keyLocationName())) {
+                key = XmlStreamUtils.readText(reader);
+            } else if (!hasValue && name.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(reader, mapTrait.valueFieldInfo());
+                hasValue = true;
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Adds the element the reader is positioned on as the next member or entry of a flattened list or map.
+     */
+    @SuppressWarnings("unchecked")
+    private void addFlattenedValue(XMLStreamReader reader,
+                                   Map<SdkField<Object>, Object> flattenedValues,
+                                   SdkField<Object> field) throws XMLStreamException {
+        if (MarshallingType.LIST.equals(field.marshallingType())) {
+            List<Object> list = (List<Object>) flattenedValues.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(unmarshallValue(reader, field.getTrait(ListTrait.class).memberFieldInfo()));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattenedValues.computeIfAbsent(field, f -> new HashMap<>());
+            unmarshallMapEntry(reader, field.getTrait(MapTrait.class), map);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addFlattenedValues(Map<SdkField<Object>, Object> flattenedValues,
+                                           SdkField<Object> field,
+                                           Object values) {
+        if (MarshallingType.LIST.equals(field.marshallingType())) {
+            ((List<Object>) flattenedValues.computeIfAbsent(field, f -> new ArrayList<>())).addAll((List<?>) values);
+        } else {
+            ((Map<String, Object>) flattenedValues.computeIfAbsent(field, f -> new HashMap<>())).putAll((Map<String, ?>) values);
+        }
+    }
+
+    private Object unmarshallDom(SdkField<Object> field, XmlElement element) {
+        QueryUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+        return unmarshaller.unmarshall(context, singletonList(element), field);
+    }
+
+    private static void readMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        if (REQUEST_ID.equals(reader.getLocalName())) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamUtils.readText(reader));
+            return;
+        }
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            String key = metadataKeyName(reader.getLocalName());
+            metadata.put(key, XmlStreamUtils.readText(reader));
+        }
+    }
+
+    private static void readMetadata(XmlElement element, Map<String, String> metadata) {
+        if (REQUEST_ID.equals(element.elementName())) {
+            metadata.put(AWS_REQUEST_ID, element.textContent());
+        } else {
+            element.children().forEach(c -> metadata.put(metadataKeyName(c.elementName()), c.textContent()));
+        }
+    }
+
+    private static String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
+    }
+
+    private static boolean isMetadata(String elementName) {
+        return RESPONSE_METADATA.equals(elementName) || REQUEST_ID.equals(elementName);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (MarshallingType.LIST.equals(field.marshallingType())) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        }
+        if (MarshallingType.MAP.equals(field.marshallingType())) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, SdkField<Object>> fieldsByLocationName(SdkPojo sdkPojo) {
+        Map<String, SdkField<Object>> fields = new HashMap<>();
+        sdkPojo.sdkFields().forEach(f -> fields.put(f.unmarshallLocationName(), (SdkField<Object>) f));
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT build(SdkPojo sdkPojo) {
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StringToValueConverter.StringToValue<Object> simpleType(MarshallingType<?> marshallingType) {
+        return (StringToValueConverter.StringToValue<Object>) SIMPLE_TYPES.get(marshallingType);
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Closing the reader only releases its own resources, the content is closed by the response handler.
+        }
+    }
+
+    private static Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> createSimpleTypes() {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes = new HashMap<>();
+        simpleTypes.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        simpleTypes.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        simpleTypes.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        simpleTypes.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        simpleTypes.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        simpleTypes.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        simpleTypes.put(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()));
+        simpleTypes.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(simpleTypes);
+    }
+}
@@ -20,7 +20,6 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import javax.xml.stream.XMLEventReader;
-import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.StartElement;
@@ -34,14 +33,12 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 @SdkProtectedApi
 public final class XmlDomParser {
 
-    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
-
     private XmlDomParser() {
     }
 
     public static XmlElement parse(InputStream inputStream) {
         try {
-            XMLEventReader reader = FACTORY.get().createXMLEventReader(inputStream);
+            XMLEventReader reader = XmlStreamUtils.FACTORY.get().createXMLEventReader(inputStream);
             XMLEvent nextEvent;
             // Skip ahead to the first start element
             do {
@@ -115,16 +112,4 @@ public final class XmlDomParser {
         }
     }
 
-    /**
-     * Disables certain dangerous features that attempt to automatically fetch DTDs
-     *
-     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
-     */
-    private static XMLInputFactory createXmlInputFactory() {
-        XMLInputFactory factory = XMLInputFactory.newInstance();
-        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-        return factory;
-    }
-
 }
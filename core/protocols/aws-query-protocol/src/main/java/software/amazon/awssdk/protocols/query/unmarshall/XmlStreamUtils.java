@@ -0,0 +1,222 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Helpers for unmarshallers that read an XML document straight from an {@link XMLStreamReader} instead of parsing it into
+ * an {@link XmlElement} tree with {@link XmlDomParser}. Element text and attributes are read exactly as
+ * {@link XmlDomParser} would store them, so both approaches produce the same values.
+ */
+@SdkProtectedApi
+public final class XmlStreamUtils {
+
+    static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(XmlStreamUtils::createXmlInputFactory);
+
+    private XmlStreamUtils() {
+    }
+
+    /**
+     * Creates a reader for the XML document in the given stream. The stream is not closed when the reader is closed.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) {
+        try {
+            return FACTORY.get().createXMLStreamReader(inputStream);
+        } catch (XMLStreamException e) {
+            throw parseFailure(e);
+        }
+    }
+
+    /**
+     * Advances the reader to the start of the root element of the document.
+     *
+     * @return True if the reader is positioned on the root element, false if the document has no elements.
+     */
+    public static boolean nextRootElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Advances a reader positioned on the start of an element, or on the end of one of its children, to the start of the
+     * next child element.
+     *
+     * @return True if the reader is positioned on the next child element, false if it is positioned on the end of the
+     * element because there are no more children.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT || event == XMLStreamConstants.END_DOCUMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned on, leaving the reader on its end.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the text content of the element the reader is positioned on, leaving the reader on its end. Nested elements are
+     * skipped.
+     *
+     * @return The same text as {@link XmlElement#textContent()}, an empty string if the element has no text.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        return readContent(reader, null);
+    }
+
+    /**
+     * Parses the element the reader is positioned on, and any nested elements, into an {@link XmlElement}, leaving the reader
+     * on its end. This is used for the parts of a document that need the DOM, for example to hand them to an existing
+     * {@link XmlElement} based unmarshaller.
+     */
+    public static XmlElement parseElement(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+        if (reader.getAttributeCount() > 0) {
+            elementBuilder.attributes(attributes(reader));
+        }
+        return elementBuilder.textContent(readContent(reader, elementBuilder)).build();
+    }
+
+    /**
+     * Gets an attribute of the element the reader is positioned on, by the same "prefix:name" key that
+     * {@link XmlElement#getOptionalAttributeByName(String)} uses.
+     *
+     * @return The value of the attribute, or null if the element has no such attribute.
+     */
+    public static String getAttributeByName(XMLStreamReader reader, String attribute) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (attribute.equals(attributeKey(reader, i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wraps an exception thrown while reading an XML response in the same exception {@link XmlDomParser} throws.
+     */
+    public static SdkClientException parseFailure(XMLStreamException e) {
+        return SdkClientException.create("Could not parse XML response.", e);
+    }
+
+    /**
+     * Reads the content of an element up to its end. As in {@link XmlDomParser}, the text of the element is the last run of
+     * character data that is not interrupted by another event. Nested elements are added to the given builder, or skipped
+     * if it is null.
+     */
+    private static String readContent(XMLStreamReader reader, XmlElement.Builder children) throws XMLStreamException {
+        String text = "";
+        StringBuilder run = null;
+        boolean inRun = false;
+        while (true) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (!inRun) {
+                        text = reader.getText();
+                        run = null;
+                        inRun = true;
+                    } else {
+                        // Most text arrives in a single event, so only pay for a builder when it does not.
+                        if (run == null) {
+                            run = new StringBuilder(text);
+                        }
+                        run.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    text = endRun(text, run);
+                    run = null;
+                    inRun = false;
+                    if (children == null) {
+                        skipElement(reader);
+                    } else {
+                        children.addChildElement(parseElement(reader));
+                    }
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                case XMLStreamConstants.END_DOCUMENT:
+                    return endRun(text, run);
+                default:
+                    text = endRun(text, run);
+                    run = null;
+                    inRun = false;
+                    break;
+            }
+        }
+    }
+
+    private static String endRun(String text, StringBuilder run) {
+        return run == null ? text : run.toString();
+    }
+
+    private static Map<String, String> attributes(XMLStreamReader reader) {
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(attributeKey(reader, i), reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    private static String attributeKey(XMLStreamReader reader, int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
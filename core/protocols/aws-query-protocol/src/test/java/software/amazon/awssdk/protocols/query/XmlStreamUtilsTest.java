@@ -0,0 +1,110 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.Test;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUtils;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlStreamUtilsTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                      + "<!-- leading comment -->"
+                                      + "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\">"
+                                      + " <stringMember>string<![CDATA[<Val>]]>&amp;more</stringMember>"
+                                      + " <emptyMember/>"
+                                      + " <nested><member>valOne</member><member>valTwo</member></nested>"
+                                      + " <mixed>before<child/>after</mixed>"
+                                      + "</Struct>";
+
+    @Test
+    public void readText_matchesDomTextContent() throws XMLStreamException {
+        XmlElement dom = XmlDomParser.parse(new StringInputStream(XML));
+        XMLStreamReader reader = rootReader(XML);
+
+        List<String> names = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            names.add(reader.getLocalName());
+            texts.add(XmlStreamUtils.readText(reader));
+        }
+
+        List<String> domTexts = new ArrayList<>();
+        dom.children().forEach(c -> domTexts.add(c.textContent()));
+        assertThat(names).containsExactly("stringMember", "emptyMember", "nested", "mixed");
+        assertThat(texts).isEqualTo(domTexts);
+        assertThat(texts.get(0)).isEqualTo("string<Val>&more");
+        assertThat(texts.get(1)).isEmpty();
+        assertThat(texts.get(3)).isEqualTo("after");
+    }
+
+    @Test
+    public void parseElement_matchesDomParser() throws XMLStreamException {
+        XmlElement dom = XmlDomParser.parse(new StringInputStream(XML));
+        XmlElement parsed = XmlStreamUtils.parseElement(rootReader(XML));
+
+        assertSameElement(parsed, dom);
+        assertThat(parsed.getOptionalAttributeByName("xsi:type")).contains("foo");
+    }
+
+    @Test
+    public void skipElement_leavesReaderOnNextSibling() throws XMLStreamException {
+        XMLStreamReader reader = rootReader(XML);
+
+        XmlStreamUtils.nextChildElement(reader);
+        XmlStreamUtils.skipElement(reader);
+        XmlStreamUtils.nextChildElement(reader);
+        XmlStreamUtils.skipElement(reader);
+        XmlStreamUtils.nextChildElement(reader);
+        XmlStreamUtils.skipElement(reader);
+        XmlStreamUtils.nextChildElement(reader);
+
+        assertThat(reader.getLocalName()).isEqualTo("mixed");
+    }
+
+    @Test
+    public void getAttributeByName_usesDomAttributeKeys() throws XMLStreamException {
+        XMLStreamReader reader = rootReader("<Struct xmlns:xsi=\"urn:xsi\" xsi:type=\"foo\" plain=\"bar\"/>");
+
+        assertThat(XmlStreamUtils.getAttributeByName(reader, "xsi:type")).isEqualTo("foo");
+        assertThat(XmlStreamUtils.getAttributeByName(reader, ":plain")).isEqualTo("bar");
+        assertThat(XmlStreamUtils.getAttributeByName(reader, "xsi:nil")).isNull();
+    }
+
+    private static XMLStreamReader rootReader(String xml) throws XMLStreamException {
+        XMLStreamReader reader = XmlStreamUtils.createReader(new StringInputStream(xml));
+        assertThat(XmlStreamUtils.nextRootElement(reader)).isTrue();
+        return reader;
+    }
+
+    private static void assertSameElement(XmlElement actual, XmlElement expected) {
+        assertThat(actual.elementName()).isEqualTo(expected.elementName());
+        assertThat(actual.textContent()).isEqualTo(expected.textContent());
+        assertThat(actual.attributes()).isEqualTo(expected.attributes());
+        assertThat(actual.children()).hasSameSizeAs(expected.children());
+        for (int i = 0; i < actual.children().size(); i++) {
+            assertSameElement(actual.children().get(i), expected.children().get(i));
+        }
+    }
+}
@@ -34,12 +34,14 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.internal.http.CombinedResponseHandler;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.ExceptionMetadata;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.OperationMetadataAttribute;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.AwsXmlErrorProtocolUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.xml.internal.marshall.XmlGenerator;
+import software.amazon.awssdk.protocols.xml.internal.marshall.XmlMarshaller;
 import software.amazon.awssdk.protocols.xml.internal.marshall.XmlProtocolMarshaller;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlErrorTransformer;
 import software.amazon.awssdk.protocols.xml.internal.unmarshall.AwsXmlResponseHandler;
@@ -75,6 +77,7 @@ public class AwsXmlProtocolFactory {
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final AwsXmlErrorProtocolUnmarshaller errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final MarshallingPlanCache<XmlMarshaller<Object>> marshallingPlanCache;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
@@ -87,6 +90,7 @@ public class AwsXmlProtocolFactory {
             .errorUnmarshaller(XML_PROTOCOL_UNMARSHALLER)
             .errorRootExtractor(this::getErrorRoot)
             .build();
+        this.marshallingPlanCache = XmlProtocolMarshaller.createMarshallingPlanCache();
     }
 
     /**
@@ -99,6 +103,7 @@ public class AwsXmlProtocolFactory {
                                     .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
                                     .xmlGenerator(createGenerator(operationInfo))
                                     .operationInfo(operationInfo)
+                                    .marshallingPlanCache(marshallingPlanCache)
                                     .build();
     }
 
@@ -31,10 +31,11 @@ import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
-import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache.FieldMarshaller;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
@@ -58,6 +59,7 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
     private final SdkHttpFullRequest.Builder request;
     private final String rootElement;
     private final XmlMarshallerContext marshallerContext;
+    private final MarshallingPlanCache<XmlMarshaller<Object>> marshallingPlanCache;
 
     private XmlProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
@@ -69,6 +71,15 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
                                                      .protocolMarshaller(this)
                                                      .request(request)
                                                      .build();
+        this.marshallingPlanCache = builder.marshallingPlanCache != null ? builder.marshallingPlanCache
+                                                                         : createMarshallingPlanCache();
+    }
+
+    /**
+     * @return New, empty, cache of the marshalling plans of this protocol.
+     */
+    public static MarshallingPlanCache<XmlMarshaller<Object>> createMarshallingPlanCache() {
+        return MarshallingPlanCache.create(MARSHALLER_REGISTRY::findMarshaller);
     }
 
     @Override
@@ -87,25 +98,35 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
     }
 
     void doMarshall(SdkPojo pojo) {
-        for (SdkField<?> field : pojo.sdkFields()) {
+        for (FieldMarshaller<XmlMarshaller<Object>> fieldMarshaller : marshallingPlanCache.plan(pojo)) {
+            SdkField<Object> field = fieldMarshaller.field();
             Object val = field.getValueOrDefault(pojo);
 
-            if (isBinary(field, val)) {
+            if (fieldMarshaller.isExplicitPayloadMember() && val instanceof SdkBytes) {
                 request.contentStreamProvider(((SdkBytes) val)::asInputStream);
                 setContentTypeHeaderIfNeeded("binary/octet-stream");
 
-            } else if (isExplicitPayloadMember(field) && val instanceof String) {
+            } else if (fieldMarshaller.isExplicitPayloadMember() && val instanceof String) {
                 byte[] content = ((String) val).getBytes(StandardCharsets.UTF_8);
                 request.contentStreamProvider(() -> new ByteArrayInputStream(content));
                 request.putHeader(CONTENT_LENGTH, Integer.toString(content.length));
 
             } else {
-                MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val)
-                                   .marshall(val, marshallerContext, field.locationName(), (SdkField<Object>) field);
+                getMarshaller(fieldMarshaller, val).marshall(val, marshallerContext, field.locationName(), field);
             }
         }
     }
 
+    private XmlMarshaller<Object> getMarshaller(FieldMarshaller<XmlMarshaller<Object>> fieldMarshaller, Object val) {
+        XmlMarshaller<Object> marshaller = fieldMarshaller.marshaller(val);
+        if (marshaller == null) {
+            // Nothing is registered for this field, let the registry fail with its usual error.
+            SdkField<Object> field = fieldMarshaller.field();
+            return MARSHALLER_REGISTRY.getMarshaller(field.location(), field.marshallingType(), val);
+        }
+        return marshaller;
+    }
+
     private SdkHttpFullRequest finishMarshalling(SdkPojo pojo) {
         // Content may already be set if the payload is binary data.
         if (hasPayloadMembers(pojo) && request.contentStreamProvider() == null
@@ -122,14 +143,6 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
         return request.build();
     }
 
-    private boolean isBinary(SdkField<?> field, Object val) {
-        return isExplicitPayloadMember(field) && val instanceof SdkBytes;
-    }
-
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
-        return field.containsTrait(PayloadTrait.class);
-    }
-
     private boolean hasPayloadMembers(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
@@ -212,6 +225,7 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
         private URI endpoint;
         private XmlGenerator xmlGenerator;
         private OperationInfo operationInfo;
+        private MarshallingPlanCache<XmlMarshaller<Object>> marshallingPlanCache;
 
         private Builder() {
         }
@@ -243,6 +257,17 @@ public final class XmlProtocolMarshaller implements ProtocolMarshaller<SdkHttpFu
             return this;
         }
 
+        /**
+         * @param marshallingPlanCache Cache of marshalling plans to share between marshallers, usually one per protocol
+         * factory. Created with {@link XmlProtocolMarshaller#createMarshallingPlanCache()}. If not set, the marshaller uses a
+         * cache of its own.
+         * @return This builder for method chaining.
+         */
+        public Builder marshallingPlanCache(MarshallingPlanCache<XmlMarshaller<Object>> marshallingPlanCache) {
+            this.marshallingPlanCache = marshallingPlanCache;
+            return this;
+        }
+
         /**
          * @return New instance of {@link XmlProtocolMarshaller}.
          */
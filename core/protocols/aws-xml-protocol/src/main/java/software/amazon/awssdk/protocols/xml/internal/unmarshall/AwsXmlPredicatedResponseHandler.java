@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
+import java.io.BufferedInputStream;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -30,6 +31,7 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.utils.IoUtils;
@@ -113,12 +115,34 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        SdkHttpFullResponse response = httpFullResponse;
+
+        if (response.isSuccessful() && response.content().isPresent() && XmlResponseParserUtils.hasPayloadMembers(sdkPojo)) {
+            AbortableInputStream content = response.content().get();
+            BufferedInputStream bufferedContent = new BufferedInputStream(content);
+            response = response.toBuilder()
+                               .content(AbortableInputStream.create(bufferedContent, content))
+                               .build();
+
+            // Only a document with an error root has to be parsed up front to find out whether the response failed. Any
+            // other document is left unparsed so that the success transformer can read it straight from the content.
+            String rootElementName = XmlResponseParserUtils.peekRootElementName(bufferedContent);
+            if (rootElementName != null
+                && !DecorateErrorFromResponseBodyUnmarshaller.ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(rootElementName)) {
+                return AwsXmlUnmarshallingContext.builder()
+                                                 .executionAttributes(executionAttributes)
+                                                 .sdkHttpFullResponse(response)
+                                                 .build();
+            }
+        }
+
+        XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
 
         return AwsXmlUnmarshallingContext.builder()
                                          .parsedXml(document)
                                          .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
+                                         .sdkHttpFullResponse(response)
                                          .build();
     }
 
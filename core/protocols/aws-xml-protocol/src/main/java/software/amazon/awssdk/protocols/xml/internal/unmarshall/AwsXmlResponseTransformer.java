@@ -58,7 +58,9 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
     @SuppressWarnings("unchecked")
     private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
-        T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
+        // The body is only left unparsed when it can be unmarshalled straight from the response content.
+        T result = parsedXml == null ? unmarshaller.unmarshall(pojoSupplier.apply(response), response)
+                                     : unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
@@ -52,7 +52,8 @@ public class AwsXmlUnmarshallingContext {
     }
 
     /**
-     * The parsed XML of the body, or null if there was no body.
+     * The parsed XML of the body, or null if there was no body or the body of a successful response was left unparsed to
+     * be unmarshalled straight from the response content.
      */
     public XmlElement parsedRootXml() {
         return parsedXml;
@@ -47,6 +47,8 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
+    private final XmlStreamingUnmarshaller streamingUnmarshaller = new XmlStreamingUnmarshaller();
+
     private XmlProtocolUnmarshaller() {
     }
 
@@ -54,8 +56,15 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return new XmlProtocolUnmarshaller();
     }
 
+    /**
+     * Unmarshalls a response. The body of a successful response is read straight from the response content, without parsing
+     * it into an {@link XmlElement} tree first.
+     */
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) {
+        if (response.isSuccessful() && response.content().isPresent() && XmlResponseParserUtils.hasPayloadMembers(sdkPojo)) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get(), createContext(response));
+        }
 
         XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
         return unmarshall(sdkPojo, document, response);
@@ -69,12 +78,15 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
-                                                                           .response(response)
-                                                                           .registry(REGISTRY)
-                                                                           .protocolUnmarshaller(this)
-                                                                           .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(createContext(response), sdkPojo, resultRoot);
+    }
+
+    private XmlUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return XmlUnmarshallerContext.builder()
+                                     .response(response)
+                                     .registry(REGISTRY)
+                                     .protocolUnmarshaller(this)
+                                     .build();
     }
 
     SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
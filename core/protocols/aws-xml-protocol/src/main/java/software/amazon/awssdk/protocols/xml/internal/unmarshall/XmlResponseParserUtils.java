@@ -15,6 +15,10 @@
 
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -30,6 +34,11 @@ import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
  */
 @SdkInternalApi
 public final class XmlResponseParserUtils {
+    /**
+     * How far into a document {@link #peekRootElementName(BufferedInputStream)} looks for the root element.
+     */
+    private static final int ROOT_ELEMENT_READ_LIMIT = 1024;
+
     private XmlResponseParserUtils() {
     }
 
@@ -61,7 +70,94 @@ public final class XmlResponseParserUtils {
         }
     }
 
-    private static boolean hasPayloadMembers(SdkPojo sdkPojo) {
+    /**
+     * Finds the name of the root element of an XML document without consuming it, by scanning past the byte order mark,
+     * the XML declaration, processing instructions and comments at the start of the document. The stream is reset to where
+     * it was before this method was called.
+     *
+     * @return The local name of the root element, or null if it is not found within the first
+     * {@value #ROOT_ELEMENT_READ_LIMIT} bytes or the document is not in an ASCII compatible encoding.
+     */
+    public static String peekRootElementName(BufferedInputStream content) {
+        content.mark(ROOT_ELEMENT_READ_LIMIT);
+        try {
+            byte[] bytes = new byte[ROOT_ELEMENT_READ_LIMIT];
+            int length = 0;
+            int read;
+            while (length < bytes.length && (read = content.read(bytes, length, bytes.length - length)) != -1) {
+                length += read;
+            }
+            content.reset();
+            return rootElementName(bytes, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String rootElementName(byte[] bytes, int length) {
+        int i = hasUtf8ByteOrderMark(bytes, length) ? 3 : 0;
+        while (i < length) {
+            if (isWhitespace(bytes[i])) {
+                i++;
+            } else if (bytes[i] != '<' || i + 1 == length) {
+                return null;
+            } else if (bytes[i + 1] == '?') {
+                i = indexAfter(bytes, length, i + 2, "?>");
+            } else if (bytes[i + 1] == '!') {
+                // Only comments are skipped, anything else like a DOCTYPE is left to the parser.
+                if (!startsWith(bytes, length, i, "<!--")) {
+                    return null;
+                }
+                i = indexAfter(bytes, length, i + 4, "-->");
+            } else {
+                int start = i + 1;
+                int end = start;
+                while (end < length && !isWhitespace(bytes[end]) && bytes[end] != '>' && bytes[end] != '/') {
+                    end++;
+                }
+                if (end == length || end == start) {
+                    return null;
+                }
+                String name = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+                return name.substring(name.indexOf(':') + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return The index after the first occurrence of the terminator at or after the start, or the length if there is none.
+     */
+    private static int indexAfter(byte[] bytes, int length, int start, String terminator) {
+        for (int i = start; i < length; i++) {
+            if (startsWith(bytes, length, i, terminator)) {
+                return i + terminator.length();
+            }
+        }
+        return length;
+    }
+
+    private static boolean startsWith(byte[] bytes, int length, int start, String prefix) {
+        if (start + prefix.length() > length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (bytes[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasUtf8ByteOrderMark(byte[] bytes, int length) {
+        return length >= 3 && bytes[0] == (byte) 0xEF && bytes[1] == (byte) 0xBB && bytes[2] == (byte) 0xBF;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    static boolean hasPayloadMembers(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(f -> f.location() == MarshallLocation.PAYLOAD);
     }
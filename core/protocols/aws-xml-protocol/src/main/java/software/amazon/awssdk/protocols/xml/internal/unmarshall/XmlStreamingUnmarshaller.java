@@ -0,0 +1,326 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static java.util.Collections.singletonList;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUtils;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an XML payload directly from an {@link XMLStreamReader} into the {@link SdkPojo} builders, without first
+ * parsing it into an {@link XmlElement} tree.
+ * <p>
+ * Values that this class does not know how to read from the stream, such as a member whose type has no simple converter,
+ * are parsed into an {@link XmlElement} and unmarshalled with the {@link XmlUnmarshallerRegistry}, so the result is always the
+ * same as {@link XmlProtocolUnmarshaller}'s DOM based unmarshalling.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class XmlStreamingUnmarshaller {
+    private static final String MAP_ENTRY = "entry";
+
+    private static final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> SIMPLE_TYPES = createSimpleTypes();
+
+    private final ConcurrentMap<Class<?>, StructureFields> structureFields = new ConcurrentHashMap<>();
+
+    /**
+     * Unmarshalls the XML document in the provided content into the provided POJO, and builds it.
+     *
+     * @param sdkPojo The builder of the POJO to unmarshall into.
+     * @param content The XML document. It is not closed by this method.
+     * @param context Context containing the HTTP response and the unmarshaller registry.
+     */
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, InputStream content, XmlUnmarshallerContext context) {
+        XMLStreamReader reader = XmlStreamUtils.createReader(content);
+        try {
+            if (XmlStreamUtils.nextRootElement(reader)) {
+                return unmarshallStructure(context, reader, sdkPojo);
+            }
+            unmarshallNonPayloadFields(context, sdkPojo, structureFields(sdkPojo));
+            return build(sdkPojo);
+        } catch (XMLStreamException e) {
+            throw XmlStreamUtils.parseFailure(e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned on into the POJO and builds it, leaving the reader on the end of the
+     * element. As with the DOM, only the first element is used for a member unless it is a flattened list or map, in which
+     * case every element with the member's name is one of its entries.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallStructure(XmlUnmarshallerContext context,
+                                                              XMLStreamReader reader,
+                                                              SdkPojo sdkPojo) throws XMLStreamException {
+        StructureFields fields = structureFields(sdkPojo);
+        if (fields.requiresDom) {
+            XmlElement element = XmlStreamUtils.parseElement(reader);
+            return (TypeT) context.protocolUnmarshaller().unmarshall(context, sdkPojo, element);
+        }
+
+        unmarshallNonPayloadFields(context, sdkPojo, fields);
+
+        for (SdkField<Object> field : fields.attributeFields) {
+            String attribute = XmlStreamUtils.getAttributeByName(reader, field.unmarshallLocationName());
+            if (attribute != null) {
+                field.set(sdkPojo, attribute);
+            }
+        }
+
+        if (fields.explicitPayloadField != null) {
+            // The whole element is the content of the payload member.
+            fields.explicitPayloadField.set(sdkPojo, unmarshallValue(context, reader, fields.explicitPayloadField));
+            return build(sdkPojo);
+        }
+
+        Set<SdkField<Object>> unmarshalled = new HashSet<>();
+        Map<SdkField<Object>, Object> flattenedValues = new HashMap<>();
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            SdkField<Object> field = fields.payloadFields.get(reader.getLocalName());
+            if (field == null) {
+                XmlStreamUtils.skipElement(reader);
+            } else if (isFlattened(field)) {
+                addFlattenedValue(context, reader, flattenedValues, field);
+            } else if (unmarshalled.add(field)) {
+                field.set(sdkPojo, unmarshallValue(context, reader, field));
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+        flattenedValues.forEach((field, value) -> field.set(sdkPojo, value));
+
+        return build(sdkPojo);
+    }
+
+    private void unmarshallNonPayloadFields(XmlUnmarshallerContext context, SdkPojo sdkPojo, StructureFields fields) {
+        for (SdkField<Object> field : fields.nonPayloadFields) {
+            XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, field));
+        }
+    }
+
+    private Object unmarshallValue(XmlUnmarshallerContext context,
+                                   XMLStreamReader reader,
+                                   SdkField<Object> field) throws XMLStreamException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(context, reader, (SdkPojo) field.constructor().get());
+        }
+        if (marshallingType == MarshallingType.LIST) {
+            return unmarshallList(context, reader, field);
+        }
+        if (marshallingType == MarshallingType.MAP) {
+            return unmarshallMap(context, reader, field);
+        }
+
+        StringToValueConverter.StringToValue<Object> stringToValue = simpleType(marshallingType);
+        if (stringToValue != null) {
+            return stringToValue.convert(XmlStreamUtils.readText(reader), field);
+        }
+
+        XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), marshallingType);
+        return unmarshaller.unmarshall(context, singletonList(XmlStreamUtils.parseElement(reader)), field);
+    }
+
+    private List<?> unmarshallList(XmlUnmarshallerContext context,
+                                   XMLStreamReader reader,
+                                   SdkField<Object> field) throws XMLStreamException {
+        ListTrait listTrait = field.getTrait(ListTrait.class);
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            // A flattened list nested in another collection has this single element as its only member.
+            list.add(unmarshallValue(context, reader, listTrait.memberFieldInfo()));
+            return list;
+        }
+
+        String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                       : listTrait.memberFieldInfo().locationName();
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            if (reader.getLocalName().equals(memberLocation)) {
+                list.add(unmarshallValue(context, reader, listTrait.memberFieldInfo()));
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(XmlUnmarshallerContext context,
+                                         XMLStreamReader reader,
+                                         SdkField<Object> field) throws XMLStreamException {
+        MapTrait mapTrait = field.getTrait(MapTrait.class);
+        Map<String, Object> map = new HashMap<>();
+        if (mapTrait.isFlattened()) {
+            unmarshallMapEntry(context, reader, mapTrait, map);
+            return map;
+        }
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            if (MAP_ENTRY.equals(reader.getLocalName())) {
+                unmarshallMapEntry(context, reader, mapTrait, map);
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallMapEntry(XmlUnmarshallerContext context,
+                                    XMLStreamReader reader,
+                                    MapTrait mapTrait,
+                                    Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        boolean hasValue = false;
+        while (XmlStreamUtils.nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (key == null && name.equals(mapTrait.keyLocationName())) {
+                key = XmlStreamUtils.readText(reader);
+            } else if (!hasValue && name.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(context, reader, mapTrait.valueFieldInfo());
+                hasValue = true;
+            } else {
+                XmlStreamUtils.skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    /**
+     * Adds the element the reader is positioned on as the next member or entry of a flattened list or map.
+     */
+    @SuppressWarnings("unchecked")
+    private void addFlattenedValue(XmlUnmarshallerContext context,
+                                   XMLStreamReader reader,
+                                   Map<SdkField<Object>, Object> flattenedValues,
+                                   SdkField<Object> field) throws XMLStreamException {
+        if (MarshallingType.LIST.equals(field.marshallingType())) {
+            List<Object> list = (List<Object>) flattenedValues.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(unmarshallValue(context, reader, field.getTrait(ListTrait.class).memberFieldInfo()));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattenedValues.computeIfAbsent(field, f -> new HashMap<>());
+            unmarshallMapEntry(context, reader, field.getTrait(MapTrait.class), map);
+        }
+    }
+
+    private StructureFields structureFields(SdkPojo sdkPojo) {
+        return structureFields.computeIfAbsent(sdkPojo.getClass(), c -> new StructureFields(sdkPojo));
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (MarshallingType.LIST.equals(field.marshallingType())) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        }
+        if (MarshallingType.MAP.equals(field.marshallingType())) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <TypeT extends SdkPojo> TypeT build(SdkPojo sdkPojo) {
+        if (!(sdkPojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StringToValueConverter.StringToValue<Object> simpleType(MarshallingType<?> marshallingType) {
+        return (StringToValueConverter.StringToValue<Object>) SIMPLE_TYPES.get(marshallingType);
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Closing the reader only releases its own resources, the content is closed by the response handler.
+        }
+    }
+
+    private static Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> createSimpleTypes() {
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypes = new HashMap<>();
+        simpleTypes.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        simpleTypes.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        simpleTypes.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        simpleTypes.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        simpleTypes.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        simpleTypes.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        simpleTypes.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        simpleTypes.put(MarshallingType.INSTANT, XmlProtocolUnmarshaller.INSTANT_STRING_TO_VALUE);
+        simpleTypes.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        return Collections.unmodifiableMap(simpleTypes);
+    }
+
+    /**
+     * The fields of a POJO type, grouped by how they are unmarshalled.
+     */
+    private static final class StructureFields {
+        private final Map<String, SdkField<Object>> payloadFields = new HashMap<>();
+        private final List<SdkField<Object>> attributeFields = new ArrayList<>();
+        private final List<SdkField<Object>> nonPayloadFields = new ArrayList<>();
+        private SdkField<Object> explicitPayloadField;
+
+        /**
+         * True if the element is both the content of an explicit payload member and the parent of other members, which is
+         * left to the DOM.
+         */
+        private final boolean requiresDom;
+
+        @SuppressWarnings("unchecked")
+        private StructureFields(SdkPojo sdkPojo) {
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    nonPayloadFields.add((SdkField<Object>) field);
+                } else if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributeFields.add((SdkField<Object>) field);
+                } else if (field.containsTrait(PayloadTrait.class)) {
+                    explicitPayloadField = (SdkField<Object>) field;
+                } else {
+                    payloadFields.put(field.unmarshallLocationName(), (SdkField<Object>) field);
+                }
+            }
+            requiresDom = explicitPayloadField != null && !payloadFields.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class XmlResponseParserUtilsTest {
+
+    @Test
+    public void peekRootElementName_skipsDeclarationAndComments() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                     + "<!-- a comment with <Error> in it -->\n"
+                     + "<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\"><Name>bucket</Name></ListBucketResult>";
+
+        assertThat(peekRootElementName(xml)).isEqualTo("ListBucketResult");
+    }
+
+    @Test
+    public void peekRootElementName_errorDocument() {
+        assertThat(peekRootElementName("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<Error><Code>InternalError</Code></Error>"))
+            .isEqualTo("Error");
+    }
+
+    @Test
+    public void peekRootElementName_utf8ByteOrderMarkAndPrefix_returnsLocalName() {
+        assertThat(peekRootElementName("\uFEFF<s3:Result xmlns:s3=\"urn:test\"/>")).isEqualTo("Result");
+    }
+
+    @Test
+    public void peekRootElementName_rootBeyondReadLimit_returnsNull() {
+        assertThat(peekRootElementName("<!--" + new String(new char[2048]).replace('\0', ' ') + "--><Result/>")).isNull();
+    }
+
+    @Test
+    public void peekRootElementName_notXml_returnsNull() {
+        assertThat(peekRootElementName("{\"Result\": {}}")).isNull();
+        assertThat(peekRootElementName("")).isNull();
+    }
+
+    @Test
+    public void peekRootElementName_doesNotConsumeContent() throws Exception {
+        String xml = "<?xml version=\"1.0\"?><Result><Value>foo</Value></Result>";
+        BufferedInputStream content = new BufferedInputStream(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+
+        XmlResponseParserUtils.peekRootElementName(content);
+
+        assertThat(IoUtils.toUtf8String(content)).isEqualTo(xml);
+    }
+
+    private static String peekRootElementName(String xml) {
+        byte[] bytes = xml.getBytes(StandardCharsets.UTF_8);
+        return XmlResponseParserUtils.peekRootElementName(new BufferedInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
@@ -64,6 +64,18 @@ public abstract class AbstractMarshallingRegistry {
         return registered;
     }
 
+    /**
+     * Get a registered marshaller/unmarshaller by location and type, if there is one.
+     *
+     * @param marshallLocation Location of registered (un)marshaller.
+     * @param marshallingType Type of registered (un)marshaller.
+     * @return Registered marshaller/unmarshaller, or null if none is registered for the given location and type.
+     */
+    protected Object find(MarshallLocation marshallLocation, MarshallingType<?> marshallingType) {
+        Map<MarshallingType, Object> byLocation = registry.get(marshallLocation);
+        return byLocation == null ? null : byLocation.get(marshallingType);
+    }
+
     @SuppressWarnings("unchecked")
     protected <T> MarshallingType<T> toMarshallingType(T val) {
         if (val == null) {
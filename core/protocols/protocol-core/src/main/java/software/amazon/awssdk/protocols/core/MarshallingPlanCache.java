@@ -0,0 +1,127 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+
+/**
+ * Caches a marshalling plan for each {@link SdkPojo} type: the marshallers for each of its fields, resolved from a
+ * marshaller registry the first time the type is marshalled. Marshalling a POJO with a plan does not need to look up a
+ * marshaller by {@link MarshallLocation} and {@link MarshallingType} for every field of every request.
+ * <p>
+ * A cache is meant to live as long as the protocol factory that creates the marshallers, so that the plans are shared by
+ * all requests of a client.
+ *
+ * @param <MarshallerT> Type of the marshallers of the protocol.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class MarshallingPlanCache<MarshallerT> {
+
+    private final ConcurrentMap<Class<?>, List<FieldMarshaller<MarshallerT>>> plans = new ConcurrentHashMap<>();
+    private final BiFunction<MarshallLocation, MarshallingType<?>, MarshallerT> marshallerResolver;
+
+    private MarshallingPlanCache(BiFunction<MarshallLocation, MarshallingType<?>, MarshallerT> marshallerResolver) {
+        this.marshallerResolver = marshallerResolver;
+    }
+
+    /**
+     * @param marshallerResolver Resolves the marshaller registered for a location and type, or null if there is none.
+     * @return New, empty, {@link MarshallingPlanCache}.
+     */
+    public static <MarshallerT> MarshallingPlanCache<MarshallerT> create(
+        BiFunction<MarshallLocation, MarshallingType<?>, MarshallerT> marshallerResolver) {
+        return new MarshallingPlanCache<>(marshallerResolver);
+    }
+
+    /**
+     * @param pojo POJO to marshall.
+     * @return The marshallers for the fields of the POJO, in the same order as {@link SdkPojo#sdkFields()}.
+     */
+    public List<FieldMarshaller<MarshallerT>> plan(SdkPojo pojo) {
+        List<FieldMarshaller<MarshallerT>> plan = plans.get(pojo.getClass());
+        if (plan == null) {
+            plan = plans.computeIfAbsent(pojo.getClass(), c -> createPlan(pojo));
+        }
+        return plan;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FieldMarshaller<MarshallerT>> createPlan(SdkPojo pojo) {
+        List<FieldMarshaller<MarshallerT>> plan = new ArrayList<>(pojo.sdkFields().size());
+        for (SdkField<?> field : pojo.sdkFields()) {
+            plan.add(new FieldMarshaller<>((SdkField<Object>) field,
+                                           marshallerResolver.apply(field.location(), field.marshallingType()),
+                                           marshallerResolver.apply(field.location(), MarshallingType.NULL)));
+        }
+        return Collections.unmodifiableList(plan);
+    }
+
+    /**
+     * A field of a POJO type along with everything needed to marshall it.
+     *
+     * @param <MarshallerT> Type of the marshallers of the protocol.
+     */
+    public static final class FieldMarshaller<MarshallerT> {
+
+        private final SdkField<Object> field;
+        private final boolean isExplicitPayloadMember;
+        private final MarshallerT marshaller;
+        private final MarshallerT nullMarshaller;
+
+        private FieldMarshaller(SdkField<Object> field, MarshallerT marshaller, MarshallerT nullMarshaller) {
+            this.field = field;
+            this.isExplicitPayloadMember = field.containsTrait(PayloadTrait.class);
+            this.marshaller = marshaller;
+            this.nullMarshaller = nullMarshaller;
+        }
+
+        /**
+         * @return The field to marshall.
+         */
+        public SdkField<Object> field() {
+            return field;
+        }
+
+        /**
+         * @return True if the field is the explicit payload of the request, i.e. has the {@link PayloadTrait}.
+         */
+        public boolean isExplicitPayloadMember() {
+            return isExplicitPayloadMember;
+        }
+
+        /**
+         * @param val Value of the field.
+         * @return The marshaller for the value, or null if none is registered for the location and type of the field. Callers
+         * should fall back to their registry in that case so that they fail with the registry's usual error.
+         */
+        public MarshallerT marshaller(Object val) {
+            return val == null ? nullMarshaller : marshaller;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.MarshallingPlanCache.FieldMarshaller;
+
+public class MarshallingPlanCacheTest {
+
+    private static final SdkField<String> HEADER_FIELD = field(MarshallingType.STRING, MarshallLocation.HEADER, "Header");
+
+    private static final SdkField<Integer> PAYLOAD_FIELD =
+        SdkField.builder(MarshallingType.INTEGER)
+                .getter(o -> 42)
+                .traits(LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName("Payload").build(),
+                        PayloadTrait.create())
+                .build();
+
+    private static final SdkField<Long> UNREGISTERED_FIELD = field(MarshallingType.LONG, MarshallLocation.PAYLOAD, "Long");
+
+    @Test
+    public void plan_resolvesMarshallersOfFieldsInOrder() {
+        MarshallingPlanCache<String> cache = MarshallingPlanCache.create(MarshallingPlanCacheTest::resolve);
+
+        List<FieldMarshaller<String>> plan = cache.plan(new TestPojo());
+
+        assertThat(plan).hasSize(3);
+        assertThat(plan.get(0).field()).isSameAs(HEADER_FIELD);
+        assertThat(plan.get(0).isExplicitPayloadMember()).isFalse();
+        assertThat(plan.get(0).marshaller("value")).isEqualTo("HEADER/String");
+        assertThat(plan.get(0).marshaller(null)).isEqualTo("HEADER/Void");
+        assertThat(plan.get(1).field()).isSameAs(PAYLOAD_FIELD);
+        assertThat(plan.get(1).isExplicitPayloadMember()).isTrue();
+        assertThat(plan.get(1).marshaller(42)).isEqualTo("PAYLOAD/Integer");
+    }
+
+    @Test
+    public void plan_unregisteredType_hasNoMarshaller() {
+        MarshallingPlanCache<String> cache = MarshallingPlanCache.create(MarshallingPlanCacheTest::resolve);
+
+        FieldMarshaller<String> fieldMarshaller = cache.plan(new TestPojo()).get(2);
+
+        assertThat(fieldMarshaller.marshaller(1L)).isNull();
+        assertThat(fieldMarshaller.marshaller(null)).isEqualTo("PAYLOAD/Void");
+    }
+
+    @Test
+    public void plan_sameType_isOnlyResolvedOnce() {
+        AtomicInteger resolutions = new AtomicInteger();
+        MarshallingPlanCache<String> cache = MarshallingPlanCache.create((location, type) -> {
+            resolutions.incrementAndGet();
+            return resolve(location, type);
+        });
+
+        List<FieldMarshaller<String>> plan = cache.plan(new TestPojo());
+
+        assertThat(cache.plan(new TestPojo())).isSameAs(plan);
+        assertThat(resolutions.get()).isEqualTo(6);
+    }
+
+    private static String resolve(MarshallLocation location, MarshallingType<?> type) {
+        return type == MarshallingType.LONG ? null : location + "/" + type;
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<T> type, MarshallLocation location, String locationName) {
+        return SdkField.builder(type)
+                       .getter(o -> null)
+                       .traits(LocationTrait.builder().location(location).locationName(locationName).build())
+                       .build();
+    }
+
+    private static final class TestPojo implements SdkPojo {
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Arrays.asList(HEADER_FIELD, PAYLOAD_FIELD, UNREGISTERED_FIELD);
+        }
+    }
+}
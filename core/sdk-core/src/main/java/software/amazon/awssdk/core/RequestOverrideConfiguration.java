@@ -27,6 +27,7 @@ import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Validate;
@@ -44,6 +45,7 @@ public abstract class RequestOverrideConfiguration {
     private final Duration apiCallTimeout;
     private final Duration apiCallAttemptTimeout;
     private final Signer signer;
+    private final RetryPolicy retryPolicy;
 
     protected RequestOverrideConfiguration(Builder<?> builder) {
         this.headers = CollectionUtils.deepUnmodifiableMap(builder.headers(), () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
@@ -52,6 +54,7 @@ public abstract class RequestOverrideConfiguration {
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
         this.signer = builder.signer();
+        this.retryPolicy = builder.retryPolicy();
     }
 
     /**
@@ -127,6 +130,15 @@ public abstract class RequestOverrideConfiguration {
         return Optional.ofNullable(signer);
     }
 
+    /**
+     * @return The retry policy for the request. This retry policy gets priority over the retry policies configured on the
+     * client. If this value is not set, then the client's retry policy for the request's operation, or else the client's
+     * retry policy, is used.
+     */
+    public Optional<RetryPolicy> retryPolicy() {
+        return Optional.ofNullable(retryPolicy);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -141,7 +153,8 @@ public abstract class RequestOverrideConfiguration {
                Objects.equals(apiNames, that.apiNames) &&
                Objects.equals(apiCallTimeout, that.apiCallTimeout) &&
                Objects.equals(apiCallAttemptTimeout, that.apiCallAttemptTimeout) &&
-               Objects.equals(signer, that.signer);
+               Objects.equals(signer, that.signer) &&
+               Objects.equals(retryPolicy, that.retryPolicy);
     }
 
     @Override
@@ -153,6 +166,7 @@ public abstract class RequestOverrideConfiguration {
         hashCode = 31 * hashCode + Objects.hashCode(apiCallTimeout);
         hashCode = 31 * hashCode + Objects.hashCode(apiCallAttemptTimeout);
         hashCode = 31 * hashCode + Objects.hashCode(signer);
+        hashCode = 31 * hashCode + Objects.hashCode(retryPolicy);
         return hashCode;
     }
 
@@ -327,6 +341,27 @@ public abstract class RequestOverrideConfiguration {
 
         Signer signer();
 
+        /**
+         * Sets the retry policy to use for the request. This retry policy gets priority over the retry policies configured on
+         * the client. If this value is null, then the client's retry policy for the request's operation, or else the client's
+         * retry policy, is used.
+         *
+         * @param retryPolicy Retry policy for the request
+         * @return This object for method chaining
+         */
+        B retryPolicy(RetryPolicy retryPolicy);
+
+        /**
+         * Sets the retry policy to use for the request.
+         *
+         * @see #retryPolicy(RetryPolicy)
+         */
+        default B retryPolicy(Consumer<RetryPolicy.Builder> retryPolicy) {
+            return retryPolicy(RetryPolicy.builder().applyMutation(retryPolicy).build());
+        }
+
+        RetryPolicy retryPolicy();
+
         /**
          * Create a new {@code SdkRequestOverrideConfiguration} with the properties set on this builder.
          *
@@ -342,6 +377,7 @@ public abstract class RequestOverrideConfiguration {
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
         private Signer signer;
+        private RetryPolicy retryPolicy;
 
         protected BuilderImpl() {
         }
@@ -350,6 +386,7 @@ public abstract class RequestOverrideConfiguration {
             headers(sdkRequestOverrideConfig.headers);
             rawQueryParameters(sdkRequestOverrideConfig.rawQueryParameters);
             sdkRequestOverrideConfig.apiNames.forEach(this::addApiName);
+            retryPolicy(sdkRequestOverrideConfig.retryPolicy);
         }
 
         @Override
@@ -458,5 +495,20 @@ public abstract class RequestOverrideConfiguration {
         public Signer signer() {
             return signer;
         }
+
+        @Override
+        public B retryPolicy(RetryPolicy retryPolicy) {
+            this.retryPolicy = retryPolicy;
+            return (B) this;
+        }
+
+        public void setRetryPolicy(RetryPolicy retryPolicy) {
+            retryPolicy(retryPolicy);
+        }
+
+        @Override
+        public RetryPolicy retryPolicy() {
+            return retryPolicy;
+        }
     }
 }
@@ -144,6 +144,12 @@ public enum SdkSystemSetting implements SystemSetting {
      */
     AWS_ENDPOINT_DISCOVERY_ENABLED("aws.endpointDiscoveryEnabled", "false"),
 
+    /**
+     * The maximum number of SigV4 signing keys, one for each combination of credentials, region and service, that are cached
+     * by the signers in this JVM.
+     */
+    AWS_SIGNING_KEY_CACHE_SIZE("aws.signingKeyCacheSize", "300"),
+
     /**
      * The S3 regional endpoint setting for the {@code us-east-1} region. Setting the value to {@code regional} causes
      * the SDK to use the {@code s3.us-east-1.amazonaws.com} endpoint when using the {@code US_EAST_1} region instead of
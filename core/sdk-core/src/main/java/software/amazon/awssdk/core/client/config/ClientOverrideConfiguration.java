@@ -26,6 +26,8 @@ import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.core.retry.RetryCapacity;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -46,10 +48,13 @@ public final class ClientOverrideConfiguration
     implements ToCopyableBuilder<ClientOverrideConfiguration.Builder, ClientOverrideConfiguration> {
     private final Map<String, List<String>> headers;
     private final RetryPolicy retryPolicy;
+    private final Map<String, RetryPolicy> operationRetryPolicies;
     private final List<ExecutionInterceptor> executionInterceptors;
     private final AttributeMap advancedOptions;
     private final Duration apiCallAttemptTimeout;
     private final Duration apiCallTimeout;
+    private final HedgingPolicy hedgingPolicy;
+    private final Consumer<RetryCapacity> retryCapacityConsumer;
 
     /**
      * Initialize this configuration. Private to require use of {@link #builder()}.
@@ -57,10 +62,13 @@ public final class ClientOverrideConfiguration
     private ClientOverrideConfiguration(Builder builder) {
         this.headers = CollectionUtils.deepUnmodifiableMap(builder.headers(), () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
         this.retryPolicy = builder.retryPolicy();
+        this.operationRetryPolicies = Collections.unmodifiableMap(new HashMap<>(builder.operationRetryPolicies()));
         this.executionInterceptors = Collections.unmodifiableList(new ArrayList<>(builder.executionInterceptors()));
         this.advancedOptions = builder.advancedOptions();
         this.apiCallTimeout = Validate.isPositiveOrNull(builder.apiCallTimeout(), "apiCallTimeout");
         this.apiCallAttemptTimeout = Validate.isPositiveOrNull(builder.apiCallAttemptTimeout(), "apiCallAttemptTimeout");
+        this.hedgingPolicy = builder.hedgingPolicy();
+        this.retryCapacityConsumer = builder.retryCapacityConsumer();
     }
 
     @Override
@@ -68,8 +76,11 @@ public final class ClientOverrideConfiguration
         return new DefaultClientOverrideConfigurationBuilder().advancedOptions(advancedOptions.toBuilder())
                                                               .headers(headers)
                                                               .retryPolicy(retryPolicy)
+                                                              .operationRetryPolicies(operationRetryPolicies)
                                                               .apiCallTimeout(apiCallTimeout)
                                                               .apiCallAttemptTimeout(apiCallAttemptTimeout)
+                                                              .hedgingPolicy(hedgingPolicy)
+                                                              .retryCapacityConsumer(retryCapacityConsumer)
                                                               .executionInterceptors(executionInterceptors);
     }
 
@@ -101,6 +112,20 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(retryPolicy);
     }
 
+    /**
+     * An unmodifiable map from operation name (for example, {@code "Query"}) to the retry policy that should be used instead
+     * of {@link #retryPolicy()} for requests of that operation. Each operation in this map also has its own retry capacity,
+     * so that failing requests of one operation do not use up the retry capacity of the others.
+     *
+     * <p>
+     * If not set, this will return an empty map.
+     *
+     * @see Builder#putOperationRetryPolicy(String, RetryPolicy)
+     */
+    public Map<String, RetryPolicy> operationRetryPolicies() {
+        return operationRetryPolicies;
+    }
+
     /**
      * Load the optional requested advanced option that was configured on the client builder.
      *
@@ -157,13 +182,35 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(apiCallAttemptTimeout);
     }
 
+    /**
+     * The optional policy for hedging idempotent requests made by asynchronous clients. Requests are not hedged if no
+     * policy is present.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(hedgingPolicy);
+    }
+
+    /**
+     * The optional consumer that is given the {@link RetryCapacity} of each client created with this configuration.
+     *
+     * @see Builder#retryCapacityConsumer(Consumer)
+     */
+    public Optional<Consumer<RetryCapacity>> retryCapacityConsumer() {
+        return Optional.ofNullable(retryCapacityConsumer);
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
                        .add("headers", headers)
                        .add("retryPolicy", retryPolicy)
+                       .add("operationRetryPolicies", operationRetryPolicies)
                        .add("apiCallTimeout", apiCallTimeout)
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout)
+                       .add("hedgingPolicy", hedgingPolicy)
+                       .add("retryCapacityConsumer", retryCapacityConsumer)
                        .add("executionInterceptors", executionInterceptors)
                        .add("advancedOptions", advancedOptions)
                        .build();
@@ -232,6 +279,33 @@ public final class ClientOverrideConfiguration
             return retryPolicy(RetryPolicy.builder().applyMutation(retryPolicy).build());
         }
 
+        /**
+         * Configure the retry policy that should be used instead of {@link #retryPolicy(RetryPolicy)} for requests of a
+         * single operation.
+         *
+         * <p>
+         * This overrides any retry policy already configured for this operation in the builder.
+         *
+         * @param operationName The name of the operation, for example {@code "Query"}.
+         * @param retryPolicy The retry policy for the operation.
+         * @return This object for method chaining.
+         * @see ClientOverrideConfiguration#operationRetryPolicies()
+         */
+        Builder putOperationRetryPolicy(String operationName, RetryPolicy retryPolicy);
+
+        /**
+         * Configure the retry policies that should be used instead of {@link #retryPolicy(RetryPolicy)} for requests of
+         * specific operations, keyed by operation name.
+         *
+         * <p>
+         * This overrides any values currently configured in the builder.
+         *
+         * @see ClientOverrideConfiguration#operationRetryPolicies()
+         */
+        Builder operationRetryPolicies(Map<String, RetryPolicy> operationRetryPolicies);
+
+        Map<String, RetryPolicy> operationRetryPolicies();
+
         /**
          * Configure a list of execution interceptors that will have access to read and modify the request and response objcets as
          * they are processed by the SDK. These will replace any interceptors configured previously with this method or
@@ -325,6 +399,37 @@ public final class ClientOverrideConfiguration
         Builder apiCallAttemptTimeout(Duration apiCallAttemptTimeout);
 
         Duration apiCallAttemptTimeout();
+
+        /**
+         * Configure the policy for hedging idempotent requests made by asynchronous clients. When a request has not received
+         * a response within a percentile of the recently observed latencies of its operation, a second request is sent and
+         * the slower of the two is cancelled. This is ignored by synchronous clients.
+         *
+         * @see ClientOverrideConfiguration#hedgingPolicy()
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        HedgingPolicy hedgingPolicy();
+
+        /**
+         * Configure the policy for hedging idempotent requests made by asynchronous clients.
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        /**
+         * Configure a consumer that is given a read-only view of the retry capacity of the client when the client is
+         * created. The view can be kept and polled for as long as the client is used, for example to publish the retry
+         * capacity of the client as a metric, without making requests.
+         *
+         * <p>The consumer is called once for each client created with this configuration.</p>
+         *
+         * @see ClientOverrideConfiguration#retryCapacityConsumer()
+         */
+        Builder retryCapacityConsumer(Consumer<RetryCapacity> retryCapacityConsumer);
+
+        Consumer<RetryCapacity> retryCapacityConsumer();
     }
 
     /**
@@ -333,10 +438,13 @@ public final class ClientOverrideConfiguration
     private static final class DefaultClientOverrideConfigurationBuilder implements Builder {
         private Map<String, List<String>> headers = new HashMap<>();
         private RetryPolicy retryPolicy;
+        private Map<String, RetryPolicy> operationRetryPolicies = new HashMap<>();
         private List<ExecutionInterceptor> executionInterceptors = new ArrayList<>();
         private AttributeMap.Builder advancedOptions = AttributeMap.builder();
         private Duration apiCallTimeout;
         private Duration apiCallAttemptTimeout;
+        private HedgingPolicy hedgingPolicy;
+        private Consumer<RetryCapacity> retryCapacityConsumer;
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
@@ -377,6 +485,31 @@ public final class ClientOverrideConfiguration
             return retryPolicy;
         }
 
+        @Override
+        public Builder putOperationRetryPolicy(String operationName, RetryPolicy retryPolicy) {
+            Validate.paramNotNull(operationName, "operationName");
+            Validate.paramNotNull(retryPolicy, "retryPolicy");
+            operationRetryPolicies.put(operationName, retryPolicy);
+            return this;
+        }
+
+        @Override
+        public Builder operationRetryPolicies(Map<String, RetryPolicy> operationRetryPolicies) {
+            Validate.paramNotNull(operationRetryPolicies, "operationRetryPolicies");
+            this.operationRetryPolicies = new HashMap<>();
+            operationRetryPolicies.forEach(this::putOperationRetryPolicy);
+            return this;
+        }
+
+        public void setOperationRetryPolicies(Map<String, RetryPolicy> operationRetryPolicies) {
+            operationRetryPolicies(operationRetryPolicies);
+        }
+
+        @Override
+        public Map<String, RetryPolicy> operationRetryPolicies() {
+            return Collections.unmodifiableMap(operationRetryPolicies);
+        }
+
         @Override
         public Builder executionInterceptors(List<ExecutionInterceptor> executionInterceptors) {
             Validate.paramNotNull(executionInterceptors, "executionInterceptors");
@@ -456,6 +589,36 @@ public final class ClientOverrideConfiguration
             return apiCallAttemptTimeout;
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            this.hedgingPolicy = hedgingPolicy;
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return hedgingPolicy;
+        }
+
+        @Override
+        public Builder retryCapacityConsumer(Consumer<RetryCapacity> retryCapacityConsumer) {
+            this.retryCapacityConsumer = retryCapacityConsumer;
+            return this;
+        }
+
+        public void setRetryCapacityConsumer(Consumer<RetryCapacity> retryCapacityConsumer) {
+            retryCapacityConsumer(retryCapacityConsumer);
+        }
+
+        @Override
+        public Consumer<RetryCapacity> retryCapacityConsumer() {
+            return retryCapacityConsumer;
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(this);
@@ -41,6 +41,15 @@ public final class SdkAdvancedAsyncClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedAsyncClientOption<Executor> FUTURE_COMPLETION_EXECUTOR =
             new SdkAdvancedAsyncClientOption<>(Executor.class);
 
+    /**
+     * Whether the client should schedule retry backoff, API call timeouts and API call attempt timeouts on a timer shared by
+     * all clients that enable this option, instead of on a scheduled thread pool of its own. The shared timer is a hashed
+     * wheel timer, which makes scheduling and cancelling these tasks cheap when there are many concurrent calls, at the cost
+     * of firing each task up to 10 milliseconds late. By default, this is false.
+     */
+    public static final SdkAdvancedAsyncClientOption<Boolean> SHARED_TIMER_WHEEL =
+            new SdkAdvancedAsyncClientOption<>(Boolean.class);
+
     private SdkAdvancedAsyncClientOption(Class<T> valueClass) {
         super(valueClass);
     }
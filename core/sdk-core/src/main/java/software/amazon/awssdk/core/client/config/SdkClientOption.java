@@ -20,10 +20,13 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.core.retry.RetryCapacity;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
@@ -44,6 +47,12 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<RetryPolicy> RETRY_POLICY = new SdkClientOption<>(RetryPolicy.class);
 
+    /**
+     * @see ClientOverrideConfiguration#operationRetryPolicies()
+     */
+    public static final SdkClientOption<Map<String, RetryPolicy>> OPERATION_RETRY_POLICIES =
+            new SdkClientOption<>(new UnsafeValueType(Map.class));
+
     /**
      * @see ClientOverrideConfiguration#executionInterceptors()
      */
@@ -108,6 +117,17 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<Duration> API_CALL_TIMEOUT = new SdkClientOption<>(Duration.class);
 
+    /**
+     * @see ClientOverrideConfiguration#hedgingPolicy()
+     */
+    public static final SdkClientOption<HedgingPolicy> HEDGING_POLICY = new SdkClientOption<>(HedgingPolicy.class);
+
+    /**
+     * @see ClientOverrideConfiguration#retryCapacityConsumer()
+     */
+    public static final SdkClientOption<Consumer<RetryCapacity>> RETRY_CAPACITY_CONSUMER =
+            new SdkClientOption<>(new UnsafeValueType(Consumer.class));
+
     /**
      * Descriptive name for the service. Used primarily for metrics and also in metadata like AwsErrorDetails.
      */
@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.interceptor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.ServiceConfiguration;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.signer.Signer;
 
 /**
@@ -51,6 +52,19 @@ public class SdkExecutionAttribute {
      * generated from regional metadata.
      */
     public static final ExecutionAttribute<Boolean> ENDPOINT_OVERRIDDEN = new ExecutionAttribute<>("EndpointOverride");
+
+    /**
+     * The smoothed rate, in attempts per second, at which the client has been sending attempts, measured after the latest
+     * attempt of the request. Only present when the client's retry policy uses {@link RetryMode#ADAPTIVE}.
+     */
+    public static final ExecutionAttribute<Double> MEASURED_SEND_RATE = new ExecutionAttribute<>("MeasuredSendRate");
+
+    /**
+     * The retry capacity that was available to the client when the latest attempt of the request was sent. Retry capacity
+     * is shared by every request of a client and drains when requests fail, so a falling value is an early sign that the
+     * client is about to stop retrying. Not present when the client's retry capacity is unlimited.
+     */
+    public static final ExecutionAttribute<Integer> AVAILABLE_RETRY_CAPACITY = new ExecutionAttribute<>("AvailableRetryCapacity");
     
     protected SdkExecutionAttribute() {
     }
@@ -143,12 +143,13 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                         performWrite(byteBuffer);
                     } else {
                         synchronized (FileSubscriber.this) {
+                            // Clear the flag before requesting more, the publisher may complete from within request
+                            writeInProgress = false;
                             if (closeOnLastWrite) {
                                 close();
                             } else {
                                 subscription.request(1);
                             }
-                            writeInProgress = false;
                         }
                     }
                 }
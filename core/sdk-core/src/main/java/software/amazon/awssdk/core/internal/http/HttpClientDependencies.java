@@ -17,13 +17,20 @@ package software.amazon.awssdk.core.internal.http;
 
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkGlobalTime;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.HedgingTracker;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryCapacity;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -33,8 +40,11 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 @SdkInternalApi
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final ClockSkewAdjuster clockSkewAdjuster = new ClockSkewAdjuster();
+    private final HedgingTracker hedgingTracker = new HedgingTracker();
+    private final RateLimitingTokenBucket rateLimiter = new RateLimitingTokenBucket();
     private final SdkClientConfiguration clientConfiguration;
     private final CapacityManager capacityManager;
+    private final Map<String, CapacityManager> operationCapacityManagers = new ConcurrentHashMap<>();
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -44,6 +54,11 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private HttpClientDependencies(Builder builder) {
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
         this.capacityManager = paramNotNull(builder.capacityManager, "CapacityManager");
+
+        Consumer<RetryCapacity> retryCapacityConsumer = clientConfiguration.option(SdkClientOption.RETRY_CAPACITY_CONSUMER);
+        if (retryCapacityConsumer != null) {
+            retryCapacityConsumer.accept(new ReadOnlyRetryCapacity(capacityManager));
+        }
     }
 
     public static Builder builder() {
@@ -61,6 +76,14 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return capacityManager;
     }
 
+    /**
+     * @return CapacityManager object used for retry throttling of a single operation that has its own retry policy. It has
+     * the same maximum capacity as the client's {@link #retryCapacity()}, but is not shared with other operations.
+     */
+    public CapacityManager retryCapacity(String operationName) {
+        return operationCapacityManagers.computeIfAbsent(operationName, o -> new CapacityManager(capacityManager.maxCapacity()));
+    }
+
     /**
      * @return The adjuster used for adjusting the {@link #timeOffset} for this client.
      */
@@ -68,6 +91,21 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The rate limiter shared by all attempts of this client when its retry policy uses
+     * {@link software.amazon.awssdk.core.retry.RetryMode#ADAPTIVE}.
+     */
+    public RateLimitingTokenBucket rateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * @return The latencies and hedge budget used for hedging the requests of this client.
+     */
+    public HedgingTracker hedgingTracker() {
+        return hedgingTracker;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -111,4 +149,26 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             return new HttpClientDependencies(this);
         }
     }
+
+    /**
+     * The view of the client's retry capacity given to the {@link SdkClientOption#RETRY_CAPACITY_CONSUMER}, which does not
+     * allow capacity to be acquired or released.
+     */
+    private static final class ReadOnlyRetryCapacity implements RetryCapacity {
+        private final CapacityManager capacityManager;
+
+        private ReadOnlyRetryCapacity(CapacityManager capacityManager) {
+            this.capacityManager = capacityManager;
+        }
+
+        @Override
+        public int availableCapacity() {
+            return capacityManager.availableCapacity();
+        }
+
+        @Override
+        public int maxCapacity() {
+            return capacityManager.maxCapacity();
+        }
+    }
 }
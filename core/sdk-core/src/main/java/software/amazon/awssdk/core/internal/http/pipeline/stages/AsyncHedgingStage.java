@@ -0,0 +1,330 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkStandardLogger;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.internal.retry.HedgingTracker;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.core.traits.DefaultValueTrait;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Makes the HTTP request of an attempt and, if the client has a {@link HedgingPolicy} and the request is idempotent, sends
+ * a second request when the first has not received its response headers within the hedge delay. The response of whichever
+ * request receives its headers first is delivered to the response handler and the other request is cancelled.
+ *
+ * <p>Only the first attempt of an execution is hedged; later attempts are left to the {@link AsyncRetryableStage}.</p>
+ */
+@SdkInternalApi
+public final class AsyncHedgingStage<OutputT> implements RequestPipeline<SdkHttpFullRequest,
+    CompletableFuture<Response<OutputT>>> {
+
+    private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
+    private final MakeAsyncHttpRequestStage<OutputT> makeRequestStage;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final HedgingPolicy hedgingPolicy;
+    private final HedgingTracker hedgingTracker;
+
+    public AsyncHedgingStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+                             HttpClientDependencies dependencies) {
+        this.responseHandler = responseHandler;
+        this.makeRequestStage = new MakeAsyncHttpRequestStage<>(responseHandler, dependencies);
+        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkClientOption.HEDGING_POLICY);
+        this.hedgingTracker = dependencies.hedgingTracker();
+    }
+
+    @Override
+    public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest request,
+                                                        RequestExecutionContext context) throws Exception {
+        if (!isHedgeable(request, context)) {
+            return makeRequestStage.execute(request, context);
+        }
+        return new HedgingExecutor(request, context).execute();
+    }
+
+    private boolean isHedgeable(SdkHttpFullRequest request, RequestExecutionContext context) {
+        if (hedgingPolicy == null || context.requestProvider() != null) {
+            return false;
+        }
+
+        Integer attempt = context.executionAttributes().getAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT);
+        if (attempt != null && attempt > 1) {
+            return false;
+        }
+
+        return request.method() == SdkHttpMethod.GET ||
+               request.method() == SdkHttpMethod.HEAD ||
+               hasIdempotencyToken(context.originalRequest()) ||
+               (context.originalRequest() != null && hedgingPolicy.idempotentRequests().test(context.originalRequest()));
+    }
+
+    private static boolean hasIdempotencyToken(SdkRequest request) {
+        return request != null &&
+               request.sdkFields().stream()
+                      .map(f -> f.getTrait(DefaultValueTrait.class))
+                      .anyMatch(t -> t != null && t.isIdempotencyToken());
+    }
+
+    /**
+     * Runs the (up to) two requests of a single hedged attempt and arbitrates between them.
+     *
+     * <p>The latency recorded for the attempt is measured from when the primary request was sent. If the primary wins, this
+     * is its latency. If the hedge wins, it is a lower bound of the primary's latency, because the primary had not received
+     * its headers yet. Measuring the hedge from when it was sent instead would only record the fast responses of the slow
+     * requests, and lower the hedge delay every time a hedge wins.</p>
+     */
+    private final class HedgingExecutor {
+        private final long startNanos = System.nanoTime();
+        private final SdkHttpFullRequest request;
+        private final RequestExecutionContext context;
+        private final String operationName;
+        private final CompletableFuture<Response<OutputT>> result = new CompletableFuture<>();
+        private final CompletableFuture<Response<OutputT>> preparedResponse;
+
+        private Request primary;
+        private Request hedge;
+        private Request winner;
+        private ScheduledFuture<?> hedgeTimer;
+
+        private HedgingExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
+            this.request = request;
+            this.context = context;
+            String operation = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+            this.operationName = operation == null ? "" : operation;
+            this.preparedResponse = responseHandler.prepare();
+        }
+
+        private CompletableFuture<Response<OutputT>> execute() {
+            hedgingTracker.depositBudget(hedgingPolicy.maxHedgeRatio());
+            Optional<Duration> hedgeDelay = hedgingTracker.hedgeDelay(operationName, hedgingPolicy);
+
+            Request first = new Request();
+            synchronized (this) {
+                primary = first;
+            }
+            first.send();
+
+            hedgeDelay.ifPresent(delay -> {
+                synchronized (this) {
+                    if (!result.isDone() && winner == null) {
+                        hedgeTimer = scheduledExecutor.schedule(this::sendHedge, delay.toNanos(), TimeUnit.NANOSECONDS);
+                    }
+                }
+            });
+
+            // Forward the cancellation of the attempt (for example, by the API call timeout) to both requests
+            result.whenComplete((r, t) -> {
+                if (t != null) {
+                    cancelAll();
+                }
+            });
+            return result;
+        }
+
+        private void sendHedge() {
+            Request second;
+            synchronized (this) {
+                if (result.isDone() || winner != null || primary.failed || !hedgingTracker.tryAcquireHedge()) {
+                    return;
+                }
+                second = new Request();
+                hedge = second;
+            }
+            SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Hedging request: " + request);
+            second.send();
+        }
+
+        /**
+         * Called when a request receives its response headers. The first request to do so wins, and the other is cancelled.
+         *
+         * @return true if the given request won.
+         */
+        private boolean claim(Request claimant) {
+            Request loser;
+            synchronized (this) {
+                if (winner != null) {
+                    return winner == claimant;
+                }
+                winner = claimant;
+                cancelHedgeTimer();
+                loser = claimant == primary ? hedge : primary;
+            }
+
+            if (loser != null) {
+                loser.cancel();
+            }
+            return true;
+        }
+
+        /**
+         * Called when a request fails.
+         *
+         * @return true if the failure is the outcome of the attempt, false if the attempt may still succeed with the other
+         * request.
+         */
+        private synchronized boolean failed(Request failure) {
+            failure.failed = true;
+            if (winner != null) {
+                return winner == failure;
+            }
+
+            Request other = failure == primary ? hedge : primary;
+            if (other != null && !other.failed) {
+                return false;
+            }
+
+            cancelHedgeTimer();
+            return true;
+        }
+
+        private void cancelAll() {
+            Request primaryRequest;
+            Request hedgeRequest;
+            synchronized (this) {
+                cancelHedgeTimer();
+                primaryRequest = primary;
+                hedgeRequest = hedge;
+            }
+
+            primaryRequest.cancel();
+            if (hedgeRequest != null) {
+                hedgeRequest.cancel();
+            }
+        }
+
+        private void cancelHedgeTimer() {
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel(false);
+            }
+        }
+
+        /**
+         * One of the HTTP requests of the hedged attempt, with a response handler that only forwards events to the real
+         * response handler once this request has won. Each request has its own attempt timer, which is not shared with the
+         * other request through the context.
+         */
+        private final class Request implements TransformingAsyncResponseHandler<Response<OutputT>> {
+            private volatile CompletableFuture<Response<OutputT>> responseFuture;
+            private volatile TimeoutTracker attemptTimer;
+            private boolean failed;
+
+            private void send() {
+                try {
+                    responseFuture = makeRequestStage.executeHttpRequest(request, context, this, t -> attemptTimer = t);
+                } catch (RuntimeException e) {
+                    responseFuture = new CompletableFuture<>();
+                    responseFuture.completeExceptionally(e);
+                }
+
+                responseFuture.whenComplete((r, t) -> {
+                    if (t == null) {
+                        result.complete(r);
+                    } else if (failed(this)) {
+                        result.completeExceptionally(t);
+                    }
+                });
+            }
+
+            private void cancel() {
+                CompletableFuture<Response<OutputT>> future = responseFuture;
+                if (future != null) {
+                    future.cancel(false);
+                }
+
+                TimeoutTracker timer = attemptTimer;
+                if (timer != null) {
+                    timer.cancel();
+                }
+            }
+
+            @Override
+            public CompletableFuture<Response<OutputT>> prepare() {
+                return preparedResponse;
+            }
+
+            @Override
+            public void onHeaders(SdkHttpResponse headers) {
+                if (claim(this)) {
+                    hedgingTracker.recordLatency(operationName, System.nanoTime() - startNanos);
+                    responseHandler.onHeaders(headers);
+                }
+            }
+
+            @Override
+            public void onStream(Publisher<ByteBuffer> stream) {
+                if (claim(this)) {
+                    responseHandler.onStream(stream);
+                } else {
+                    stream.subscribe(new CancellingSubscriber());
+                }
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                if (failed(this)) {
+                    responseHandler.onError(error);
+                }
+            }
+        }
+    }
+
+    /**
+     * Cancels the response stream of a request that lost the race.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -19,6 +19,7 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -38,9 +39,7 @@ import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandle
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
 import software.amazon.awssdk.core.internal.util.ThrowableUtils;
-import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
@@ -58,8 +57,6 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<OutputT>>> requestPipeline;
     private final ScheduledExecutorService scheduledExecutor;
     private final HttpClientDependencies dependencies;
-    private final CapacityManager retryCapacity;
-    private final RetryPolicy retryPolicy;
 
     public AsyncRetryableStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                HttpClientDependencies dependencies,
@@ -67,8 +64,6 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
         this.responseHandler = responseHandler;
         this.dependencies = dependencies;
         this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
-        this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
-        this.retryCapacity = dependencies.retryCapacity();
         this.requestPipeline = requestPipeline;
     }
 
@@ -94,7 +89,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
             this.request = request;
             this.context = context;
             this.originalRequestBody = context.requestProvider();
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = RetryHandler.forRequest(dependencies, context);
         }
 
         public CompletableFuture<Response<OutputT>> execute() throws Exception {
@@ -104,6 +99,27 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         public CompletableFuture<Response<OutputT>> execute(CompletableFuture<Response<OutputT>> future) throws Exception {
             beforeExecute();
+
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (!sendDelay.isZero()) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client-side rate limit reached, will send in "
+                                                             + sendDelay.toMillis() + "ms");
+                ScheduledFuture<?> attemptTimer = scheduledExecutor.schedule(() -> {
+                    try {
+                        executeAttempt(future);
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                }, sendDelay.toNanos(), TimeUnit.NANOSECONDS);
+                cancelWhenDone(future, attemptTimer);
+                return future;
+            }
+
+            return executeAttempt(future);
+        }
+
+        private CompletableFuture<Response<OutputT>> executeAttempt(CompletableFuture<Response<OutputT>> future)
+                throws Exception {
             CompletableFuture<Response<OutputT>> executeFuture = doExecute();
             executeFuture.whenComplete((resp, err) -> retryIfNeeded(future, resp, err));
             return CompletableFutureUtils.forwardExceptionTo(future, executeFuture);
@@ -118,12 +134,14 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
             try {
                 if (resp != null) {
+                    retryHandler.updateSendRate(context, resp.isSuccess() ? null : resp.exception());
                     retryResponseIfNeeded(resp, future);
                 } else {
                     if (err instanceof CompletionException) {
                         err = err.getCause();
                     }
                     SdkException sdkException = ThrowableUtils.asSdkException(err);
+                    retryHandler.updateSendRate(context, sdkException);
                     retryErrorIfNeeded(sdkException, future);
                 }
             } catch (Throwable t) {
@@ -186,10 +204,19 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Retryable error detected, will retry in " + delay.toMillis() + "ms,"
                                                          + " attempt number " + requestCount);
-            scheduledExecutor.schedule(() -> {
+            ScheduledFuture<?> retryTimer = scheduledExecutor.schedule(() -> {
                 execute(future);
                 return null;
             }, delay.toMillis(), TimeUnit.MILLISECONDS);
+            cancelWhenDone(future, retryTimer);
+        }
+
+        /**
+         * Don't send another attempt if the call has already completed while waiting for it, for example because the API
+         * call timeout was exceeded or the caller cancelled the call.
+         */
+        private void cancelWhenDone(CompletableFuture<Response<OutputT>> future, ScheduledFuture<?> attemptTimer) {
+            future.whenComplete((r, t) -> attemptTimer.cancel(false));
         }
 
         private void beforeExecute() {
@@ -205,7 +232,9 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
             context.requestProvider(originalRequestBody);
 
             context.executionAttributes().putAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT, requestCount);
-            return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
+            SdkHttpFullRequest attemptRequest = retryHandler.addRetryInfoHeader(request, context, requestCount);
+            retryHandler.attemptStarted();
+            return requestPipeline.execute(attemptRequest, context);
         }
     }
 }
@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.reactivestreams.Publisher;
@@ -81,7 +82,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     @Override
     public CompletableFuture<Response<OutputT>> execute(SdkHttpFullRequest request,
                                                         RequestExecutionContext context) throws Exception {
-        return executeHttpRequest(request, context);
+        return executeHttpRequest(request, context, responseHandler, context::apiCallAttemptTimeoutTracker);
     }
 
     private static final class WrappedErrorForwardingResponseHandler<T>
@@ -126,8 +127,16 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         }
     }
 
-    private CompletableFuture<Response<OutputT>> executeHttpRequest(SdkHttpFullRequest request,
-                                                                    RequestExecutionContext context) {
+    /**
+     * Make the HTTP request, delivering the response to the given handler instead of the one this stage was created with.
+     *
+     * <p>The attempt timer of the request is given to {@code attemptTimerConsumer} rather than stored on the context, so
+     * that several requests of the same attempt can each keep their own timer.</p>
+     */
+    CompletableFuture<Response<OutputT>> executeHttpRequest(SdkHttpFullRequest request,
+                                                            RequestExecutionContext context,
+                                                            TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
+                                                            Consumer<TimeoutTracker> attemptTimerConsumer) {
         CompletableFuture<Response<OutputT>> responseFuture = new CompletableFuture<>();
 
         // Wrap the response handler in a layer that will notify the newly created responseFuture when the onError event
@@ -153,7 +162,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
 
         TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
-        context.apiCallAttemptTimeoutTracker(timeoutTracker);
+        attemptTimerConsumer.accept(timeoutTracker);
 
         // Forward the cancellation
         responseFuture.whenComplete((r, t) -> {
@@ -22,7 +22,6 @@ import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkStandardLogger;
-import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
@@ -32,8 +31,6 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
 import software.amazon.awssdk.core.internal.retry.RetryHandler;
-import software.amazon.awssdk.core.internal.util.CapacityManager;
-import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.Logger;
 
@@ -48,14 +45,10 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline;
 
     private final HttpClientDependencies dependencies;
-    private final CapacityManager retryCapacity;
-    private final RetryPolicy retryPolicy;
 
     public RetryableStage(HttpClientDependencies dependencies,
                           RequestPipeline<SdkHttpFullRequest, Response<OutputT>> requestPipeline) {
         this.dependencies = dependencies;
-        this.retryCapacity = dependencies.retryCapacity();
-        this.retryPolicy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
         this.requestPipeline = requestPipeline;
     }
 
@@ -77,7 +70,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
         private RetryExecutor(SdkHttpFullRequest request, RequestExecutionContext context) {
             this.request = request;
             this.context = context;
-            this.retryHandler = new RetryHandler(retryPolicy, retryCapacity);
+            this.retryHandler = RetryHandler.forRequest(dependencies, context);
         }
 
         public Response<OutputT> execute() throws Exception {
@@ -86,6 +79,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                     beforeExecute();
                     Response<OutputT> response = doExecute();
                     if (response.isSuccess()) {
+                        retryHandler.updateSendRate(context, null);
                         retryHandler.releaseRetryCapacity();
                         return response;
                     } else {
@@ -108,14 +102,24 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                 doPauseBeforeRetry();
             }
 
+            Duration sendDelay = retryHandler.acquireSendToken();
+            if (!sendDelay.isZero()) {
+                SdkStandardLogger.REQUEST_LOGGER.debug(() -> "Client-side rate limit reached, will send in "
+                                                             + sendDelay.toMillis() + "ms");
+                TimeUnit.NANOSECONDS.sleep(sendDelay.toNanos());
+            }
+
             SdkStandardLogger.REQUEST_LOGGER.debug(() -> (retryHandler.isRetry() ? "Retrying " : "Sending ") + "Request: " +
                                                          request);
 
-            return requestPipeline.execute(retryHandler.addRetryInfoHeader(request, requestCount), context);
+            SdkHttpFullRequest attemptRequest = retryHandler.addRetryInfoHeader(request, context, requestCount);
+            retryHandler.attemptStarted();
+            return requestPipeline.execute(attemptRequest, context);
         }
 
         private SdkException handleUnmarshalledException(Response<OutputT> response) {
             SdkException exception = response.exception();
+            retryHandler.updateSendRate(context, exception);
 
             ClockSkewAdjuster clockSkewAdjuster = dependencies.clockSkewAdjuster();
             if (clockSkewAdjuster.shouldAdjust(exception)) {
@@ -135,6 +139,7 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
                                                                .message("Unable to execute HTTP request: " + e.getMessage())
                                                                .cause(e)
                                                                .build();
+            retryHandler.updateSendRate(context, sdkClientException);
             boolean willRetry = retryHandler.shouldRetry(null, request, context, sdkClientException, requestCount);
 
             log.debug(() -> sdkClientException.getMessage() + (willRetry ? " Request will be retried." : ""), e);
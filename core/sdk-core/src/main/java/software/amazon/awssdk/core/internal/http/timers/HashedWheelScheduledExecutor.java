@@ -0,0 +1,395 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ScheduledExecutorService} backed by a hashed wheel timer, for the large number of short-lived delayed tasks that
+ * async clients schedule: retry backoff, API call timeouts and API call attempt timeouts. Most of these tasks are cancelled
+ * because the call finished first, so scheduling and cancelling a task are kept as cheap as possible.
+ *
+ * <p>Scheduling or cancelling a task only adds it to a lock-free queue. A single worker thread advances the wheel once per
+ * tick: it removes cancelled tasks from their bucket, moves newly scheduled tasks into their bucket, and hands the tasks
+ * that have expired to a separate pool of threads to run. A task therefore runs up to one tick after its delay has
+ * elapsed.</p>
+ *
+ * <p>Periodic scheduling is not supported. Delayed tasks that have not run when the executor is shut down are
+ * cancelled.</p>
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelScheduledExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+    private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+    private static final int DEFAULT_TASK_THREADS = 5;
+
+    private static final int RUNNING = 0;
+    private static final int SHUTDOWN = 1;
+    private static final int STOPPED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime = System.nanoTime();
+    private final Queue<WheelTask<?>> pendingTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTask<?>> cancelledTasks = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(RUNNING);
+    private final boolean shared;
+    private final ExecutorService taskExecutor;
+    private final Thread workerThread;
+
+    @SdkTestInternalApi
+    HashedWheelScheduledExecutor(Duration tickDuration, int ticksPerWheel, int taskThreads, boolean shared) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isTrue(ticksPerWheel > 0 && Integer.bitCount(ticksPerWheel) == 1,
+                        "ticksPerWheel must be a positive power of two, but was %s.", ticksPerWheel);
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.shared = shared;
+        this.taskExecutor = Executors.newFixedThreadPool(taskThreads,
+                                                         new ThreadFactoryBuilder().threadNamePrefix("sdk-timer-task").build());
+        this.workerThread = new ThreadFactoryBuilder().threadNamePrefix("sdk-timer-wheel").build().newThread(this::runWorker);
+        this.workerThread.start();
+    }
+
+    /**
+     * The executor shared by all clients that are configured to use it. It lives as long as the JVM, so neither
+     * {@link #shutdown()} nor {@link #shutdownNow()} has any effect on it.
+     */
+    public static HashedWheelScheduledExecutor shared() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+        Validate.paramNotNull(command, "command");
+        return schedule(new WheelTask<Void>(command, deadline(delay, unit)));
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+        Validate.paramNotNull(callable, "callable");
+        return schedule(new WheelTask<>(callable, deadline(delay, unit)));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+        throw new UnsupportedOperationException("Periodic scheduling is not supported.");
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+        throw new UnsupportedOperationException("Periodic scheduling is not supported.");
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        Validate.paramNotNull(command, "command");
+        rejectIfShutdown();
+        taskExecutor.execute(command);
+    }
+
+    @Override
+    public void shutdown() {
+        if (!shared && state.compareAndSet(RUNNING, SHUTDOWN)) {
+            workerThread.interrupt();
+        }
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        if (shared) {
+            return Collections.emptyList();
+        }
+        state.set(STOPPED);
+        workerThread.interrupt();
+        return taskExecutor.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return state.get() != RUNNING;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return isShutdown() && !workerThread.isAlive() && taskExecutor.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        TimeUnit.NANOSECONDS.timedJoin(workerThread, Math.max(1, deadline - System.nanoTime()));
+        return !workerThread.isAlive() && taskExecutor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    }
+
+    private <V> WheelTask<V> schedule(WheelTask<V> task) {
+        rejectIfShutdown();
+        if (task.deadline <= elapsedNanos()) {
+            dispatch(task);
+            return task;
+        }
+
+        pendingTasks.add(task);
+        // The worker may have stopped after the check above, in which case nothing will ever run or cancel the task.
+        if (isShutdown() && pendingTasks.remove(task)) {
+            task.cancel(false);
+        }
+        return task;
+    }
+
+    private void rejectIfShutdown() {
+        if (isShutdown()) {
+            throw new RejectedExecutionException("The scheduled executor has been shut down.");
+        }
+    }
+
+    private long deadline(long delay, TimeUnit unit) {
+        long deadline = elapsedNanos() + unit.toNanos(Math.max(0, delay));
+        // Guard against overflow for very large delays.
+        return deadline < 0 ? Long.MAX_VALUE : deadline;
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startTime;
+    }
+
+    private void runWorker() {
+        long tick = 0;
+        try {
+            while (state.get() == RUNNING) {
+                long deadline = waitForNextTick(tick);
+                if (deadline < 0) {
+                    break;
+                }
+                removeCancelledTasks();
+                transferPendingTasks(tick);
+                wheel[(int) (tick & mask)].expireTasks();
+                ++tick;
+            }
+        } finally {
+            for (Bucket bucket : wheel) {
+                bucket.cancelAll();
+            }
+            WheelTask<?> task;
+            while ((task = pendingTasks.poll()) != null) {
+                task.cancel(false);
+            }
+            cancelledTasks.clear();
+            taskExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Sleep until the end of the given tick.
+     *
+     * @return The end of the tick, relative to the start time, or -1 if the executor was shut down while sleeping.
+     */
+    private long waitForNextTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - elapsedNanos();
+            if (sleepNanos <= 0) {
+                return deadline;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (state.get() != RUNNING) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void removeCancelledTasks() {
+        WheelTask<?> task;
+        while ((task = cancelledTasks.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void transferPendingTasks(long tick) {
+        WheelTask<?> task;
+        while ((task = pendingTasks.poll()) != null) {
+            if (task.isDone()) {
+                // Cancelled before it reached the wheel.
+                continue;
+            }
+            long taskTick = task.deadline / tickNanos;
+            task.remainingRounds = (taskTick - tick) / wheel.length;
+            // A task whose tick has already passed goes into the current bucket, so that it expires right away.
+            wheel[(int) (Math.max(taskTick, tick) & mask)].add(task);
+        }
+    }
+
+    private void dispatch(WheelTask<?> task) {
+        if (task.isDone()) {
+            return;
+        }
+        try {
+            taskExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.cancel(false);
+        }
+    }
+
+    /**
+     * A delayed task in the wheel. Its bucket and position in the bucket are only accessed by the worker thread.
+     */
+    private final class WheelTask<V> extends FutureTask<V> implements ScheduledFuture<V> {
+        private final long deadline;
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTask<?> previous;
+        private WheelTask<?> next;
+
+        private WheelTask(Callable<V> callable, long deadline) {
+            super(callable);
+            this.deadline = deadline;
+        }
+
+        private WheelTask(Runnable runnable, long deadline) {
+            super(runnable, null);
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                cancelledTasks.add(this);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - elapsedNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            if (other == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    /**
+     * A doubly-linked list of the tasks that expire in one slot of the wheel, in this round or in a later one.
+     */
+    private final class Bucket {
+        private WheelTask<?> head;
+        private WheelTask<?> tail;
+
+        private void add(WheelTask<?> task) {
+            task.bucket = this;
+            if (head == null) {
+                head = task;
+                tail = task;
+            } else {
+                tail.next = task;
+                task.previous = tail;
+                tail = task;
+            }
+        }
+
+        private void remove(WheelTask<?> task) {
+            if (task.previous == null) {
+                head = task.next;
+            } else {
+                task.previous.next = task.next;
+            }
+            if (task.next == null) {
+                tail = task.previous;
+            } else {
+                task.next.previous = task.previous;
+            }
+            task.bucket = null;
+            task.previous = null;
+            task.next = null;
+        }
+
+        private void expireTasks() {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                if (task.remainingRounds <= 0) {
+                    remove(task);
+                    dispatch(task);
+                } else {
+                    --task.remainingRounds;
+                }
+                task = next;
+            }
+        }
+
+        private void cancelAll() {
+            WheelTask<?> task = head;
+            while (task != null) {
+                WheelTask<?> next = task.next;
+                remove(task);
+                task.cancel(false);
+                task = next;
+            }
+        }
+    }
+
+    private static final class SharedInstanceHolder {
+        private static final HashedWheelScheduledExecutor INSTANCE =
+            new HashedWheelScheduledExecutor(DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL, DEFAULT_TASK_THREADS, true);
+    }
+}
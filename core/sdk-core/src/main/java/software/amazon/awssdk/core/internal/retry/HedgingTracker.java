@@ -0,0 +1,180 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+/**
+ * Tracks the state a client needs to hedge requests according to a {@link HedgingPolicy}: the recent latencies of each
+ * operation, and the budget that limits the number of hedged requests.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class HedgingTracker {
+    /**
+     * The number of latencies that must have been recorded for an operation before its requests are hedged.
+     */
+    private static final int MIN_SAMPLES = 20;
+
+    /**
+     * The budget is kept in thousandths of a hedged request, so that fractional hedge ratios can be deposited exactly.
+     */
+    private static final long HEDGE_COST = 1_000;
+
+    /**
+     * The largest burst of hedged requests the budget can accumulate.
+     */
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong budget = new AtomicLong();
+
+    /**
+     * Returns how long a request of the given operation should wait for a response before it is hedged, or empty if not
+     * enough latencies have been recorded for the operation yet.
+     */
+    public Optional<Duration> hedgeDelay(String operationName, HedgingPolicy hedgingPolicy) {
+        LatencyHistogram histogram = latencies.get(operationName);
+        if (histogram == null || histogram.count() < MIN_SAMPLES) {
+            return Optional.empty();
+        }
+
+        Duration percentile = Duration.ofNanos(histogram.percentileNanos(hedgingPolicy.latencyPercentile()));
+        return Optional.of(percentile.compareTo(hedgingPolicy.minimumHedgeDelay()) > 0 ? percentile
+                                                                                       : hedgingPolicy.minimumHedgeDelay());
+    }
+
+    /**
+     * Record the time it took a request of the given operation to receive its response headers. The latency of a request
+     * that was overtaken by its hedge is not known, and is recorded as the time it had waited when the hedge won.
+     */
+    public void recordLatency(String operationName, long latencyNanos) {
+        latencies.computeIfAbsent(operationName, n -> new LatencyHistogram()).record(latencyNanos);
+    }
+
+    /**
+     * Add the share of a hedged request that a hedgeable request earns to the budget.
+     */
+    public void depositBudget(double maxHedgeRatio) {
+        long deposit = (long) (maxHedgeRatio * HEDGE_COST);
+        budget.accumulateAndGet(deposit, (current, d) -> Math.min(MAX_BUDGET, current + d));
+    }
+
+    /**
+     * Attempts to take a hedged request from the budget.
+     *
+     * @return true if the request may be hedged, false if the budget is exhausted.
+     */
+    public boolean tryAcquireHedge() {
+        long current = budget.get();
+        while (current >= HEDGE_COST) {
+            if (budget.compareAndSet(current, current - HEDGE_COST)) {
+                return true;
+            }
+            current = budget.get();
+        }
+        return false;
+    }
+
+    /**
+     * A histogram of latencies with exponentially sized buckets, from 100 microseconds to about a minute, that halves its
+     * counts whenever they reach {@link #WINDOW} so that it follows changes in the latency of an operation.
+     *
+     * <p>Recording, decaying and reading the histogram are synchronized, so that the halving of the buckets cannot lose
+     * or double count a latency recorded at the same time. The lock is held for at most one pass over the buckets, once
+     * per response.</p>
+     */
+    static final class LatencyHistogram {
+        private static final long[] BUCKET_BOUNDS_MICROS = bucketBounds();
+        private static final long WINDOW = 1_000;
+
+        private final long[] buckets = new long[BUCKET_BOUNDS_MICROS.length];
+        private long count;
+
+        private static long[] bucketBounds() {
+            long[] bounds = new long[74];
+            double bound = 100;
+            for (int i = 0; i < bounds.length; i++) {
+                bounds[i] = (long) bound;
+                bound *= 1.2;
+            }
+            return bounds;
+        }
+
+        synchronized void record(long latencyNanos) {
+            long latencyMicros = TimeUnit.NANOSECONDS.toMicros(latencyNanos);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MICROS.length - 1 && latencyMicros > BUCKET_BOUNDS_MICROS[bucket]) {
+                ++bucket;
+            }
+            ++buckets[bucket];
+
+            if (++count >= WINDOW) {
+                decay();
+            }
+        }
+
+        private void decay() {
+            long remaining = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] /= 2;
+                remaining += buckets[i];
+            }
+            count = remaining;
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        /**
+         * Returns the upper bound of the bucket containing the given percentile.
+         */
+        synchronized long percentileNanos(double percentile) {
+            long rank = (long) Math.ceil(count * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return TimeUnit.MICROSECONDS.toNanos(BUCKET_BOUNDS_MICROS[i]);
+                }
+            }
+            return TimeUnit.MICROSECONDS.toNanos(BUCKET_BOUNDS_MICROS[BUCKET_BOUNDS_MICROS.length - 1]);
+        }
+
+        /**
+         * Returns the sum of the bucket counts, which always equals {@link #count()}.
+         */
+        @SdkTestInternalApi
+        synchronized long bucketTotal() {
+            long total = 0;
+            for (long bucket : buckets) {
+                total += bucket;
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.RetryMode;
+
+/**
+ * The client-side rate limiter of {@link RetryMode#ADAPTIVE}. A token bucket whose fill rate follows the responses of the
+ * service: the bucket is enabled by the first throttling response, its rate is reduced multiplicatively on every throttling
+ * response, and it grows back along a cubic curve (as in the CUBIC congestion control algorithm) while requests succeed.
+ *
+ * <p>Rather than failing attempts that exceed the rate, {@link #acquire()} reserves a token ahead of time and returns how
+ * long the caller has to wait before sending, so that synchronous callers can sleep and asynchronous callers can schedule
+ * the attempt.</p>
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class RateLimitingTokenBucket {
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+
+    private final LongSupplier nanoClock;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastTimestamp = -1;
+    private boolean enabled;
+
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+    private double timeWindow;
+
+    public RateLimitingTokenBucket() {
+        this(System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    RateLimitingTokenBucket(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.lastTxRateBucket = Math.floor(now());
+        this.lastThrottleTime = now();
+    }
+
+    /**
+     * Take a token for an attempt.
+     *
+     * @return How long to wait before sending the attempt; zero if the attempt can be sent immediately.
+     */
+    public synchronized Duration acquire() {
+        if (!enabled) {
+            return Duration.ZERO;
+        }
+
+        refill();
+        currentCapacity -= 1;
+        if (currentCapacity >= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos((long) (-currentCapacity / fillRate * TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    /**
+     * Update the rate of the bucket with the outcome of an attempt.
+     *
+     * @param throttlingResponse Whether the service responded to the attempt with a throttling error.
+     */
+    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
+        updateMeasuredRate();
+
+        double calculatedRate;
+        if (throttlingResponse) {
+            double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = now();
+            calculatedRate = cubicThrottle(rateToUse);
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            calculatedRate = cubicSuccess(now());
+        }
+
+        updateRate(Math.min(calculatedRate, 2 * measuredTxRate));
+    }
+
+    /**
+     * @return The smoothed rate, in attempts per second, at which the client has been sending attempts.
+     */
+    public synchronized double measuredSendRate() {
+        return measuredTxRate;
+    }
+
+    /**
+     * @return The rate, in attempts per second, at which attempts are currently allowed, or positive infinity if the bucket
+     * has not been enabled by a throttling response yet.
+     */
+    public synchronized double fillRate() {
+        return enabled ? fillRate : Double.POSITIVE_INFINITY;
+    }
+
+    private void refill() {
+        double timestamp = now();
+        if (lastTimestamp < 0) {
+            lastTimestamp = timestamp;
+            return;
+        }
+
+        double fillAmount = (timestamp - lastTimestamp) * fillRate;
+        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
+        lastTimestamp = timestamp;
+    }
+
+    private void updateRate(double newRps) {
+        refill();
+        fillRate = Math.max(newRps, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate() {
+        double timestamp = now();
+        double timeBucket = Math.floor(timestamp * 2) / 2;
+        requestCount++;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = currentRate * SMOOTH + measuredTxRate * (1 - SMOOTH);
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+    }
+
+    private double cubicSuccess(double timestamp) {
+        double dt = timestamp - lastThrottleTime;
+        return SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    }
+
+    private double cubicThrottle(double rateToUse) {
+        return rateToUse * BETA;
+    }
+
+    /**
+     * @return The current time, in seconds.
+     */
+    private double now() {
+        return nanoClock.getAsLong() / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+}
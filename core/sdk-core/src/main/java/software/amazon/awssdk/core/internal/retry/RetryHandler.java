@@ -17,34 +17,76 @@ package software.amazon.awssdk.core.internal.retry;
 
 import static java.util.Collections.singletonList;
 
+import java.time.DateTimeException;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicyContext;
 import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.DateUtils;
 
 @SdkInternalApi
 public final class RetryHandler {
 
     public static final String HEADER_SDK_RETRY_INFO = "amz-sdk-retry";
 
+    private static final String HEADER_RETRY_AFTER = "Retry-After";
+
     private final RetryPolicy retryPolicy;
     private final CapacityManager retryCapacity;
+    private final RateLimitingTokenBucket rateLimiter;
 
     private Duration lastBackoffDelay = Duration.ZERO;
     private boolean retryCapacityConsumed;
     private RetryPolicyContext retryPolicyContext;
     private SdkException lastRetriedException;
+    private long attemptStartNanos;
 
     public RetryHandler(RetryPolicy retryPolicy,
-                        CapacityManager retryCapacity) {
+                        CapacityManager retryCapacity,
+                        RateLimitingTokenBucket rateLimiter) {
         this.retryPolicy = retryPolicy;
         this.retryCapacity = retryCapacity;
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Create the retry handler for a single request. The retry policy is the first one that is configured out of the
+     * request's override configuration, the client's retry policy for the request's operation and the client's retry
+     * policy. An operation with its own retry policy also has its own retry capacity, which is used even if the request
+     * overrides the retry policy.
+     */
+    public static RetryHandler forRequest(HttpClientDependencies dependencies, RequestExecutionContext context) {
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        Map<String, RetryPolicy> operationRetryPolicies =
+            dependencies.clientConfiguration().option(SdkClientOption.OPERATION_RETRY_POLICIES);
+        RetryPolicy operationRetryPolicy = operationName == null || operationRetryPolicies == null
+                                           ? null
+                                           : operationRetryPolicies.get(operationName);
+
+        RetryPolicy retryPolicy = context.requestConfig().retryPolicy().orElse(null);
+        if (retryPolicy == null) {
+            retryPolicy = operationRetryPolicy != null
+                          ? operationRetryPolicy
+                          : dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY);
+        }
+
+        CapacityManager retryCapacity = operationRetryPolicy != null
+                                        ? dependencies.retryCapacity(operationName)
+                                        : dependencies.retryCapacity();
+
+        return new RetryHandler(retryPolicy, retryCapacity, dependencies.rateLimiter());
     }
 
     public boolean shouldRetry(SdkHttpFullResponse httpResponse,
@@ -71,6 +113,8 @@ public final class RetryHandler {
                                                     .retriesAttempted(retriesAttempted)
                                                     .executionAttributes(context.executionAttributes())
                                                     .httpStatusCode(httpResponse == null ? null : httpResponse.statusCode())
+                                                    .lastAttemptDuration(lastAttemptDuration())
+                                                    .retryAfter(retryAfter(httpResponse))
                                                     .build();
         // Finally, pass all the context information to the RetryCondition and let it decide whether it should be retried.
         if (!retryPolicy.retryCondition().shouldRetry(retryPolicyContext)) {
@@ -84,6 +128,41 @@ public final class RetryHandler {
         return true;
     }
 
+    /**
+     * Parse the {@value HEADER_RETRY_AFTER} header of the response, which is either a number of seconds or an HTTP date.
+     *
+     * @return How long the service asked the client to wait before retrying, or null if the header is missing or invalid.
+     */
+    private static Duration retryAfter(SdkHttpFullResponse httpResponse) {
+        if (httpResponse == null) {
+            return null;
+        }
+
+        return httpResponse.firstMatchingHeader(HEADER_RETRY_AFTER).map(value -> {
+            try {
+                return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+            } catch (NumberFormatException e) {
+                try {
+                    Duration untilDate = Duration.between(Instant.now(), DateUtils.parseRfc1123Date(value.trim()));
+                    return untilDate.isNegative() ? Duration.ZERO : untilDate;
+                } catch (DateTimeException | IllegalArgumentException ignored) {
+                    return null;
+                }
+            }
+        }).orElse(null);
+    }
+
+    private Duration lastAttemptDuration() {
+        return attemptStartNanos == 0 ? null : Duration.ofNanos(System.nanoTime() - attemptStartNanos);
+    }
+
+    /**
+     * Record that an attempt is about to be sent, so that its duration is available to the retry policy if it fails.
+     */
+    public void attemptStarted() {
+        this.attemptStartNanos = System.nanoTime();
+    }
+
     /**
      * If this was a successful retry attempt we'll release the full retry capacity that the attempt originally consumed.  If
      * this was a successful initial request we release a lesser amount.
@@ -110,6 +189,35 @@ public final class RetryHandler {
         return lastBackoffDelay;
     }
 
+    /**
+     * Take a token for the next attempt from the client's rate limiter, if the retry policy uses
+     * {@link RetryMode#ADAPTIVE}.
+     *
+     * @return How long to wait before sending the attempt.
+     */
+    public Duration acquireSendToken() {
+        return isAdaptive() ? rateLimiter.acquire() : Duration.ZERO;
+    }
+
+    /**
+     * Update the client's rate limiter with the outcome of the latest attempt, if the retry policy uses
+     * {@link RetryMode#ADAPTIVE}, and record the measured send rate in the execution attributes.
+     *
+     * @param exception The exception the attempt failed with, or null if it succeeded.
+     */
+    public void updateSendRate(RequestExecutionContext context, SdkException exception) {
+        if (!isAdaptive()) {
+            return;
+        }
+
+        rateLimiter.updateClientSendingRate(exception != null && RetryUtils.isThrottlingException(exception));
+        context.executionAttributes().putAttribute(SdkExecutionAttribute.MEASURED_SEND_RATE, rateLimiter.measuredSendRate());
+    }
+
+    private boolean isAdaptive() {
+        return retryPolicy.retryMode() == RetryMode.ADAPTIVE;
+    }
+
     /**
      * Sets whether retry capacity has been consumed for this request
      */
@@ -119,12 +227,17 @@ public final class RetryHandler {
 
     /**
      * Add the {@value HEADER_SDK_RETRY_INFO} header to the request. Contains metadata about request count,
-     * backoff, and retry capacity.
+     * backoff, and retry capacity. The available retry capacity is also recorded in the execution attributes.
      *
      * @return Request with retry info header added.
      */
-    public SdkHttpFullRequest addRetryInfoHeader(SdkHttpFullRequest request, int requestCount) throws Exception {
+    public SdkHttpFullRequest addRetryInfoHeader(SdkHttpFullRequest request,
+                                                 RequestExecutionContext context,
+                                                 int requestCount) throws Exception {
         int availableRetryCapacity = retryCapacity.availableCapacity();
+        if (availableRetryCapacity >= 0) {
+            context.executionAttributes().putAttribute(SdkExecutionAttribute.AVAILABLE_RETRY_CAPACITY, availableRetryCapacity);
+        }
         return request.toBuilder()
                       .putHeader(HEADER_SDK_RETRY_INFO,
                                  singletonList(String.format("%s/%s/%s",
@@ -36,6 +36,13 @@ public final class FileContentStreamProvider implements ContentStreamProvider {
         this.filePath = filePath;
     }
 
+    /**
+     * The file whose contents are provided.
+     */
+    public Path filePath() {
+        return filePath;
+    }
+
     @Override
     public InputStream newStream() {
         closeCurrentStream();
@@ -15,18 +15,23 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 
 /**
  * Manages capacity of a finite resource.  Capacity can be acquired and
  * released.
+ *
+ * <p>Acquiring and releasing capacity is lock-free, because a single instance is shared by every request of a client and is
+ * hit hardest exactly when many requests are failing at once.</p>
  */
 @SdkInternalApi
+@ThreadSafe
 public class CapacityManager {
 
     private final int maxCapacity;
-    private final Object lock = new Object();
-    private volatile int availableCapacity;
+    private final AtomicInteger availableCapacity;
 
     /**
      * Creates a CapacityManager.
@@ -38,7 +43,7 @@ public class CapacityManager {
      */
     public CapacityManager(final int maxCapacity) {
         this.maxCapacity = maxCapacity;
-        this.availableCapacity = maxCapacity;
+        this.availableCapacity = new AtomicInteger(maxCapacity);
     }
 
     /**
@@ -64,17 +69,19 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to acquire cannot be negative");
         }
 
-        if (availableCapacity < 0) {
+        if (maxCapacity < 0) {
             return true;
         }
 
-        synchronized (lock) {
-            if (availableCapacity - capacity >= 0) {
-                availableCapacity -= capacity;
-                return true;
-            } else {
+        while (true) {
+            int currentCapacity = availableCapacity.get();
+            int newCapacity = currentCapacity - capacity;
+            if (newCapacity < 0) {
                 return false;
             }
+            if (availableCapacity.compareAndSet(currentCapacity, newCapacity)) {
+                return true;
+            }
         }
     }
 
@@ -98,11 +105,20 @@ public class CapacityManager {
             throw new IllegalArgumentException("capacity to release cannot be negative");
         }
 
-        // in the common 'good' case where we have our full capacity available we can
-        // short circuit going any further and avoid unnecessary locking.
-        if (availableCapacity >= 0 && availableCapacity != maxCapacity) {
-            synchronized (lock) {
-                availableCapacity = Math.min((availableCapacity + capacity), maxCapacity);
+        if (maxCapacity < 0) {
+            return;
+        }
+
+        while (true) {
+            int currentCapacity = availableCapacity.get();
+            // in the common 'good' case where we have our full capacity available we can
+            // short circuit going any further and avoid an unnecessary write.
+            if (currentCapacity == maxCapacity) {
+                return;
+            }
+            int newCapacity = (int) Math.min((long) currentCapacity + capacity, maxCapacity);
+            if (availableCapacity.compareAndSet(currentCapacity, newCapacity)) {
+                return;
             }
         }
     }
@@ -113,7 +129,16 @@ public class CapacityManager {
      * @return consumed capacity
      */
     public int consumedCapacity() {
-        return (availableCapacity < 0) ? 0 : (maxCapacity - availableCapacity);
+        return (maxCapacity < 0) ? 0 : (maxCapacity - availableCapacity.get());
+    }
+
+    /**
+     * Returns the maximum capacity, or a negative value if this capacity manager is a no-op passthrough.
+     *
+     * @return maximum capacity
+     */
+    public int maxCapacity() {
+        return maxCapacity;
     }
 
     /**
@@ -122,6 +147,6 @@ public class CapacityManager {
      * @return available capacity
      */
     public int availableCapacity() {
-        return availableCapacity;
+        return availableCapacity.get();
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+
+/**
+ * A {@link ContentStreamProvider} for request content that is already in memory, such as a marshalled request body.
+ * <p>
+ * The content is never copied: every stream reads straight from the buffer, and the async HTTP pipeline sends the buffer
+ * itself (see {@link #content()}) instead of reading the stream into a new array. The buffer must therefore not be modified
+ * after it is handed to this provider.
+ */
+@SdkProtectedApi
+public final class ByteBufferContentStreamProvider implements ContentStreamProvider {
+    private final ByteBuffer content;
+
+    private ByteBufferContentStreamProvider(ByteBuffer content) {
+        this.content = content.duplicate();
+    }
+
+    /**
+     * Creates a provider for the remaining bytes of the given buffer. The position and limit of the given buffer are not
+     * changed by the provider.
+     */
+    public static ByteBufferContentStreamProvider create(ByteBuffer content) {
+        return new ByteBufferContentStreamProvider(content);
+    }
+
+    @Override
+    public InputStream newStream() {
+        if (content.hasArray()) {
+            return new ByteArrayInputStream(content.array(), content.arrayOffset() + content.position(), content.remaining());
+        }
+        return new ByteBufferInputStream(content.duplicate());
+    }
+
+    /**
+     * @return The length of the content in bytes.
+     */
+    public int contentLength() {
+        return content.remaining();
+    }
+
+    /**
+     * @return A read-only view of the content, with its own position and limit.
+     */
+    public ByteBuffer content() {
+        return content.asReadOnlyBuffer();
+    }
+
+    /**
+     * An {@link InputStream} over a buffer that is not backed by an accessible array, such as a direct or read-only buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.min(Math.max(n, 0), buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * A policy for hedging idempotent requests made by asynchronous clients. When a request has not received a response within
+ * the configured percentile of the latencies recently observed for its operation, a second, identical request is sent. The
+ * first of the two to receive a response is used, and the other is cancelled.
+ *
+ * <p>Only the first attempt of a request is hedged, and only when the request is idempotent: it is sent with the GET or HEAD
+ * HTTP method, its operation has an idempotency token, or it matches {@link #idempotentRequests()}. Requests with a
+ * streaming input are never hedged.</p>
+ *
+ * <p>The number of hedged requests is limited to {@link #maxHedgeRatio()} of the hedgeable requests made by the client, so
+ * that hedging cannot amplify the load on a service that has become slow.</p>
+ *
+ * <p>Hedging is disabled unless a policy is configured with {@link ClientOverrideConfiguration.Builder#hedgingPolicy}.
+ * Synchronous clients ignore this policy.</p>
+ */
+@Immutable
+@SdkPublicApi
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private static final double DEFAULT_LATENCY_PERCENTILE = 95.0;
+    private static final Duration DEFAULT_MINIMUM_HEDGE_DELAY = Duration.ofMillis(10);
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.05;
+    private static final Predicate<SdkRequest> NO_ADDITIONAL_IDEMPOTENT_REQUESTS = r -> false;
+
+    private final Double latencyPercentile;
+    private final Duration minimumHedgeDelay;
+    private final Double maxHedgeRatio;
+    private final Predicate<SdkRequest> idempotentRequests;
+
+    private HedgingPolicy(BuilderImpl builder) {
+        this.latencyPercentile = Validate.paramNotNull(builder.latencyPercentile, "latencyPercentile");
+        Validate.isTrue(latencyPercentile > 0 && latencyPercentile < 100,
+                        "latencyPercentile must be greater than 0 and less than 100, but was %s", latencyPercentile);
+        this.minimumHedgeDelay = Validate.isNotNegative(builder.minimumHedgeDelay, "minimumHedgeDelay");
+        this.maxHedgeRatio = Validate.paramNotNull(builder.maxHedgeRatio, "maxHedgeRatio");
+        Validate.isTrue(maxHedgeRatio >= 0 && maxHedgeRatio <= 1,
+                        "maxHedgeRatio must be between 0 and 1, but was %s", maxHedgeRatio);
+        this.idempotentRequests = Validate.paramNotNull(builder.idempotentRequests, "idempotentRequests");
+    }
+
+    /**
+     * The percentile of the recently observed latencies of an operation after which a request of that operation is hedged,
+     * between 0 and 100 (exclusive). The latency of a request is the time until its response headers are received.
+     */
+    public Double latencyPercentile() {
+        return latencyPercentile;
+    }
+
+    /**
+     * The minimum time to wait for a response before a request is hedged, regardless of the observed latencies.
+     */
+    public Duration minimumHedgeDelay() {
+        return minimumHedgeDelay;
+    }
+
+    /**
+     * The maximum number of hedged requests, as a fraction of the number of hedgeable requests made by the client, between 0
+     * and 1 (inclusive).
+     */
+    public Double maxHedgeRatio() {
+        return maxHedgeRatio;
+    }
+
+    /**
+     * Requests for which this predicate returns true are treated as idempotent, in addition to those that are always
+     * treated as idempotent. For example, {@code r -> r instanceof GetItemRequest} allows DynamoDB GetItem requests to be
+     * hedged.
+     */
+    public Predicate<SdkRequest> idempotentRequests() {
+        return idempotentRequests;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().latencyPercentile(latencyPercentile)
+                        .minimumHedgeDelay(minimumHedgeDelay)
+                        .maxHedgeRatio(maxHedgeRatio)
+                        .idempotentRequests(idempotentRequests);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("latencyPercentile", latencyPercentile)
+                       .add("minimumHedgeDelay", minimumHedgeDelay)
+                       .add("maxHedgeRatio", maxHedgeRatio)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        return latencyPercentile.equals(that.latencyPercentile) &&
+               minimumHedgeDelay.equals(that.minimumHedgeDelay) &&
+               maxHedgeRatio.equals(that.maxHedgeRatio) &&
+               idempotentRequests.equals(that.idempotentRequests);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = latencyPercentile.hashCode();
+        result = 31 * result + minimumHedgeDelay.hashCode();
+        result = 31 * result + maxHedgeRatio.hashCode();
+        result = 31 * result + idempotentRequests.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+        /**
+         * @see HedgingPolicy#latencyPercentile()
+         */
+        Builder latencyPercentile(Double latencyPercentile);
+
+        Double latencyPercentile();
+
+        /**
+         * @see HedgingPolicy#minimumHedgeDelay()
+         */
+        Builder minimumHedgeDelay(Duration minimumHedgeDelay);
+
+        Duration minimumHedgeDelay();
+
+        /**
+         * @see HedgingPolicy#maxHedgeRatio()
+         */
+        Builder maxHedgeRatio(Double maxHedgeRatio);
+
+        Double maxHedgeRatio();
+
+        /**
+         * @see HedgingPolicy#idempotentRequests()
+         */
+        Builder idempotentRequests(Predicate<SdkRequest> idempotentRequests);
+
+        Predicate<SdkRequest> idempotentRequests();
+
+        HedgingPolicy build();
+    }
+
+    /**
+     * Builder for a {@link HedgingPolicy}.
+     */
+    private static final class BuilderImpl implements Builder {
+        private Double latencyPercentile = DEFAULT_LATENCY_PERCENTILE;
+        private Duration minimumHedgeDelay = DEFAULT_MINIMUM_HEDGE_DELAY;
+        private Double maxHedgeRatio = DEFAULT_MAX_HEDGE_RATIO;
+        private Predicate<SdkRequest> idempotentRequests = NO_ADDITIONAL_IDEMPOTENT_REQUESTS;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder latencyPercentile(Double latencyPercentile) {
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        public void setLatencyPercentile(Double latencyPercentile) {
+            latencyPercentile(latencyPercentile);
+        }
+
+        @Override
+        public Double latencyPercentile() {
+            return latencyPercentile;
+        }
+
+        @Override
+        public Builder minimumHedgeDelay(Duration minimumHedgeDelay) {
+            this.minimumHedgeDelay = minimumHedgeDelay;
+            return this;
+        }
+
+        public void setMinimumHedgeDelay(Duration minimumHedgeDelay) {
+            minimumHedgeDelay(minimumHedgeDelay);
+        }
+
+        @Override
+        public Duration minimumHedgeDelay() {
+            return minimumHedgeDelay;
+        }
+
+        @Override
+        public Builder maxHedgeRatio(Double maxHedgeRatio) {
+            this.maxHedgeRatio = maxHedgeRatio;
+            return this;
+        }
+
+        public void setMaxHedgeRatio(Double maxHedgeRatio) {
+            maxHedgeRatio(maxHedgeRatio);
+        }
+
+        @Override
+        public Double maxHedgeRatio() {
+            return maxHedgeRatio;
+        }
+
+        @Override
+        public Builder idempotentRequests(Predicate<SdkRequest> idempotentRequests) {
+            this.idempotentRequests = idempotentRequests;
+            return this;
+        }
+
+        public void setIdempotentRequests(Predicate<SdkRequest> idempotentRequests) {
+            idempotentRequests(idempotentRequests);
+        }
+
+        @Override
+        public Predicate<SdkRequest> idempotentRequests() {
+            return idempotentRequests;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A read-only view of the retry capacity of a client. Every retry of a request of the client takes capacity, and every
+ * successful request gives some back, so the available capacity drains while the service is failing requests and recovers
+ * afterwards. Once the capacity is exhausted, failed requests are no longer retried.
+ *
+ * <p>The view reflects the current state of the client's capacity, so it may be polled, for example to publish it as a
+ * metric, without making requests.</p>
+ *
+ * @see software.amazon.awssdk.core.client.config.ClientOverrideConfiguration.Builder#retryCapacityConsumer
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface RetryCapacity {
+    /**
+     * @return The capacity that is currently available for retries, or a negative value if retries are not limited by
+     * capacity.
+     */
+    int availableCapacity();
+
+    /**
+     * @return The capacity that is available for retries when no requests have failed recently, or a negative value if
+     * retries are not limited by capacity.
+     */
+    int maxCapacity();
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The mode of a {@link RetryPolicy}, which determines whether anything other than retries is limited when a service is
+ * throttling requests.
+ *
+ * @see RetryPolicy.Builder#retryMode(RetryMode)
+ */
+@SdkPublicApi
+public enum RetryMode {
+    /**
+     * Only retries are limited, by the retry policy's retry condition and backoff strategies. This is the default.
+     */
+    LEGACY,
+
+    /**
+     * In addition to {@link #LEGACY}, every attempt (including the first attempt of each request) takes a token from a rate
+     * limiter that is shared by all requests of the client. The rate limiter is enabled the first time the service
+     * responds with a throttling error, after which its rate is reduced on every throttling error and grows back, following
+     * a cubic function, while requests succeed.
+     *
+     * <p>Attempts that exceed the rate are delayed rather than failed. This mode is best suited to clients that are the only
+     * source of traffic to a resource, because it can delay requests for as long as the service continues throttling.</p>
+     */
+    ADAPTIVE
+}
@@ -24,6 +24,7 @@ import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
 import software.amazon.awssdk.core.retry.conditions.MaxNumberOfRetriesCondition;
 import software.amazon.awssdk.core.retry.conditions.RetryCondition;
 import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
@@ -36,6 +37,7 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * When using the {@link #builder()} the SDK will use default values for fields that are not provided. The default number of
  * retries that will be used is {@link SdkDefaultRetrySetting#DEFAULT_MAX_RETRIES}. The default retry condition is
  * {@link RetryCondition#defaultRetryCondition()} and the default backoff strategy is {@link BackoffStrategy#defaultStrategy()}.
+ * The default retry mode is {@link RetryMode#LEGACY}, which only limits retries.
  *
  * @see RetryCondition for a list of SDK provided retry condition strategies
  * @see BackoffStrategy for a list of SDK provided backoff strategies
@@ -49,11 +51,13 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
     private final BackoffStrategy backoffStrategy;
     private final BackoffStrategy throttlingBackoffStrategy;
     private final Integer numRetries;
+    private final RetryMode retryMode;
 
     private RetryPolicy(BuilderImpl builder) {
         this.backoffStrategy = builder.backoffStrategy;
         this.throttlingBackoffStrategy = builder.throttlingBackoffStrategy;
         this.numRetries = builder.numRetries;
+        this.retryMode = builder.retryMode;
         this.retryConditionFromBuilder = builder.retryCondition;
         this.retryCondition = AndRetryCondition.create(MaxNumberOfRetriesCondition.create(numRetries),
                                                        retryConditionFromBuilder);
@@ -75,11 +79,16 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         return numRetries;
     }
 
+    public RetryMode retryMode() {
+        return retryMode;
+    }
+
     public Builder toBuilder() {
         return builder().numRetries(numRetries)
                         .retryCondition(retryConditionFromBuilder)
                         .backoffStrategy(backoffStrategy)
-                        .throttlingBackoffStrategy(throttlingBackoffStrategy);
+                        .throttlingBackoffStrategy(throttlingBackoffStrategy)
+                        .retryMode(retryMode);
     }
 
     @Override
@@ -89,6 +98,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
                        .add("retryCondition", retryCondition)
                        .add("backoffStrategy", backoffStrategy)
                        .add("throttlingBackoffStrategy", throttlingBackoffStrategy)
+                       .add("retryMode", retryMode)
                        .build();
     }
 
@@ -112,6 +122,9 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         if (!throttlingBackoffStrategy.equals(that.throttlingBackoffStrategy)) {
             return false;
         }
+        if (retryMode != that.retryMode) {
+            return false;
+        }
         return numRetries.equals(that.numRetries);
     }
 
@@ -121,6 +134,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         result = 31 * result + backoffStrategy.hashCode();
         result = 31 * result + throttlingBackoffStrategy.hashCode();
         result = 31 * result + numRetries.hashCode();
+        result = 31 * result + retryMode.hashCode();
         return result;
     }
 
@@ -163,6 +177,16 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
 
         RetryCondition retryCondition();
 
+        /**
+         * Configure the mode of this retry policy, which determines whether anything other than retries is limited when a
+         * service is throttling requests. Defaults to {@link RetryMode#LEGACY}.
+         *
+         * @see RetryMode
+         */
+        Builder retryMode(RetryMode retryMode);
+
+        RetryMode retryMode();
+
         RetryPolicy build();
     }
 
@@ -175,6 +199,7 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         private BackoffStrategy backoffStrategy = BackoffStrategy.defaultStrategy();
         private BackoffStrategy throttlingBackoffStrategy = BackoffStrategy.defaultThrottlingStrategy();
         private RetryCondition retryCondition = RetryCondition.defaultRetryCondition();
+        private RetryMode retryMode = RetryMode.LEGACY;
 
         private BuilderImpl(){
         }
@@ -239,6 +264,21 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
             return retryCondition;
         }
 
+        @Override
+        public Builder retryMode(RetryMode retryMode) {
+            this.retryMode = Validate.paramNotNull(retryMode, "retryMode");
+            return this;
+        }
+
+        public void setRetryMode(RetryMode retryMode) {
+            retryMode(retryMode);
+        }
+
+        @Override
+        public RetryMode retryMode() {
+            return retryMode;
+        }
+
         @Override
         public RetryPolicy build() {
             return new RetryPolicy(this);
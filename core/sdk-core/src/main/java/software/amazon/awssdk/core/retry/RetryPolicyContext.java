@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.retry;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -39,6 +40,8 @@ public final class RetryPolicyContext implements ToCopyableBuilder<RetryPolicyCo
     private final ExecutionAttributes executionAttributes;
     private final int retriesAttempted;
     private final Integer httpStatusCode;
+    private final Duration lastAttemptDuration;
+    private final Duration retryAfter;
 
     private RetryPolicyContext(Builder builder) {
         this.originalRequest = builder.originalRequest;
@@ -47,6 +50,8 @@ public final class RetryPolicyContext implements ToCopyableBuilder<RetryPolicyCo
         this.executionAttributes = builder.executionAttributes;
         this.retriesAttempted = builder.retriesAttempted;
         this.httpStatusCode = builder.httpStatusCode;
+        this.lastAttemptDuration = builder.lastAttemptDuration;
+        this.retryAfter = builder.retryAfter;
     }
 
     @SdkInternalApi
@@ -103,6 +108,21 @@ public final class RetryPolicyContext implements ToCopyableBuilder<RetryPolicyCo
         return this.httpStatusCode;
     }
 
+    /**
+     * @return How long the last attempt took, from sending the request until it failed. May be null if it was not measured.
+     */
+    public Duration lastAttemptDuration() {
+        return this.lastAttemptDuration;
+    }
+
+    /**
+     * @return How long the service asked the client to wait before retrying, from the {@code Retry-After} header of the
+     * response. May be null if the response did not include a valid {@code Retry-After} header.
+     */
+    public Duration retryAfter() {
+        return this.retryAfter;
+    }
+
     @Override
     public Builder toBuilder() {
         return new Builder(this);
@@ -117,6 +137,8 @@ public final class RetryPolicyContext implements ToCopyableBuilder<RetryPolicyCo
         private ExecutionAttributes executionAttributes;
         private int retriesAttempted;
         private Integer httpStatusCode;
+        private Duration lastAttemptDuration;
+        private Duration retryAfter;
 
         private Builder() {
         }
@@ -128,6 +150,8 @@ public final class RetryPolicyContext implements ToCopyableBuilder<RetryPolicyCo
             this.executionAttributes = copy.executionAttributes;
             this.retriesAttempted = copy.retriesAttempted;
             this.httpStatusCode = copy.httpStatusCode;
+            this.lastAttemptDuration = copy.lastAttemptDuration;
+            this.retryAfter = copy.retryAfter;
         }
 
         public Builder originalRequest(SdkRequest originalRequest) {
@@ -160,6 +184,16 @@ public final class RetryPolicyContext implements ToCopyableBuilder<RetryPolicyCo
             return this;
         }
 
+        public Builder lastAttemptDuration(Duration lastAttemptDuration) {
+            this.lastAttemptDuration = lastAttemptDuration;
+            return this;
+        }
+
+        public Builder retryAfter(Duration retryAfter) {
+            this.retryAfter = retryAfter;
+            return this;
+        }
+
         public RetryPolicyContext build() {
             return new RetryPolicyContext(this);
         }
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry.backoff;
+
+import static software.amazon.awssdk.utils.Validate.isNotNegative;
+
+import java.time.Duration;
+import java.util.Random;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Backoff strategy that uses a decorrelated jitter strategy for computing the next backoff delay. A decorrelated jitter
+ * strategy computes each delay from the previous delay of the same request rather than from the number of retries: the
+ * next delay is a random value between the base delay and three times the previous delay, capped at the max backoff time.
+ *
+ * For example, using a base delay of 100 and a max backoff time of 10000, the first retry is delayed by 100 to 300. If
+ * that delay was 250, the second retry is delayed by 100 to 750.
+ *
+ * Compared to {@link FullJitterBackoffStrategy}, delays still grow exponentially on average, but the retries of
+ * requests that failed at the same time spread out faster, and a request never waits less than the base delay.
+ */
+@SdkPublicApi
+public final class DecorrelatedJitterBackoffStrategy
+    implements BackoffStrategy, ToCopyableBuilder<DecorrelatedJitterBackoffStrategy.Builder,
+                                                  DecorrelatedJitterBackoffStrategy> {
+
+    private static final ExecutionAttribute<Duration> PREVIOUS_DELAY =
+        new ExecutionAttribute<>("DecorrelatedJitterPreviousDelay");
+
+    private final Duration baseDelay;
+    private final Duration maxBackoffTime;
+    private final Random random = new Random();
+
+    private DecorrelatedJitterBackoffStrategy(BuilderImpl builder) {
+        this.baseDelay = isNotNegative(builder.baseDelay, "baseDelay");
+        this.maxBackoffTime = isNotNegative(builder.maxBackoffTime, "maxBackoffTime");
+    }
+
+    @Override
+    public Duration computeDelayBeforeNextRetry(RetryPolicyContext context) {
+        long baseMillis = baseDelay.toMillis();
+        long ceil = Math.max(baseMillis, previousDelay(context).toMillis() * 3);
+        long delayMillis = Math.min(maxBackoffTime.toMillis(), baseMillis + (long) (random.nextDouble() * (ceil - baseMillis)));
+        Duration delay = Duration.ofMillis(delayMillis);
+
+        if (context.executionAttributes() != null) {
+            context.executionAttributes().putAttribute(PREVIOUS_DELAY, delay);
+        }
+        return delay;
+    }
+
+    /**
+     * The delay before the previous retry of the request, which is stored in the request's execution attributes. The first
+     * retry behaves as if the previous delay was the base delay.
+     */
+    private Duration previousDelay(RetryPolicyContext context) {
+        ExecutionAttributes attributes = context.executionAttributes();
+        if (context.retriesAttempted() == 0 || attributes == null || attributes.getAttribute(PREVIOUS_DELAY) == null) {
+            return baseDelay;
+        }
+        return attributes.getAttribute(PREVIOUS_DELAY);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().baseDelay(baseDelay).maxBackoffTime(maxBackoffTime);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, DecorrelatedJitterBackoffStrategy> {
+        Builder baseDelay(Duration baseDelay);
+
+        Duration baseDelay();
+
+        Builder maxBackoffTime(Duration maxBackoffTime);
+
+        Duration maxBackoffTime();
+
+        DecorrelatedJitterBackoffStrategy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+
+        private Duration baseDelay;
+        private Duration maxBackoffTime;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public void setBaseDelay(Duration baseDelay) {
+            baseDelay(baseDelay);
+        }
+
+        @Override
+        public Duration baseDelay() {
+            return baseDelay;
+        }
+
+        @Override
+        public Builder maxBackoffTime(Duration maxBackoffTime) {
+            this.maxBackoffTime = maxBackoffTime;
+            return this;
+        }
+
+        public void setMaxBackoffTime(Duration maxBackoffTime) {
+            maxBackoffTime(maxBackoffTime);
+        }
+
+        @Override
+        public Duration maxBackoffTime() {
+            return maxBackoffTime;
+        }
+
+        @Override
+        public DecorrelatedJitterBackoffStrategy build() {
+            return new DecorrelatedJitterBackoffStrategy(this);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DecorrelatedJitterBackoffStrategy that = (DecorrelatedJitterBackoffStrategy) o;
+
+        if (!baseDelay.equals(that.baseDelay)) {
+            return false;
+        }
+        return maxBackoffTime.equals(that.maxBackoffTime);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = baseDelay.hashCode();
+        result = 31 * result + maxBackoffTime.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DecorrelatedJitterBackoffStrategy")
+                       .add("baseDelay", baseDelay)
+                       .add("maxBackoffTime", maxBackoffTime)
+                       .build();
+    }
+}
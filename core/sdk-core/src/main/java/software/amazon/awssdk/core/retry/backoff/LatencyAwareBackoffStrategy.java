@@ -0,0 +1,238 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry.backoff;
+
+import static software.amazon.awssdk.utils.Validate.isNotNegative;
+
+import java.time.Duration;
+import java.util.Random;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Backoff strategy that takes the observed behavior of the service into account when computing the next backoff delay.
+ *
+ * The delay starts from a full jitter delay (see {@link FullJitterBackoffStrategy}) and is then adjusted using the
+ * information in the {@link RetryPolicyContext}:
+ * <ul>
+ *     <li>It is at least the duration of the failed attempt multiplied by the latency scale, so that a service that is
+ *     slow to fail is given proportionally more time to recover.</li>
+ *     <li>It is multiplied by the throttling scale if the attempt was throttled.</li>
+ *     <li>It is at least the delay requested by the service with a {@code Retry-After} header.</li>
+ * </ul>
+ * The resulting delay never exceeds the max backoff time, even if the service asked for a longer one.
+ */
+@SdkPublicApi
+public final class LatencyAwareBackoffStrategy
+    implements BackoffStrategy, ToCopyableBuilder<LatencyAwareBackoffStrategy.Builder, LatencyAwareBackoffStrategy> {
+
+    private final Duration baseDelay;
+    private final Duration maxBackoffTime;
+    private final double latencyScale;
+    private final double throttlingScale;
+    private final Random random = new Random();
+
+    private LatencyAwareBackoffStrategy(BuilderImpl builder) {
+        this.baseDelay = isNotNegative(builder.baseDelay, "baseDelay");
+        this.maxBackoffTime = isNotNegative(builder.maxBackoffTime, "maxBackoffTime");
+        this.latencyScale = builder.latencyScale;
+        this.throttlingScale = builder.throttlingScale;
+        Validate.isTrue(latencyScale >= 0, "latencyScale must not be negative.");
+        Validate.isTrue(throttlingScale >= 1, "throttlingScale must be at least 1.");
+    }
+
+    @Override
+    public Duration computeDelayBeforeNextRetry(RetryPolicyContext context) {
+        int ceil = calculateExponentialDelay(context.retriesAttempted(), baseDelay, maxBackoffTime);
+        double delayMillis = ceil == 0 ? 0 : random.nextInt(ceil);
+
+        if (context.lastAttemptDuration() != null) {
+            delayMillis = Math.max(delayMillis, context.lastAttemptDuration().toMillis() * latencyScale);
+        }
+        if (RetryUtils.isThrottlingException(context.exception())) {
+            delayMillis *= throttlingScale;
+        }
+        if (context.retryAfter() != null) {
+            delayMillis = Math.max(delayMillis, context.retryAfter().toMillis());
+        }
+
+        return Duration.ofMillis((long) Math.min(delayMillis, maxBackoffTime.toMillis()));
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder().baseDelay(baseDelay)
+                        .maxBackoffTime(maxBackoffTime)
+                        .latencyScale(latencyScale)
+                        .throttlingScale(throttlingScale);
+    }
+
+    public static Builder builder() {
+        return new BuilderImpl();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, LatencyAwareBackoffStrategy> {
+        Builder baseDelay(Duration baseDelay);
+
+        Duration baseDelay();
+
+        Builder maxBackoffTime(Duration maxBackoffTime);
+
+        Duration maxBackoffTime();
+
+        /**
+         * The factor applied to the duration of the failed attempt to compute the minimum delay before the next retry.
+         * A value of 0 ignores the duration of the failed attempt. Defaults to 1.
+         */
+        Builder latencyScale(double latencyScale);
+
+        double latencyScale();
+
+        /**
+         * The factor applied to the delay when the failed attempt was throttled by the service. Must be at least 1.
+         * Defaults to 2.
+         */
+        Builder throttlingScale(double throttlingScale);
+
+        double throttlingScale();
+
+        LatencyAwareBackoffStrategy build();
+    }
+
+    private static final class BuilderImpl implements Builder {
+
+        private Duration baseDelay;
+        private Duration maxBackoffTime;
+        private double latencyScale = 1;
+        private double throttlingScale = 2;
+
+        private BuilderImpl() {
+        }
+
+        @Override
+        public Builder baseDelay(Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public void setBaseDelay(Duration baseDelay) {
+            baseDelay(baseDelay);
+        }
+
+        @Override
+        public Duration baseDelay() {
+            return baseDelay;
+        }
+
+        @Override
+        public Builder maxBackoffTime(Duration maxBackoffTime) {
+            this.maxBackoffTime = maxBackoffTime;
+            return this;
+        }
+
+        public void setMaxBackoffTime(Duration maxBackoffTime) {
+            maxBackoffTime(maxBackoffTime);
+        }
+
+        @Override
+        public Duration maxBackoffTime() {
+            return maxBackoffTime;
+        }
+
+        @Override
+        public Builder latencyScale(double latencyScale) {
+            this.latencyScale = latencyScale;
+            return this;
+        }
+
+        public void setLatencyScale(double latencyScale) {
+            latencyScale(latencyScale);
+        }
+
+        @Override
+        public double latencyScale() {
+            return latencyScale;
+        }
+
+        @Override
+        public Builder throttlingScale(double throttlingScale) {
+            this.throttlingScale = throttlingScale;
+            return this;
+        }
+
+        public void setThrottlingScale(double throttlingScale) {
+            throttlingScale(throttlingScale);
+        }
+
+        @Override
+        public double throttlingScale() {
+            return throttlingScale;
+        }
+
+        @Override
+        public LatencyAwareBackoffStrategy build() {
+            return new LatencyAwareBackoffStrategy(this);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        LatencyAwareBackoffStrategy that = (LatencyAwareBackoffStrategy) o;
+
+        if (Double.compare(that.latencyScale, latencyScale) != 0) {
+            return false;
+        }
+        if (Double.compare(that.throttlingScale, throttlingScale) != 0) {
+            return false;
+        }
+        if (!baseDelay.equals(that.baseDelay)) {
+            return false;
+        }
+        return maxBackoffTime.equals(that.maxBackoffTime);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = baseDelay.hashCode();
+        result = 31 * result + maxBackoffTime.hashCode();
+        result = 31 * result + Double.hashCode(latencyScale);
+        result = 31 * result + Double.hashCode(throttlingScale);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("LatencyAwareBackoffStrategy")
+                       .add("baseDelay", baseDelay)
+                       .add("maxBackoffTime", maxBackoffTime)
+                       .add("latencyScale", latencyScale)
+                       .add("throttlingScale", throttlingScale)
+                       .build();
+    }
+}
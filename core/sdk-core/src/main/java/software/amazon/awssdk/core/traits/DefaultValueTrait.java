@@ -26,9 +26,11 @@ import software.amazon.awssdk.core.util.IdempotentUtils;
 public final class DefaultValueTrait implements Trait {
 
     private final Supplier<?> defaultValueSupplier;
+    private final boolean idempotencyToken;
 
-    private DefaultValueTrait(Supplier<?> defaultValueSupplier) {
+    private DefaultValueTrait(Supplier<?> defaultValueSupplier, boolean idempotencyToken) {
         this.defaultValueSupplier = defaultValueSupplier;
+        this.idempotencyToken = idempotencyToken;
     }
 
     /**
@@ -42,6 +44,14 @@ public final class DefaultValueTrait implements Trait {
         return val != null ? val : defaultValueSupplier.get();
     }
 
+    /**
+     * @return True if this trait was created by {@link #idempotencyToken()}, meaning that the field is the idempotency token
+     * of its operation.
+     */
+    public boolean isIdempotencyToken() {
+        return idempotencyToken;
+    }
+
     /**
      * Creates a new {@link DefaultValueTrait} with a custom {@link Supplier}.
      *
@@ -49,7 +59,7 @@ public final class DefaultValueTrait implements Trait {
      * @return New trait instance.
      */
     public static DefaultValueTrait create(Supplier<?> supplier) {
-        return new DefaultValueTrait(supplier);
+        return new DefaultValueTrait(supplier, false);
     }
 
     /**
@@ -60,6 +70,6 @@ public final class DefaultValueTrait implements Trait {
      * @return New trait instance.
      */
     public static DefaultValueTrait idempotencyToken() {
-        return new DefaultValueTrait(IdempotentUtils.getGenerator());
+        return new DefaultValueTrait(IdempotentUtils.getGenerator(), true);
     }
 }
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.utils.ImmutableMap;
 
 public class RequestOverrideConfigurationTest {
@@ -93,4 +94,14 @@ public class RequestOverrideConfigurationTest {
         assertThat(configurationBuilder.headers().size()).isEqualTo(1);
         assertThat(configurationBuilder.headers().get("foo")).containsExactly("bar");
     }
+
+    @Test
+    public void retryPolicy_isCopiedByToBuilder() {
+        RequestOverrideConfiguration configuration = SdkRequestOverrideConfiguration.builder()
+                                                                                    .retryPolicy(r -> r.numRetries(0))
+                                                                                    .build();
+
+        assertThat(configuration.retryPolicy()).hasValueSatisfying(r -> assertThat(r.numRetries()).isZero());
+        assertThat(configuration.toBuilder().build()).isEqualTo(configuration);
+    }
 }
@@ -25,9 +25,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.junit.Test;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.http.request.SlowExecutionInterceptor;
+import software.amazon.awssdk.core.retry.RetryCapacity;
+import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.utils.ImmutableMap;
 
 public class ClientOverrideConfigurationTest {
@@ -50,6 +53,18 @@ public class ClientOverrideConfigurationTest {
         assertThat(anotherConfig.headers().get("value")).containsExactly("foobar");
     }
 
+    @Test
+    public void retryCapacityConsumer_isKeptByToBuilder() {
+        Consumer<RetryCapacity> retryCapacityConsumer = c -> { };
+        ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder()
+                                                                               .retryCapacityConsumer(retryCapacityConsumer)
+                                                                               .build();
+
+        assertThat(configuration.retryCapacityConsumer()).hasValue(retryCapacityConsumer);
+        assertThat(configuration.toBuilder().build().retryCapacityConsumer()).hasValue(retryCapacityConsumer);
+        assertThat(ClientOverrideConfiguration.builder().build().retryCapacityConsumer()).isEmpty();
+    }
+
     @Test
     public void settingCollection_shouldOverrideAddItem() {
         ClientOverrideConfiguration configuration = ClientOverrideConfiguration.builder()
@@ -108,4 +123,20 @@ public class ClientOverrideConfigurationTest {
         assertThat(configurationBuilder.headers().get("foo")).containsExactly("bar");
         assertThat(configurationBuilder.executionInterceptors()).containsExactly(slowExecutionInterceptor);
     }
+
+    @Test
+    public void operationRetryPolicies_areCopiedByToBuilder() {
+        RetryPolicy queryRetryPolicy = RetryPolicy.builder().numRetries(0).build();
+        ClientOverrideConfiguration configuration =
+            ClientOverrideConfiguration.builder()
+                                       .putOperationRetryPolicy("Query", RetryPolicy.none())
+                                       .putOperationRetryPolicy("Query", queryRetryPolicy)
+                                       .putOperationRetryPolicy("BatchWriteItem", RetryPolicy.defaultRetryPolicy())
+                                       .build();
+
+        assertThat(configuration.operationRetryPolicies()).containsOnlyKeys("Query", "BatchWriteItem")
+                                                          .containsEntry("Query", queryRetryPolicy);
+        assertThat(configuration.toBuilder().build().operationRetryPolicies())
+            .isEqualTo(configuration.operationRetryPolicies());
+    }
 }
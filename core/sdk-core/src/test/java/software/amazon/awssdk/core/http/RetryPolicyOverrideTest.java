@@ -0,0 +1,123 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.http;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.containing;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.fail;
+import static software.amazon.awssdk.core.internal.retry.RetryHandler.HEADER_SDK_RETRY_INFO;
+import static software.amazon.awssdk.core.internal.util.ResponseHandlerTestUtils.combinedSyncResponseHandler;
+
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.internal.http.AmazonSyncHttpClient;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import utils.HttpTestUtils;
+import utils.http.WireMockTestBase;
+
+public class RetryPolicyOverrideTest extends WireMockTestBase {
+
+    private static final String RESOURCE_PATH = "/retry-policy";
+
+    private AmazonSyncHttpClient httpClient;
+
+    @Before
+    public void setup() {
+        stubFor(get(urlEqualTo(RESOURCE_PATH)).willReturn(aResponse().withStatus(500)));
+
+        SdkClientConfiguration config =
+            HttpTestUtils.testClientConfiguration().toBuilder()
+                         .option(SdkClientOption.SYNC_HTTP_CLIENT, HttpTestUtils.testSdkHttpClient())
+                         .option(SdkClientOption.RETRY_POLICY, retryPolicy(3))
+                         .option(SdkClientOption.OPERATION_RETRY_POLICIES, Collections.singletonMap("Query", retryPolicy(1)))
+                         .build();
+        httpClient = new AmazonSyncHttpClient(config);
+    }
+
+    @Test
+    public void operationWithoutRetryPolicy_usesClientRetryPolicy() throws Exception {
+        executeRequest("PutItem", null);
+
+        verify(4, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void operationWithRetryPolicy_usesOperationRetryPolicy() throws Exception {
+        executeRequest("Query", null);
+
+        verify(2, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void requestRetryPolicy_takesPriorityOverOperationRetryPolicy() throws Exception {
+        executeRequest("Query", retryPolicy(0));
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)));
+    }
+
+    @Test
+    public void operationWithRetryPolicy_hasItsOwnRetryCapacity() throws Exception {
+        executeRequest("PutItem", null);
+        resetAllRequests();
+
+        executeRequest("Query", null);
+
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("/500")));
+        verify(1, getRequestedFor(urlEqualTo(RESOURCE_PATH)).withHeader(HEADER_SDK_RETRY_INFO, containing("/495")));
+    }
+
+    private static RetryPolicy retryPolicy(int numRetries) {
+        return RetryPolicy.builder().numRetries(numRetries).backoffStrategy(BackoffStrategy.none()).build();
+    }
+
+    private void executeRequest(String operationName, RetryPolicy requestRetryPolicy) throws Exception {
+        SdkHttpFullRequest request = newGetRequest(RESOURCE_PATH).build();
+        ExecutionContext executionContext = ClientExecutionAndRequestTimerTestUtils.executionContext(request);
+        executionContext.executionAttributes().putAttribute(SdkExecutionAttribute.OPERATION_NAME, operationName);
+        NoopTestRequest originalRequest =
+            NoopTestRequest.builder()
+                           .overrideConfiguration(SdkRequestOverrideConfiguration.builder()
+                                                                                 .retryPolicy(requestRetryPolicy)
+                                                                                 .build())
+                           .build();
+        try {
+            httpClient.requestExecutionBuilder()
+                      .request(request)
+                      .originalRequest(originalRequest)
+                      .executionContext(executionContext)
+                      .execute(combinedSyncResponseHandler(null, stubErrorHandler()));
+            fail("Expected exception");
+        } catch (SdkServiceException expected) {
+            // Ignored or expected.
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.RetryCapacity;
+
+public class HttpClientDependenciesTest {
+
+    @Test
+    public void retryCapacityConsumer_isGivenViewOfClientRetryCapacity() {
+        AtomicReference<RetryCapacity> retryCapacity = new AtomicReference<>();
+        CapacityManager capacityManager = new CapacityManager(10);
+        HttpClientDependencies dependencies = dependencies(capacityManager, retryCapacity::set);
+
+        assertThat(retryCapacity.get().maxCapacity()).isEqualTo(10);
+        assertThat(retryCapacity.get().availableCapacity()).isEqualTo(10);
+
+        dependencies.retryCapacity().acquire(4);
+        assertThat(retryCapacity.get().availableCapacity()).isEqualTo(6);
+
+        dependencies.retryCapacity().release(1);
+        assertThat(retryCapacity.get().availableCapacity()).isEqualTo(7);
+    }
+
+    @Test
+    public void retryCapacityConsumer_viewCannotBeUsedToChangeCapacity() {
+        AtomicReference<RetryCapacity> retryCapacity = new AtomicReference<>();
+        dependencies(new CapacityManager(10), retryCapacity::set);
+
+        assertThat(retryCapacity.get()).isNotInstanceOf(CapacityManager.class);
+    }
+
+    @Test
+    public void noRetryCapacityConsumer_dependenciesAreCreated() {
+        HttpClientDependencies dependencies = dependencies(new CapacityManager(10), null);
+
+        assertThat(dependencies.retryCapacity().availableCapacity()).isEqualTo(10);
+    }
+
+    private static HttpClientDependencies dependencies(CapacityManager capacityManager,
+                                                       Consumer<RetryCapacity> retryCapacityConsumer) {
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkClientOption.RETRY_CAPACITY_CONSUMER, retryCapacityConsumer)
+                                  .build();
+        return HttpClientDependencies.builder()
+                                     .clientConfiguration(configuration)
+                                     .capacityManager(capacityManager)
+                                     .build();
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.combinedAsyncResponseHandler;
+import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.noOpResponseHandler;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.retry.HedgingTracker;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import utils.ValidSdkObjects;
+
+public class AsyncHedgingStageTest {
+    private final List<AsyncExecuteRequest> executeRequests = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<Void>> executeFutures = new CopyOnWriteArrayList<>();
+    private final SdkAsyncHttpClient sdkAsyncHttpClient = new SdkAsyncHttpClient() {
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+            executeRequests.add(request);
+            executeFutures.add(executeFuture);
+            return executeFuture;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private ScheduledThreadPoolExecutor scheduledExecutor;
+    private HedgingTracker hedgingTracker;
+
+    @Before
+    public void setup() {
+        scheduledExecutor = new ScheduledThreadPoolExecutor(1);
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+    }
+
+    @After
+    public void teardown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void slowRequest_isHedgedAndLoserIsCancelled() throws Exception {
+        AsyncHedgingStage<String> stage = stage(HedgingPolicy.builder().maxHedgeRatio(1.0).build());
+
+        CompletableFuture<Response<String>> result = stage.execute(request(SdkHttpMethod.GET), requestContext());
+        waitForRequests(2);
+        respond(executeRequests.get(1));
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("result");
+        assertThat(executeFutures.get(0)).isCompletedExceptionally();
+    }
+
+    @Test
+    public void firstRequestFails_whileHedgeIsOutstanding_usesHedge() throws Exception {
+        AsyncHedgingStage<String> stage = stage(HedgingPolicy.builder().maxHedgeRatio(1.0).build());
+
+        CompletableFuture<Response<String>> result = stage.execute(request(SdkHttpMethod.GET), requestContext());
+        waitForRequests(2);
+        executeRequests.get(0).responseHandler().onError(new IOException("connection reset"));
+        assertThat(result).isNotDone();
+        respond(executeRequests.get(1));
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("result");
+    }
+
+    @Test
+    public void hedgedRequests_eachHaveTheirOwnAttemptTimer() throws Exception {
+        AsyncHedgingStage<String> stage = stage(HedgingPolicy.builder().maxHedgeRatio(1.0).build(), Duration.ofMinutes(1));
+        RequestExecutionContext context = requestContext();
+
+        CompletableFuture<Response<String>> result = stage.execute(request(SdkHttpMethod.GET), context);
+        waitForRequests(2);
+        waitForScheduledTasks(2);
+        assertThat(context.apiCallAttemptTimeoutTracker()).isNull();
+
+        respond(executeRequests.get(1));
+
+        assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("result");
+        assertThat(scheduledExecutor.getQueue()).isEmpty();
+    }
+
+    @Test
+    public void hedgesWin_hedgeDelayDoesNotDecrease() throws Exception {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+                                                   .maxHedgeRatio(1.0)
+                                                   .latencyPercentile(50.0)
+                                                   .minimumHedgeDelay(Duration.ofMillis(1))
+                                                   .build();
+        AsyncHedgingStage<String> stage = stage(hedgingPolicy, null, Duration.ofMillis(20));
+        Duration initialHedgeDelay = hedgingTracker.hedgeDelay("", hedgingPolicy).get();
+
+        // Every hedge responds as soon as it is sent, long before the primary request it overtakes would have.
+        for (int i = 0; i < 150; i++) {
+            CompletableFuture<Response<String>> result = stage.execute(request(SdkHttpMethod.GET), requestContext());
+            waitForRequests(2 * (i + 1));
+            respond(executeRequests.get(2 * i + 1));
+            assertThat(result.get(5, TimeUnit.SECONDS).response()).isEqualTo("result");
+        }
+
+        assertThat(hedgingTracker.hedgeDelay("", hedgingPolicy).get()).isGreaterThanOrEqualTo(initialHedgeDelay);
+    }
+
+    @Test
+    public void nonIdempotentRequest_isNotHedged() throws Exception {
+        AsyncHedgingStage<String> stage = stage(HedgingPolicy.builder().maxHedgeRatio(1.0).build());
+
+        stage.execute(request(SdkHttpMethod.POST), requestContext());
+        Thread.sleep(200);
+
+        assertThat(executeRequests).hasSize(1);
+    }
+
+    @Test
+    public void requestMatchingIdempotentRequests_isHedged() throws Exception {
+        AsyncHedgingStage<String> stage = stage(HedgingPolicy.builder()
+                                                             .maxHedgeRatio(1.0)
+                                                             .idempotentRequests(r -> r instanceof NoopTestRequest)
+                                                             .build());
+
+        stage.execute(request(SdkHttpMethod.POST), requestContext());
+
+        waitForRequests(2);
+    }
+
+    @Test
+    public void exhaustedHedgeBudget_requestIsNotHedged() throws Exception {
+        AsyncHedgingStage<String> stage = stage(HedgingPolicy.builder().maxHedgeRatio(0.0).build());
+
+        stage.execute(request(SdkHttpMethod.GET), requestContext());
+        Thread.sleep(200);
+
+        assertThat(executeRequests).hasSize(1);
+    }
+
+    @Test
+    public void noHedgingPolicy_requestIsNotHedged() throws Exception {
+        AsyncHedgingStage<String> stage = stage(null);
+
+        stage.execute(request(SdkHttpMethod.GET), requestContext());
+        Thread.sleep(200);
+
+        assertThat(executeRequests).hasSize(1);
+    }
+
+    private AsyncHedgingStage<String> stage(HedgingPolicy hedgingPolicy) {
+        return stage(hedgingPolicy, null);
+    }
+
+    private AsyncHedgingStage<String> stage(HedgingPolicy hedgingPolicy, Duration apiCallAttemptTimeout) {
+        return stage(hedgingPolicy, apiCallAttemptTimeout, Duration.ofMillis(1));
+    }
+
+    private AsyncHedgingStage<String> stage(HedgingPolicy hedgingPolicy, Duration apiCallAttemptTimeout,
+                                            Duration recordedLatency) {
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
+                                  .option(ASYNC_HTTP_CLIENT, sdkAsyncHttpClient)
+                                  .option(SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor)
+                                  .option(HEDGING_POLICY, hedgingPolicy)
+                                  .option(API_CALL_ATTEMPT_TIMEOUT, apiCallAttemptTimeout)
+                                  .build();
+
+        HttpClientDependencies dependencies = HttpClientDependencies.builder()
+                                                                    .clientConfiguration(configuration)
+                                                                    .capacityManager(new CapacityManager(2))
+                                                                    .build();
+
+        // Requests to an operation are only hedged once enough of its latencies have been recorded.
+        hedgingTracker = dependencies.hedgingTracker();
+        for (int i = 0; i < 100; i++) {
+            hedgingTracker.recordLatency("", recordedLatency.toNanos());
+        }
+
+        return new AsyncHedgingStage<>(combinedAsyncResponseHandler(noOpResponseHandler("result"), noOpResponseHandler()),
+                                       dependencies);
+    }
+
+    private static SdkHttpFullRequest request(SdkHttpMethod method) {
+        return ValidSdkObjects.sdkHttpFullRequest().method(method).build();
+    }
+
+    private static RequestExecutionContext requestContext() {
+        ExecutionContext executionContext =
+            ClientExecutionAndRequestTimerTestUtils.executionContext(ValidSdkObjects.sdkHttpFullRequest().build());
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .build();
+    }
+
+    private void waitForRequests(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executeRequests.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(executeRequests).hasSize(count);
+    }
+
+    private void waitForScheduledTasks(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduledExecutor.getQueue().size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(scheduledExecutor.getQueue()).hasSize(count);
+    }
+
+    private static void respond(AsyncExecuteRequest executeRequest) {
+        executeRequest.responseHandler().onHeaders(SdkHttpFullResponse.builder().statusCode(200).build());
+        Publisher<ByteBuffer> emptyStream = s -> {
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            s.onComplete();
+        };
+        executeRequest.responseHandler().onStream(emptyStream);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class HashedWheelScheduledExecutorTest {
+    private HashedWheelScheduledExecutor executor;
+
+    @Before
+    public void setup() {
+        // A small wheel, so that the tests cover tasks that wait for more than one round.
+        executor = new HashedWheelScheduledExecutor(Duration.ofMillis(5), 8, 2, false);
+    }
+
+    @After
+    public void teardown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void scheduledTasks_runAfterTheirDelayInOrder() throws Exception {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        long start = System.nanoTime();
+
+        executor.schedule(() -> record(order, done, 3), 150, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> record(order, done, 1), 10, TimeUnit.MILLISECONDS);
+        executor.schedule(() -> record(order, done, 2), 60, TimeUnit.MILLISECONDS);
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+        assertThat(order).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void callable_resultIsAvailableFromFuture() throws Exception {
+        ScheduledFuture<String> future = executor.schedule(() -> "done", 20, TimeUnit.MILLISECONDS);
+
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    public void cancelledTask_doesNotRun() throws Exception {
+        AtomicBoolean ran = new AtomicBoolean();
+        ScheduledFuture<?> cancelled = executor.schedule(() -> ran.set(true), 50, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> later = executor.schedule(() -> { }, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(cancelled.cancel(false)).isTrue();
+        later.get(5, TimeUnit.SECONDS);
+
+        assertThat(cancelled.isCancelled()).isTrue();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    public void manyTasks_cancelledOrRun_allComplete() throws Exception {
+        int tasks = 10_000;
+        CountDownLatch ran = new CountDownLatch(tasks / 2);
+        for (int i = 0; i < tasks; i++) {
+            ScheduledFuture<?> future = executor.schedule(ran::countDown, i % 100, TimeUnit.MILLISECONDS);
+            if (i % 2 == 1) {
+                future.cancel(false);
+            }
+        }
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void shutdown_cancelsDelayedTasksAndRejectsNewOnes() throws Exception {
+        ScheduledFuture<?> future = executor.schedule(() -> { }, 10, TimeUnit.SECONDS);
+
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(future.isCancelled()).isTrue();
+        assertThatThrownBy(() -> executor.schedule(() -> { }, 10, TimeUnit.MILLISECONDS))
+            .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    public void sharedInstance_ignoresShutdown() throws Exception {
+        HashedWheelScheduledExecutor shared = HashedWheelScheduledExecutor.shared();
+
+        shared.shutdown();
+
+        assertThat(shared.isShutdown()).isFalse();
+        assertThat(shared.schedule(() -> "done", 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    public void sharedInstance_ignoresShutdownNow() throws Exception {
+        // One client closing its reference to the shared executor...
+        HashedWheelScheduledExecutor closingClientExecutor = HashedWheelScheduledExecutor.shared();
+        assertThat(closingClientExecutor.shutdownNow()).isEmpty();
+        assertThat(closingClientExecutor.isShutdown()).isFalse();
+
+        // ...doesn't affect the other clients that use it.
+        HashedWheelScheduledExecutor otherClientExecutor = HashedWheelScheduledExecutor.shared();
+        assertThat(otherClientExecutor.schedule(() -> "done", 10, TimeUnit.MILLISECONDS).get(5, TimeUnit.SECONDS))
+            .isEqualTo("done");
+
+        CountDownLatch executed = new CountDownLatch(1);
+        otherClientExecutor.execute(executed::countDown);
+        assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private static void record(List<Integer> order, CountDownLatch done, int value) {
+        order.add(value);
+        done.countDown();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+public class HedgingTrackerTest {
+    private final HedgingTracker tracker = new HedgingTracker();
+
+    @Test
+    public void hedgeDelay_isEmptyUntilEnoughLatenciesAreRecorded() {
+        HedgingPolicy policy = HedgingPolicy.builder().build();
+        record("GetItem", 5, 10);
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEmpty();
+
+        record("GetItem", 5, 10);
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isPresent();
+        assertThat(tracker.hedgeDelay("Query", policy)).isEmpty();
+    }
+
+    @Test
+    public void hedgeDelay_isPercentileOfRecordedLatencies() {
+        record("GetItem", 1, 95);
+        record("GetItem", 100, 5);
+
+        assertThat(tracker.hedgeDelay("GetItem", policy(95.0))).hasValueSatisfying(
+            d -> assertThat(d).isBetween(Duration.ofMillis(1), Duration.ofMillis(2)));
+        assertThat(tracker.hedgeDelay("GetItem", policy(99.0))).hasValueSatisfying(
+            d -> assertThat(d).isBetween(Duration.ofMillis(100), Duration.ofMillis(120)));
+    }
+
+    @Test
+    public void hedgeDelay_isAtLeastMinimumHedgeDelay() {
+        record("GetItem", 1, 100);
+
+        HedgingPolicy policy = HedgingPolicy.builder().minimumHedgeDelay(Duration.ofMillis(50)).build();
+        assertThat(tracker.hedgeDelay("GetItem", policy)).hasValue(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void hedgeDelay_followsChangesInLatency() {
+        record("GetItem", 1, 1_000);
+        record("GetItem", 100, 5_000);
+
+        assertThat(tracker.hedgeDelay("GetItem", policy(50.0))).hasValueSatisfying(
+            d -> assertThat(d).isBetween(Duration.ofMillis(100), Duration.ofMillis(120)));
+    }
+
+    @Test
+    public void latencyHistogram_concurrentRecordsAndDecaysKeepCountConsistent() throws Exception {
+        HedgingTracker.LatencyHistogram histogram = new HedgingTracker.LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture<?>[] recorders = new CompletableFuture<?>[8];
+            for (int i = 0; i < recorders.length; i++) {
+                long latencyMillis = i + 1;
+                recorders[i] = CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        histogram.record(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+                    }
+                }, executor);
+            }
+            CompletableFuture.allOf(recorders).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(histogram.count()).isPositive().isLessThan(1_000);
+        assertThat(histogram.bucketTotal()).isEqualTo(histogram.count());
+    }
+
+    @Test
+    public void budget_allowsHedgesInProportionToDeposits() {
+        tracker.depositBudget(0.5);
+        assertThat(tracker.tryAcquireHedge()).isFalse();
+
+        tracker.depositBudget(0.5);
+        assertThat(tracker.tryAcquireHedge()).isTrue();
+        assertThat(tracker.tryAcquireHedge()).isFalse();
+    }
+
+    @Test
+    public void budget_isCapped() {
+        for (int i = 0; i < 100; i++) {
+            tracker.depositBudget(1.0);
+        }
+
+        int hedges = 0;
+        while (tracker.tryAcquireHedge()) {
+            ++hedges;
+        }
+        assertThat(hedges).isEqualTo(10);
+    }
+
+    private void record(String operationName, long latencyMillis, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordLatency(operationName, TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        }
+    }
+
+    private static HedgingPolicy policy(double latencyPercentile) {
+        return HedgingPolicy.builder().latencyPercentile(latencyPercentile).minimumHedgeDelay(Duration.ZERO).build();
+    }
+}
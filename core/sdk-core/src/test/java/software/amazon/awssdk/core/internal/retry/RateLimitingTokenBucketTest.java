@@ -0,0 +1,92 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class RateLimitingTokenBucketTest {
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private final RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(nanoTime::get);
+
+    @Test
+    public void beforeFirstThrottle_attemptsAreNotLimited() {
+        sendSuccessfully(10, 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(bucket.acquire()).isEqualTo(Duration.ZERO);
+        }
+        assertThat(bucket.fillRate()).isEqualTo(Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void measuredSendRate_followsSendingRate() {
+        sendSuccessfully(10, 50);
+
+        assertThat(bucket.measuredSendRate()).isCloseTo(10.0, within(1.0));
+    }
+
+    @Test
+    public void throttle_reducesFillRateBelowMeasuredRate() {
+        sendSuccessfully(10, 50);
+
+        bucket.updateClientSendingRate(true);
+
+        assertThat(bucket.fillRate()).isCloseTo(0.7 * bucket.measuredSendRate(), within(0.5));
+    }
+
+    @Test
+    public void afterThrottle_attemptsBeyondRateAreDelayed() {
+        sendSuccessfully(10, 50);
+        bucket.updateClientSendingRate(true);
+        double fillRate = bucket.fillRate();
+
+        Duration previousDelay = Duration.ZERO;
+        Duration delay = Duration.ZERO;
+        for (int i = 0; i < 20; i++) {
+            previousDelay = delay;
+            delay = bucket.acquire();
+        }
+
+        assertThat(delay).isGreaterThan(Duration.ZERO);
+        assertThat(delay.minus(previousDelay).toNanos() / 1e9).isCloseTo(1 / fillRate, within(0.01));
+    }
+
+    @Test
+    public void afterThrottle_rateGrowsBackWhileRequestsSucceed() {
+        sendSuccessfully(10, 50);
+        bucket.updateClientSendingRate(true);
+        double throttledRate = bucket.fillRate();
+
+        sendSuccessfully(10, 100);
+
+        assertThat(bucket.fillRate()).isGreaterThan(throttledRate);
+    }
+
+    private void sendSuccessfully(int requestsPerSecond, int requests) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        for (int i = 0; i < requests; i++) {
+            nanoTime.addAndGet(interval);
+            bucket.updateClientSendingRate(false);
+        }
+    }
+}
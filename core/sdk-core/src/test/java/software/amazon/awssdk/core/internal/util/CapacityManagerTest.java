@@ -15,6 +15,11 @@
 
 package software.amazon.awssdk.core.internal.util;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -69,4 +74,44 @@ public class CapacityManagerTest {
         Assert.assertEquals(mgr.consumedCapacity(), 0);
     }
 
+    /**
+     * Tests that concurrent acquires never hand out more capacity than is available, and that all of it is returned once
+     * every acquired unit is released.
+     */
+    @Test
+    public void concurrentAcquireAndRelease() throws InterruptedException {
+        int threads = 8;
+        int iterationsPerThread = 10_000;
+        CapacityManager mgr = new CapacityManager(20);
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger maxHeld = new AtomicInteger();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < iterationsPerThread; j++) {
+                            if (mgr.acquire(5)) {
+                                maxHeld.accumulateAndGet(held.addAndGet(5), Math::max);
+                                held.addAndGet(-5);
+                                mgr.release(5);
+                            }
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertTrue(maxHeld.get() <= 20);
+        Assert.assertEquals(mgr.availableCapacity(), 20);
+        Assert.assertEquals(mgr.consumedCapacity(), 0);
+    }
 }
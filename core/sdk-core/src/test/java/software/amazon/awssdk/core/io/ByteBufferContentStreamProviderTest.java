@@ -0,0 +1,63 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ByteBufferContentStreamProviderTest {
+
+    private static final byte[] DATA = {1, 2, 3, 4, 5, 6, 7, 8};
+
+    @Test
+    public void heapBuffer_newStreamReadsRemainingBytes() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA);
+        buffer.position(3);
+        ByteBufferContentStreamProvider provider = ByteBufferContentStreamProvider.create(buffer);
+
+        assertThat(provider.contentLength()).isEqualTo(5);
+        assertThat(IoUtils.toByteArray(provider.newStream())).containsExactly(4, 5, 6, 7, 8);
+        assertThat(IoUtils.toByteArray(provider.newStream())).containsExactly(4, 5, 6, 7, 8);
+    }
+
+    @Test
+    public void readOnlyBuffer_newStreamReadsRemainingBytes() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA).asReadOnlyBuffer();
+        buffer.position(6);
+        ByteBufferContentStreamProvider provider = ByteBufferContentStreamProvider.create(buffer);
+
+        assertThat(provider.contentLength()).isEqualTo(2);
+        assertThat(IoUtils.toByteArray(provider.newStream())).containsExactly(7, 8);
+        assertThat(IoUtils.toByteArray(provider.newStream())).containsExactly(7, 8);
+    }
+
+    @Test
+    public void content_doesNotChangeProvidedBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(DATA);
+        ByteBufferContentStreamProvider provider = ByteBufferContentStreamProvider.create(buffer);
+
+        ByteBuffer content = provider.content();
+        content.get(new byte[content.remaining()]);
+
+        assertThat(content.isReadOnly()).isTrue();
+        assertThat(buffer.position()).isZero();
+        assertThat(provider.content().remaining()).isEqualTo(DATA.length);
+    }
+}
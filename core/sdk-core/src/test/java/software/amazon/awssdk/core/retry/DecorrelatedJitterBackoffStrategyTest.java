@@ -0,0 +1,80 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.retry.backoff.DecorrelatedJitterBackoffStrategy;
+
+public class DecorrelatedJitterBackoffStrategyTest {
+
+    private static final DecorrelatedJitterBackoffStrategy STRATEGY =
+        DecorrelatedJitterBackoffStrategy.builder()
+                                         .baseDelay(Duration.ofMillis(100))
+                                         .maxBackoffTime(Duration.ofMillis(10_000))
+                                         .build();
+
+    @Test
+    public void firstRetry_isBetweenBaseAndThreeTimesBase() {
+        for (int i = 0; i < 100; i++) {
+            long delay = STRATEGY.computeDelayBeforeNextRetry(context(0, new ExecutionAttributes())).toMillis();
+            assertThat(delay).isBetween(100L, 300L);
+        }
+    }
+
+    @Test
+    public void subsequentRetry_isBetweenBaseAndThreeTimesPreviousDelay() {
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        long previousDelay = STRATEGY.computeDelayBeforeNextRetry(context(0, attributes)).toMillis();
+        for (int retries = 1; retries < 10; retries++) {
+            long delay = STRATEGY.computeDelayBeforeNextRetry(context(retries, attributes)).toMillis();
+            assertThat(delay).isBetween(100L, Math.min(10_000L, previousDelay * 3));
+            previousDelay = delay;
+        }
+    }
+
+    @Test
+    public void delay_isCappedAtMaxBackoffTime() {
+        DecorrelatedJitterBackoffStrategy strategy = STRATEGY.toBuilder().maxBackoffTime(Duration.ofMillis(150)).build();
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        for (int retries = 0; retries < 20; retries++) {
+            assertThat(strategy.computeDelayBeforeNextRetry(context(retries, attributes))).isLessThanOrEqualTo(Duration.ofMillis(150));
+        }
+    }
+
+    @Test
+    public void noExecutionAttributes_behavesLikeFirstRetry() {
+        long delay = STRATEGY.computeDelayBeforeNextRetry(RetryPolicyContexts.withRetriesAttempted(5)).toMillis();
+        assertThat(delay).isBetween(100L, 300L);
+    }
+
+    @Test
+    public void toBuilder_roundTrips() {
+        assertThat(STRATEGY.toBuilder().build()).isEqualTo(STRATEGY);
+        assertThat(STRATEGY.toBuilder().build().hashCode()).isEqualTo(STRATEGY.hashCode());
+    }
+
+    private static RetryPolicyContext context(int retriesAttempted, ExecutionAttributes attributes) {
+        return RetryPolicyContext.builder()
+                                 .retriesAttempted(retriesAttempted)
+                                 .executionAttributes(attributes)
+                                 .build();
+    }
+}
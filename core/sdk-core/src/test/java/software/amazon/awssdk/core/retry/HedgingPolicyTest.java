@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class HedgingPolicyTest {
+
+    @Test
+    public void defaults_areUsedWhenNotConfigured() {
+        HedgingPolicy policy = HedgingPolicy.builder().build();
+
+        assertThat(policy.latencyPercentile()).isEqualTo(95.0);
+        assertThat(policy.minimumHedgeDelay()).isEqualTo(Duration.ofMillis(10));
+        assertThat(policy.maxHedgeRatio()).isEqualTo(0.05);
+        assertThat(policy.idempotentRequests().test(null)).isFalse();
+        assertThat(policy).isEqualTo(HedgingPolicy.builder().build());
+    }
+
+    @Test
+    public void toBuilder_roundTrips() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .latencyPercentile(99.0)
+                                            .minimumHedgeDelay(Duration.ofMillis(50))
+                                            .maxHedgeRatio(0.1)
+                                            .build();
+
+        assertThat(policy.toBuilder().build()).isEqualTo(policy);
+    }
+
+    @Test
+    public void percentileOutOfRange_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().latencyPercentile(100.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HedgingPolicy.builder().latencyPercentile(0.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void hedgeRatioOutOfRange_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().maxHedgeRatio(1.5).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void negativeMinimumHedgeDelay_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().minimumHedgeDelay(Duration.ofMillis(-1)).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.retry.backoff.LatencyAwareBackoffStrategy;
+
+public class LatencyAwareBackoffStrategyTest {
+
+    private static final LatencyAwareBackoffStrategy STRATEGY =
+        LatencyAwareBackoffStrategy.builder()
+                                   .baseDelay(Duration.ofMillis(100))
+                                   .maxBackoffTime(Duration.ofMillis(20_000))
+                                   .build();
+
+    @Test
+    public void noHints_behavesLikeFullJitter() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(STRATEGY.computeDelayBeforeNextRetry(RetryPolicyContexts.withRetriesAttempted(2)).toMillis())
+                .isBetween(0L, 400L);
+        }
+    }
+
+    @Test
+    public void slowAttempt_delayIsAtLeastScaledAttemptDuration() {
+        LatencyAwareBackoffStrategy strategy = STRATEGY.toBuilder().latencyScale(1.5).build();
+        RetryPolicyContext context = RetryPolicyContext.builder()
+                                                       .lastAttemptDuration(Duration.ofSeconds(2))
+                                                       .build();
+
+        assertThat(strategy.computeDelayBeforeNextRetry(context)).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    @Test
+    public void throttledAttempt_delayIsMultipliedByThrottlingScale() {
+        RetryPolicyContext context = RetryPolicyContext.builder()
+                                                       .exception(SdkServiceException.builder().statusCode(429).build())
+                                                       .lastAttemptDuration(Duration.ofSeconds(1))
+                                                       .build();
+
+        assertThat(STRATEGY.computeDelayBeforeNextRetry(context)).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void retryAfter_isHonored() {
+        RetryPolicyContext context = RetryPolicyContext.builder()
+                                                       .retryAfter(Duration.ofSeconds(5))
+                                                       .build();
+
+        assertThat(STRATEGY.computeDelayBeforeNextRetry(context)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void delay_isCappedAtMaxBackoffTime() {
+        RetryPolicyContext context = RetryPolicyContext.builder()
+                                                       .retryAfter(Duration.ofMinutes(5))
+                                                       .build();
+
+        assertThat(STRATEGY.computeDelayBeforeNextRetry(context)).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void throttlingScaleBelowOne_isRejected() {
+        STRATEGY.toBuilder().throttlingScale(0.5).build();
+    }
+}
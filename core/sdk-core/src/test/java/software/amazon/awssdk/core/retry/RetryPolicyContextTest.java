@@ -18,6 +18,7 @@ package software.amazon.awssdk.core.retry;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 
+import java.time.Duration;
 import org.junit.Test;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -53,6 +54,8 @@ public class RetryPolicyContextTest {
                                                              .request(request)
                                                              .exception(exception)
                                                              .originalRequest(origRequest)
+                                                             .lastAttemptDuration(Duration.ofMillis(250))
+                                                             .retryAfter(Duration.ofSeconds(2))
                                                              .build();
 
 
@@ -61,6 +64,8 @@ public class RetryPolicyContextTest {
         assertEquals(request, context.request());
         assertEquals(exception, context.exception());
         assertEquals(origRequest, context.originalRequest());
+        assertEquals(Duration.ofMillis(250), context.lastAttemptDuration());
+        assertEquals(Duration.ofSeconds(2), context.retryAfter());
     }
 
 }
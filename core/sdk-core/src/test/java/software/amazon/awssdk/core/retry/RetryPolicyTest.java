@@ -48,6 +48,15 @@ public class RetryPolicyTest {
         assertThat(policy.throttlingBackoffStrategy()).isEqualTo(BackoffStrategy.defaultThrottlingStrategy());
     }
 
+    @Test
+    public void retryMode_defaultsToLegacyAndIsCopiedByToBuilder() {
+        assertThat(RetryPolicy.builder().build().retryMode()).isEqualTo(RetryMode.LEGACY);
+
+        RetryPolicy adaptive = RetryPolicy.builder().retryMode(RetryMode.ADAPTIVE).build();
+        assertThat(adaptive.toBuilder().build()).isEqualTo(adaptive);
+        assertThat(adaptive).isNotEqualTo(RetryPolicy.builder().build());
+    }
+
     @Test
     public void shouldRetry_DelegatesToRetryCondition() {
         RetryPolicy policy = RetryPolicy.builder().retryCondition(retryCondition).backoffStrategy(backoffStrategy).build();
@@ -18,11 +18,13 @@ package software.amazon.awssdk.http;
 import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -242,6 +244,11 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
             return this;
         }
 
+        @Override
+        public void forEachRawQueryParameter(BiConsumer<? super String, ? super List<String>> action) {
+            this.queryParameters.forEach((name, values) -> action.accept(name, Collections.unmodifiableList(values)));
+        }
+
         @Override
         public Builder removeQueryParameter(String paramName) {
             this.queryParameters.remove(paramName);
@@ -305,6 +312,16 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
             return CollectionUtils.deepUnmodifiableMap(this.headers);
         }
 
+        @Override
+        public void forEachHeader(BiConsumer<? super String, ? super List<String>> action) {
+            this.headers.forEach((name, values) -> action.accept(name, Collections.unmodifiableList(values)));
+        }
+
+        @Override
+        public Optional<String> firstMatchingHeader(String header) {
+            return SdkHttpUtils.firstMatchingHeader(this.headers, header);
+        }
+
         @Override
         public DefaultSdkHttpFullRequest.Builder contentStreamProvider(ContentStreamProvider contentStreamProvider) {
             this.contentStreamProvider = contentStreamProvider;
@@ -21,6 +21,7 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -203,6 +204,14 @@ public interface SdkHttpRequest extends SdkHttpHeaders, ToCopyableBuilder<SdkHtt
          */
         Map<String, List<String>> rawQueryParameters();
 
+        /**
+         * Perform the provided action for each query parameter in this builder. Unlike {@link #rawQueryParameters()}, this does
+         * not copy the query parameters, so it is cheaper when they only need to be read.
+         */
+        default void forEachRawQueryParameter(BiConsumer<? super String, ? super List<String>> action) {
+            rawQueryParameters().forEach(action);
+        }
+
         /**
          * Add a single un-encoded query parameter to be included in the created HTTP request.
          *
@@ -289,6 +298,14 @@ public interface SdkHttpRequest extends SdkHttpHeaders, ToCopyableBuilder<SdkHtt
          */
         Map<String, List<String>> headers();
 
+        /**
+         * Perform the provided action for each header in this builder. Unlike {@link #headers()}, this does not copy the headers,
+         * so it is cheaper when they only need to be read.
+         */
+        default void forEachHeader(BiConsumer<? super String, ? super List<String>> action) {
+            headers().forEach(action);
+        }
+
         /**
          * Add a single header to be included in the created HTTP request.
          *
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A point-in-time snapshot of the number of TLS handshakes an HTTP client has completed, split by whether the handshake
+ * resumed a previously established TLS session or negotiated a new one.
+ *
+ * <p>A resumed handshake skips the certificate exchange and key agreement of a full handshake, so a high ratio of resumed
+ * handshakes means that new connections (for example those replacing connections closed because of their time to live) are
+ * cheap to establish.</p>
+ */
+@SdkPublicApi
+public final class TlsHandshakeMetrics {
+    private final long fullHandshakes;
+    private final long resumedHandshakes;
+
+    private TlsHandshakeMetrics(long fullHandshakes, long resumedHandshakes) {
+        this.fullHandshakes = fullHandshakes;
+        this.resumedHandshakes = resumedHandshakes;
+    }
+
+    /**
+     * Create a snapshot with the given handshake counts.
+     */
+    public static TlsHandshakeMetrics create(long fullHandshakes, long resumedHandshakes) {
+        return new TlsHandshakeMetrics(fullHandshakes, resumedHandshakes);
+    }
+
+    /**
+     * @return The number of completed handshakes that negotiated a new TLS session.
+     */
+    public long fullHandshakes() {
+        return fullHandshakes;
+    }
+
+    /**
+     * @return The number of completed handshakes that resumed a cached TLS session.
+     */
+    public long resumedHandshakes() {
+        return resumedHandshakes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        TlsHandshakeMetrics that = (TlsHandshakeMetrics) o;
+
+        return fullHandshakes == that.fullHandshakes &&
+               resumedHandshakes == that.resumedHandshakes;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(fullHandshakes);
+        result = 31 * result + Long.hashCode(resumedHandshakes);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("TlsHandshakeMetrics")
+                       .add("fullHandshakes", fullHandshakes)
+                       .add("resumedHandshakes", resumedHandshakes)
+                       .build();
+    }
+}
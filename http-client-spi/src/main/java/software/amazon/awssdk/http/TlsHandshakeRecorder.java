@@ -0,0 +1,87 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.NumericUtils;
+
+/**
+ * Counts the TLS handshakes completed by an HTTP client and reports them as {@link TlsHandshakeMetrics}. Also applies the
+ * {@link SdkHttpConfigurationOption#TLS_SESSION_CACHE_SIZE} and {@link SdkHttpConfigurationOption#TLS_SESSION_TIMEOUT}
+ * options to a client's {@link SSLSessionContext}, so that every HTTP client implementation interprets them the same way.
+ *
+ * <p>Recording is lock-free, so that it can be done for every new connection.</p>
+ */
+@SdkProtectedApi
+public final class TlsHandshakeRecorder {
+    private final LongAdder fullHandshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+
+    /**
+     * Record a completed handshake.
+     *
+     * <p>A handshake is considered resumed when its session was created before the handshake started. Some providers (such
+     * as OpenSSL) only record the creation time of a session with a precision of one second, so a creation time that is a
+     * whole second is compared with the start of the handshake rounded down to the second. This means that such a session
+     * resumed within the same second it was created in is counted as a full handshake, which only under-counts
+     * resumptions.</p>
+     *
+     * @param session The session negotiated by the handshake.
+     * @param handshakeStartMillis The time the handshake started, in milliseconds since the epoch.
+     */
+    public void handshakeCompleted(SSLSession session, long handshakeStartMillis) {
+        long creationTimeMillis = session.getCreationTime();
+        long comparedStartMillis = handshakeStartMillis;
+        if (creationTimeMillis % 1000 == 0) {
+            comparedStartMillis = TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(handshakeStartMillis));
+        }
+
+        if (creationTimeMillis < comparedStartMillis) {
+            resumedHandshakes.increment();
+        } else {
+            fullHandshakes.increment();
+        }
+    }
+
+    /**
+     * @return A snapshot of the handshakes recorded so far.
+     */
+    public TlsHandshakeMetrics metrics() {
+        return TlsHandshakeMetrics.create(fullHandshakes.sum(), resumedHandshakes.sum());
+    }
+
+    /**
+     * Apply the TLS session cache size and timeout configured in the given options, if any, to the given client session
+     * context. Unconfigured settings keep the provider's defaults.
+     */
+    public static void configureSessionContext(SSLSessionContext sessionContext, AttributeMap options) {
+        Integer cacheSize = options.get(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE);
+        if (cacheSize != null) {
+            sessionContext.setSessionCacheSize(cacheSize);
+        }
+
+        Duration timeout = options.get(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT);
+        if (timeout != null) {
+            sessionContext.setSessionTimeout(NumericUtils.saturatedCast(timeout.getSeconds()));
+        }
+    }
+}
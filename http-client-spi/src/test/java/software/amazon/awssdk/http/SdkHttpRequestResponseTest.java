@@ -23,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -143,6 +144,23 @@ public class SdkHttpRequestResponseTest {
         return validRequestBuilder().method(method).build().method();
     }
 
+    @Test
+    public void forEachHeaderAndQueryParameter_VisitsAllValuesWithoutAllowingModification() {
+        SdkHttpFullRequest.Builder builder = validRequestBuilder().putHeader("foo", Arrays.asList("bar", "baz"))
+                                                                  .putHeader("Qux", "quux")
+                                                                  .putRawQueryParameter("a", "b");
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        builder.forEachHeader(headers::put);
+        assertThat(headers).isEqualTo(builder.headers());
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> headers.get("foo").add("x"));
+
+        Map<String, List<String>> queryParameters = new LinkedHashMap<>();
+        builder.forEachRawQueryParameter(queryParameters::put);
+        assertThat(queryParameters).isEqualTo(builder.rawQueryParameters());
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> queryParameters.get("a").clear());
+    }
+
     @Test
     public void requestQueryParamNormalizationIsCorrect() {
         headerOrQueryStringNormalizationIsCorrect(() -> new BuilderProxy() {
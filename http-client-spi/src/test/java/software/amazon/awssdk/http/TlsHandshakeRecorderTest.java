@@ -0,0 +1,96 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSessionContext;
+import org.junit.Test;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class TlsHandshakeRecorderTest {
+    private final TlsHandshakeRecorder recorder = new TlsHandshakeRecorder();
+
+    @Test
+    public void sessionCreatedDuringHandshake_isFullHandshake() {
+        recorder.handshakeCompleted(sessionCreatedAt(10_500), 10_400);
+
+        assertThat(recorder.metrics()).isEqualTo(TlsHandshakeMetrics.create(1, 0));
+    }
+
+    @Test
+    public void sessionCreatedBeforeHandshake_isResumedHandshake() {
+        recorder.handshakeCompleted(sessionCreatedAt(5_000), 10_400);
+        recorder.handshakeCompleted(sessionCreatedAt(9_999), 10_400);
+        recorder.handshakeCompleted(sessionCreatedAt(10_300), 10_400);
+
+        assertThat(recorder.metrics()).isEqualTo(TlsHandshakeMetrics.create(0, 3));
+    }
+
+    @Test
+    public void sessionCreationTimeWithSecondPrecision_isComparedToStartOfSecond() {
+        recorder.handshakeCompleted(sessionCreatedAt(10_000), 10_400);
+        recorder.handshakeCompleted(sessionCreatedAt(9_000), 10_400);
+
+        assertThat(recorder.metrics()).isEqualTo(TlsHandshakeMetrics.create(1, 1));
+    }
+
+    @Test
+    public void configureSessionContext_appliesConfiguredOptions() throws Exception {
+        SSLSessionContext sessionContext = newClientSessionContext();
+        AttributeMap options = AttributeMap.builder()
+                                           .put(SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE, 42)
+                                           .put(SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT, Duration.ofMinutes(5))
+                                           .build();
+
+        TlsHandshakeRecorder.configureSessionContext(sessionContext, options);
+
+        assertThat(sessionContext.getSessionCacheSize()).isEqualTo(42);
+        assertThat(sessionContext.getSessionTimeout()).isEqualTo(300);
+    }
+
+    @Test
+    public void configureSessionContext_keepsProviderDefaultsWhenNotConfigured() throws Exception {
+        SSLSessionContext sessionContext = newClientSessionContext();
+        int defaultCacheSize = sessionContext.getSessionCacheSize();
+        int defaultTimeout = sessionContext.getSessionTimeout();
+
+        TlsHandshakeRecorder.configureSessionContext(sessionContext, AttributeMap.empty());
+
+        assertThat(sessionContext.getSessionCacheSize()).isEqualTo(defaultCacheSize);
+        assertThat(sessionContext.getSessionTimeout()).isEqualTo(defaultTimeout);
+    }
+
+    private static SSLSessionContext newClientSessionContext() throws Exception {
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        sslContext.init(null, null, null);
+        return sslContext.getClientSessionContext();
+    }
+
+    private static SSLSession sessionCreatedAt(long creationTimeMillis) {
+        return (SSLSession) Proxy.newProxyInstance(SSLSession.class.getClassLoader(), new Class<?>[] {SSLSession.class},
+                                                   (proxy, method, args) -> {
+                                                       if (method.getName().equals("getCreationTime")) {
+                                                           return creationTimeMillis;
+                                                       }
+                                                       throw new UnsupportedOperationException(method.getName());
+                                                   });
+    }
+}
@@ -27,10 +27,14 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_CONNECT
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.READ_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -39,7 +43,6 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
@@ -47,8 +50,11 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.config.Registry;
@@ -56,6 +62,7 @@ import org.apache.http.config.RegistryBuilder;
 import org.apache.http.config.SocketConfig;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
@@ -64,8 +71,9 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpRequest;
 import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
@@ -77,6 +85,8 @@ import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsHandshakeMetrics;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
@@ -84,6 +94,7 @@ import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
+import software.amazon.awssdk.http.apache.internal.conn.SdkPoolingHttpClientConnectionManager;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheSdkHttpClient;
@@ -113,6 +124,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final HttpRoutePlanner routePlanner;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder = new TlsHandshakeRecorder();
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -121,12 +134,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
-        this.httpClient = createClient(builder, resolvedOptions);
+        HttpRoutePlanner configuredRoutePlanner = resolveRoutePlanner(builder);
+        this.httpClient = createClient(builder, resolvedOptions, configuredRoutePlanner);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = Optional.ofNullable(configuredRoutePlanner)
+                                    .orElseGet(() -> new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE));
     }
 
     public static Builder builder() {
@@ -134,25 +151,26 @@ public final class ApacheHttpClient implements SdkHttpClient {
     }
 
     private ConnectionManagerAwareHttpClient createClient(ApacheHttpClient.DefaultBuilder configuration,
-                                                          AttributeMap standardOptions) {
+                                                          AttributeMap standardOptions,
+                                                          HttpRoutePlanner routePlanner) {
         ApacheConnectionManagerFactory cmFactory = new ApacheConnectionManagerFactory();
 
         HttpClientBuilder builder = HttpClients.custom();
         // Note that it is important we register the original connection manager with the
         // IdleConnectionReaper as it's required for the successful deregistration of managers
         // from the reaper. See https://github.com/aws/aws-sdk-java/issues/722.
-        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions);
+        HttpClientConnectionManager cm = cmFactory.create(configuration, standardOptions, tlsHandshakeRecorder);
 
         builder.setRequestExecutor(new HttpRequestExecutor())
                // SDK handles decompression
                .disableContentCompression()
-               .setKeepAliveStrategy(buildKeepAliveStrategy(standardOptions))
+               .setKeepAliveStrategy(buildKeepAliveStrategy(standardOptions, cm))
                .disableRedirectHandling()
                .disableAutomaticRetries()
                .setUserAgent("") // SDK will set the user agent header in the pipeline. Don't let Apache waste time
                .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
 
-        addProxyConfig(builder, configuration);
+        addProxyConfig(builder, configuration, routePlanner);
 
         if (useIdleConnectionReaper(standardOptions)) {
             IdleConnectionReaper.getInstance().registerConnectionManager(
@@ -163,7 +181,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
     }
 
     private void addProxyConfig(HttpClientBuilder builder,
-                                DefaultBuilder configuration) {
+                                DefaultBuilder configuration,
+                                HttpRoutePlanner routePlanner) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
 
         Validate.isTrue(configuration.httpRoutePlanner == null || !isProxyEnabled(proxyConfiguration),
@@ -171,15 +190,6 @@ public final class ApacheHttpClient implements SdkHttpClient {
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
-        if (isProxyEnabled(proxyConfiguration)) {
-            log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
-        }
-
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
             credentialsProvider = ApacheUtils.newProxyCredentialsProvider(proxyConfiguration);
@@ -194,9 +204,29 @@ public final class ApacheHttpClient implements SdkHttpClient {
         }
     }
 
-    private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+        if (isProxyEnabled(proxyConfiguration)) {
+            log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+        return configuration.httpRoutePlanner;
+    }
+
+    private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions,
+                                                               HttpClientConnectionManager cm) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
-        return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
+        if (maxIdle <= 0) {
+            return null;
+        }
+        if (cm instanceof SdkPoolingHttpClientConnectionManager) {
+            return new SdkConnectionKeepAliveStrategy(maxIdle,
+                                                      ((SdkPoolingHttpClientConnectionManager) cm)::belowMinIdleConnections);
+        }
+        return new SdkConnectionKeepAliveStrategy(maxIdle);
     }
 
     private boolean useIdleConnectionReaper(AttributeMap standardOptions) {
@@ -228,6 +258,53 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * Open and TLS-handshake connections to the given endpoint ahead of time, so that the first requests to it do not pay
+     * for establishing them. This blocks until the connections are established and idle in the connection pool, where they
+     * are subject to {@link Builder#connectionMaxIdleTime(Duration)} like any other connection, unless they are needed to
+     * keep {@link Builder#minIdleConnections(Integer)} connections open.
+     *
+     * <p>Connections are opened one after another and their number is capped at {@link Builder#maxConnections(Integer)}.
+     * Connections that are tunnelled through an HTTP proxy are not prewarmed.</p>
+     *
+     * @param endpoint The endpoint to connect to, for example {@code https://s3.us-west-2.amazonaws.com}. Only the scheme,
+     * host and port are used.
+     * @param connections The number of connections to open.
+     * @throws UncheckedIOException If a connection could not be established.
+     */
+    public void prewarm(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        Validate.validState(cm instanceof SdkPoolingHttpClientConnectionManager,
+                            "This client's connection manager does not support prewarming connections.");
+        try {
+            ((SdkPoolingHttpClientConnectionManager) cm).prewarm(route(endpoint), connections);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRoute route(URI endpoint) {
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(requestConfig.localAddress()).build());
+        try {
+            return routePlanner.determineRoute(target, new BasicHttpRequest("GET", "/"), context);
+        } catch (HttpException e) {
+            throw new IllegalArgumentException("Unable to determine the route to " + endpoint, e);
+        }
+    }
+
+    /**
+     * @return The number of TLS handshakes this client has completed so far, split by whether they resumed a cached TLS
+     * session. See {@link Builder#tlsSessionCacheSize(Integer)} and {@link Builder#tlsSessionTimeout(Duration)} to configure
+     * how sessions are cached.
+     */
+    public TlsHandshakeMetrics tlsHandshakeMetrics() {
+        return tlsHandshakeRecorder.metrics();
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -367,6 +444,17 @@ public final class ApacheHttpClient implements SdkHttpClient {
          */
         Builder useIdleConnectionReaper(Boolean useConnectionReaper);
 
+        /**
+         * Configure the minimum number of idle connections to keep open to each endpoint. Connections needed to reach this
+         * number are not closed after {@link #connectionMaxIdleTime(Duration)}, and when
+         * {@link #useIdleConnectionReaper(Boolean)} is enabled the reaper leaves them open and replaces connections to the
+         * endpoint that have been closed in the meantime. Use {@link ApacheHttpClient#prewarm(URI, int)} to open them ahead
+         * of the first request.
+         *
+         * <p>This can't be greater than {@link #maxConnections(Integer)}. By default, no idle connections are kept open.</p>
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
         /**
          * Configuration that defines an HTTP route planner that computes the route an HTTP request should take.
          * May not be used in conjunction with {@link #proxyConfiguration(ProxyConfiguration)}.
@@ -388,6 +476,27 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * {@link TlsKeyManagersProvider} to override it.
          */
         Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the maximum number of TLS sessions to cache. A cached session lets a new connection to the same host
+         * resume it with an abbreviated handshake instead of a full one, which makes replacing connections (for example
+         * because of {@link #connectionTimeToLive(Duration)}) much cheaper for both the client and the service. Zero means no
+         * limit.
+         *
+         * <p>By default, the JVM's default is used (see the {@code javax.net.ssl.sessionCacheSize} system property).</p>
+         *
+         * @see ApacheHttpClient#tlsHandshakeMetrics()
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure how long a cached TLS session can be resumed for, at a precision of one second. Zero means no limit.
+         *
+         * <p>By default, the JVM's default of 24 hours is used.</p>
+         *
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -395,6 +504,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private InetAddress localAddress;
         private Boolean expectContinueEnabled;
+        private Integer minIdleConnections;
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
 
@@ -507,6 +617,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
             useIdleConnectionReaper(useIdleConnectionReaper);
         }
 
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            if (minIdleConnections != null) {
+                Validate.isNotNegative(minIdleConnections, "minIdleConnections");
+            }
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
         @Override
         public Builder httpRoutePlanner(HttpRoutePlanner httpRoutePlanner) {
             this.httpRoutePlanner = httpRoutePlanner;
@@ -537,6 +660,32 @@ public final class ApacheHttpClient implements SdkHttpClient {
             credentialsProvider(credentialsProvider);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            if (tlsSessionCacheSize != null) {
+                Validate.isNotNegative(tlsSessionCacheSize, "tlsSessionCacheSize");
+            }
+            standardOptions.put(TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            if (tlsSessionTimeout != null) {
+                Validate.isNotNegative(tlsSessionTimeout, "tlsSessionTimeout");
+            }
+            standardOptions.put(TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(GLOBAL_HTTP_DEFAULTS);
@@ -547,30 +696,38 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private static class ApacheConnectionManagerFactory {
 
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
-                                                  AttributeMap standardOptions) {
-            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+                                                  AttributeMap standardOptions,
+                                                  TlsHandshakeRecorder tlsHandshakeRecorder) {
+            ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions, tlsHandshakeRecorder);
+
+            int maxConnections = standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+            int minIdleConnections = Optional.ofNullable(configuration.minIdleConnections).orElse(0);
+            Validate.isTrue(minIdleConnections <= maxConnections,
+                            "minIdleConnections (%s) can't be greater than maxConnections (%s).",
+                            minIdleConnections, maxConnections);
 
-            PoolingHttpClientConnectionManager cm = new
-                    PoolingHttpClientConnectionManager(
+            SdkPoolingHttpClientConnectionManager cm = new SdkPoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
-                    null,
-                    DefaultSchemePortResolver.INSTANCE,
-                    null,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
-                    TimeUnit.MILLISECONDS);
+                    minIdleConnections,
+                    saturatedCast(standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT).toMillis()),
+                    standardOptions.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT).toMillis(),
+                    standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis());
 
-            cm.setDefaultMaxPerRoute(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
-            cm.setMaxTotal(standardOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS));
+            cm.setDefaultMaxPerRoute(maxConnections);
+            cm.setMaxTotal(maxConnections);
             cm.setDefaultSocketConfig(buildSocketConfig(standardOptions));
 
             return cm;
         }
 
         private ConnectionSocketFactory getPreferredSocketFactory(ApacheHttpClient.DefaultBuilder configuration,
-                                                                  AttributeMap standardOptions) {
+                                                                  AttributeMap standardOptions,
+                                                                  TlsHandshakeRecorder tlsHandshakeRecorder) {
             // TODO v2 custom socket factory
             return new SdkTlsSocketFactory(getSslContext(standardOptions),
-                                           getHostNameVerifier(standardOptions));
+                                           getHostNameVerifier(standardOptions),
+                                           tlsHandshakeRecorder);
         }
 
         private HostnameVerifier getHostNameVerifier(AttributeMap standardOptions) {
@@ -594,6 +751,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
                 SSLContext sslcontext = SSLContext.getInstance("TLS");
                 // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
                 sslcontext.init(keyManagers, trustManagers, null);
+                TlsHandshakeRecorder.configureSessionContext(sslcontext.getClientSessionContext(), standardOptions);
                 return sslcontext;
             } catch (final NoSuchAlgorithmException | KeyManagementException ex) {
                 throw new SSLInitializationException(ex.getMessage(), ex);
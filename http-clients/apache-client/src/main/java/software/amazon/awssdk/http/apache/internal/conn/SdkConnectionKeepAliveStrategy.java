@@ -15,8 +15,12 @@
 
 package software.amazon.awssdk.http.apache.internal.conn;
 
+import java.util.function.Predicate;
 import org.apache.http.HttpResponse;
+import org.apache.http.client.protocol.HttpClientContext;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.RouteInfo;
 import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -24,18 +28,29 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 /**
  * The AWS SDK for Java's implementation of the
  * {@code ConnectionKeepAliveStrategy} interface. Allows a user-configurable
- * maximum idle time for connections.
+ * maximum idle time for connections. Connections that are needed to keep the minimum number of idle connections
+ * of a route are only limited by the server's keep-alive timeout.
  */
 @SdkInternalApi
 public class SdkConnectionKeepAliveStrategy implements ConnectionKeepAliveStrategy {
 
     private final long maxIdleTime;
+    private final Predicate<HttpRoute> belowMinIdleConnections;
 
     /**
      * @param maxIdleTime the maximum time a connection may be idle
      */
     public SdkConnectionKeepAliveStrategy(long maxIdleTime) {
+        this(maxIdleTime, r -> false);
+    }
+
+    /**
+     * @param maxIdleTime the maximum time a connection may be idle
+     * @param belowMinIdleConnections whether a route has fewer idle connections than its configured minimum
+     */
+    public SdkConnectionKeepAliveStrategy(long maxIdleTime, Predicate<HttpRoute> belowMinIdleConnections) {
         this.maxIdleTime = maxIdleTime;
+        this.belowMinIdleConnections = belowMinIdleConnections;
     }
 
     @Override
@@ -54,6 +69,11 @@ public class SdkConnectionKeepAliveStrategy implements ConnectionKeepAliveStrate
             return duration;
         }
 
+        RouteInfo route = HttpClientContext.adapt(context).getHttpRoute();
+        if (route instanceof HttpRoute && belowMinIdleConnections.test((HttpRoute) route)) {
+            return duration;
+        }
+
         return maxIdleTime;
     }
 }
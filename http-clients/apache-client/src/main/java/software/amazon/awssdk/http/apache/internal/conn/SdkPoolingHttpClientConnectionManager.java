@@ -0,0 +1,235 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * A {@link PoolingHttpClientConnectionManager} that can open connections ahead of time and that keeps a minimum number of
+ * idle connections open for each route.
+ *
+ * <p>Closing idle connections, which the {@link IdleConnectionReaper} does periodically, leaves the minimum number of
+ * idle connections of each route open and replaces connections that have been closed in the meantime. Connections are
+ * replaced on a thread owned by this connection manager, because the reaper thread is shared by every client and a slow
+ * or unreachable endpoint must not hold up reaping for the other clients.</p>
+ */
+@SdkInternalApi
+public final class SdkPoolingHttpClientConnectionManager extends PoolingHttpClientConnectionManager {
+    private static final Logger log = LoggerFactory.getLogger(SdkPoolingHttpClientConnectionManager.class);
+
+    /**
+     * The longest time a single pass of replacing idle connections keeps opening new connections. Each connection is also
+     * bounded by the connect and socket timeouts.
+     */
+    private static final Duration MAX_REPLENISH_TIME = Duration.ofSeconds(30);
+
+    private final int minIdleConnections;
+    private final int connectTimeoutMillis;
+    private final long connectionAcquireTimeoutMillis;
+    private final long maxIdleTimeMillis;
+    private final ThreadPoolExecutor replenishExecutor;
+    private final Object replenishLock = new Object();
+
+    private Future<?> replenishment;
+
+    public SdkPoolingHttpClientConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry,
+                                                 long timeToLiveMillis,
+                                                 int minIdleConnections,
+                                                 int connectTimeoutMillis,
+                                                 long connectionAcquireTimeoutMillis,
+                                                 long maxIdleTimeMillis) {
+        super(socketFactoryRegistry, null, DefaultSchemePortResolver.INSTANCE, null, timeToLiveMillis, TimeUnit.MILLISECONDS);
+        this.minIdleConnections = minIdleConnections;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.connectionAcquireTimeoutMillis = connectionAcquireTimeoutMillis;
+        this.maxIdleTimeMillis = maxIdleTimeMillis;
+        this.replenishExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                                                        new ThreadFactoryBuilder()
+                                                            .threadNamePrefix("idle-connection-replenisher")
+                                                            .daemonThreads(true)
+                                                            .build());
+        // Only keep the thread around while connections are being replaced.
+        this.replenishExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Determine whether the given route has fewer idle connections than the configured minimum. A connection that is
+     * released to such a route should be kept alive indefinitely, because it is needed to reach the minimum.
+     */
+    public boolean belowMinIdleConnections(HttpRoute route) {
+        return minIdleConnections > 0 && getStats(route).getAvailable() < minIdleConnections;
+    }
+
+    /**
+     * Open connections to the given route ahead of time and release them to the pool, so that the pool holds at least the
+     * given number of idle connections for the route. Idle connections that are already in the pool are reused.
+     * Connections are opened one after another, and the number of connections is capped at the maximum number of
+     * connections for the route.
+     *
+     * @param route The route to open connections for. Tunnelled routes can't be prewarmed.
+     * @param connections The number of connections that should be warm.
+     */
+    public void prewarm(HttpRoute route, int connections) throws IOException {
+        prewarm(route, connections, () -> false);
+    }
+
+    /**
+     * @param timedOut Checked before each connection is opened. No more connections are opened once it returns true.
+     */
+    private void prewarm(HttpRoute route, int connections, BooleanSupplier timedOut) throws IOException {
+        if (route.isTunnelled()) {
+            log.debug("Not prewarming connections to {}, because tunnelled routes can't be prewarmed.", route);
+            return;
+        }
+
+        int connectionsToOpen = Math.min(connections, getMaxPerRoute(route));
+        List<HttpClientConnection> leasedConnections = new ArrayList<>(connectionsToOpen);
+        try {
+            HttpClientContext context = HttpClientContext.create();
+            for (int i = 0; i < connectionsToOpen && !timedOut.getAsBoolean(); i++) {
+                HttpClientConnection connection = leaseConnection(route);
+                leasedConnections.add(connection);
+
+                if (!connection.isOpen()) {
+                    connect(connection, route, connectTimeoutMillis, context);
+                    routeComplete(connection, route, context);
+                }
+            }
+        } finally {
+            for (HttpClientConnection connection : leasedConnections) {
+                long keepAliveMillis = belowMinIdleConnections(route) ? 0 : maxIdleTimeMillis;
+                releaseConnection(connection, null, keepAliveMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    @Override
+    public void closeIdleConnections(long idleTimeout, TimeUnit timeUnit) {
+        if (minIdleConnections == 0) {
+            super.closeIdleConnections(idleTimeout, timeUnit);
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() - Math.max(timeUnit.toMillis(idleTimeout), 0);
+        Map<HttpRoute, Integer> idleConnections = new HashMap<>();
+        enumAvailable(entry -> {
+            HttpRoute route = entry.getRoute();
+            int routeIdleConnections = idleConnections.computeIfAbsent(route, r -> getStats(r).getAvailable());
+            if (entry.getUpdated() <= deadline && routeIdleConnections > minIdleConnections) {
+                entry.close();
+                idleConnections.put(route, routeIdleConnections - 1);
+            }
+        });
+
+        if (getRoutes().stream().anyMatch(this::belowMinIdleConnections)) {
+            replenishIdleConnectionsInBackground();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        replenishExecutor.shutdownNow();
+        super.shutdown();
+    }
+
+    /**
+     * @return The last pass of replacing idle connections that was started, or null if none was started yet.
+     */
+    @SdkTestInternalApi
+    Future<?> replenishment() {
+        synchronized (replenishLock) {
+            return replenishment;
+        }
+    }
+
+    private void replenishIdleConnectionsInBackground() {
+        synchronized (replenishLock) {
+            if (replenishment != null && !replenishment.isDone()) {
+                // The previous pass is still opening connections, most likely to a slow endpoint. Don't queue up another one.
+                return;
+            }
+
+            try {
+                replenishment = replenishExecutor.submit(this::replenishIdleConnections);
+            } catch (RejectedExecutionException e) {
+                log.debug("Not replacing idle connections, because the connection manager has been shut down.", e);
+            }
+        }
+    }
+
+    private void replenishIdleConnections() {
+        long deadline = System.nanoTime() + MAX_REPLENISH_TIME.toNanos();
+        BooleanSupplier timedOut = () -> System.nanoTime() - deadline >= 0;
+
+        for (HttpRoute route : getRoutes()) {
+            if (timedOut.getAsBoolean()) {
+                log.debug("Stopped replacing idle connections after {}; the rest will be replaced on the next pass.",
+                          MAX_REPLENISH_TIME);
+                return;
+            }
+
+            if (!belowMinIdleConnections(route)) {
+                continue;
+            }
+
+            try {
+                prewarm(route, minIdleConnections, timedOut);
+            } catch (IOException e) {
+                log.debug("Unable to open the minimum number of idle connections to {}", route, e);
+            }
+        }
+    }
+
+    private HttpClientConnection leaseConnection(HttpRoute route) throws IOException {
+        ConnectionRequest connectionRequest = requestConnection(route, null);
+        try {
+            return connectionRequest.get(connectionAcquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while acquiring a connection");
+            exception.initCause(e);
+            throw exception;
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to acquire a connection", e.getCause());
+        }
+    }
+}
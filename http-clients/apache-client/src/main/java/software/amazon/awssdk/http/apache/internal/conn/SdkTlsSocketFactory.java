@@ -28,26 +28,36 @@ import org.apache.http.HttpHost;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.protocol.HttpContext;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
 import software.amazon.awssdk.http.apache.internal.net.SdkSocket;
 import software.amazon.awssdk.http.apache.internal.net.SdkSslSocket;
 import software.amazon.awssdk.utils.Logger;
 
 /**
- * Used to enforce the preferred TLS protocol during SSL handshake.
+ * Used to enforce the preferred TLS protocol during SSL handshake, and to record whether each handshake resumed a cached TLS
+ * session.
  */
 @SdkInternalApi
 public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
 
     private static final Logger log = Logger.loggerFor(SdkTlsSocketFactory.class);
     private final SSLContext sslContext;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder;
 
     public SdkTlsSocketFactory(final SSLContext sslContext, final HostnameVerifier hostnameVerifier) {
+        this(sslContext, hostnameVerifier, new TlsHandshakeRecorder());
+    }
+
+    public SdkTlsSocketFactory(final SSLContext sslContext,
+                               final HostnameVerifier hostnameVerifier,
+                               final TlsHandshakeRecorder tlsHandshakeRecorder) {
         super(sslContext, hostnameVerifier);
         if (sslContext == null) {
             throw new IllegalArgumentException(
                     "sslContext must not be null. " + "Use SSLContext.getDefault() if you are unsure.");
         }
         this.sslContext = sslContext;
+        this.tlsHandshakeRecorder = tlsHandshakeRecorder;
     }
 
     /**
@@ -100,6 +110,23 @@ public class SdkTlsSocketFactory extends SSLConnectionSocketFactory {
         return false;
     }
 
+    /**
+     * {@inheritDoc} The handshake is complete when this returns, so this is where it is recorded, both for direct connections
+     * and for connections tunnelled through a proxy.
+     */
+    @Override
+    public Socket createLayeredSocket(final Socket socket,
+                                      final String target,
+                                      final int port,
+                                      final HttpContext context) throws IOException {
+        long handshakeStartMillis = System.currentTimeMillis();
+        Socket layeredSocket = super.createLayeredSocket(socket, target, port, context);
+        if (layeredSocket instanceof SSLSocket) {
+            tlsHandshakeRecorder.handshakeCompleted(((SSLSocket) layeredSocket).getSession(), handshakeStartMillis);
+        }
+        return layeredSocket;
+    }
+
     @Override
     public Socket connectSocket(
             final int connectTimeout,
@@ -44,6 +44,16 @@ public class ApacheHttpClientTest {
                         .close();
     }
 
+    @Test
+    public void minIdleConnectionsCantExceedMaxConnections() {
+        assertThatThrownBy(() -> {
+            ApacheHttpClient.builder()
+                            .maxConnections(2)
+                            .minIdleConnections(3)
+                            .build();
+        }).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void httpRoutePlannerCantBeUsedWithProxy() {
         ProxyConfiguration proxyConfig = ProxyConfiguration.builder()
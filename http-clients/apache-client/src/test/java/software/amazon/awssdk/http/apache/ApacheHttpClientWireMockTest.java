@@ -18,6 +18,8 @@ package software.amazon.awssdk.http.apache;
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
@@ -26,6 +28,8 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
 import java.net.HttpURLConnection;
+import java.net.URI;
+import java.time.Duration;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.Credentials;
@@ -38,11 +42,17 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.TlsHandshakeMetrics;
 import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.impl.ConnectionManagerAwareHttpClient;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
@@ -146,4 +156,40 @@ public class ApacheHttpClientWireMockTest extends SdkHttpClientTestSuite {
 
         mockProxyServer.verify(2, RequestPatternBuilder.allRequests());
     }
+
+    @Test
+    public void newConnectionToSameHost_resumesTlsSession() throws Exception {
+        mockServer.stubFor(WireMock.any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close")));
+
+        ApacheHttpClient client = (ApacheHttpClient) ApacheHttpClient.builder()
+                                                                     .tlsSessionCacheSize(10)
+                                                                     .tlsSessionTimeout(Duration.ofMinutes(1))
+                                                                     .buildWithDefaults(AttributeMap.builder()
+                                                                                                    .put(TRUST_ALL_CERTIFICATES,
+                                                                                                         Boolean.TRUE)
+                                                                                                    .build());
+        try {
+            executeHttpsGet(client);
+            executeHttpsGet(client);
+
+            assertThat(client.tlsHandshakeMetrics()).isEqualTo(TlsHandshakeMetrics.create(1, 1));
+        } finally {
+            client.close();
+        }
+    }
+
+    @Test
+    public void negativeTlsSessionCacheSize_throwsException() {
+        assertThatThrownBy(() -> ApacheHttpClient.builder().tlsSessionCacheSize(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void executeHttpsGet(SdkHttpClient client) throws Exception {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://localhost:" + mockServer.httpsPort()))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        response.responseBody().ifPresent(IoUtils::drainInputStream);
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.http.HttpHost;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.protocol.HttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SdkPoolingHttpClientConnectionManagerTest {
+    private static final int MIN_IDLE_CONNECTIONS = 2;
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private SdkPoolingHttpClientConnectionManager connectionManager;
+    private HttpRoute route;
+
+    @Before
+    public void methodSetup() {
+        connectionManager = createConnectionManager(PlainConnectionSocketFactory.getSocketFactory());
+        route = new HttpRoute(new HttpHost("localhost", mockServer.port(), "http"));
+    }
+
+    @After
+    public void methodTeardown() {
+        connectionManager.shutdown();
+    }
+
+    @Test
+    public void prewarm_opensIdleConnections() throws Exception {
+        connectionManager.prewarm(route, 3);
+
+        assertThat(connectionManager.getStats(route).getAvailable()).isEqualTo(3);
+        assertThat(connectionManager.getStats(route).getLeased()).isZero();
+    }
+
+    @Test
+    public void prewarm_reusesIdleConnections() throws Exception {
+        connectionManager.prewarm(route, 3);
+        connectionManager.prewarm(route, 2);
+
+        assertThat(connectionManager.getStats(route).getAvailable()).isEqualTo(3);
+    }
+
+    @Test
+    public void prewarm_cappedAtMaxConnectionsPerRoute() throws Exception {
+        connectionManager.setDefaultMaxPerRoute(2);
+
+        connectionManager.prewarm(route, 5);
+
+        assertThat(connectionManager.getStats(route).getAvailable()).isEqualTo(2);
+    }
+
+    @Test
+    public void closeIdleConnections_keepsMinIdleConnectionsOpen() throws Exception {
+        connectionManager.prewarm(route, 5);
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+
+        assertThat(connectionManager.getStats(route).getAvailable()).isEqualTo(MIN_IDLE_CONNECTIONS);
+    }
+
+    @Test
+    public void closeIdleConnections_replenishesMinIdleConnections() throws Exception {
+        connectionManager.prewarm(route, 1);
+        assertThat(connectionManager.belowMinIdleConnections(route)).isTrue();
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        connectionManager.replenishment().get(5, TimeUnit.SECONDS);
+
+        assertThat(connectionManager.getStats(route).getAvailable()).isEqualTo(MIN_IDLE_CONNECTIONS);
+        assertThat(connectionManager.belowMinIdleConnections(route)).isFalse();
+    }
+
+    @Test
+    public void closeIdleConnections_doesNotWaitForConnectionsToBeReplenished() throws Exception {
+        AtomicBoolean blockConnects = new AtomicBoolean(false);
+        CountDownLatch connectAllowed = new CountDownLatch(1);
+        connectionManager.shutdown();
+        connectionManager = createConnectionManager(new PlainConnectionSocketFactory() {
+            @Override
+            public Socket connectSocket(int connectTimeout, Socket socket, HttpHost host, InetSocketAddress remoteAddress,
+                                        InetSocketAddress localAddress, HttpContext context) throws IOException {
+                try {
+                    if (blockConnects.get()) {
+                        connectAllowed.await();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            }
+        });
+
+        connectionManager.prewarm(route, 1);
+        blockConnects.set(true);
+
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        Future<?> replenishment = connectionManager.replenishment();
+        assertThat(replenishment.isDone()).isFalse();
+
+        // Another pass is not queued while the previous one is still connecting.
+        connectionManager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        assertThat(connectionManager.replenishment()).isSameAs(replenishment);
+
+        connectAllowed.countDown();
+        replenishment.get(5, TimeUnit.SECONDS);
+        assertThat(connectionManager.getStats(route).getAvailable()).isEqualTo(MIN_IDLE_CONNECTIONS);
+    }
+
+    private SdkPoolingHttpClientConnectionManager createConnectionManager(ConnectionSocketFactory socketFactory) {
+        SdkPoolingHttpClientConnectionManager connectionManager = new SdkPoolingHttpClientConnectionManager(
+            RegistryBuilder.<ConnectionSocketFactory>create()
+                           .register("http", socketFactory)
+                           .build(),
+            -1,
+            MIN_IDLE_CONNECTIONS,
+            2_000,
+            2_000,
+            60_000);
+        connectionManager.setDefaultMaxPerRoute(10);
+        return connectionManager;
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * A point-in-time snapshot of the state of the connection pool for a single endpoint of a
+ * {@link NettyNioAsyncHttpClient}.
+ *
+ * <p>Gauges (such as {@link #leasedConnections()}) describe the pool at the time the snapshot was taken, and counters
+ * (such as {@link #goAwaysReceived()}) are cumulative since the pool for the endpoint was created.</p>
+ *
+ * @see NettyNioAsyncHttpClient#connectionPoolMetrics()
+ */
+@SdkPublicApi
+public final class ConnectionPoolMetrics implements ToCopyableBuilder<ConnectionPoolMetrics.Builder, ConnectionPoolMetrics> {
+    private final int leasedConnections;
+    private final int idleConnections;
+    private final int pendingAcquires;
+    private final Map<Duration, Long> acquireLatencyHistogram;
+    private final long acquireFailures;
+    private final List<Long> http2StreamsInUse;
+    private final long goAwaysReceived;
+    private final long pingFailures;
+
+    private ConnectionPoolMetrics(DefaultBuilder builder) {
+        this.leasedConnections = builder.leasedConnections;
+        this.idleConnections = builder.idleConnections;
+        this.pendingAcquires = builder.pendingAcquires;
+        this.acquireLatencyHistogram = Collections.unmodifiableMap(new LinkedHashMap<>(builder.acquireLatencyHistogram));
+        this.acquireFailures = builder.acquireFailures;
+        this.http2StreamsInUse = Collections.unmodifiableList(new ArrayList<>(builder.http2StreamsInUse));
+        this.goAwaysReceived = builder.goAwaysReceived;
+        this.pingFailures = builder.pingFailures;
+    }
+
+    /**
+     * @return The number of connections currently in use by requests. For HTTP/2, this is the number of connections with
+     * at least one stream in use.
+     */
+    public int leasedConnections() {
+        return leasedConnections;
+    }
+
+    /**
+     * @return The number of open connections that are not in use by any request.
+     */
+    public int idleConnections() {
+        return idleConnections;
+    }
+
+    /**
+     * @return The number of requests waiting for a connection (or, for HTTP/2, a stream) to become available.
+     */
+    public int pendingAcquires() {
+        return pendingAcquires;
+    }
+
+    /**
+     * The distribution of the time requests spent waiting for a connection (or, for HTTP/2, a stream), including the
+     * time spent establishing new connections.
+     *
+     * <p>Each key is the inclusive upper bound of a bucket and each value is the number of successful acquires that fell
+     * into that bucket and not into any earlier one. Keys are in ascending order, and the last key is
+     * {@link java.time.temporal.ChronoUnit#FOREVER}'s duration.</p>
+     *
+     * @return The acquire latency histogram.
+     */
+    public Map<Duration, Long> acquireLatencyHistogram() {
+        return acquireLatencyHistogram;
+    }
+
+    /**
+     * @return The number of acquires that failed, for example because the connection acquire timeout was exceeded or a
+     * connection could not be established.
+     */
+    public long acquireFailures() {
+        return acquireFailures;
+    }
+
+    /**
+     * @return The number of streams in use on each open HTTP/2 connection, or an empty list if the endpoint does not use
+     * HTTP/2.
+     */
+    public List<Long> http2StreamsInUse() {
+        return http2StreamsInUse;
+    }
+
+    /**
+     * @return The number of HTTP/2 GOAWAY frames received from the endpoint.
+     */
+    public long goAwaysReceived() {
+        return goAwaysReceived;
+    }
+
+    /**
+     * @return The number of HTTP/2 connections that were closed because the endpoint did not respond to a PING in time.
+     */
+    public long pingFailures() {
+        return pingFailures;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ConnectionPoolMetrics that = (ConnectionPoolMetrics) o;
+
+        return leasedConnections == that.leasedConnections &&
+               idleConnections == that.idleConnections &&
+               pendingAcquires == that.pendingAcquires &&
+               acquireFailures == that.acquireFailures &&
+               goAwaysReceived == that.goAwaysReceived &&
+               pingFailures == that.pingFailures &&
+               acquireLatencyHistogram.equals(that.acquireLatencyHistogram) &&
+               http2StreamsInUse.equals(that.http2StreamsInUse);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = leasedConnections;
+        result = 31 * result + idleConnections;
+        result = 31 * result + pendingAcquires;
+        result = 31 * result + acquireLatencyHistogram.hashCode();
+        result = 31 * result + Long.hashCode(acquireFailures);
+        result = 31 * result + http2StreamsInUse.hashCode();
+        result = 31 * result + Long.hashCode(goAwaysReceived);
+        result = 31 * result + Long.hashCode(pingFailures);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConnectionPoolMetrics")
+                       .add("leasedConnections", leasedConnections)
+                       .add("idleConnections", idleConnections)
+                       .add("pendingAcquires", pendingAcquires)
+                       .add("acquireLatencyHistogram", acquireLatencyHistogram)
+                       .add("acquireFailures", acquireFailures)
+                       .add("http2StreamsInUse", http2StreamsInUse)
+                       .add("goAwaysReceived", goAwaysReceived)
+                       .add("pingFailures", pingFailures)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, ConnectionPoolMetrics> {
+
+        /**
+         * @see ConnectionPoolMetrics#leasedConnections()
+         */
+        Builder leasedConnections(int leasedConnections);
+
+        /**
+         * @see ConnectionPoolMetrics#idleConnections()
+         */
+        Builder idleConnections(int idleConnections);
+
+        /**
+         * @see ConnectionPoolMetrics#pendingAcquires()
+         */
+        Builder pendingAcquires(int pendingAcquires);
+
+        /**
+         * @see ConnectionPoolMetrics#acquireLatencyHistogram()
+         */
+        Builder acquireLatencyHistogram(Map<Duration, Long> acquireLatencyHistogram);
+
+        /**
+         * @see ConnectionPoolMetrics#acquireFailures()
+         */
+        Builder acquireFailures(long acquireFailures);
+
+        /**
+         * @see ConnectionPoolMetrics#http2StreamsInUse()
+         */
+        Builder http2StreamsInUse(List<Long> http2StreamsInUse);
+
+        /**
+         * @see ConnectionPoolMetrics#goAwaysReceived()
+         */
+        Builder goAwaysReceived(long goAwaysReceived);
+
+        /**
+         * @see ConnectionPoolMetrics#pingFailures()
+         */
+        Builder pingFailures(long pingFailures);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private int leasedConnections;
+        private int idleConnections;
+        private int pendingAcquires;
+        private Map<Duration, Long> acquireLatencyHistogram = Collections.emptyMap();
+        private long acquireFailures;
+        private List<Long> http2StreamsInUse = Collections.emptyList();
+        private long goAwaysReceived;
+        private long pingFailures;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(ConnectionPoolMetrics metrics) {
+            this.leasedConnections = metrics.leasedConnections;
+            this.idleConnections = metrics.idleConnections;
+            this.pendingAcquires = metrics.pendingAcquires;
+            this.acquireLatencyHistogram = metrics.acquireLatencyHistogram;
+            this.acquireFailures = metrics.acquireFailures;
+            this.http2StreamsInUse = metrics.http2StreamsInUse;
+            this.goAwaysReceived = metrics.goAwaysReceived;
+            this.pingFailures = metrics.pingFailures;
+        }
+
+        @Override
+        public Builder leasedConnections(int leasedConnections) {
+            this.leasedConnections = leasedConnections;
+            return this;
+        }
+
+        public void setLeasedConnections(int leasedConnections) {
+            leasedConnections(leasedConnections);
+        }
+
+        @Override
+        public Builder idleConnections(int idleConnections) {
+            this.idleConnections = idleConnections;
+            return this;
+        }
+
+        public void setIdleConnections(int idleConnections) {
+            idleConnections(idleConnections);
+        }
+
+        @Override
+        public Builder pendingAcquires(int pendingAcquires) {
+            this.pendingAcquires = pendingAcquires;
+            return this;
+        }
+
+        public void setPendingAcquires(int pendingAcquires) {
+            pendingAcquires(pendingAcquires);
+        }
+
+        @Override
+        public Builder acquireLatencyHistogram(Map<Duration, Long> acquireLatencyHistogram) {
+            this.acquireLatencyHistogram = acquireLatencyHistogram == null ? Collections.emptyMap() : acquireLatencyHistogram;
+            return this;
+        }
+
+        public void setAcquireLatencyHistogram(Map<Duration, Long> acquireLatencyHistogram) {
+            acquireLatencyHistogram(acquireLatencyHistogram);
+        }
+
+        @Override
+        public Builder acquireFailures(long acquireFailures) {
+            this.acquireFailures = acquireFailures;
+            return this;
+        }
+
+        public void setAcquireFailures(long acquireFailures) {
+            acquireFailures(acquireFailures);
+        }
+
+        @Override
+        public Builder http2StreamsInUse(List<Long> http2StreamsInUse) {
+            this.http2StreamsInUse = http2StreamsInUse == null ? Collections.emptyList() : http2StreamsInUse;
+            return this;
+        }
+
+        public void setHttp2StreamsInUse(List<Long> http2StreamsInUse) {
+            http2StreamsInUse(http2StreamsInUse);
+        }
+
+        @Override
+        public Builder goAwaysReceived(long goAwaysReceived) {
+            this.goAwaysReceived = goAwaysReceived;
+            return this;
+        }
+
+        public void setGoAwaysReceived(long goAwaysReceived) {
+            goAwaysReceived(goAwaysReceived);
+        }
+
+        @Override
+        public Builder pingFailures(long pingFailures) {
+            this.pingFailures = pingFailures;
+            return this;
+        }
+
+        public void setPingFailures(long pingFailures) {
+            pingFailures(pingFailures);
+        }
+
+        @Override
+        public ConnectionPoolMetrics build() {
+            return new ConnectionPoolMetrics(this);
+        }
+    }
+}
@@ -27,10 +27,20 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 public final class Http2Configuration implements ToCopyableBuilder<Http2Configuration.Builder, Http2Configuration> {
     private final Long maxStreams;
     private final Integer initialWindowSize;
+    private final Http2StreamPlacementStrategy streamPlacementStrategy;
+    private final Integer minConnections;
+    private final Integer connectionWindowSize;
+    private final Boolean adaptiveWindowSize;
+    private final Integer maxAdaptiveWindowSize;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
+        this.streamPlacementStrategy = builder.streamPlacementStrategy;
+        this.minConnections = builder.minConnections;
+        this.connectionWindowSize = builder.connectionWindowSize;
+        this.adaptiveWindowSize = builder.adaptiveWindowSize;
+        this.maxAdaptiveWindowSize = builder.maxAdaptiveWindowSize;
     }
 
     /**
@@ -47,6 +57,41 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return initialWindowSize;
     }
 
+    /**
+     * @return The strategy used to choose the connection on which a new stream is opened.
+     */
+    public Http2StreamPlacementStrategy streamPlacementStrategy() {
+        return streamPlacementStrategy;
+    }
+
+    /**
+     * @return The minimum number of HTTP/2 connections to open to each endpoint before streams are shared between them.
+     */
+    public Integer minConnections() {
+        return minConnections;
+    }
+
+    /**
+     * @return The size of the connection-level flow-control window of an HTTP/2 connection.
+     */
+    public Integer connectionWindowSize() {
+        return connectionWindowSize;
+    }
+
+    /**
+     * @return Whether the flow-control windows are grown based on the observed bandwidth-delay product of the connection.
+     */
+    public Boolean adaptiveWindowSize() {
+        return adaptiveWindowSize;
+    }
+
+    /**
+     * @return The size that adaptive window sizing will not grow the flow-control windows beyond.
+     */
+    public Integer maxAdaptiveWindowSize() {
+        return maxAdaptiveWindowSize;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -68,7 +113,29 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
+
+        if (streamPlacementStrategy != that.streamPlacementStrategy) {
+            return false;
+        }
+
+        if (minConnections != null ? !minConnections.equals(that.minConnections) : that.minConnections != null) {
+            return false;
+        }
+
+        if (connectionWindowSize != null ? !connectionWindowSize.equals(that.connectionWindowSize)
+                                         : that.connectionWindowSize != null) {
+            return false;
+        }
+
+        if (adaptiveWindowSize != null ? !adaptiveWindowSize.equals(that.adaptiveWindowSize) : that.adaptiveWindowSize != null) {
+            return false;
+        }
+
+        return maxAdaptiveWindowSize != null ? maxAdaptiveWindowSize.equals(that.maxAdaptiveWindowSize)
+                                             : that.maxAdaptiveWindowSize == null;
 
     }
 
@@ -76,6 +143,11 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (streamPlacementStrategy != null ? streamPlacementStrategy.hashCode() : 0);
+        result = 31 * result + (minConnections != null ? minConnections.hashCode() : 0);
+        result = 31 * result + (connectionWindowSize != null ? connectionWindowSize.hashCode() : 0);
+        result = 31 * result + (adaptiveWindowSize != null ? adaptiveWindowSize.hashCode() : 0);
+        result = 31 * result + (maxAdaptiveWindowSize != null ? maxAdaptiveWindowSize.hashCode() : 0);
         return result;
     }
 
@@ -106,11 +178,77 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder initialWindowSize(Integer initialWindowSize);
+
+        /**
+         * Sets the strategy used to choose the connection on which a new stream is opened.
+         *
+         * <p>By default, {@link Http2StreamPlacementStrategy#FIRST_AVAILABLE} is used, which only opens a new connection
+         * when all existing connections have reached their maximum number of concurrent streams. For long-lived, high
+         * throughput streams (e.g. event streams) {@link Http2StreamPlacementStrategy#LEAST_LOADED} or
+         * {@link Http2StreamPlacementStrategy#ROUND_ROBIN} combined with {@link #minConnections(Integer)} spreads the
+         * streams across several connections, so that throughput is not limited by a single connection.</p>
+         *
+         * @param streamPlacementStrategy The stream placement strategy.
+         * @return This builder for method chaining.
+         */
+        Builder streamPlacementStrategy(Http2StreamPlacementStrategy streamPlacementStrategy);
+
+        /**
+         * Sets the minimum number of HTTP/2 connections to open to each endpoint. New streams always open a new
+         * connection until this many connections are open, after which connections are chosen using the
+         * {@link #streamPlacementStrategy(Http2StreamPlacementStrategy)}. The number of connections is still limited by
+         * the client's maximum concurrency.
+         *
+         * @param minConnections The minimum number of connections per endpoint.
+         * @return This builder for method chaining.
+         */
+        Builder minConnections(Integer minConnections);
+
+        /**
+         * Sets the size of the connection-level flow-control window, which limits the amount of data that all streams on a
+         * connection together can have in flight. By default, the connection window is sized based on the
+         * {@link #initialWindowSize(Integer)}. Values smaller than the default are ignored.
+         *
+         * See <a href="https://tools.ietf.org/html/rfc7540#section-6.9">https://tools.ietf.org/html/rfc7540#section-6.9</a>
+         * for more information about this parameter.
+         *
+         * @param connectionWindowSize The size of the connection window.
+         * @return This builder for method chaining.
+         */
+        Builder connectionWindowSize(Integer connectionWindowSize);
+
+        /**
+         * Sets whether the stream and connection flow-control windows should be grown based on the bandwidth-delay product
+         * of the connection. The round-trip time is measured using the PING frames that are sent to check the health of
+         * the connection, and the windows are only grown while a round trip's worth of received and consumed data nearly
+         * fills them. The windows are never grown beyond {@link #maxAdaptiveWindowSize(Integer)}.
+         *
+         * <p>This is disabled by default. Enabling it can increase the throughput of high-latency (e.g. cross-region)
+         * connections, at the cost of buffering more data per stream.</p>
+         *
+         * @param adaptiveWindowSize Whether adaptive window sizing is enabled.
+         * @return This builder for method chaining.
+         */
+        Builder adaptiveWindowSize(Boolean adaptiveWindowSize);
+
+        /**
+         * Sets the size that adaptive window sizing will not grow the stream and connection flow-control windows beyond.
+         * This is only used when {@link #adaptiveWindowSize(Boolean)} is enabled. The default is 16 MiB.
+         *
+         * @param maxAdaptiveWindowSize The maximum window size.
+         * @return This builder for method chaining.
+         */
+        Builder maxAdaptiveWindowSize(Integer maxAdaptiveWindowSize);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
+        private Http2StreamPlacementStrategy streamPlacementStrategy;
+        private Integer minConnections;
+        private Integer connectionWindowSize;
+        private Boolean adaptiveWindowSize;
+        private Integer maxAdaptiveWindowSize;
 
         private DefaultBuilder() {
         }
@@ -118,6 +256,11 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         private DefaultBuilder(Http2Configuration http2Configuration) {
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
+            this.streamPlacementStrategy = http2Configuration.streamPlacementStrategy;
+            this.minConnections = http2Configuration.minConnections;
+            this.connectionWindowSize = http2Configuration.connectionWindowSize;
+            this.adaptiveWindowSize = http2Configuration.adaptiveWindowSize;
+            this.maxAdaptiveWindowSize = http2Configuration.maxAdaptiveWindowSize;
         }
 
         @Override
@@ -140,6 +283,56 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             initialWindowSize(initialWindowSize);
         }
 
+        @Override
+        public Builder streamPlacementStrategy(Http2StreamPlacementStrategy streamPlacementStrategy) {
+            this.streamPlacementStrategy = streamPlacementStrategy;
+            return this;
+        }
+
+        public void setStreamPlacementStrategy(Http2StreamPlacementStrategy streamPlacementStrategy) {
+            streamPlacementStrategy(streamPlacementStrategy);
+        }
+
+        @Override
+        public Builder minConnections(Integer minConnections) {
+            this.minConnections = Validate.isPositiveOrNull(minConnections, "minConnections");
+            return this;
+        }
+
+        public void setMinConnections(Integer minConnections) {
+            minConnections(minConnections);
+        }
+
+        @Override
+        public Builder connectionWindowSize(Integer connectionWindowSize) {
+            this.connectionWindowSize = Validate.isPositiveOrNull(connectionWindowSize, "connectionWindowSize");
+            return this;
+        }
+
+        public void setConnectionWindowSize(Integer connectionWindowSize) {
+            connectionWindowSize(connectionWindowSize);
+        }
+
+        @Override
+        public Builder adaptiveWindowSize(Boolean adaptiveWindowSize) {
+            this.adaptiveWindowSize = adaptiveWindowSize;
+            return this;
+        }
+
+        public void setAdaptiveWindowSize(Boolean adaptiveWindowSize) {
+            adaptiveWindowSize(adaptiveWindowSize);
+        }
+
+        @Override
+        public Builder maxAdaptiveWindowSize(Integer maxAdaptiveWindowSize) {
+            this.maxAdaptiveWindowSize = Validate.isPositiveOrNull(maxAdaptiveWindowSize, "maxAdaptiveWindowSize");
+            return this;
+        }
+
+        public void setMaxAdaptiveWindowSize(Integer maxAdaptiveWindowSize) {
+            maxAdaptiveWindowSize(maxAdaptiveWindowSize);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The strategy used to choose the HTTP/2 connection on which a new stream (i.e. request) is opened.
+ *
+ * @see Http2Configuration.Builder#streamPlacementStrategy(Http2StreamPlacementStrategy)
+ */
+@SdkPublicApi
+public enum Http2StreamPlacementStrategy {
+    /**
+     * Open the stream on the first connection that has a stream available, and only open a new connection when every
+     * existing connection has reached its maximum number of concurrent streams. This uses the fewest connections.
+     */
+    FIRST_AVAILABLE,
+
+    /**
+     * Open the stream on the connection with the fewest streams in use. This spreads streams evenly across the open
+     * connections, so that long-lived streams don't share a single connection's flow control and congestion window.
+     */
+    LEAST_LOADED,
+
+    /**
+     * Open each stream on the next connection in turn, skipping connections that have no streams available.
+     */
+    ROUND_ROBIN
+}
@@ -24,6 +24,8 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.MAX_PENDING
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.READ_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.REAP_IDLE_CONNECTIONS;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.WRITE_TIMEOUT;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.EVENTLOOP_SHUTDOWN_FUTURE_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.EVENTLOOP_SHUTDOWN_QUIET_PERIOD_SECONDS;
@@ -38,6 +40,8 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -51,10 +55,13 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsHandshakeMetrics;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolPrewarmer;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
@@ -65,6 +72,7 @@ import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -79,6 +87,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private static final Logger log = LoggerFactory.getLogger(NettyNioAsyncHttpClient.class);
     private static final long MAX_STREAMS_ALLOWED = 4294967295L; // unsigned 32-bit, 2^32 -1
     private static final int DEFAULT_INITIAL_WINDOW_SIZE = 1_048_576; // 1MiB
+    private static final int DEFAULT_MAX_ADAPTIVE_WINDOW_SIZE = 16_777_216; // 16MiB
 
     // Override connection idle timeout for Netty http client to reduce the frequency of "server failed to complete the
     // response error". see https://github.com/aws/aws-sdk-java-v2/issues/1122
@@ -89,9 +98,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkEventLoopGroup sdkEventLoopGroup;
     private final SdkChannelPoolMap<URI, ? extends ChannelPool> pools;
     private final NettyConfiguration configuration;
+    private final boolean zeroCopyResponseBody;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder = new TlsHandshakeRecorder();
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
         this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        this.zeroCopyResponseBody = Boolean.TRUE.equals(builder.zeroCopyResponseBody);
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
@@ -106,9 +118,17 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .protocol(protocol)
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
+                                             .connectionWindowSize(resolveConnectionWindowSize(http2Configuration))
+                                             .adaptiveWindowSize(resolveAdaptiveWindowSize(http2Configuration))
+                                             .maxAdaptiveWindowSize(resolveMaxAdaptiveWindowSize(http2Configuration))
+                                             .http2StreamPlacementStrategy(resolveStreamPlacementStrategy(http2Configuration))
+                                             .http2MinConnections(resolveMinHttp2Connections(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
+                                             .minIdleConnections(resolveMinIdleConnections(builder))
+                                             .useNonBlockingDnsResolver(Boolean.TRUE.equals(builder.useNonBlockingDnsResolver))
+                                             .tlsHandshakeRecorder(tlsHandshakeRecorder)
                                              .build();
     }
 
@@ -119,6 +139,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.sdkEventLoopGroup = sdkEventLoopGroup;
         this.pools = pools;
         this.configuration = configuration;
+        this.zeroCopyResponseBody = false;
     }
 
     @Override
@@ -127,18 +148,75 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * Open and TLS-handshake connections to the given endpoint ahead of time, so that the first requests to it do not pay
+     * for establishing them. The connections are returned to the connection pool as idle connections and are subject to
+     * {@link Builder#connectionMaxIdleTime(Duration)} like any other connection, unless they are needed to keep
+     * {@link Builder#minIdleConnections(Integer)} connections open.
+     *
+     * <p>The number of connections is capped at {@link Builder#maxConcurrency(Integer)}. When using HTTP/2, each connection
+     * is shared by multiple streams, so the pool opens only as many connections as are needed to serve the given number of
+     * concurrent streams.</p>
+     *
+     * @param endpoint The endpoint to connect to, for example {@code https://s3.us-west-2.amazonaws.com}. Only the scheme,
+     * host and port are used.
+     * @param connections The number of connections to open.
+     * @return A future that is completed once the connections are established and idle in the pool, or completed
+     * exceptionally if any of them could not be established.
+     */
+    public CompletableFuture<Void> prewarm(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+        ChannelPool pool = pools.get(poolKey(endpoint));
+        return ChannelPoolPrewarmer.prewarm(pool, Math.min(connections, configuration.maxConnections()));
+    }
+
+    /**
+     * Take a snapshot of the state of the connection pool of each endpoint this client has sent requests to, such as the
+     * number of leased and idle connections, the number of requests waiting for a connection and how long requests
+     * waited for one.
+     *
+     * <p>The metrics are maintained with low-overhead counters as requests are made, so this method is cheap enough to be
+     * polled periodically and published to a monitoring system.</p>
+     *
+     * @return The metrics of each endpoint's connection pool, keyed by the endpoint's scheme, host and port.
+     */
+    public Map<URI, ConnectionPoolMetrics> connectionPoolMetrics() {
+        if (pools instanceof AwaitCloseChannelPoolMap) {
+            return ((AwaitCloseChannelPoolMap) pools).metrics();
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @return The number of TLS handshakes this client has completed so far, split by whether they resumed a cached TLS
+     * session. See {@link Builder#tlsSessionCacheSize(Integer)} and {@link Builder#tlsSessionTimeout(Duration)} to configure
+     * how sessions are cached.
+     */
+    public TlsHandshakeMetrics tlsHandshakeMetrics() {
+        return tlsHandshakeRecorder.metrics();
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
 
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         ChannelPool pool = pools.get(poolKey(request.request()));
-        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
+        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration, zeroCopyResponseBody);
     }
 
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
         Validate.isTrue(builder.eventLoopGroup == null || builder.eventLoopGroupBuilder == null,
                         "The eventLoopGroup and the eventLoopGroupFactory can't both be configured.");
+        if (builder.useNativeTransport != null) {
+            Validate.isTrue(builder.eventLoopGroup == null && builder.eventLoopGroupBuilder == null,
+                            "The useNativeTransport option can't be configured along with the eventLoopGroup or the "
+                            + "eventLoopGroupFactory. Use SdkEventLoopGroup.Builder#useNativeTransport instead.");
+            if (builder.useNativeTransport) {
+                return SdkEventLoopGroup.builder().useNativeTransport(true).build();
+            }
+        }
         return Either.fromNullable(builder.eventLoopGroup, builder.eventLoopGroupBuilder)
                      .map(e -> e.map(this::nonManagedEventLoopGroup, SdkEventLoopGroup.Builder::build))
                      .orElseGet(SharedSdkEventLoopGroup::get);
@@ -149,6 +227,22 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    private static URI poolKey(URI endpoint) {
+        int port = endpoint.getPort() != -1 ? endpoint.getPort() : SdkHttpUtils.standardPort(endpoint.getScheme());
+        return invokeSafely(() -> new URI(endpoint.getScheme(), null, endpoint.getHost(), port, null, null, null));
+    }
+
+    private int resolveMinIdleConnections(DefaultBuilder builder) {
+        if (builder.minIdleConnections == null) {
+            return 0;
+        }
+
+        Validate.isTrue(builder.minIdleConnections <= configuration.maxConnections(),
+                        "minIdleConnections (%s) can't be greater than maxConcurrency (%s).",
+                        builder.minIdleConnections, configuration.maxConnections());
+        return builder.minIdleConnections;
+    }
+
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
         if (builder.sslProvider != null) {
             return builder.sslProvider;
@@ -176,6 +270,38 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return http2Configuration.initialWindowSize();
     }
 
+    private int resolveConnectionWindowSize(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.connectionWindowSize() == null) {
+            return 0;
+        }
+        return http2Configuration.connectionWindowSize();
+    }
+
+    private boolean resolveAdaptiveWindowSize(Http2Configuration http2Configuration) {
+        return http2Configuration != null && Boolean.TRUE.equals(http2Configuration.adaptiveWindowSize());
+    }
+
+    private int resolveMaxAdaptiveWindowSize(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.maxAdaptiveWindowSize() == null) {
+            return DEFAULT_MAX_ADAPTIVE_WINDOW_SIZE;
+        }
+        return http2Configuration.maxAdaptiveWindowSize();
+    }
+
+    private Http2StreamPlacementStrategy resolveStreamPlacementStrategy(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.streamPlacementStrategy() == null) {
+            return Http2StreamPlacementStrategy.FIRST_AVAILABLE;
+        }
+        return http2Configuration.streamPlacementStrategy();
+    }
+
+    private int resolveMinHttp2Connections(Http2Configuration http2Configuration) {
+        if (http2Configuration == null || http2Configuration.minConnections() == null) {
+            return 0;
+        }
+        return http2Configuration.minConnections();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -302,6 +428,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder useIdleConnectionReaper(Boolean useConnectionReaper);
 
+        /**
+         * Configure the minimum number of idle connections to keep open to each endpoint. Once the client has started
+         * sending requests to an endpoint, or has been asked to {@link NettyNioAsyncHttpClient#prewarm(URI, int) prewarm} it,
+         * connections are opened ahead of time until this many are idle, the idle connection reaper leaves this many
+         * connections open, and connections closed by the remote end or by {@link #connectionTimeToLive(Duration)} are
+         * replaced.
+         *
+         * <p>This can't be greater than {@link #maxConcurrency(Integer)}. By default, no idle connections are kept open.</p>
+         *
+         * @param minIdleConnections The minimum number of idle connections per endpoint.
+         * @return This builder for method chaining.
+         */
+        Builder minIdleConnections(Integer minIdleConnections);
+
         /**
          * Sets the {@link SdkEventLoopGroup} to use for the Netty HTTP client. This event loop group may be shared
          * across multiple HTTP clients for better resource and thread utilization. The preferred way to create
@@ -340,6 +480,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          */
         Builder eventLoopGroupBuilder(SdkEventLoopGroup.Builder eventLoopGroupBuilder);
 
+        /**
+         * Configure whether the client should use the native epoll transport when it is available on the current platform,
+         * falling back to the NIO transport otherwise. When enabled, the SDK creates an {@link EventLoopGroup} for this HTTP
+         * client instead of using the shared default one, and shuts it down when the HTTP client is closed.
+         *
+         * <p>This option can't be combined with {@link #eventLoopGroup(SdkEventLoopGroup)} or
+         * {@link #eventLoopGroupBuilder(SdkEventLoopGroup.Builder)}. When customizing the {@link EventLoopGroup}, use
+         * {@link SdkEventLoopGroup.Builder#useNativeTransport(Boolean)} instead. By default, this is disabled.</p>
+         *
+         * @param useNativeTransport Whether to use the native transport when available.
+         * @return This builder for method chaining.
+         */
+        Builder useNativeTransport(Boolean useNativeTransport);
+
         /**
          * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
          *
@@ -432,6 +586,67 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Configure whether response content should be published without copying it out of Netty's pooled buffers. When
+         * enabled, each {@link java.nio.ByteBuffer} delivered to the response subscriber is a read-only view of a pooled,
+         * usually direct, buffer instead of a heap copy.
+         *
+         * <p>The buffer is only valid until the subscriber requests more data or cancels its subscription. Subscribers that
+         * consume buffers asynchronously must only request more data once they are done with the previous buffer, and
+         * subscribers that keep outstanding demand must finish with each buffer before returning from {@code onNext}. The
+         * completion signal is held back until the subscriber requests more data after the last buffer. The SDK's
+         * file and byte array response transformers follow this contract. By default, this is disabled.</p>
+         *
+         * @param zeroCopyResponseBody Whether to publish response content without copying it.
+         * @return the builder for method chaining.
+         */
+        Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody);
+
+        /**
+         * Configure whether host names should be resolved with a non-blocking DNS resolver instead of the JDK's blocking
+         * resolver.
+         *
+         * <p>By default, the address of each endpoint is resolved with the JDK resolver once, when the first request is sent
+         * to it, and all connections to the endpoint are made to that address. When enabled, the address is resolved
+         * asynchronously on the client's event loops every time a connection is established. Resolved addresses are cached
+         * for the TTL of their DNS records, and each new connection is made to one of the endpoint's addresses at random,
+         * so that connections are spread across all of them.</p>
+         *
+         * <p>This requires {@code io.netty:netty-resolver-dns} on the classpath, and an event loop group whose UDP channel
+         * type is known (NIO, epoll, KQueue or OIO). By default, this is disabled.</p>
+         *
+         * @param useNonBlockingDnsResolver Whether to use the non-blocking DNS resolver.
+         * @return the builder for method chaining.
+         */
+        Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure the maximum number of TLS sessions to cache for each endpoint. A cached session lets a new connection to
+         * the endpoint resume it with an abbreviated handshake instead of a full one, which makes replacing connections (for
+         * example because of {@link #connectionTimeToLive(Duration)}) much cheaper for both the client and the service. Zero
+         * means no limit.
+         *
+         * <p>By default, the default of the {@link #sslProvider(SslProvider)} is used. Whether cached sessions are resumed
+         * also depends on the provider: {@link SslProvider#JDK} resumes them, and
+         * {@link NettyNioAsyncHttpClient#tlsHandshakeMetrics()} shows whether other providers do.</p>
+         *
+         * @param tlsSessionCacheSize The maximum number of cached TLS sessions.
+         * @return the builder for method chaining.
+         * @see NettyNioAsyncHttpClient#tlsHandshakeMetrics()
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure how long a cached TLS session can be resumed for, at a precision of one second. Zero means no limit.
+         *
+         * <p>By default, the default of the {@link #sslProvider(SslProvider)} is used.</p>
+         *
+         * @param tlsSessionTimeout How long a cached TLS session can be resumed for.
+         * @return the builder for method chaining.
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
     }
 
     /**
@@ -445,10 +660,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
         private SdkEventLoopGroup eventLoopGroup;
         private SdkEventLoopGroup.Builder eventLoopGroupBuilder;
+        private Boolean useNativeTransport;
         private Integer maxHttp2Streams;
         private Http2Configuration http2Configuration;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private Boolean zeroCopyResponseBody;
+        private Integer minIdleConnections;
+        private Boolean useNonBlockingDnsResolver;
 
         private DefaultBuilder() {
         }
@@ -549,6 +768,19 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useIdleConnectionReaper(useIdleConnectionReaper);
         }
 
+        @Override
+        public Builder minIdleConnections(Integer minIdleConnections) {
+            if (minIdleConnections != null) {
+                Validate.isNotNegative(minIdleConnections, "minIdleConnections");
+            }
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public void setMinIdleConnections(Integer minIdleConnections) {
+            minIdleConnections(minIdleConnections);
+        }
+
         @Override
         public Builder eventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
             this.eventLoopGroup = eventLoopGroup;
@@ -569,6 +801,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             eventLoopGroupBuilder(eventLoopGroupBuilder);
         }
 
+        @Override
+        public Builder useNativeTransport(Boolean useNativeTransport) {
+            this.useNativeTransport = useNativeTransport;
+            return this;
+        }
+
+        public void setUseNativeTransport(Boolean useNativeTransport) {
+            useNativeTransport(useNativeTransport);
+        }
+
         @Override
         public Builder protocol(Protocol protocol) {
             standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
@@ -638,6 +880,52 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             http2Configuration(http2Configuration);
         }
 
+        @Override
+        public Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            this.zeroCopyResponseBody = zeroCopyResponseBody;
+            return this;
+        }
+
+        public void setZeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            zeroCopyResponseBody(zeroCopyResponseBody);
+        }
+
+        @Override
+        public Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver) {
+            this.useNonBlockingDnsResolver = useNonBlockingDnsResolver;
+            return this;
+        }
+
+        public void setUseNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver) {
+            useNonBlockingDnsResolver(useNonBlockingDnsResolver);
+        }
+
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            if (tlsSessionCacheSize != null) {
+                Validate.isNotNegative(tlsSessionCacheSize, "tlsSessionCacheSize");
+            }
+            standardOptions.put(TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            if (tlsSessionTimeout != null) {
+                Validate.isNotNegative(tlsSessionTimeout, "tlsSessionTimeout");
+            }
+            standardOptions.put(TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
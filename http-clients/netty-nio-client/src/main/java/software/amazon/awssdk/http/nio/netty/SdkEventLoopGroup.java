@@ -18,8 +18,9 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -76,7 +77,7 @@ public final class SdkEventLoopGroup {
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
         this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveChannelFactory();
+        this.channelFactory = SocketChannelResolver.resolveSocketChannelFactory(eventLoopGroup);
     }
 
     /**
@@ -128,21 +129,10 @@ public final class SdkEventLoopGroup {
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElse(new ThreadFactoryBuilder().threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                                                 .build());
+        if (Boolean.TRUE.equals(builder.useNativeTransport) && Epoll.isAvailable()) {
+            return new EpollEventLoopGroup(numThreads, threadFactory);
+        }
         return new NioEventLoopGroup(numThreads, threadFactory);
-        /*
-        Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
-
-        }*/
-    }
-
-    private ChannelFactory<? extends Channel> resolveChannelFactory() {
-        // Currently we only support NioEventLoopGroup
-        return NioSocketChannel::new;
     }
 
     /**
@@ -171,6 +161,16 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * Whether to use the native epoll transport when it is available on the current platform. When enabled and
+         * {@link Epoll#isAvailable()} returns true, an {@link EpollEventLoopGroup} and matching socket channel are used.
+         * Otherwise, this falls back to the NIO transport. If not set, the NIO transport is used.
+         *
+         * @param useNativeTransport Whether to use the native transport when available.
+         * @return This builder for method chaining.
+         */
+        Builder useNativeTransport(Boolean useNativeTransport);
+
         SdkEventLoopGroup build();
     }
 
@@ -178,6 +178,7 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
+        private Boolean useNativeTransport;
 
         private DefaultBuilder() {
         }
@@ -202,6 +203,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder useNativeTransport(Boolean useNativeTransport) {
+            this.useNativeTransport = useNativeTransport;
+            return this;
+        }
+
+        public void setUseNativeTransport(Boolean useNativeTransport) {
+            useNativeTransport(useNativeTransport);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
@@ -28,10 +28,13 @@ import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
 import io.netty.handler.ssl.SupportedCipherSuiteFilter;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.resolver.AddressResolverGroup;
 import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -46,9 +49,13 @@ import javax.net.ssl.TrustManagerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
+import software.amazon.awssdk.http.nio.netty.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.ProxyConfiguration;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -82,8 +89,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final Protocol protocol;
     private final long maxStreams;
     private final int initialWindowSize;
+    private final int connectionWindowSize;
+    private final boolean adaptiveWindowSize;
+    private final int maxAdaptiveWindowSize;
+    private final Http2StreamPlacementStrategy http2StreamPlacementStrategy;
+    private final int http2MinConnections;
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
+    private final int minIdleConnections;
+    private final AddressResolverGroup<InetSocketAddress> addressResolverGroup;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder;
 
     private AwaitCloseChannelPoolMap(Builder builder) {
         this.sdkChannelOptions = builder.sdkChannelOptions;
@@ -92,8 +107,18 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         this.protocol = builder.protocol;
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
+        this.connectionWindowSize = builder.connectionWindowSize;
+        this.adaptiveWindowSize = builder.adaptiveWindowSize;
+        this.maxAdaptiveWindowSize = builder.maxAdaptiveWindowSize;
+        this.http2StreamPlacementStrategy = builder.http2StreamPlacementStrategy;
+        this.http2MinConnections = builder.http2MinConnections;
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
+        this.minIdleConnections = builder.minIdleConnections;
+        this.addressResolverGroup = builder.useNonBlockingDnsResolver
+                                    ? DnsAddressResolverGroupFactory.create(sdkEventLoopGroup.eventLoopGroup())
+                                    : null;
+        this.tlsHandshakeRecorder = builder.tlsHandshakeRecorder;
     }
 
     @SdkTestInternalApi
@@ -114,29 +139,53 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
         AtomicReference<ChannelPool> channelPoolRef = new AtomicReference<>();
 
+        IdleConnectionFloor idleConnectionFloor =
+            new IdleConnectionFloor(minIdleConnections, () -> prewarm(channelPoolRef.get(), minIdleConnections));
+        ChannelPoolMetricsCollector metricsCollector = new ChannelPoolMetricsCollector(idleConnectionFloor);
+
         ChannelPipelineInitializer pipelineInitializer = new ChannelPipelineInitializer(protocol,
                                                                                         sslContext,
                                                                                         maxStreams,
                                                                                         initialWindowSize,
+                                                                                        connectionWindowSize,
+                                                                                        adaptiveWindowSize,
+                                                                                        maxAdaptiveWindowSize,
                                                                                         channelPoolRef,
                                                                                         configuration,
-                                                                                        key);
+                                                                                        key,
+                                                                                        idleConnectionFloor,
+                                                                                        metricsCollector,
+                                                                                        tlsHandshakeRecorder);
 
         BetterSimpleChannelPool tcpChannelPool;
         ChannelPool baseChannelPool;
         if (shouldUseProxyForHost(key)) {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, NOOP_HANDLER, idleConnectionFloor);
             baseChannelPool = new Http1TunnelConnectionPool(bootstrap.config().group().next(), tcpChannelPool,
                                                             sslContext, proxyAddress(key), key, pipelineInitializer);
         } else {
-            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer);
+            tcpChannelPool = new BetterSimpleChannelPool(bootstrap, pipelineInitializer, idleConnectionFloor);
             baseChannelPool = tcpChannelPool;
         }
 
-        ChannelPool wrappedPool = wrapBaseChannelPool(bootstrap, baseChannelPool);
+        HttpOrHttp2ChannelPool protocolChannelPool = createProtocolChannelPool(bootstrap, baseChannelPool);
+        ChannelPool wrappedPool = wrapProtocolChannelPool(bootstrap, protocolChannelPool, metricsCollector);
 
         channelPoolRef.set(wrappedPool);
-        return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool);
+        return new SimpleChannelPoolAwareChannelPool(wrappedPool, tcpChannelPool, protocolChannelPool, metricsCollector);
+    }
+
+    /**
+     * @return A snapshot of the metrics of the pool of each endpoint.
+     */
+    public Map<URI, ConnectionPoolMetrics> metrics() {
+        Map<URI, ConnectionPoolMetrics> metrics = new HashMap<>();
+        pools().forEach((endpoint, pool) -> metrics.put(endpoint, pool.metrics()));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    private CompletableFuture<Void> prewarm(ChannelPool channelPool, int connections) {
+        return ChannelPoolPrewarmer.prewarm(channelPool, Math.min(connections, configuration.maxConnections()));
     }
 
     @Override
@@ -161,6 +210,10 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             throw new RuntimeException(e);
         } catch (ExecutionException | TimeoutException e) {
             throw new RuntimeException(e);
+        } finally {
+            if (addressResolverGroup != null) {
+                addressResolverGroup.close();
+            }
         }
     }
 
@@ -172,10 +225,18 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                 new Bootstrap()
                         .group(sdkEventLoopGroup.eventLoopGroup())
                         .channelFactory(sdkEventLoopGroup.channelFactory())
-                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.connectTimeoutMillis())
-                        // TODO run some performance tests with and without this.
-                        .remoteAddress(new InetSocketAddress(host, port));
-        sdkChannelOptions.channelOptions().forEach(bootstrap::option);
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, configuration.connectTimeoutMillis());
+
+        if (addressResolverGroup != null) {
+            // Leave the address unresolved, so that it's resolved (without blocking) every time a connection is established.
+            bootstrap.resolver(addressResolverGroup)
+                     .remoteAddress(InetSocketAddress.createUnresolved(host, port));
+        } else {
+            // TODO run some performance tests with and without this.
+            bootstrap.remoteAddress(new InetSocketAddress(host, port));
+        }
+        sdkChannelOptions.channelOptions(SocketChannelResolver.isNativeTransport(sdkEventLoopGroup.eventLoopGroup()))
+                         .forEach(bootstrap::option);
 
         return bootstrap;
     }
@@ -224,16 +285,24 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
     }
 
-    private ChannelPool wrapBaseChannelPool(Bootstrap bootstrap, ChannelPool channelPool) {
+    private HttpOrHttp2ChannelPool createProtocolChannelPool(Bootstrap bootstrap, ChannelPool channelPool) {
 
         // Wrap the channel pool such that the ChannelAttributeKey.CLOSE_ON_RELEASE flag is honored.
         channelPool = new HonorCloseOnReleaseChannelPool(channelPool);
 
         // Wrap the channel pool such that HTTP 2 channels won't be released to the underlying pool while they're still in use.
-        channelPool = new HttpOrHttp2ChannelPool(channelPool,
-                                                 bootstrap.config().group(),
-                                                 configuration.maxConnections(),
-                                                 configuration);
+        return new HttpOrHttp2ChannelPool(channelPool,
+                                          bootstrap.config().group(),
+                                          configuration.maxConnections(),
+                                          configuration,
+                                          http2StreamPlacementStrategy,
+                                          http2MinConnections);
+    }
+
+    private ChannelPool wrapProtocolChannelPool(Bootstrap bootstrap,
+                                                HttpOrHttp2ChannelPool protocolChannelPool,
+                                                ChannelPoolMetricsCollector metricsCollector) {
+        ChannelPool channelPool = protocolChannelPool;
 
 
         // Wrap the channel pool such that we remove request-specific handlers with each request.
@@ -250,6 +319,9 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         // from the underlying pool, the channel is closed and released.
         channelPool = new CancellableAcquireChannelPool(bootstrap.config().group().next(), channelPool);
 
+        // Wrap the channel pool such that the latency and failures of acquires are recorded in the pool's metrics.
+        channelPool = new MetricsRecordingChannelPool(channelPool, metricsCollector);
+
         return channelPool;
     }
 
@@ -264,12 +336,19 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         }
 
         try {
-            return SslContextBuilder.forClient()
-                                    .sslProvider(sslProvider)
-                                    .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
-                                    .trustManager(getTrustManager())
-                                    .keyManager(getKeyManager())
-                                    .build();
+            SslContextBuilder sslContextBuilder = SslContextBuilder.forClient()
+                                                                   .sslProvider(sslProvider)
+                                                                   .ciphers(Http2SecurityUtil.CIPHERS,
+                                                                            SupportedCipherSuiteFilter.INSTANCE)
+                                                                   .trustManager(getTrustManager())
+                                                                   .keyManager(getKeyManager());
+            if (configuration.tlsSessionCacheSize() != null) {
+                sslContextBuilder.sessionCacheSize(configuration.tlsSessionCacheSize());
+            }
+            if (configuration.tlsSessionTimeout() != null) {
+                sslContextBuilder.sessionTimeout(configuration.tlsSessionTimeout().getSeconds());
+            }
+            return sslContextBuilder.build();
         } catch (SSLException e) {
             throw new RuntimeException(e);
         }
@@ -297,8 +376,16 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private Protocol protocol;
         private long maxStreams;
         private int initialWindowSize;
+        private int connectionWindowSize;
+        private boolean adaptiveWindowSize;
+        private int maxAdaptiveWindowSize;
+        private Http2StreamPlacementStrategy http2StreamPlacementStrategy = Http2StreamPlacementStrategy.FIRST_AVAILABLE;
+        private int http2MinConnections;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
+        private int minIdleConnections;
+        private boolean useNonBlockingDnsResolver;
+        private TlsHandshakeRecorder tlsHandshakeRecorder = new TlsHandshakeRecorder();
 
         private Builder() {
         }
@@ -333,6 +420,31 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder connectionWindowSize(int connectionWindowSize) {
+            this.connectionWindowSize = connectionWindowSize;
+            return this;
+        }
+
+        public Builder adaptiveWindowSize(boolean adaptiveWindowSize) {
+            this.adaptiveWindowSize = adaptiveWindowSize;
+            return this;
+        }
+
+        public Builder maxAdaptiveWindowSize(int maxAdaptiveWindowSize) {
+            this.maxAdaptiveWindowSize = maxAdaptiveWindowSize;
+            return this;
+        }
+
+        public Builder http2StreamPlacementStrategy(Http2StreamPlacementStrategy http2StreamPlacementStrategy) {
+            this.http2StreamPlacementStrategy = http2StreamPlacementStrategy;
+            return this;
+        }
+
+        public Builder http2MinConnections(int http2MinConnections) {
+            this.http2MinConnections = http2MinConnections;
+            return this;
+        }
+
         public Builder sslProvider(SslProvider sslProvider) {
             this.sslProvider = sslProvider;
             return this;
@@ -343,6 +455,21 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder minIdleConnections(int minIdleConnections) {
+            this.minIdleConnections = minIdleConnections;
+            return this;
+        }
+
+        public Builder useNonBlockingDnsResolver(boolean useNonBlockingDnsResolver) {
+            this.useNonBlockingDnsResolver = useNonBlockingDnsResolver;
+            return this;
+        }
+
+        public Builder tlsHandshakeRecorder(TlsHandshakeRecorder tlsHandshakeRecorder) {
+            this.tlsHandshakeRecorder = tlsHandshakeRecorder;
+            return this;
+        }
+
         public AwaitCloseChannelPoolMap build() {
             return new AwaitCloseChannelPoolMap(this);
         }
@@ -16,25 +16,61 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.channel.pool.SimpleChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 /**
- * Extension of {@link SimpleChannelPool} to add an asynchronous close method
+ * Extension of {@link SimpleChannelPool} to add an asynchronous close method and to keep an {@link IdleConnectionFloor}
+ * informed of the channels that are idle in the pool.
  */
 @SdkInternalApi
 public final class BetterSimpleChannelPool extends SimpleChannelPool {
     private final CompletableFuture<Boolean> closeFuture;
+    private final IdleConnectionFloor idleConnectionFloor;
 
-    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler) {
+    BetterSimpleChannelPool(Bootstrap bootstrap, ChannelPoolHandler handler, IdleConnectionFloor idleConnectionFloor) {
         super(bootstrap, handler);
-        closeFuture = new CompletableFuture<>();
+        this.closeFuture = new CompletableFuture<>();
+        this.idleConnectionFloor = idleConnectionFloor;
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        promise.addListener((FutureListener<Channel>) f -> {
+            if (f.isSuccess()) {
+                idleConnectionFloor.channelAcquired(f.getNow());
+            }
+        });
+        return super.acquire(promise);
+    }
+
+    @Override
+    protected Channel pollChannel() {
+        Channel channel = super.pollChannel();
+        if (channel != null) {
+            idleConnectionFloor.channelLeased(channel);
+        }
+        return channel;
+    }
+
+    @Override
+    protected boolean offerChannel(Channel channel) {
+        boolean offered = super.offerChannel(channel);
+        if (offered) {
+            idleConnectionFloor.channelIdle(channel);
+        }
+        return offered;
     }
 
     @Override
     public void close() {
+        idleConnectionFloor.close();
         super.close();
         closeFuture.complete(true);
     }
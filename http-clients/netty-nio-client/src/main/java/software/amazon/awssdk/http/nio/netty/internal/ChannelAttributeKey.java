@@ -45,6 +45,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<Http2MultiplexedChannelPool> HTTP2_MULTIPLEXED_CHANNEL_POOL = AttributeKey.newInstance(
         "aws.http.nio.netty.async.http2MultiplexedChannelPool");
 
+    /**
+     * Reference to the {@link ChannelPoolMetricsCollector} of the pool the connection belongs to.
+     */
+    public static final AttributeKey<ChannelPoolMetricsCollector> CHANNEL_POOL_METRICS = AttributeKey.newInstance(
+        "aws.http.nio.netty.async.channelPoolMetrics");
+
     public static final AttributeKey<PingTracker> PING_TRACKER =
         AttributeKey.newInstance("aws.http.nio.netty.async.h2.pingTracker");
 
@@ -94,6 +100,12 @@ public final class ChannelAttributeKey {
      */
     static final AttributeKey<Boolean> CLOSE_ON_RELEASE = AttributeKey.newInstance("aws.http.nio.netty.async.closeOnRelease");
 
+    /**
+     * Whether the {@link IdleConnectionFloor} is already listening for the channel to be closed.
+     */
+    static final AttributeKey<Boolean> IDLE_FLOOR_TRACKED = AttributeKey.newInstance(
+        "aws.http.nio.netty.async.idleFloorTracked");
+
     private ChannelAttributeKey() {
     }
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.nio.netty.internal;
 
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.CHANNEL_POOL_METRICS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.HTTP2_CONNECTION_PING_TIMEOUT_SECONDS;
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
@@ -41,6 +42,8 @@ import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlWindowHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
@@ -54,29 +57,48 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final SslContext sslCtx;
     private final long clientMaxStreams;
     private final int clientInitialWindowSize;
+    private final int clientConnectionWindowSize;
+    private final boolean adaptiveWindowSize;
+    private final int maxAdaptiveWindowSize;
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
     private final URI poolKey;
+    private final IdleConnectionFloor idleConnectionFloor;
+    private final ChannelPoolMetricsCollector metricsCollector;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder;
 
     public ChannelPipelineInitializer(Protocol protocol,
                                       SslContext sslCtx,
                                       long clientMaxStreams,
                                       int clientInitialWindowSize,
+                                      int clientConnectionWindowSize,
+                                      boolean adaptiveWindowSize,
+                                      int maxAdaptiveWindowSize,
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
-                                      URI poolKey) {
+                                      URI poolKey,
+                                      IdleConnectionFloor idleConnectionFloor,
+                                      ChannelPoolMetricsCollector metricsCollector,
+                                      TlsHandshakeRecorder tlsHandshakeRecorder) {
         this.protocol = protocol;
         this.sslCtx = sslCtx;
         this.clientMaxStreams = clientMaxStreams;
         this.clientInitialWindowSize = clientInitialWindowSize;
+        this.clientConnectionWindowSize = clientConnectionWindowSize;
+        this.adaptiveWindowSize = adaptiveWindowSize;
+        this.maxAdaptiveWindowSize = maxAdaptiveWindowSize;
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
         this.poolKey = poolKey;
+        this.idleConnectionFloor = idleConnectionFloor;
+        this.metricsCollector = metricsCollector;
+        this.tlsHandshakeRecorder = tlsHandshakeRecorder;
     }
 
     @Override
     public void channelCreated(Channel ch) {
         ch.attr(PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        ch.attr(CHANNEL_POOL_METRICS).set(metricsCollector);
         ChannelPipeline pipeline = ch.pipeline();
         if (sslCtx != null) {
 
@@ -84,6 +106,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
             // https://github.com/netty/netty/issues/3801#issuecomment-104274440
             SslHandler sslHandler = sslCtx.newHandler(ch.alloc(), poolKey.getHost(), poolKey.getPort());
             configureSslEngine(sslHandler.engine());
+            recordHandshake(sslHandler);
 
             pipeline.addLast(sslHandler);
             pipeline.addLast(SslCloseCompletionEventHandler.getInstance());
@@ -96,7 +119,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         }
 
         if (configuration.reapIdleConnections()) {
-            pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis()));
+            pipeline.addLast(new IdleConnectionReaperHandler(configuration.idleTimeoutMillis(), idleConnectionFloor));
         }
 
         if (configuration.connectionTtlMillis() > 0) {
@@ -122,6 +145,16 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         sslEngine.setSSLParameters(sslParameters);
     }
 
+    private void recordHandshake(SslHandler sslHandler) {
+        // The handshake starts once the channel is connected, so this is no later than its start.
+        long handshakeStartMillis = System.currentTimeMillis();
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (future.isSuccess()) {
+                tlsHandshakeRecorder.handshakeCompleted(sslHandler.engine().getSession(), handshakeStartMillis);
+            }
+        });
+    }
+
     private void configureHttp2(Channel ch, ChannelPipeline pipeline) {
         // Using Http2FrameCodecBuilder and Http2MultiplexHandler based on 4.1.37 release notes
         // https://netty.io/news/2019/06/28/4-1-37-Final.html
@@ -139,6 +172,13 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         codec.connection().addListener(new Http2GoAwayEventListener(ch));
 
         pipeline.addLast(codec);
+        if (clientConnectionWindowSize > 0 || adaptiveWindowSize) {
+            pipeline.addLast(new Http2FlowControlWindowHandler(codec.connection(),
+                                                               clientInitialWindowSize,
+                                                               clientConnectionWindowSize,
+                                                               adaptiveWindowSize,
+                                                               maxAdaptiveWindowSize));
+        }
         pipeline.addLast(new Http2MultiplexHandler(new NoOpChannelInitializer()));
         pipeline.addLast(new Http2SettingsFrameHandler(ch, clientMaxStreams, channelPoolRef));
         pipeline.addLast(new Http2PingHandler(HTTP2_CONNECTION_PING_TIMEOUT_SECONDS * 1_000));
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
+
+/**
+ * Records the events of a single endpoint's connection pool that are reported through {@link ConnectionPoolMetrics}.
+ * Recording is lock-free, so that it can be done on the hot path of every request.
+ */
+@SdkInternalApi
+public final class ChannelPoolMetricsCollector {
+    private static final long[] LATENCY_BUCKET_BOUNDS_MILLIS = {
+        1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000
+    };
+
+    private final IdleConnectionFloor idleConnectionFloor;
+    private final AtomicLongArray acquireLatencyBuckets = new AtomicLongArray(LATENCY_BUCKET_BOUNDS_MILLIS.length + 1);
+    private final LongAdder acquireFailures = new LongAdder();
+    private final LongAdder goAwaysReceived = new LongAdder();
+    private final LongAdder pingFailures = new LongAdder();
+
+    ChannelPoolMetricsCollector(IdleConnectionFloor idleConnectionFloor) {
+        this.idleConnectionFloor = idleConnectionFloor;
+    }
+
+    void acquireSucceeded(long acquireLatencyNanos) {
+        long acquireLatencyMillis = TimeUnit.NANOSECONDS.toMillis(acquireLatencyNanos);
+        int bucket = 0;
+        while (bucket < LATENCY_BUCKET_BOUNDS_MILLIS.length && acquireLatencyMillis > LATENCY_BUCKET_BOUNDS_MILLIS[bucket]) {
+            ++bucket;
+        }
+        acquireLatencyBuckets.incrementAndGet(bucket);
+    }
+
+    void acquireFailed() {
+        acquireFailures.increment();
+    }
+
+    public void goAwayReceived() {
+        goAwaysReceived.increment();
+    }
+
+    public void pingFailed() {
+        pingFailures.increment();
+    }
+
+    /**
+     * Take a snapshot of the recorded events and of the current state of the given pool.
+     */
+    ConnectionPoolMetrics snapshot(HttpOrHttp2ChannelPool protocolChannelPool) {
+        ConnectionPoolMetrics.Builder metrics = ConnectionPoolMetrics.builder()
+                                                                     .pendingAcquires(protocolChannelPool.pendingAcquires())
+                                                                     .acquireLatencyHistogram(acquireLatencyHistogram())
+                                                                     .acquireFailures(acquireFailures.sum())
+                                                                     .goAwaysReceived(goAwaysReceived.sum())
+                                                                     .pingFailures(pingFailures.sum());
+
+        List<Long> http2StreamsInUse = protocolChannelPool.http2StreamsInUse();
+        if (http2StreamsInUse == null) {
+            return metrics.leasedConnections(protocolChannelPool.acquiredChannels())
+                          .idleConnections(idleConnectionFloor.idleConnections())
+                          .build();
+        }
+
+        int leasedConnections = (int) http2StreamsInUse.stream().filter(streams -> streams > 0).count();
+        return metrics.leasedConnections(leasedConnections)
+                      .idleConnections(http2StreamsInUse.size() - leasedConnections)
+                      .http2StreamsInUse(http2StreamsInUse)
+                      .build();
+    }
+
+    private Map<Duration, Long> acquireLatencyHistogram() {
+        Map<Duration, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MILLIS.length; i++) {
+            histogram.put(Duration.ofMillis(LATENCY_BUCKET_BOUNDS_MILLIS[i]), acquireLatencyBuckets.get(i));
+        }
+        histogram.put(ChronoUnit.FOREVER.getDuration(), acquireLatencyBuckets.get(LATENCY_BUCKET_BOUNDS_MILLIS.length));
+        return histogram;
+    }
+}
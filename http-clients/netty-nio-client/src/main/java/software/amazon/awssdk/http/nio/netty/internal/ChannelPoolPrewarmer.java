@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.ssl.SslHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Opens connections in a {@link ChannelPool} ahead of time, so that requests do not pay for the TCP and TLS handshakes.
+ */
+@SdkInternalApi
+public final class ChannelPoolPrewarmer {
+    private ChannelPoolPrewarmer() {
+    }
+
+    /**
+     * Concurrently acquire the given number of channels from the pool, wait for their TLS handshakes to complete and
+     * release them all back to the pool. Channels that are already idle in the pool are reused, so after the returned
+     * future completes successfully the pool holds at least the requested number of warm connections.
+     *
+     * @param channelPool The pool to prewarm.
+     * @param connections The number of channels to acquire.
+     * @return A future that is completed once all channels have been released back to the pool, or completed exceptionally
+     * if any of them could not be established.
+     */
+    public static CompletableFuture<Void> prewarm(ChannelPool channelPool, int connections) {
+        List<CompletableFuture<Channel>> acquiredChannels = new ArrayList<>(connections);
+        List<CompletableFuture<Void>> warmChannels = new ArrayList<>(connections);
+
+        for (int i = 0; i < connections; i++) {
+            CompletableFuture<Channel> acquiredChannel = new CompletableFuture<>();
+            channelPool.acquire().addListener(f -> {
+                if (f.isSuccess()) {
+                    acquiredChannel.complete((Channel) f.getNow());
+                } else {
+                    acquiredChannel.completeExceptionally(f.cause());
+                }
+            });
+            acquiredChannels.add(acquiredChannel);
+            warmChannels.add(acquiredChannel.thenCompose(ChannelPoolPrewarmer::handshakeFuture));
+        }
+
+        CompletableFuture<Void> result = CompletableFuture.allOf(warmChannels.toArray(new CompletableFuture[0]));
+        return result.whenComplete((r, t) -> acquiredChannels.forEach(c -> c.thenAccept(channelPool::release)));
+    }
+
+    private static CompletableFuture<Void> handshakeFuture(Channel channel) {
+        // HTTP/2 pools hand out stream channels, the TLS handshake happens on the parent connection.
+        Channel connection = channel.parent() != null ? channel.parent() : channel;
+        SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+
+        CompletableFuture<Void> handshakeFuture = new CompletableFuture<>();
+        if (sslHandler == null) {
+            handshakeFuture.complete(null);
+            return handshakeFuture;
+        }
+
+        sslHandler.handshakeFuture().addListener(f -> {
+            if (f.isSuccess()) {
+                handshakeFuture.complete(null);
+            } else {
+                handshakeFuture.completeExceptionally(f.cause());
+            }
+        });
+        return handshakeFuture;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+import java.net.InetSocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
+
+/**
+ * Creates the non-blocking DNS resolver used by the client when
+ * {@link software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient.Builder#useNonBlockingDnsResolver(Boolean)} is
+ * enabled.
+ *
+ * <p>This is the only class that refers to netty-resolver-dns, which is an optional dependency, so that the client can be
+ * used without it as long as the non-blocking resolver is not enabled.</p>
+ */
+@SdkInternalApi
+final class DnsAddressResolverGroupFactory {
+    private DnsAddressResolverGroupFactory() {
+    }
+
+    /**
+     * Create a resolver group whose resolvers query DNS asynchronously on the event loops of the given group. Resolved
+     * addresses are cached (and shared between event loops) for the TTL of their DNS records, and each resolution picks one
+     * of the endpoint's addresses at random, so that the connections to an endpoint are spread across all of its
+     * addresses.
+     */
+    static AddressResolverGroup<InetSocketAddress> create(EventLoopGroup eventLoopGroup) {
+        DnsNameResolverBuilder resolverBuilder =
+            new DnsNameResolverBuilder().channelFactory(SocketChannelResolver.resolveDatagramChannelFactory(eventLoopGroup))
+                                        .resolveCache(new DefaultDnsCache());
+        return new RoundRobinDnsAddressResolverGroup(resolverBuilder);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Tracks the open, idle connections of a single endpoint's connection pool so that a minimum number of them can be kept
+ * warm, and so that their number can be reported in the pool's metrics. The {@link IdleConnectionReaperHandler} consults
+ * this floor before closing an idle connection, and the configured replenish task is run whenever an idle connection is
+ * closed while fewer than the minimum remain open.
+ *
+ * <p>The floor is first filled after the pool completes its first acquire, so that opening the idle connections doesn't
+ * compete with that acquire for the pool's connections.</p>
+ */
+@SdkInternalApi
+public final class IdleConnectionFloor {
+    private static final Logger log = Logger.loggerFor(IdleConnectionFloor.class);
+
+    private final int minIdleConnections;
+    private final Supplier<CompletableFuture<?>> replenishTask;
+    private final Set<Channel> idleChannels = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final AtomicBoolean replenishing = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+
+    IdleConnectionFloor(int minIdleConnections, Supplier<CompletableFuture<?>> replenishTask) {
+        this.minIdleConnections = minIdleConnections;
+        this.replenishTask = replenishTask;
+    }
+
+    public int minIdleConnections() {
+        return minIdleConnections;
+    }
+
+    /**
+     * @return The number of open connections currently idle in the pool.
+     */
+    public int idleConnections() {
+        return idleChannels.size();
+    }
+
+    /**
+     * Invoked when a connection is returned to the pool.
+     */
+    void channelIdle(Channel channel) {
+        if (closed) {
+            return;
+        }
+
+        idleChannels.add(channel);
+
+        if (channel.attr(ChannelAttributeKey.IDLE_FLOOR_TRACKED).setIfAbsent(Boolean.TRUE) == null) {
+            channel.closeFuture().addListener((ChannelFutureListener) f -> idleChannelClosed(f.channel()));
+        }
+    }
+
+    /**
+     * Invoked when the pool has completed an acquire, with either a new or an idle connection.
+     */
+    void channelAcquired(Channel channel) {
+        if (started.compareAndSet(false, true)) {
+            // Fill the floor once the acquire has been handed to its caller.
+            channel.eventLoop().execute(this::replenish);
+        }
+    }
+
+    /**
+     * Invoked when a connection is taken out of the pool.
+     */
+    void channelLeased(Channel channel) {
+        idleChannels.remove(channel);
+    }
+
+    /**
+     * Determine whether the given idle connection can be closed without dropping below the minimum number of idle
+     * connections. If it can, the connection stops counting towards the floor.
+     */
+    synchronized boolean tryReap(Channel channel) {
+        if (!idleChannels.contains(channel)) {
+            return true;
+        }
+
+        if (idleChannels.size() <= minIdleConnections) {
+            return false;
+        }
+
+        idleChannels.remove(channel);
+        return true;
+    }
+
+    /**
+     * Open connections until the pool holds the minimum number of idle connections, unless that is already in progress or
+     * the pool hasn't completed an acquire yet.
+     */
+    void replenish() {
+        if (minIdleConnections == 0 || closed || !started.get() || !replenishing.compareAndSet(false, true)) {
+            return;
+        }
+
+        replenishTask.get().whenComplete((r, t) -> {
+            replenishing.set(false);
+            if (t != null) {
+                log.debug(() -> "Unable to open the minimum number of idle connections.", t);
+            }
+        });
+    }
+
+    void close() {
+        closed = true;
+        idleChannels.clear();
+    }
+
+    private void idleChannelClosed(Channel channel) {
+        if (idleChannels.remove(channel) && !closed && idleChannels.size() < minIdleConnections) {
+            replenish();
+        }
+    }
+}
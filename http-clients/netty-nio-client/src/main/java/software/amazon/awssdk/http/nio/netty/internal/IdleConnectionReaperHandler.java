@@ -23,16 +23,19 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.Logger;
 
 /**
- * A handler that closes unused channels that have not had any traffic on them for a configurable amount of time.
+ * A handler that closes unused channels that have not had any traffic on them for a configurable amount of time. Channels
+ * that are needed to keep the pool at its {@link IdleConnectionFloor} are left open.
  */
 @SdkInternalApi
 public class IdleConnectionReaperHandler extends IdleStateHandler {
     private static final Logger log = Logger.loggerFor(IdleConnectionReaperHandler.class);
     private final int maxIdleTimeMillis;
+    private final IdleConnectionFloor idleConnectionFloor;
 
-    public IdleConnectionReaperHandler(int maxIdleTimeMillis) {
+    public IdleConnectionReaperHandler(int maxIdleTimeMillis, IdleConnectionFloor idleConnectionFloor) {
         super(0, 0, maxIdleTimeMillis, TimeUnit.MILLISECONDS);
         this.maxIdleTimeMillis = maxIdleTimeMillis;
+        this.idleConnectionFloor = idleConnectionFloor;
     }
 
     @Override
@@ -42,6 +45,12 @@ public class IdleConnectionReaperHandler extends IdleStateHandler {
         boolean channelNotInUse = Boolean.FALSE.equals(ctx.channel().attr(ChannelAttributeKey.IN_USE).get());
 
         if (channelNotInUse && ctx.channel().isOpen()) {
+            if (!idleConnectionFloor.tryReap(ctx.channel())) {
+                log.trace(() -> "Keeping unused connection (" + ctx.channel().id() + ") open to maintain "
+                                + idleConnectionFloor.minIdleConnections() + " idle connections.");
+                return;
+            }
+
             log.debug(() -> "Closing unused connection (" + ctx.channel().id() + ") because it has been idle for longer than " +
                             maxIdleTimeMillis + " milliseconds.");
             ctx.close();
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Simple decorator {@link ChannelPool} that records the latency of successful acquires and the number of failed acquires
+ * in a {@link ChannelPoolMetricsCollector}.
+ */
+@SdkInternalApi
+public final class MetricsRecordingChannelPool implements ChannelPool {
+    private final ChannelPool delegatePool;
+    private final ChannelPoolMetricsCollector metricsCollector;
+
+    public MetricsRecordingChannelPool(ChannelPool delegatePool, ChannelPoolMetricsCollector metricsCollector) {
+        this.delegatePool = delegatePool;
+        this.metricsCollector = metricsCollector;
+    }
+
+    @Override
+    public Future<Channel> acquire() {
+        return recordAcquire(System.nanoTime(), delegatePool.acquire());
+    }
+
+    @Override
+    public Future<Channel> acquire(Promise<Channel> promise) {
+        return recordAcquire(System.nanoTime(), delegatePool.acquire(promise));
+    }
+
+    private Future<Channel> recordAcquire(long acquireStartNanos, Future<Channel> channelFuture) {
+        channelFuture.addListener(f -> {
+            if (f.isSuccess()) {
+                metricsCollector.acquireSucceeded(System.nanoTime() - acquireStartNanos);
+            } else if (!f.isCancelled()) {
+                metricsCollector.acquireFailed();
+            }
+        });
+        return channelFuture;
+    }
+
+    @Override
+    public Future<Void> release(Channel channel) {
+        return delegatePool.release(channel);
+    }
+
+    @Override
+    public Future<Void> release(Channel channel, Promise<Void> promise) {
+        return delegatePool.release(channel, promise);
+    }
+
+    @Override
+    public void close() {
+        delegatePool.close();
+    }
+}
@@ -28,15 +28,25 @@ public final class RequestContext {
     private final EventLoopGroup eventLoopGroup;
     private final AsyncExecuteRequest executeRequest;
     private final NettyConfiguration configuration;
+    private final boolean zeroCopyResponseBody;
 
     public RequestContext(ChannelPool channelPool,
                           EventLoopGroup eventLoopGroup,
                           AsyncExecuteRequest executeRequest,
                           NettyConfiguration configuration) {
+        this(channelPool, eventLoopGroup, executeRequest, configuration, false);
+    }
+
+    public RequestContext(ChannelPool channelPool,
+                          EventLoopGroup eventLoopGroup,
+                          AsyncExecuteRequest executeRequest,
+                          NettyConfiguration configuration,
+                          boolean zeroCopyResponseBody) {
         this.channelPool = channelPool;
         this.eventLoopGroup = eventLoopGroup;
         this.executeRequest = executeRequest;
         this.configuration = configuration;
+        this.zeroCopyResponseBody = zeroCopyResponseBody;
     }
 
     public ChannelPool channelPool() {
@@ -64,4 +74,12 @@ public final class RequestContext {
     public NettyConfiguration configuration() {
         return configuration;
     }
+
+    /**
+     * @return Whether response content should be published as read-only views of the pooled Netty buffers instead of heap
+     * copies. See {@code NettyNioAsyncHttpClient.Builder#zeroCopyResponseBody(Boolean)} for the release contract.
+     */
+    public boolean zeroCopyResponseBody() {
+        return zeroCopyResponseBody;
+    }
 }
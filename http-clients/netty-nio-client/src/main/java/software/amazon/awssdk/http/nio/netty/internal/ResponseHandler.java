@@ -47,6 +47,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -209,10 +211,28 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
             response.subscribe(new Subscriber<HttpContent>() {
+                /**
+                 * In zero-copy mode, the content most recently published to the subscriber that has not been released yet.
+                 */
+                private final AtomicReference<HttpContent> unreleasedContent = new AtomicReference<>();
+
+                /**
+                 * In zero-copy mode, the demand signalled by the subscriber that has not been fulfilled yet.
+                 */
+                private final AtomicLong outstandingDemand = new AtomicLong();
+
+                /**
+                 * In zero-copy mode, whether completion is being held back until the last published content is released.
+                 */
+                private final AtomicBoolean completionDeferred = new AtomicBoolean(false);
+
                 @Override
                 public void onSubscribe(Subscription subscription) {
-                    subscriber.onSubscribe(new OnCancelSubscription(resolveSubscription(subscription),
-                                                                    this::onCancel));
+                    Subscription resolvedSubscription = resolveSubscription(subscription);
+                    if (requestContext.zeroCopyResponseBody()) {
+                        resolvedSubscription = new ReleasingSubscription(resolvedSubscription);
+                    }
+                    subscriber.onSubscribe(new OnCancelSubscription(resolvedSubscription, this::onCancel));
                 }
 
                 private Subscription resolveSubscription(Subscription subscription) {
@@ -225,6 +245,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                 }
 
                 private void onCancel() {
+                    releaseUnreleasedContent();
                     if (!isDone.compareAndSet(false, true)) {
                         return;
                     }
@@ -246,6 +267,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (requestContext.zeroCopyResponseBody()) {
+                        onNextWithoutCopy(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -261,8 +287,46 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publishes a read-only view of the content without copying it. The content stays retained until the
+                 * subscriber signals more demand or cancels, so the subscriber may keep using the buffer asynchronously
+                 * until then.
+                 */
+                private void onNextWithoutCopy(HttpContent httpContent) {
+                    // Receiving more content means the subscriber requested more, so it is done with the previous buffer.
+                    releaseUnreleasedContent();
+
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                    } catch (Throwable t) {
+                        httpContent.release();
+                        onError(t);
+                        return;
+                    }
+
+                    outstandingDemand.decrementAndGet();
+                    unreleasedContent.set(httpContent);
+                    tryCatch(() -> subscriber.onNext(byteBuffer),
+                             this::notifyError);
+
+                    // A subscriber that still has demand left doesn't wait for a request before using the next buffer,
+                    // so it can't rely on this one past onNext.
+                    if (outstandingDemand.get() > 0) {
+                        releaseUnreleasedContent();
+                    }
+                }
+
+                private void releaseUnreleasedContent() {
+                    HttpContent content = unreleasedContent.getAndSet(null);
+                    if (content != null) {
+                        content.release();
+                    }
+                }
+
                 @Override
                 public void onError(Throwable t) {
+                    releaseUnreleasedContent();
                     if (!isDone.compareAndSet(false, true)) {
                         return;
                     }
@@ -278,6 +342,25 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
                 @Override
                 public void onComplete() {
+                    if (requestContext.zeroCopyResponseBody()) {
+                        // The subscriber may still be using the last buffer, so hold back completion until it asks for
+                        // more data, which releases the buffer.
+                        completionDeferred.set(true);
+                        if (unreleasedContent.get() == null) {
+                            completeIfDeferred();
+                        }
+                        return;
+                    }
+                    complete();
+                }
+
+                private void completeIfDeferred() {
+                    if (completionDeferred.compareAndSet(true, false)) {
+                        complete();
+                    }
+                }
+
+                private void complete() {
                     // For HTTP/2 it's possible to get an onComplete after we cancel due to the channel becoming
                     // inactive. We guard against that here and just ignore the signal (see HandlerPublisher)
                     if (!isDone.compareAndSet(false, true)) {
@@ -299,6 +382,31 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     executeFuture.completeExceptionally(throwable);
                 }
 
+                /**
+                 * Releases the previously published content when the subscriber signals more demand, and delivers a
+                 * deferred completion once that content is released.
+                 */
+                class ReleasingSubscription extends DelegatingSubscription {
+
+                    ReleasingSubscription(Subscription subscription) {
+                        super(subscription);
+                    }
+
+                    @Override
+                    public void request(long n) {
+                        if (n > 0) {
+                            outstandingDemand.accumulateAndGet(n, (current, added) -> {
+                                long sum = current + added;
+                                return sum < 0 ? Long.MAX_VALUE : sum;
+                            });
+                        }
+                        releaseUnreleasedContent();
+                        completeIfDeferred();
+                        if (!isDone.get()) {
+                            super.request(n);
+                        }
+                    }
+                }
             });
         }
     }
@@ -16,14 +16,24 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.ChannelOption;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
 @SdkInternalApi
 public final class SdkChannelOptions {
 
+    /**
+     * Native transport options are registered under the name of the class declaring them, such as
+     * {@code EpollChannelOption#TCP_QUICKACK}.
+     */
+    private static final List<String> NATIVE_OPTION_PREFIXES = Arrays.asList("io.netty.channel.epoll.",
+                                                                              "io.netty.channel.unix.");
+
     private Map<ChannelOption, Object> options;
 
     public SdkChannelOptions() {
@@ -40,4 +50,26 @@ public final class SdkChannelOptions {
     public Map<ChannelOption, Object> channelOptions() {
         return Collections.unmodifiableMap(options);
     }
+
+    /**
+     * Returns the options applicable to a channel of the given transport. Native transport options (such as
+     * {@code EpollChannelOption}) are dropped for non-native channels, which would otherwise log an unknown option warning
+     * for every connection created.
+     *
+     * @param nativeTransport Whether the channel uses a native transport.
+     * @return The applicable channel options.
+     */
+    public Map<ChannelOption, Object> channelOptions(boolean nativeTransport) {
+        if (nativeTransport) {
+            return channelOptions();
+        }
+        return Collections.unmodifiableMap(options.entrySet()
+                                                  .stream()
+                                                  .filter(e -> !isNativeOption(e.getKey()))
+                                                  .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    private static boolean isNativeOption(ChannelOption<?> channelOption) {
+        return NATIVE_OPTION_PREFIXES.stream().anyMatch(channelOption.name()::startsWith);
+    }
 }
@@ -20,15 +20,24 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
 
 @SdkInternalApi
 final class SimpleChannelPoolAwareChannelPool implements ChannelPool {
     private final ChannelPool delegate;
     private final BetterSimpleChannelPool simpleChannelPool;
+    private final HttpOrHttp2ChannelPool protocolChannelPool;
+    private final ChannelPoolMetricsCollector metricsCollector;
 
-    SimpleChannelPoolAwareChannelPool(ChannelPool delegate, BetterSimpleChannelPool simpleChannelPool) {
+    SimpleChannelPoolAwareChannelPool(ChannelPool delegate,
+                                      BetterSimpleChannelPool simpleChannelPool,
+                                      HttpOrHttp2ChannelPool protocolChannelPool,
+                                      ChannelPoolMetricsCollector metricsCollector) {
         this.delegate = delegate;
         this.simpleChannelPool = simpleChannelPool;
+        this.protocolChannelPool = protocolChannelPool;
+        this.metricsCollector = metricsCollector;
     }
 
     @Override
@@ -60,4 +69,8 @@ final class SimpleChannelPoolAwareChannelPool implements ChannelPool {
         return simpleChannelPool;
     }
 
+    public ConnectionPoolMetrics metrics() {
+        return metricsCollector.snapshot(protocolChannelPool);
+    }
+
 }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.DefaultHttp2SettingsFrame;
+import io.netty.handler.codec.http2.DefaultHttp2WindowUpdateFrame;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2DataFrame;
+import io.netty.handler.codec.http2.Http2Settings;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Sizes the flow-control windows of an HTTP/2 connection. This must be added to the pipeline directly after the
+ * {@link io.netty.handler.codec.http2.Http2FrameCodec}, so that it sees the DATA frames of all streams.
+ *
+ * <p>Once HTTP/2 has been negotiated, the connection-level window is grown to the configured connection window size. If
+ * adaptive sizing is enabled, the number of bytes received between two {@link Http2PingAckEvent}s is used to estimate the
+ * bandwidth-delay product of the connection. Whenever the estimate shows that a round trip's worth of data nearly fills the
+ * current window, the window is the bottleneck and both the stream and connection windows are grown to twice the estimate,
+ * up to the configured maximum. Because the windows are only replenished when the received data is consumed, a slow
+ * consumer keeps the estimate (and therefore the windows) small.</p>
+ */
+@SdkInternalApi
+public final class Http2FlowControlWindowHandler extends ChannelInboundHandlerAdapter {
+    private static final Logger log = Logger.loggerFor(Http2FlowControlWindowHandler.class);
+
+    /**
+     * The fraction of the stream window that must be received during one round trip for the window to be considered the
+     * bottleneck of the connection.
+     */
+    private static final double WINDOW_BOUND_THRESHOLD = 2.0 / 3.0;
+
+    private final Http2Connection connection;
+    private final int connectionWindowSize;
+    private final boolean adaptiveWindowSize;
+    private final int maxAdaptiveWindowSize;
+
+    // Only read or write in the channel's event loop
+    private int streamWindowSize;
+    private int currentConnectionWindowSize;
+    private long bytesReceived;
+    private long sampleStartNanos;
+    private boolean started;
+
+    /**
+     * @param connection The connection of the {@link io.netty.handler.codec.http2.Http2FrameCodec}.
+     * @param initialWindowSize The initial window size of streams, as sent in the client's initial SETTINGS.
+     * @param connectionWindowSize The size to grow the connection-level window to, or 0 to leave it unchanged.
+     * @param adaptiveWindowSize Whether the windows should be grown based on the observed bandwidth-delay product.
+     * @param maxAdaptiveWindowSize The size that adaptive sizing will not grow the windows beyond.
+     */
+    public Http2FlowControlWindowHandler(Http2Connection connection,
+                                         int initialWindowSize,
+                                         int connectionWindowSize,
+                                         boolean adaptiveWindowSize,
+                                         int maxAdaptiveWindowSize) {
+        this.connection = connection;
+        this.streamWindowSize = initialWindowSize;
+        this.connectionWindowSize = connectionWindowSize;
+        this.adaptiveWindowSize = adaptiveWindowSize;
+        this.maxAdaptiveWindowSize = maxAdaptiveWindowSize;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        CompletableFuture<Protocol> protocolFuture = ctx.channel().attr(ChannelAttributeKey.PROTOCOL_FUTURE).get();
+        Validate.validState(protocolFuture != null, "Protocol future must be initialized before handler is added.");
+        protocolFuture.thenAccept(protocol -> {
+            if (protocol == Protocol.HTTP2) {
+                doInEventLoop(ctx.channel().eventLoop(), () -> start(ctx));
+            }
+        });
+    }
+
+    private void start(ChannelHandlerContext ctx) {
+        if (started || ctx.isRemoved()) {
+            return;
+        }
+        started = true;
+
+        currentConnectionWindowSize = connection.local().flowController().windowSize(connection.connectionStream());
+        growConnectionWindow(ctx, connectionWindowSize);
+
+        sampleStartNanos = System.nanoTime();
+        bytesReceived = 0;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (adaptiveWindowSize && msg instanceof Http2DataFrame) {
+            bytesReceived += ((Http2DataFrame) msg).initialFlowControlledBytes();
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+        if (adaptiveWindowSize && started && evt instanceof Http2PingAckEvent) {
+            roundTripTimeMeasured(ctx, ((Http2PingAckEvent) evt).roundTripTimeNanos());
+        }
+        ctx.fireUserEventTriggered(evt);
+    }
+
+    private void roundTripTimeMeasured(ChannelHandlerContext ctx, long roundTripTimeNanos) {
+        long now = System.nanoTime();
+        long sampleNanos = now - sampleStartNanos;
+        long sampleBytes = bytesReceived;
+        sampleStartNanos = now;
+        bytesReceived = 0;
+
+        if (sampleNanos <= 0 || roundTripTimeNanos <= 0 || streamWindowSize >= maxAdaptiveWindowSize) {
+            return;
+        }
+
+        double bandwidthDelayProduct = (double) sampleBytes * roundTripTimeNanos / sampleNanos;
+        if (bandwidthDelayProduct < streamWindowSize * WINDOW_BOUND_THRESHOLD) {
+            return;
+        }
+
+        int newWindowSize = (int) Math.min(maxAdaptiveWindowSize, 2 * bandwidthDelayProduct);
+        if (newWindowSize <= streamWindowSize) {
+            return;
+        }
+
+        log.debug(() -> "Growing the HTTP/2 windows of " + ctx.channel() + " from " + streamWindowSize + " to "
+                        + newWindowSize + " bytes (estimated bandwidth-delay product: " + (long) bandwidthDelayProduct
+                        + " bytes).");
+
+        // The new stream window is applied to all open streams when the server acknowledges the SETTINGS frame.
+        streamWindowSize = newWindowSize;
+        ctx.writeAndFlush(new DefaultHttp2SettingsFrame(new Http2Settings().initialWindowSize(newWindowSize)));
+        growConnectionWindow(ctx, newWindowSize);
+    }
+
+    private void growConnectionWindow(ChannelHandlerContext ctx, int targetWindowSize) {
+        if (targetWindowSize <= currentConnectionWindowSize) {
+            return;
+        }
+
+        // A WINDOW_UPDATE frame without a stream updates the connection-level window.
+        ctx.writeAndFlush(new DefaultHttp2WindowUpdateFrame(targetWindowSize - currentConnectionWindowSize));
+        currentConnectionWindowSize = targetWindowSize;
+    }
+}
@@ -21,6 +21,7 @@ import io.netty.handler.codec.http2.Http2ConnectionAdapter;
 import io.netty.handler.codec.http2.Http2GoAwayFrame;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolMetricsCollector;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -42,6 +43,11 @@ public final class Http2GoAwayEventListener extends Http2ConnectionAdapter {
     public void onGoAwayReceived(int lastStreamId, long errorCode, ByteBuf debugData) {
         Http2MultiplexedChannelPool channelPool = parentChannel.attr(ChannelAttributeKey.HTTP2_MULTIPLEXED_CHANNEL_POOL).get();
         GoAwayException exception = new GoAwayException(errorCode, debugData.retain());
+        ChannelPoolMetricsCollector metricsCollector = parentChannel.attr(ChannelAttributeKey.CHANNEL_POOL_METRICS).get();
+        if (metricsCollector != null) {
+            metricsCollector.goAwayReceived();
+        }
+
         if (channelPool != null) {
             channelPool.handleGoAway(parentChannel, lastStreamId, exception);
         } else {
@@ -29,18 +29,23 @@ import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.concurrent.PromiseCombiner;
+import io.netty.util.concurrent.PromiseNotifier;
 import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.utils.Logger;
@@ -50,8 +55,9 @@ import software.amazon.awssdk.utils.Validate;
  * {@link ChannelPool} implementation that handles multiplexed streams. Child channels are created
  * for each HTTP/2 stream using {@link Http2StreamChannelBootstrap} with the parent channel being
  * the actual socket channel. This implementation assumes that all connections have the same setting
- * for MAX_CONCURRENT_STREAMS. Concurrent requests are load balanced across all available connections,
- * when the max concurrency for a connection is reached then a new connection will be opened.
+ * for MAX_CONCURRENT_STREAMS. Concurrent requests are placed on the available connections according to the
+ * configured {@link Http2StreamPlacementStrategy}, when the max concurrency for every connection is reached (or fewer than
+ * the minimum number of connections are open) then a new connection will be opened.
  *
  * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
@@ -78,6 +84,15 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final Http2StreamPlacementStrategy streamPlacementStrategy;
+    private final int minConnections;
+
+    /**
+     * The number of connections that have been requested from the connection pool, but haven't been added to
+     * {@link #connections} yet. Only tracked when a minimum number of connections is configured.
+     */
+    private final AtomicInteger connectionsBeingEstablished = new AtomicInteger(0);
+    private final AtomicInteger nextRoundRobinIndex = new AtomicInteger(0);
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -85,10 +100,25 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
      * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
      */
     Http2MultiplexedChannelPool(ChannelPool connectionPool, EventLoopGroup eventLoopGroup, Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, Http2StreamPlacementStrategy.FIRST_AVAILABLE, 0);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamPlacementStrategy The strategy used to choose the connection on which a new stream is opened.
+     * @param minConnections The number of connections to open before streams are placed on existing connections.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                Http2StreamPlacementStrategy streamPlacementStrategy,
+                                int minConnections) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamPlacementStrategy = Validate.paramNotNull(streamPlacementStrategy, "streamPlacementStrategy");
+        this.minConnections = minConnections;
     }
 
     @SdkTestInternalApi
@@ -96,7 +126,17 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout, Http2StreamPlacementStrategy.FIRST_AVAILABLE, 0);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                Http2StreamPlacementStrategy streamPlacementStrategy,
+                                int minConnections) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, streamPlacementStrategy, minConnections);
         this.connections.addAll(connections);
     }
 
@@ -111,18 +151,85 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+        if (reserveConnectionBelowMinimum()) {
+            // We don't have the minimum number of connections yet, establish a new connection instead of sharing one.
+            // The reservation is released as soon as the connection is added to the connections, or before the caller is
+            // notified if it never is, so the count never misses a connection that is being established.
+            AtomicBoolean reserved = new AtomicBoolean(true);
+            Runnable releaseReservation = () -> {
+                if (reserved.compareAndSet(true, false)) {
+                    connectionsBeingEstablished.decrementAndGet();
+                }
+            };
+            Promise<Channel> newConnectionPromise = eventLoopGroup.next().newPromise();
+            newConnectionPromise.addListener(f -> releaseReservation.run());
+            newConnectionPromise.addListener(new PromiseNotifier<>(promise));
+            acquireStreamOnNewConnection(newConnectionPromise, releaseReservation);
+            return promise;
+        }
+
+        for (MultiplexedChannelRecord multiplexedChannel : connectionsInPlacementOrder()) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
             }
         }
 
         // No available streams on existing connections, establish new connection and add it to list
-        acquireStreamOnNewConnection(promise);
+        acquireStreamOnNewConnection(promise, () -> { });
         return promise;
     }
 
-    private void acquireStreamOnNewConnection(Promise<Channel> promise) {
+    /**
+     * Reserve the establishment of a new connection if fewer than {@link #minConnections} connections are open or being
+     * established.
+     *
+     * @return True if a new connection should be established for this acquire, false if an existing one should be used.
+     */
+    private boolean reserveConnectionBelowMinimum() {
+        if (minConnections <= 0) {
+            return false;
+        }
+
+        while (true) {
+            int beingEstablished = connectionsBeingEstablished.get();
+            if (connections.size() + beingEstablished >= minConnections) {
+                return false;
+            }
+            if (connectionsBeingEstablished.compareAndSet(beingEstablished, beingEstablished + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return The open connections, in the order in which they should be tried according to the
+     * {@link #streamPlacementStrategy}.
+     */
+    private Iterable<MultiplexedChannelRecord> connectionsInPlacementOrder() {
+        switch (streamPlacementStrategy) {
+            case LEAST_LOADED: {
+                List<MultiplexedChannelRecord> orderedConnections = new ArrayList<>(connections);
+                orderedConnections.sort(Comparator.comparingLong(MultiplexedChannelRecord::streamsInUse));
+                return orderedConnections;
+            }
+            case ROUND_ROBIN: {
+                List<MultiplexedChannelRecord> orderedConnections = new ArrayList<>(connections);
+                if (!orderedConnections.isEmpty()) {
+                    int start = Math.floorMod(nextRoundRobinIndex.getAndIncrement(), orderedConnections.size());
+                    Collections.rotate(orderedConnections, -start);
+                }
+                return orderedConnections;
+            }
+            case FIRST_AVAILABLE:
+            default:
+                return connections;
+        }
+    }
+
+    /**
+     * @param onConnectionAdded Run when the new connection has been added to {@link #connections}.
+     */
+    private void acquireStreamOnNewConnection(Promise<Channel> promise, Runnable onConnectionAdded) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
         newConnectionAcquire.addListener(f -> {
@@ -137,7 +244,8 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
 
                 // When the protocol future is completed on the new connection, we're ready for new streams to be added to it.
                 parentChannel.attr(ChannelAttributeKey.PROTOCOL_FUTURE).get()
-                             .thenAccept(protocol -> acquireStreamOnFreshConnection(promise, parentChannel, protocol))
+                             .thenAccept(protocol -> acquireStreamOnFreshConnection(promise, parentChannel, protocol,
+                                                                                    onConnectionAdded))
                              .exceptionally(throwable -> failAndCloseParent(promise, parentChannel, throwable));
             } catch (Throwable e) {
                 failAndCloseParent(promise, parentChannel, e);
@@ -145,7 +253,10 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
         });
     }
 
-    private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol) {
+    private void acquireStreamOnFreshConnection(Promise<Channel> promise,
+                                                Channel parentChannel,
+                                                Protocol protocol,
+                                                Runnable onConnectionAdded) {
         try {
             Long maxStreams = parentChannel.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).get();
 
@@ -176,7 +287,7 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
                 }
 
                 Channel stream = streamPromise.getNow();
-                cacheConnectionForFutureStreams(stream, multiplexedChannel, promise);
+                cacheConnectionForFutureStreams(stream, multiplexedChannel, promise, onConnectionAdded);
             });
         } catch (Throwable e) {
             failAndCloseParent(promise, parentChannel, e);
@@ -185,12 +296,14 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
 
     private void cacheConnectionForFutureStreams(Channel stream,
                                                  MultiplexedChannelRecord multiplexedChannel,
-                                                 Promise<Channel> promise) {
+                                                 Promise<Channel> promise,
+                                                 Runnable onConnectionAdded) {
         Channel parentChannel = stream.parent();
 
         // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
         parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
         connections.add(multiplexedChannel);
+        onConnectionAdded.run();
 
         if (closed.get()) {
             // Whoops, we were closed while we were setting up. Make sure everything here is cleaned up properly.
@@ -331,6 +444,30 @@ public class Http2MultiplexedChannelPool implements ChannelPool {
         }
     }
 
+    /**
+     * Update the maximum number of concurrent streams on a connection, after the server changed its
+     * SETTINGS_MAX_CONCURRENT_STREAMS. If the connection hasn't been fully initialized, the new value will be read from the
+     * {@link ChannelAttributeKey#MAX_CONCURRENT_STREAMS} attribute when it is.
+     */
+    public void handleMaxConcurrentStreamsUpdate(Channel parentChannel, long maxConcurrentStreams) {
+        MultiplexedChannelRecord multiplexedChannel = parentChannel.attr(MULTIPLEXED_CHANNEL).get();
+        if (multiplexedChannel != null) {
+            log.debug(() -> "Maximum concurrent streams on " + parentChannel + " changed to " + maxConcurrentStreams);
+            multiplexedChannel.updateMaxConcurrency(maxConcurrentStreams);
+        }
+    }
+
+    /**
+     * @return The number of streams currently in use on each open connection.
+     */
+    public List<Long> streamsInUsePerConnection() {
+        List<Long> streamsInUse = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            streamsInUse.add(connection.streamsInUse());
+        }
+        return streamsInUse;
+    }
+
     @Override
     public void close() {
         if (closed.compareAndSet(false, true)) {
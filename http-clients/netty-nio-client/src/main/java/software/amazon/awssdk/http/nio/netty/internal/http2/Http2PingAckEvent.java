@@ -0,0 +1,37 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * User event fired by {@link Http2PingHandler} on a connection's pipeline when the server acknowledged a PING.
+ */
+@SdkInternalApi
+public final class Http2PingAckEvent {
+    private final long roundTripTimeNanos;
+
+    Http2PingAckEvent(long roundTripTimeNanos) {
+        this.roundTripTimeNanos = roundTripTimeNanos;
+    }
+
+    /**
+     * @return The time between the PING being written to the connection and its acknowledgement being received.
+     */
+    public long roundTripTimeNanos() {
+        return roundTripTimeNanos;
+    }
+}
@@ -28,13 +28,15 @@ import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolMetricsCollector;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * Attached to a {@link Channel} to periodically check the health of HTTP2 connections via PING frames.
  *
- * If a channel is found to be unhealthy, this will invoke {@link ChannelPipeline#fireExceptionCaught(Throwable)}.
+ * If a channel is found to be unhealthy, this will invoke {@link ChannelPipeline#fireExceptionCaught(Throwable)}. When a PING
+ * is acknowledged, the measured round-trip time is published to the whole pipeline as an {@link Http2PingAckEvent}.
  */
 @SdkInternalApi
 public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame> {
@@ -46,6 +48,7 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
     private ScheduledFuture<?> periodicPing;
     private long lastPingSendTime = 0;
     private long lastPingAckTime = 0;
+    private long lastPingSendNanos = 0;
 
     public Http2PingHandler(int pingTimeoutMillis) {
         this.pingTimeoutMillis = pingTimeoutMillis;
@@ -81,6 +84,10 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
         if (frame.ack()) {
             log.debug(() -> "Received PING ACK from channel " + ctx.channel());
             lastPingAckTime = System.currentTimeMillis();
+            if (lastPingSendNanos != 0) {
+                long roundTripTimeNanos = System.nanoTime() - lastPingSendNanos;
+                ctx.channel().pipeline().fireUserEventTriggered(new Http2PingAckEvent(roundTripTimeNanos));
+            }
         } else {
             ctx.fireChannelRead(frame);
         }
@@ -104,12 +111,17 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
                 channelIsUnhealthy(channel, new PingFailedException("Failed to send PING to the service", res.cause()));
             } else {
                 lastPingSendTime = System.currentTimeMillis();
+                lastPingSendNanos = System.nanoTime();
             }
         });
     }
 
     private void channelIsUnhealthy(Channel channel, PingFailedException exception) {
         stop();
+        ChannelPoolMetricsCollector metricsCollector = channel.attr(ChannelAttributeKey.CHANNEL_POOL_METRICS).get();
+        if (metricsCollector != null) {
+            metricsCollector.pingFailed();
+        }
         channel.pipeline().fireExceptionCaught(exception);
     }
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_MULTIPLEXED_CHANNEL_POOL;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.MAX_CONCURRENT_STREAMS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 
@@ -25,6 +26,7 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.handler.codec.http2.Http2SettingsFrame;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
@@ -47,9 +49,26 @@ public final class Http2SettingsFrameHandler extends SimpleChannelInboundHandler
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx, Http2SettingsFrame msg) {
-        Long serverMaxStreams = Optional.ofNullable(msg.settings().maxConcurrentStreams()).orElse(Long.MAX_VALUE);
-        channel.attr(MAX_CONCURRENT_STREAMS).set(Math.min(clientMaxStreams, serverMaxStreams));
-        channel.attr(PROTOCOL_FUTURE).get().complete(Protocol.HTTP2);
+        CompletableFuture<Protocol> protocolFuture = channel.attr(PROTOCOL_FUTURE).get();
+        if (!protocolFuture.isDone()) {
+            Long serverMaxStreams = Optional.ofNullable(msg.settings().maxConcurrentStreams()).orElse(Long.MAX_VALUE);
+            channel.attr(MAX_CONCURRENT_STREAMS).set(Math.min(clientMaxStreams, serverMaxStreams));
+            protocolFuture.complete(Protocol.HTTP2);
+            return;
+        }
+
+        // The server may change its SETTINGS_MAX_CONCURRENT_STREAMS at any time. Settings that aren't included in a
+        // SETTINGS frame keep their previous value.
+        Long serverMaxStreams = msg.settings().maxConcurrentStreams();
+        if (serverMaxStreams != null) {
+            long maxStreams = Math.min(clientMaxStreams, serverMaxStreams);
+            channel.attr(MAX_CONCURRENT_STREAMS).set(maxStreams);
+
+            Http2MultiplexedChannelPool pool = channel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).get();
+            if (pool != null) {
+                pool.handleMaxConcurrentStreamsUpdate(channel, maxStreams);
+            }
+        }
     }
 
     @Override
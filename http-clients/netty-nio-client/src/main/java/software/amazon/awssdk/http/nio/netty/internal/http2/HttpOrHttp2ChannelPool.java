@@ -26,8 +26,10 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import io.netty.util.concurrent.Promise;
 import java.time.Duration;
+import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 
@@ -43,20 +45,30 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final EventLoop eventLoop;
     private final NettyConfiguration configuration;
+    private final Http2StreamPlacementStrategy http2StreamPlacementStrategy;
+    private final int http2MinConnections;
 
     private Promise<ChannelPool> protocolImplPromise;
     private ChannelPool protocolImpl;
     private boolean closed;
 
+    // Written in the event loop once the protocol is known, read as metrics from other threads.
+    private volatile BetterFixedChannelPool fixedChannelPool;
+    private volatile Http2MultiplexedChannelPool http2ChannelPool;
+
     public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
                                   EventLoopGroup group,
                                   int maxConcurrency,
-                                  NettyConfiguration configuration) {
+                                  NettyConfiguration configuration,
+                                  Http2StreamPlacementStrategy http2StreamPlacementStrategy,
+                                  int http2MinConnections) {
         this.delegatePool = delegatePool;
         this.maxConcurrency = maxConcurrency;
         this.eventLoopGroup = group;
         this.eventLoop = group.next();
         this.configuration = configuration;
+        this.http2StreamPlacementStrategy = http2StreamPlacementStrategy;
+        this.http2MinConnections = http2MinConnections;
     }
 
     @Override
@@ -150,32 +162,58 @@ public class HttpOrHttp2ChannelPool implements ChannelPool {
     private ChannelPool configureProtocol(Channel newChannel, Protocol protocol) {
         if (Protocol.HTTP1_1 == protocol) {
             // For HTTP/1.1 we use a traditional channel pool without multiplexing
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(delegatePool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            fixedChannelPool = BetterFixedChannelPool.builder()
+                                                     .channelPool(delegatePool)
+                                                     .executor(eventLoop)
+                                                     .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                                     .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                                     .maxConnections(maxConcurrency)
+                                                     .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                     .build();
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            ChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
-            protocolImpl = BetterFixedChannelPool.builder()
-                                                 .channelPool(h2Pool)
-                                                 .executor(eventLoop)
-                                                 .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
-                                                 .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
-                                                 .maxConnections(maxConcurrency)
-                                                 .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
-                                                 .build();
+            http2ChannelPool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                               http2StreamPlacementStrategy, http2MinConnections);
+            fixedChannelPool = BetterFixedChannelPool.builder()
+                                                     .channelPool(http2ChannelPool)
+                                                     .executor(eventLoop)
+                                                     .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                                     .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
+                                                     .maxConnections(maxConcurrency)
+                                                     .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                     .build();
         }
+        protocolImpl = fixedChannelPool;
         // Give the channel back so it can be acquired again by protocolImpl
         delegatePool.release(newChannel);
         return protocolImpl;
     }
 
+    /**
+     * @return The number of channels (or, for HTTP/2, streams) currently acquired from this pool.
+     */
+    public int acquiredChannels() {
+        BetterFixedChannelPool pool = fixedChannelPool;
+        return pool == null ? 0 : pool.acquiredChannelCount();
+    }
+
+    /**
+     * @return The number of acquires currently waiting for a channel (or, for HTTP/2, a stream) to become available.
+     */
+    public int pendingAcquires() {
+        BetterFixedChannelPool pool = fixedChannelPool;
+        return pool == null ? 0 : pool.pendingAcquireCount();
+    }
+
+    /**
+     * @return The number of streams in use on each open connection, or null if HTTP/2 has not been negotiated.
+     */
+    public List<Long> http2StreamsInUse() {
+        Http2MultiplexedChannelPool pool = http2ChannelPool;
+        return pool == null ? null : pool.streamsInUsePerConnection();
+    }
+
     @Override
     public Future<Void> release(Channel channel) {
         return release(channel, eventLoop.newPromise());
@@ -47,11 +47,22 @@ import software.amazon.awssdk.utils.Logger;
 public class MultiplexedChannelRecord {
     private static final Logger log = Logger.loggerFor(MultiplexedChannelRecord.class);
 
+    /**
+     * The value of {@link #claimedChildChannels} once the connection has been closed for being idle, which stops any new
+     * streams from being claimed.
+     */
+    private static final long CLOSED_FOR_IDLENESS = Long.MAX_VALUE;
+
     private final Channel connection;
-    private final long maxConcurrencyPerConnection;
+    // Only write in the connection.eventLoop()
+    private volatile long maxConcurrencyPerConnection;
     private final Long allowedIdleConnectionTimeMillis;
 
-    private final AtomicLong availableChildChannels;
+    // The number of streams that have been claimed and not yet released. Claims compare it with the current maximum and
+    // releases only decrement it, so the maximum can be changed with a single write while claims and releases are happening
+    // on other threads. It is higher than the maximum while the server's SETTINGS_MAX_CONCURRENT_STREAMS is lower than the
+    // number of streams in use.
+    private final AtomicLong claimedChildChannels = new AtomicLong();
     private volatile long lastReserveAttemptTimeMillis;
 
     // Only read or write in the connection.eventLoop()
@@ -65,7 +76,6 @@ public class MultiplexedChannelRecord {
     MultiplexedChannelRecord(Channel connection, long maxConcurrencyPerConnection, Duration allowedIdleConnectionTime) {
         this.connection = connection;
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
-        this.availableChildChannels = new AtomicLong(maxConcurrencyPerConnection);
         this.allowedIdleConnectionTimeMillis = allowedIdleConnectionTime == null ? null : allowedIdleConnectionTime.toMillis();
     }
 
@@ -131,11 +141,11 @@ public class MultiplexedChannelRecord {
     }
 
     private void releaseClaim() {
-        if (availableChildChannels.incrementAndGet() > maxConcurrencyPerConnection) {
+        if (claimedChildChannels.decrementAndGet() < 0) {
             assert false;
-            log.warn(() -> "Child channel count was caught attempting to be increased over max concurrency. "
+            log.warn(() -> "Child channel count was caught attempting to be released more times than it was claimed. "
                            + "Please report this issue to the AWS SDK for Java team.");
-            availableChildChannels.decrementAndGet();
+            claimedChildChannels.incrementAndGet();
         }
     }
 
@@ -212,9 +222,9 @@ public class MultiplexedChannelRecord {
             return;
         }
 
-        // Cut off new streams from being acquired from this connection by setting the number of available channels to 0.
+        // Cut off new streams from being acquired from this connection by marking all of its streams as claimed.
         // This write may fail if a reservation has happened since we checked the lastReserveAttemptTime.
-        if (!availableChildChannels.compareAndSet(maxConcurrencyPerConnection, 0)) {
+        if (!claimedChildChannels.compareAndSet(0, CLOSED_FOR_IDLENESS)) {
             return;
         }
 
@@ -233,10 +243,30 @@ public class MultiplexedChannelRecord {
         connection.close();
     }
 
+    /**
+     * Update the maximum number of concurrent streams on this connection, e.g. after the server sent a new
+     * SETTINGS_MAX_CONCURRENT_STREAMS. Streams that are already open are not affected: if the new maximum is lower than the
+     * number of open streams, no new streams can be acquired until enough of them have been closed.
+     */
+    void updateMaxConcurrency(long newMaxConcurrency) {
+        doInEventLoop(connection.eventLoop(), () -> maxConcurrencyPerConnection = newMaxConcurrency);
+    }
+
     public Channel getConnection() {
         return connection;
     }
 
+    /**
+     * @return The number of streams currently claimed on this connection.
+     */
+    long streamsInUse() {
+        long claimed = claimedChildChannels.get();
+        if (state == RecordState.CLOSED || claimed == CLOSED_FOR_IDLENESS) {
+            return 0;
+        }
+        return claimed;
+    }
+
     public boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -244,12 +274,12 @@ public class MultiplexedChannelRecord {
                 return false;
             }
 
-            long currentlyAvailable = availableChildChannels.get();
+            long currentlyClaimed = claimedChildChannels.get();
 
-            if (currentlyAvailable <= 0) {
+            if (currentlyClaimed >= maxConcurrencyPerConnection) {
                 return false;
             }
-            if (availableChildChannels.compareAndSet(currentlyAvailable, currentlyAvailable - 1)) {
+            if (claimedChildChannels.compareAndSet(currentlyClaimed, currentlyClaimed + 1)) {
                 return true;
             }
         }
@@ -258,7 +288,7 @@ public class MultiplexedChannelRecord {
     }
 
     boolean canBeClosedAndReleased() {
-        return state != RecordState.OPEN && availableChildChannels.get() == maxConcurrencyPerConnection;
+        return state != RecordState.OPEN && claimedChildChannels.get() == 0;
     }
 
     private enum RecordState {
@@ -22,6 +22,7 @@ import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.Promise;
 import io.netty.util.internal.ObjectUtil;
 import io.netty.util.internal.ThrowableUtil;
@@ -31,10 +32,16 @@ import java.util.Queue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link ChannelPool} implementation that takes another {@link ChannelPool} implementation and enforce a maximum
  * number of concurrent connections.
+ *
+ * <p>While fewer than the maximum number of connections are acquired, acquires and releases claim and return their
+ * connection permit with a compare-and-set on the calling thread and go straight to the delegate pool. Only when the pool
+ * is saturated are acquires handed to the {@link EventExecutor}, which owns the queue of pending acquires and their
+ * timeouts.</p>
  */
 //TODO: Contribute me back to Netty
 public class BetterFixedChannelPool implements ChannelPool {
@@ -68,14 +75,15 @@ public class BetterFixedChannelPool implements ChannelPool {
     private final Runnable timeoutTask;
     private final ChannelPool delegateChannelPool;
 
-    // There is no need to worry about synchronization as everything that modified the queue or counts is done
-    // by the above EventExecutor.
+    // The queue is only modified by the above EventExecutor. The acquired channel count is modified by any thread with
+    // compare-and-set, and the pending acquire count is only modified by the EventExecutor but read by any thread to decide
+    // whether a release needs to hand pending acquires to the EventExecutor.
     private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<>();
     private final int maxConnections;
     private final int maxPendingAcquires;
-    private int acquiredChannelCount;
-    private int pendingAcquireCount;
-    private boolean closed;
+    private final AtomicInteger acquiredChannelCount = new AtomicInteger();
+    private final AtomicInteger pendingAcquireCount = new AtomicInteger();
+    private volatile boolean closed;
 
 
     private BetterFixedChannelPool(Builder builder) {
@@ -134,7 +142,12 @@ public class BetterFixedChannelPool implements ChannelPool {
     @Override
     public Future<Channel> acquire(final Promise<Channel> promise) {
         try {
-            if (executor.inEventLoop()) {
+            if (closed) {
+                promise.setFailure(POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
+            } else if (pendingAcquireCount.get() == 0 && tryAcquirePermit()) {
+                // Fast path: don't overtake acquires that are already waiting for a permit.
+                acquireWithPermit(promise);
+            } else if (executor.inEventLoop()) {
                 acquire0(promise);
             } else {
                 executor.execute(() -> acquire0(promise));
@@ -152,33 +165,52 @@ public class BetterFixedChannelPool implements ChannelPool {
             promise.setFailure(POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
             return;
         }
-        if (acquiredChannelCount < maxConnections) {
-            assert acquiredChannelCount >= 0;
-
-            // We need to create a new promise as we need to ensure the AcquireListener runs in the correct
-            // EventLoop
-            Promise<Channel> p = executor.newPromise();
-            AcquireListener l = new AcquireListener(promise);
-            l.acquired();
-            p.addListener(l);
-            delegateChannelPool.acquire(p);
+        if (pendingAcquireQueue.isEmpty() && tryAcquirePermit()) {
+            acquireWithPermit(promise);
         } else {
-            if (pendingAcquireCount >= maxPendingAcquires) {
+            if (pendingAcquireCount.get() >= maxPendingAcquires) {
                 promise.setFailure(FULL_EXCEPTION);
             } else {
                 AcquireTask task = new AcquireTask(promise);
                 if (pendingAcquireQueue.offer(task)) {
-                    ++pendingAcquireCount;
+                    pendingAcquireCount.incrementAndGet();
 
                     if (timeoutTask != null) {
                         task.timeoutFuture = executor.schedule(timeoutTask, acquireTimeoutNanos, TimeUnit.NANOSECONDS);
                     }
+
+                    // A release may have returned its permit between our failed attempt to claim one and the increment of
+                    // the pending acquire count, in which case it did not see this task. Try to run it now.
+                    runTaskQueue();
                 } else {
                     promise.setFailure(FULL_EXCEPTION);
                 }
             }
+        }
+    }
 
-            assert pendingAcquireCount > 0;
+    private void acquireWithPermit(Promise<Channel> promise) {
+        // The listener only touches thread-safe state, so it can run on whichever thread completes the acquire instead of
+        // being handed to the EventExecutor.
+        Promise<Channel> p = ImmediateEventExecutor.INSTANCE.newPromise();
+        AcquireListener l = new AcquireListener(promise);
+        l.acquired = true;
+        p.addListener(l);
+        delegateChannelPool.acquire(p);
+    }
+
+    /**
+     * Claim one of the {@link #maxConnections} permits, if one is available.
+     */
+    private boolean tryAcquirePermit() {
+        for (;;) {
+            int acquired = acquiredChannelCount.get();
+            if (acquired >= maxConnections) {
+                return false;
+            }
+            if (acquiredChannelCount.compareAndSet(acquired, acquired + 1)) {
+                return true;
+            }
         }
     }
 
@@ -190,13 +222,11 @@ public class BetterFixedChannelPool implements ChannelPool {
     @Override
     public Future<Void> release(final Channel channel, final Promise<Void> promise) {
         ObjectUtil.checkNotNull(promise, "promise");
-        Promise<Void> p = executor.newPromise();
+        Promise<Void> p = ImmediateEventExecutor.INSTANCE.newPromise();
         delegateChannelPool.release(channel, p.addListener(new FutureListener<Void>() {
 
             @Override
             public void operationComplete(Future<Void> future) throws Exception {
-                assert executor.inEventLoop();
-
                 if (closed) {
                     // Since the pool is closed, we have no choice but to close the channel
                     channel.close();
@@ -221,24 +251,34 @@ public class BetterFixedChannelPool implements ChannelPool {
     }
 
     private void decrementAndRunTaskQueue() {
-        --acquiredChannelCount;
+        int acquired = acquiredChannelCount.decrementAndGet();
 
         // We should never have a negative value.
-        assert acquiredChannelCount >= 0;
+        assert acquired >= 0;
 
         // Run the pending acquire tasks before notify the original promise so if the user would
         // try to acquire again from the ChannelFutureListener and the pendingAcquireCount is >=
         // maxPendingAcquires we may be able to run some pending tasks first and so allow to add
-        // more.
-        runTaskQueue();
+        // more. The pending acquire count is read after the permit was returned, so either we see the
+        // pending task here, or the thread queueing it sees the returned permit.
+        if (pendingAcquireCount.get() > 0) {
+            runTaskQueueInEventLoop();
+        }
+    }
+
+    private void runTaskQueueInEventLoop() {
+        if (executor.inEventLoop()) {
+            runTaskQueue();
+        } else {
+            executor.execute(this::runTaskQueue);
+        }
     }
 
     private void runTaskQueue() {
-        while (acquiredChannelCount < maxConnections) {
+        assert executor.inEventLoop();
+
+        while (!pendingAcquireQueue.isEmpty() && tryAcquirePermit()) {
             AcquireTask task = pendingAcquireQueue.poll();
-            if (task == null) {
-                break;
-            }
 
             // Cancel the timeout if one was scheduled
             ScheduledFuture<?> timeoutFuture = task.timeoutFuture;
@@ -246,15 +286,14 @@ public class BetterFixedChannelPool implements ChannelPool {
                 timeoutFuture.cancel(false);
             }
 
-            --pendingAcquireCount;
-            task.acquired();
+            pendingAcquireCount.decrementAndGet();
+            task.acquired = true;
 
             delegateChannelPool.acquire(task.promise);
         }
 
         // We should never have a negative value.
-        assert pendingAcquireCount >= 0;
-        assert acquiredChannelCount >= 0;
+        assert pendingAcquireCount.get() >= 0;
     }
 
     // AcquireTask extends AcquireListener to reduce object creations and so GC pressure
@@ -287,7 +326,7 @@ public class BetterFixedChannelPool implements ChannelPool {
                 }
                 pendingAcquireQueue.remove();
 
-                --pendingAcquireCount;
+                pendingAcquireCount.decrementAndGet();
                 onTimeout(task);
             }
         }
@@ -305,8 +344,6 @@ public class BetterFixedChannelPool implements ChannelPool {
 
         @Override
         public void operationComplete(Future<Channel> future) throws Exception {
-            assert executor.inEventLoop();
-
             if (closed) {
                 if (future.isSuccess()) {
                     // Since the pool is closed, we have no choice but to close the channel
@@ -322,7 +359,7 @@ public class BetterFixedChannelPool implements ChannelPool {
                 if (acquired) {
                     decrementAndRunTaskQueue();
                 } else {
-                    runTaskQueue();
+                    runTaskQueueInEventLoop();
                 }
 
                 originalPromise.setFailure(future.cause());
@@ -333,7 +370,7 @@ public class BetterFixedChannelPool implements ChannelPool {
             if (acquired) {
                 return;
             }
-            acquiredChannelCount++;
+            acquiredChannelCount.incrementAndGet();
             acquired = true;
         }
     }
@@ -361,8 +398,7 @@ public class BetterFixedChannelPool implements ChannelPool {
                 }
                 task.promise.setFailure(new ClosedChannelException());
             }
-            acquiredChannelCount = 0;
-            pendingAcquireCount = 0;
+            pendingAcquireCount.set(0);
 
             // Ensure we dispatch this on another Thread as close0 will be called from the EventExecutor and we need
             // to ensure we will not block in a EventExecutor.
@@ -370,6 +406,20 @@ public class BetterFixedChannelPool implements ChannelPool {
         }
     }
 
+    /**
+     * @return The number of channels currently acquired from this pool.
+     */
+    public int acquiredChannelCount() {
+        return acquiredChannelCount.get();
+    }
+
+    /**
+     * @return The number of acquires currently waiting for a channel to become available.
+     */
+    public int pendingAcquireCount() {
+        return pendingAcquireCount.get();
+    }
+
     public static Builder builder() {
         return new Builder();
     }
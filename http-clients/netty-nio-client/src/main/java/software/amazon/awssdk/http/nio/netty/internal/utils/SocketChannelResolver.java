@@ -21,9 +21,12 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,10 +37,15 @@ import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
 public final class SocketChannelResolver {
 
     private static final Map<String, String> KNOWN_EL_GROUPS = new HashMap<>();
+    private static final Map<String, String> KNOWN_EL_GROUPS_DATAGRAM = new HashMap<>();
 
     static {
         KNOWN_EL_GROUPS.put("io.netty.channel.kqueue.KQueueEventLoopGroup", "io.netty.channel.kqueue.KQueueSocketChannel");
         KNOWN_EL_GROUPS.put("io.netty.channel.oio.OioEventLoopGroup", "io.netty.channel.socket.oio.OioSocketChannel");
+
+        KNOWN_EL_GROUPS_DATAGRAM.put("io.netty.channel.kqueue.KQueueEventLoopGroup",
+                                     "io.netty.channel.kqueue.KQueueDatagramChannel");
+        KNOWN_EL_GROUPS_DATAGRAM.put("io.netty.channel.oio.OioEventLoopGroup", "io.netty.channel.socket.oio.OioDatagramChannel");
     }
 
     private SocketChannelResolver() {
@@ -70,4 +78,46 @@ public final class SocketChannelResolver {
 
         return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(socketFqcn)));
     }
+
+    /**
+     * Attempts to determine the {@link ChannelFactory} for UDP channels (e.g. for DNS queries) that corresponds to the given
+     * event loop group.
+     *
+     * @param eventLoopGroup the event loop group to determine the {@link ChannelFactory} for
+     * @return A {@link ChannelFactory} instance for the given event loop group.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup instanceof DelegatingEventLoopGroup) {
+            return resolveDatagramChannelFactory(((DelegatingEventLoopGroup) eventLoopGroup).getDelegate());
+        }
+
+        if (eventLoopGroup instanceof NioEventLoopGroup) {
+            return NioDatagramChannel::new;
+        }
+        if (eventLoopGroup instanceof EpollEventLoopGroup) {
+            return EpollDatagramChannel::new;
+        }
+
+        String datagramFqcn = KNOWN_EL_GROUPS_DATAGRAM.get(eventLoopGroup.getClass().getName());
+        if (datagramFqcn == null) {
+            throw new IllegalArgumentException("Unknown event loop group : " + eventLoopGroup.getClass());
+        }
+
+        return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(datagramFqcn)));
+    }
+
+    /**
+     * Determines whether the given event loop group uses the native epoll transport, in which case epoll specific
+     * channel options may be applied to the channels it creates.
+     *
+     * @param eventLoopGroup the event loop group to check
+     * @return True if the event loop group is backed by the native epoll transport.
+     */
+    public static boolean isNativeTransport(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup instanceof DelegatingEventLoopGroup) {
+            return isNativeTransport(((DelegatingEventLoopGroup) eventLoopGroup).getDelegate());
+        }
+        return eventLoopGroup instanceof EpollEventLoopGroup;
+    }
 }
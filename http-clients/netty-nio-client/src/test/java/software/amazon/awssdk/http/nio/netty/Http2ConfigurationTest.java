@@ -37,10 +37,20 @@ public class Http2ConfigurationTest {
         Http2Configuration config = Http2Configuration.builder()
                 .maxStreams(maxStreams)
                 .initialWindowSize(initialWindowSize)
+                .streamPlacementStrategy(Http2StreamPlacementStrategy.LEAST_LOADED)
+                .minConnections(3)
+                .connectionWindowSize(4)
+                .adaptiveWindowSize(true)
+                .maxAdaptiveWindowSize(5)
                 .build();
 
         assertThat(config.maxStreams()).isEqualTo(maxStreams);
         assertThat(config.initialWindowSize()).isEqualTo(initialWindowSize);
+        assertThat(config.streamPlacementStrategy()).isEqualTo(Http2StreamPlacementStrategy.LEAST_LOADED);
+        assertThat(config.minConnections()).isEqualTo(3);
+        assertThat(config.connectionWindowSize()).isEqualTo(4);
+        assertThat(config.adaptiveWindowSize()).isTrue();
+        assertThat(config.maxAdaptiveWindowSize()).isEqualTo(5);
     }
 
     @Test
@@ -48,6 +58,11 @@ public class Http2ConfigurationTest {
         Http2Configuration config1 = Http2Configuration.builder()
                 .maxStreams(7L)
                 .initialWindowSize(42)
+                .streamPlacementStrategy(Http2StreamPlacementStrategy.ROUND_ROBIN)
+                .minConnections(4)
+                .connectionWindowSize(1_000_000)
+                .adaptiveWindowSize(true)
+                .maxAdaptiveWindowSize(8_000_000)
                 .build();
 
         Http2Configuration config2 = config1.toBuilder().build();
@@ -88,4 +103,27 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_minConnections_nullValue_doesNotThrow() {
+        Http2Configuration.builder().minConnections(null);
+    }
+
+    @Test
+    public void builder_minConnections_0_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().minConnections(0);
+    }
+
+    @Test
+    public void builder_connectionWindowSize_0_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().connectionWindowSize(0);
+    }
+
+    @Test
+    public void builder_maxAdaptiveWindowSize_negative_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().maxAdaptiveWindowSize(-1);
+    }
 }
@@ -83,6 +83,7 @@ import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.TlsHandshakeMetrics;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
@@ -154,6 +155,34 @@ public class NettyNioAsyncHttpClientWireMockTest {
         Mockito.verify(threadFactory, atLeastOnce()).newThread(Mockito.any());
     }
 
+    @Test
+    public void nativeTransportEnabled_requestSucceeds() throws Exception {
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                     .useNativeTransport(true)
+                                                                     .build()) {
+            makeSimpleRequest(customClient);
+        }
+    }
+
+    @Test
+    public void nonBlockingDnsResolverEnabled_requestSucceeds() throws Exception {
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                     .useNonBlockingDnsResolver(true)
+                                                                     .build()) {
+            makeSimpleRequest(customClient);
+            makeSimpleRequest(customClient);
+        }
+    }
+
+    @Test
+    public void nativeTransportWithEventLoopGroupBuilder_shouldThrowException() {
+        assertThatThrownBy(() -> NettyNioAsyncHttpClient.builder()
+                                                         .useNativeTransport(true)
+                                                         .eventLoopGroupBuilder(SdkEventLoopGroup.builder())
+                                                         .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     public void openSslBeingUsed() throws Exception {
         try (SdkAsyncHttpClient customClient =
@@ -295,6 +324,26 @@ public class NettyNioAsyncHttpClientWireMockTest {
         eventLoopGroup.eventLoopGroup().shutdownGracefully().awaitUninterruptibly();
     }
 
+    @Test
+    public void connectionPoolMetrics_reflectCompletedRequest() throws Exception {
+        try (NettyNioAsyncHttpClient customClient = (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.builder().build()) {
+            assertThat(customClient.connectionPoolMetrics()).isEmpty();
+
+            makeSimpleRequest(customClient);
+
+            Map<URI, ConnectionPoolMetrics> metrics = customClient.connectionPoolMetrics();
+            assertThat(metrics).containsOnlyKeys(URI.create("http://localhost:" + mockServer.port()));
+
+            ConnectionPoolMetrics endpointMetrics = metrics.values().iterator().next();
+            assertThat(endpointMetrics.acquireLatencyHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1);
+            assertThat(endpointMetrics.acquireFailures()).isZero();
+            assertThat(endpointMetrics.pendingAcquires()).isZero();
+            assertThat(endpointMetrics.http2StreamsInUse()).isEmpty();
+            assertThat(endpointMetrics.goAwaysReceived()).isZero();
+            assertThat(endpointMetrics.pingFailures()).isZero();
+        }
+    }
+
     @Test
     public void connectionInactive_shouldReleaseChannel() throws Exception {
 
@@ -375,6 +424,31 @@ public class NettyNioAsyncHttpClientWireMockTest {
         eventLoopGroup.eventLoopGroup().shutdownGracefully().awaitUninterruptibly();
     }
 
+    @Test
+    public void newConnectionToSameHost_resumesTlsSession() throws Exception {
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close")));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        try (NettyNioAsyncHttpClient customClient =
+                 (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.builder()
+                                                                  .sslProvider(SslProvider.JDK)
+                                                                  .tlsSessionCacheSize(10)
+                                                                  .tlsSessionTimeout(Duration.ofMinutes(1))
+                                                                  .buildWithDefaults(mapWithTrustAllCerts())) {
+            for (int i = 0; i < 2; i++) {
+                RecordingResponseHandler recorder = new RecordingResponseHandler();
+                customClient.execute(AsyncExecuteRequest.builder()
+                                                        .request(createRequest(uri))
+                                                        .requestContentPublisher(createProvider(""))
+                                                        .responseHandler(recorder)
+                                                        .build());
+                recorder.completeFuture.get(5, TimeUnit.SECONDS);
+            }
+
+            assertThat(customClient.tlsHandshakeMetrics()).isEqualTo(TlsHandshakeMetrics.create(1, 1));
+        }
+    }
+
     /**
      * Make a simple async request and wait for it to fiish.
      *
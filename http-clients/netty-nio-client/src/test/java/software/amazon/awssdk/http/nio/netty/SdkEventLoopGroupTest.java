@@ -16,13 +16,27 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import org.junit.After;
 import org.junit.Test;
 
 public class SdkEventLoopGroupTest {
+    private EventLoopGroup eventLoopGroup;
+
+    @After
+    public void teardown() {
+        if (eventLoopGroup != null) {
+            eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+        }
+    }
 
     @Test
     public void creatingUsingBuilder() {
@@ -31,6 +45,26 @@ public class SdkEventLoopGroupTest {
         assertThat(sdkEventLoopGroup.eventLoopGroup()).isNotNull();
     }
 
+    @Test
+    public void creatingUsingBuilder_nativeTransportNotRequested_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        eventLoopGroup = sdkEventLoopGroup.eventLoopGroup();
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+        assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+    }
+
+    @Test
+    public void creatingUsingBuilder_nativeTransportAvailable_usesEpoll() {
+        assumeTrue(Epoll.isAvailable());
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .useNativeTransport(true)
+                                                               .build();
+        eventLoopGroup = sdkEventLoopGroup.eventLoopGroup();
+        assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+        assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(EpollSocketChannel.class);
+    }
+
     @Test
     public void creatingUsingStaticMethod() {
         SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.create(new NioEventLoopGroup(), NioSocketChannel::new);
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.nio.netty.ConnectionPoolMetrics;
+import software.amazon.awssdk.http.nio.netty.internal.http2.HttpOrHttp2ChannelPool;
+
+public class ChannelPoolMetricsCollectorTest {
+    private IdleConnectionFloor idleConnectionFloor;
+    private HttpOrHttp2ChannelPool protocolChannelPool;
+    private ChannelPoolMetricsCollector metricsCollector;
+
+    @Before
+    public void setup() {
+        idleConnectionFloor = new IdleConnectionFloor(0, () -> CompletableFuture.completedFuture(null));
+        protocolChannelPool = mock(HttpOrHttp2ChannelPool.class);
+        metricsCollector = new ChannelPoolMetricsCollector(idleConnectionFloor);
+    }
+
+    @Test
+    public void acquireLatency_isRecordedInSmallestMatchingBucket() {
+        metricsCollector.acquireSucceeded(TimeUnit.MICROSECONDS.toNanos(500));
+        metricsCollector.acquireSucceeded(TimeUnit.MILLISECONDS.toNanos(1));
+        metricsCollector.acquireSucceeded(TimeUnit.MILLISECONDS.toNanos(30));
+        metricsCollector.acquireSucceeded(TimeUnit.MINUTES.toNanos(1));
+
+        ConnectionPoolMetrics metrics = metricsCollector.snapshot(protocolChannelPool);
+
+        assertThat(metrics.acquireLatencyHistogram()).containsEntry(Duration.ofMillis(1), 2L)
+                                                      .containsEntry(Duration.ofMillis(50), 1L)
+                                                      .containsEntry(ChronoUnit.FOREVER.getDuration(), 1L);
+        assertThat(metrics.acquireLatencyHistogram().values().stream().mapToLong(Long::longValue).sum()).isEqualTo(4);
+        assertThat(new ArrayList<>(metrics.acquireLatencyHistogram().keySet())).isSorted();
+    }
+
+    @Test
+    public void counters_areReportedInSnapshot() {
+        metricsCollector.acquireFailed();
+        metricsCollector.goAwayReceived();
+        metricsCollector.goAwayReceived();
+        metricsCollector.pingFailed();
+
+        ConnectionPoolMetrics metrics = metricsCollector.snapshot(protocolChannelPool);
+
+        assertThat(metrics.acquireFailures()).isEqualTo(1);
+        assertThat(metrics.goAwaysReceived()).isEqualTo(2);
+        assertThat(metrics.pingFailures()).isEqualTo(1);
+    }
+
+    @Test
+    public void http1Snapshot_usesAcquiredChannelsAndIdleConnections() {
+        when(protocolChannelPool.acquiredChannels()).thenReturn(3);
+        when(protocolChannelPool.pendingAcquires()).thenReturn(2);
+        when(protocolChannelPool.http2StreamsInUse()).thenReturn(null);
+        idleConnectionFloor.channelIdle(new EmbeddedChannel());
+
+        ConnectionPoolMetrics metrics = metricsCollector.snapshot(protocolChannelPool);
+
+        assertThat(metrics.leasedConnections()).isEqualTo(3);
+        assertThat(metrics.idleConnections()).isEqualTo(1);
+        assertThat(metrics.pendingAcquires()).isEqualTo(2);
+        assertThat(metrics.http2StreamsInUse()).isEmpty();
+    }
+
+    @Test
+    public void http2Snapshot_countsConnectionsWithStreamsInUseAsLeased() {
+        when(protocolChannelPool.acquiredChannels()).thenReturn(5);
+        when(protocolChannelPool.http2StreamsInUse()).thenReturn(Arrays.asList(4L, 0L, 1L));
+
+        ConnectionPoolMetrics metrics = metricsCollector.snapshot(protocolChannelPool);
+
+        assertThat(metrics.leasedConnections()).isEqualTo(2);
+        assertThat(metrics.idleConnections()).isEqualTo(1);
+        assertThat(metrics.http2StreamsInUse()).containsExactly(4L, 0L, 1L);
+    }
+
+    @Test
+    public void closedIdleConnection_isNoLongerCounted() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        idleConnectionFloor.channelIdle(channel);
+        channel.close();
+
+        assertThat(metricsCollector.snapshot(protocolChannelPool).idleConnections()).isZero();
+    }
+}
@@ -20,6 +20,7 @@ import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
 import static org.apache.commons.lang3.RandomStringUtils.randomAlphabetic;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
@@ -30,6 +31,8 @@ import com.github.tomakehurst.wiremock.junit.WireMockRule;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -85,6 +88,25 @@ public class ConnectionReaperTest {
 
     }
 
+    @Test
+    public void idleConnectionReaperDoesNotReapMinIdleConnections() throws InterruptedException {
+        Duration maxIdleTime = Duration.ofSeconds(1);
+
+        try (NettyNioAsyncHttpClient client = (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.builder()
+                                                                        .connectionMaxIdleTime(maxIdleTime)
+                                                                        .minIdleConnections(1)
+                                                                        .buildWithDefaults(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS)) {
+            client.prewarm(URI.create("http://localhost:" + mockServer.port()), 3).join();
+
+            // Do nothing for longer than the max-idle time, ensuring all but one connection are closed.
+            Thread.sleep(maxIdleTime.plusSeconds(1).toMillis());
+
+            Set<Object> openedSockets = trafficListenerSockets("opened");
+            assertThat(openedSockets.size()).isGreaterThanOrEqualTo(3);
+            assertThat(trafficListenerSockets("closed")).hasSize(openedSockets.size() - 1);
+        }
+    }
+
     @Test
     public void oldConnectionReaperReapsActiveConnections() throws InterruptedException {
         Duration connectionTtl = Duration.ofMillis(200);
@@ -125,6 +147,14 @@ public class ConnectionReaperTest {
     }
 
 
+    private Set<Object> trafficListenerSockets(String methodName) {
+        // The listener can be notified more than once about the same socket being closed.
+        return Mockito.mockingDetails(TRAFFIC_LISTENER).getInvocations().stream()
+                      .filter(i -> i.getMethod().getName().equals(methodName))
+                      .map(i -> i.getArguments()[0])
+                      .collect(Collectors.toSet());
+    }
+
     private void makeRequest(SdkAsyncHttpClient client) {
         stubFor(WireMock.any(urlPathEqualTo("/")).willReturn(aResponse().withBody(randomAlphabetic(10))));
 
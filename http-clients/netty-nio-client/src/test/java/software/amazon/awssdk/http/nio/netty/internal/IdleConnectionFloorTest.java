@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IdleConnectionFloorTest {
+    private AtomicInteger replenishCount;
+    private IdleConnectionFloor idleConnectionFloor;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setup() {
+        replenishCount = new AtomicInteger(0);
+        idleConnectionFloor = new IdleConnectionFloor(2, () -> {
+            replenishCount.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+        channel = new EmbeddedChannel();
+    }
+
+    @After
+    public void teardown() {
+        channel.close();
+    }
+
+    @Test
+    public void replenish_beforeFirstAcquire_doesNotOpenConnections() {
+        idleConnectionFloor.replenish();
+
+        assertThat(replenishCount.get()).isZero();
+    }
+
+    @Test
+    public void channelAcquired_firstAcquire_fillsFloorAfterAcquireCompletes() {
+        idleConnectionFloor.channelAcquired(channel);
+        assertThat(replenishCount.get()).isZero();
+
+        channel.runPendingTasks();
+        assertThat(replenishCount.get()).isEqualTo(1);
+
+        idleConnectionFloor.channelAcquired(channel);
+        channel.runPendingTasks();
+        assertThat(replenishCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void idleChannelClosed_afterFirstAcquire_replenishesFloor() {
+        idleConnectionFloor.channelAcquired(channel);
+        channel.runPendingTasks();
+
+        idleConnectionFloor.channelIdle(channel);
+        channel.close();
+
+        assertThat(replenishCount.get()).isEqualTo(2);
+    }
+}
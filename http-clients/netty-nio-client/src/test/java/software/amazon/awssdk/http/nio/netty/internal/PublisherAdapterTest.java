@@ -27,6 +27,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 
 import com.typesafe.netty.http.DefaultStreamedHttpResponse;
 import com.typesafe.netty.http.StreamedHttpResponse;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.channel.ChannelHandlerContext;
@@ -43,6 +44,7 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.netty.util.AttributeKey;
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -159,6 +161,113 @@ public class PublisherAdapterTest {
         verify(responseHandler).onError(exception);
     }
 
+    @Test
+    public void zeroCopy_contentRetainedUntilSubscriberRequestsMore() {
+        ByteBuf content = ByteBufAllocator.DEFAULT.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        RequestContext zeroCopyContext = zeroCopyRequestContext();
+        ResponseHandler.PublisherAdapter publisherAdapter = zeroCopyPublisherAdapter(content, zeroCopyContext);
+        HoldingSubscriber subscriber = new HoldingSubscriber(1);
+
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(subscriber.received.isReadOnly()).isTrue();
+        assertThat(subscriber.received.isDirect()).isTrue();
+        assertThat(StandardCharsets.UTF_8.decode(subscriber.received).toString()).isEqualTo("hello");
+        assertThat(content.refCnt()).isEqualTo(1);
+        assertThat(subscriber.isCompleted).isFalse();
+
+        subscriber.subscription.request(1);
+
+        assertThat(content.refCnt()).isEqualTo(0);
+        assertThat(subscriber.isCompleted).isTrue();
+        verify(channelPool).release(channel);
+        assertThat(executeFuture).isCompleted();
+    }
+
+    @Test
+    public void zeroCopy_unboundedDemand_contentReleasedAfterOnNext() {
+        ByteBuf content = ByteBufAllocator.DEFAULT.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        RequestContext zeroCopyContext = zeroCopyRequestContext();
+        ResponseHandler.PublisherAdapter publisherAdapter = zeroCopyPublisherAdapter(content, zeroCopyContext);
+        HoldingSubscriber subscriber = new HoldingSubscriber(Long.MAX_VALUE);
+
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(content.refCnt()).isEqualTo(0);
+        assertThat(subscriber.isCompleted).isTrue();
+        verify(channelPool).release(channel);
+    }
+
+    @Test
+    public void zeroCopy_cancel_releasesContent() {
+        ByteBuf content = ByteBufAllocator.DEFAULT.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        RequestContext zeroCopyContext = zeroCopyRequestContext();
+        ResponseHandler.PublisherAdapter publisherAdapter = zeroCopyPublisherAdapter(content, zeroCopyContext);
+        HoldingSubscriber subscriber = new HoldingSubscriber(1);
+
+        publisherAdapter.subscribe(subscriber);
+        subscriber.subscription.cancel();
+
+        assertThat(content.refCnt()).isEqualTo(0);
+        assertThat(subscriber.isCompleted).isFalse();
+        assertThat(executeFuture).isCompletedExceptionally();
+    }
+
+    private RequestContext zeroCopyRequestContext() {
+        RequestContext zeroCopyContext = new RequestContext(channelPool,
+                                                            eventLoopGroup,
+                                                            AsyncExecuteRequest.builder()
+                                                                               .responseHandler(responseHandler)
+                                                                               .build(),
+                                                            null,
+                                                            true);
+        channel.attr(REQUEST_CONTEXT_KEY).set(zeroCopyContext);
+        return zeroCopyContext;
+    }
+
+    private ResponseHandler.PublisherAdapter zeroCopyPublisherAdapter(ByteBuf content, RequestContext context) {
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                            HttpResponseStatus.ACCEPTED,
+                                            Flowable.just(new DefaultHttpContent(content)));
+        return new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, context, executeFuture);
+    }
+
+    /**
+     * Subscriber that keeps the last received buffer and only requests the initial demand.
+     */
+    private static final class HoldingSubscriber implements Subscriber<ByteBuffer> {
+
+        private final long initialDemand;
+        private Subscription subscription;
+        private ByteBuffer received;
+        private boolean isCompleted = false;
+
+        private HoldingSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            subscription.request(initialDemand);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received = byteBuffer;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import static org.junit.Assert.assertEquals;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollChannelOption;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.Test;
@@ -44,4 +45,19 @@ public class SdkChannelOptionsTest {
 
         assertEquals(expectedOptions, channelOptions.channelOptions());
     }
+
+    @Test
+    public void nativeSocketOptionsOnlyPresentForNativeTransport() {
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+        channelOptions.putOption(EpollChannelOption.TCP_QUICKACK, Boolean.TRUE);
+
+        Map<ChannelOption, Object> expectedNioOptions = new HashMap<>();
+        expectedNioOptions.put(ChannelOption.TCP_NODELAY, Boolean.TRUE);
+
+        Map<ChannelOption, Object> expectedNativeOptions = new HashMap<>(expectedNioOptions);
+        expectedNativeOptions.put(EpollChannelOption.TCP_QUICKACK, Boolean.TRUE);
+
+        assertEquals(expectedNioOptions, channelOptions.channelOptions(false));
+        assertEquals(expectedNativeOptions, channelOptions.channelOptions(true));
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.DefaultHttp2Connection;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2LocalFlowController;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2WindowUpdateFrame;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
+
+public class Http2FlowControlWindowHandlerTest {
+    private static final int MAX_ADAPTIVE_WINDOW_SIZE = 1_048_576;
+
+    private EmbeddedChannel channel;
+
+    @After
+    public void teardown() {
+        if (channel != null) {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    public void connectionWindowSize_grownOnceHttp2IsNegotiated() {
+        channel = createChannel(new Http2FlowControlWindowHandler(connection(), Http2CodecUtil.DEFAULT_WINDOW_SIZE,
+                                                                  500_000, false, MAX_ADAPTIVE_WINDOW_SIZE));
+        assertThat((Object) channel.readOutbound()).isNull();
+
+        negotiateHttp2();
+
+        Http2WindowUpdateFrame windowUpdate = channel.readOutbound();
+        assertThat(windowUpdate.stream()).isNull();
+        assertThat(windowUpdate.windowSizeIncrement()).isEqualTo(500_000 - Http2CodecUtil.DEFAULT_WINDOW_SIZE);
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void connectionWindowSize_smallerThanCurrentWindow_isIgnored() {
+        channel = createChannel(new Http2FlowControlWindowHandler(connection(), Http2CodecUtil.DEFAULT_WINDOW_SIZE,
+                                                                  1_000, false, MAX_ADAPTIVE_WINDOW_SIZE));
+        negotiateHttp2();
+
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void adaptiveWindowSize_windowBoundConnection_growsStreamAndConnectionWindows() {
+        channel = createChannel(new Http2FlowControlWindowHandler(connection(), Http2CodecUtil.DEFAULT_WINDOW_SIZE,
+                                                                  0, true, MAX_ADAPTIVE_WINDOW_SIZE));
+        negotiateHttp2();
+
+        // A full window was received within a round trip, so the window limits throughput.
+        channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(new byte[Http2CodecUtil.DEFAULT_WINDOW_SIZE])));
+        channel.pipeline().fireUserEventTriggered(new Http2PingAckEvent(TimeUnit.SECONDS.toNanos(1)));
+
+        Http2SettingsFrame settings = channel.readOutbound();
+        assertThat(settings.settings().initialWindowSize()).isEqualTo(MAX_ADAPTIVE_WINDOW_SIZE);
+        assertThat(settings.settings().size()).isEqualTo(1);
+
+        Http2WindowUpdateFrame windowUpdate = channel.readOutbound();
+        assertThat(windowUpdate.windowSizeIncrement()).isEqualTo(MAX_ADAPTIVE_WINDOW_SIZE - Http2CodecUtil.DEFAULT_WINDOW_SIZE);
+
+        // The windows never grow beyond the maximum.
+        channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(new byte[MAX_ADAPTIVE_WINDOW_SIZE])));
+        channel.pipeline().fireUserEventTriggered(new Http2PingAckEvent(TimeUnit.SECONDS.toNanos(1)));
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void adaptiveWindowSize_noDataReceived_doesNotGrowWindows() {
+        channel = createChannel(new Http2FlowControlWindowHandler(connection(), Http2CodecUtil.DEFAULT_WINDOW_SIZE,
+                                                                  0, true, MAX_ADAPTIVE_WINDOW_SIZE));
+        negotiateHttp2();
+
+        channel.pipeline().fireUserEventTriggered(new Http2PingAckEvent(TimeUnit.SECONDS.toNanos(1)));
+
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void adaptiveWindowSize_disabled_doesNotGrowWindows() {
+        channel = createChannel(new Http2FlowControlWindowHandler(connection(), Http2CodecUtil.DEFAULT_WINDOW_SIZE,
+                                                                  0, false, MAX_ADAPTIVE_WINDOW_SIZE));
+        negotiateHttp2();
+
+        channel.writeInbound(new DefaultHttp2DataFrame(Unpooled.wrappedBuffer(new byte[Http2CodecUtil.DEFAULT_WINDOW_SIZE])));
+        channel.pipeline().fireUserEventTriggered(new Http2PingAckEvent(TimeUnit.SECONDS.toNanos(1)));
+
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    private static Http2Connection connection() {
+        Http2Connection connection = new DefaultHttp2Connection(false);
+        connection.local().flowController(new DefaultHttp2LocalFlowController(connection));
+        return connection;
+    }
+
+    private static EmbeddedChannel createChannel(Http2FlowControlWindowHandler handler) {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.attr(ChannelAttributeKey.PROTOCOL_FUTURE).set(new CompletableFuture<>());
+        channel.pipeline().addLast(handler);
+        return channel;
+    }
+
+    private void negotiateHttp2() {
+        channel.attr(ChannelAttributeKey.PROTOCOL_FUTURE).get().complete(Protocol.HTTP2);
+        channel.runPendingTasks();
+    }
+}
@@ -48,6 +48,7 @@ public class Http2GoAwayEventListenerTest {
         when(ctx.channel()).thenReturn(channel);
         when(channel.pipeline()).thenReturn(channelPipeline);
         when(channel.attr(ChannelAttributeKey.HTTP2_MULTIPLEXED_CHANNEL_POOL)).thenReturn(attribute);
+        when(channel.attr(ChannelAttributeKey.CHANNEL_POOL_METRICS)).thenReturn(mock(Attribute.class));
     }
 
     @Test
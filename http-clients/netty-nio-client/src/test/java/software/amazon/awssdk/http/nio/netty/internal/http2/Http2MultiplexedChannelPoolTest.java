@@ -16,9 +16,13 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.netty.channel.Channel;
@@ -33,7 +37,10 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -41,6 +48,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 
 /**
  * Tests for {@link Http2MultiplexedChannelPool}.
@@ -201,4 +209,93 @@ public class Http2MultiplexedChannelPoolTest {
             channel.close().awaitUninterruptibly();
         }
     }
+
+    @Test
+    public void leastLoaded_placesStreamOnConnectionWithFewestStreamsInUse() {
+        MultiplexedChannelRecord busy = acceptingRecord(5);
+        MultiplexedChannelRecord idle = acceptingRecord(1);
+        MultiplexedChannelRecord moderate = acceptingRecord(3);
+        ChannelPool connectionPool = mock(ChannelPool.class);
+
+        Http2MultiplexedChannelPool h2Pool =
+            new Http2MultiplexedChannelPool(connectionPool, loopGroup, new HashSet<>(Arrays.asList(busy, idle, moderate)), null,
+                                            Http2StreamPlacementStrategy.LEAST_LOADED, 0);
+
+        assertThat(h2Pool.acquire().awaitUninterruptibly().isSuccess()).isTrue();
+
+        verify(idle).acquireStream(any());
+        verify(busy, never()).acquireStream(any());
+        verify(moderate, never()).acquireStream(any());
+        verify(connectionPool, never()).acquire();
+    }
+
+    @Test
+    public void roundRobin_placesConsecutiveStreamsOnDifferentConnections() {
+        List<MultiplexedChannelRecord> records = Arrays.asList(acceptingRecord(0), acceptingRecord(0), acceptingRecord(0));
+        ChannelPool connectionPool = mock(ChannelPool.class);
+
+        Http2MultiplexedChannelPool h2Pool =
+            new Http2MultiplexedChannelPool(connectionPool, loopGroup, new HashSet<>(records), null,
+                                            Http2StreamPlacementStrategy.ROUND_ROBIN, 0);
+
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(h2Pool.acquire().awaitUninterruptibly().isSuccess()).isTrue();
+        }
+
+        for (MultiplexedChannelRecord record : records) {
+            verify(record).acquireStream(any());
+        }
+        verify(connectionPool, never()).acquire();
+    }
+
+    @Test
+    public void minConnections_establishesNewConnectionBeforeReusingExistingConnection() {
+        MultiplexedChannelRecord record = acceptingRecord(0);
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        when(connectionPool.acquire()).thenReturn(new FailedFuture<>(loopGroup.next(), new IOException()));
+
+        Http2MultiplexedChannelPool h2Pool =
+            new Http2MultiplexedChannelPool(connectionPool, loopGroup, Collections.singleton(record), null,
+                                            Http2StreamPlacementStrategy.FIRST_AVAILABLE, 2);
+
+        assertThat(h2Pool.acquire().awaitUninterruptibly().isSuccess()).isFalse();
+        assertThat(h2Pool.acquire().awaitUninterruptibly().isSuccess()).isFalse();
+
+        // A failed connection no longer counts towards the minimum, so every acquire tried to establish a new connection.
+        verify(connectionPool, times(2)).acquire();
+        verify(record, never()).acquireStream(any());
+    }
+
+    @Test
+    public void minConnections_connectionsBeingEstablishedCountTowardsMinimum() {
+        MultiplexedChannelRecord record = acceptingRecord(0);
+        ChannelPool connectionPool = mock(ChannelPool.class);
+        // The new connections are never established, so they stay reserved.
+        when(connectionPool.acquire()).thenAnswer(i -> loopGroup.next().newPromise());
+
+        Http2MultiplexedChannelPool h2Pool =
+            new Http2MultiplexedChannelPool(connectionPool, loopGroup, Collections.singleton(record), null,
+                                            Http2StreamPlacementStrategy.FIRST_AVAILABLE, 3);
+
+        for (int i = 0; i < 5; i++) {
+            h2Pool.acquire();
+        }
+
+        // One connection is open, so a burst of acquires establishes exactly two more and shares the open one.
+        verify(connectionPool, times(2)).acquire();
+        verify(record, times(3)).acquireStream(any());
+    }
+
+    private MultiplexedChannelRecord acceptingRecord(long streamsInUse) {
+        MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+        Channel connection = new EmbeddedChannel();
+        when(record.getConnection()).thenReturn(connection);
+        when(record.streamsInUse()).thenReturn(streamsInUse);
+        when(record.acquireStream(any())).thenAnswer(invocation -> {
+            Promise<Channel> streamPromise = (Promise<Channel>) invocation.getArguments()[0];
+            streamPromise.setSuccess(new EmbeddedChannel());
+            return true;
+        });
+        return record;
+    }
 }
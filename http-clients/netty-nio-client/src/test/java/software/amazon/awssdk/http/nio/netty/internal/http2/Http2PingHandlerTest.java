@@ -172,6 +172,19 @@ public class Http2PingHandlerTest {
         assertThat(catcher.caughtPings).isEmpty();
     }
 
+    @Test
+    public void ackPingsFireRoundTripTimeEvent() {
+        PingAckEventCatcher catcher = new PingAckEventCatcher();
+        EmbeddedChannel channel = createHttp2Channel(slowChecker, catcher);
+        channel.runPendingTasks();
+        assertThat((Object) channel.readOutbound()).isInstanceOf(Http2PingFrame.class);
+
+        channel.writeInbound(new DefaultHttp2PingFrame(0, true));
+
+        assertThat(catcher.caughtEvents).hasSize(1);
+        assertThat(catcher.caughtEvents.get(0).roundTripTimeNanos()).isGreaterThanOrEqualTo(0);
+    }
+
     private static EmbeddedChannel createChannelWithoutProtocol(ChannelHandler... handlers) {
         EmbeddedChannel channel = new EmbeddedChannel();
         channel.attr(ChannelAttributeKey.PROTOCOL_FUTURE).set(new CompletableFuture<>());
@@ -211,6 +224,18 @@ public class Http2PingHandlerTest {
         }
     }
 
+    private static final class PingAckEventCatcher extends ChannelInboundHandlerAdapter {
+        private final List<Http2PingAckEvent> caughtEvents = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+            if (evt instanceof Http2PingAckEvent) {
+                caughtEvents.add((Http2PingAckEvent) evt);
+            }
+            ctx.fireUserEventTriggered(evt);
+        }
+    }
+
     private static final class PipelineExceptionCatcher extends ChannelInboundHandlerAdapter {
         private final List<Throwable> caughtExceptions = Collections.synchronizedList(new ArrayList<>());
 
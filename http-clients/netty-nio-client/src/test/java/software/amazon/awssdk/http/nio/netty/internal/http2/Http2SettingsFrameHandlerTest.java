@@ -91,6 +91,30 @@ public class Http2SettingsFrameHandlerTest {
         assertThat(protocolCompletableFuture.join()).isEqualTo(Protocol.HTTP2);
     }
 
+    @Test
+    public void channelRead_afterProtocolDetermined_updatesMaxStreamsOfConnection() {
+        Http2MultiplexedChannelPool multiplexedChannelPool = Mockito.mock(Http2MultiplexedChannelPool.class);
+        channel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(multiplexedChannelPool);
+
+        handler.channelRead0(context, http2SettingsFrame(50L));
+        handler.channelRead0(context, http2SettingsFrame(20L));
+
+        assertThat(channel.attr(MAX_CONCURRENT_STREAMS).get()).isEqualTo(20L);
+        Mockito.verify(multiplexedChannelPool).handleMaxConcurrentStreamsUpdate(channel, 20L);
+    }
+
+    @Test
+    public void channelRead_afterProtocolDeterminedWithoutMaxStreams_keepsMaxStreams() {
+        Http2MultiplexedChannelPool multiplexedChannelPool = Mockito.mock(Http2MultiplexedChannelPool.class);
+        channel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(multiplexedChannelPool);
+
+        handler.channelRead0(context, http2SettingsFrame(50L));
+        handler.channelRead0(context, http2SettingsFrame(null));
+
+        assertThat(channel.attr(MAX_CONCURRENT_STREAMS).get()).isEqualTo(50L);
+        Mockito.verifyZeroInteractions(multiplexedChannelPool);
+    }
+
     @Test
     public void exceptionCaught_shouldHandleErrorCloseChannel() throws Exception {
         Throwable cause = new Throwable(new RuntimeException("BOOM"));
@@ -117,12 +141,14 @@ public class Http2SettingsFrameHandlerTest {
     }
 
 
-    private Http2SettingsFrame http2SettingsFrame(long serverMaxStreams) {
+    private Http2SettingsFrame http2SettingsFrame(Long serverMaxStreams) {
         return new Http2SettingsFrame() {
             @Override
             public Http2Settings settings() {
                 Http2Settings http2Settings = new Http2Settings();
-                http2Settings.maxConcurrentStreams(serverMaxStreams);
+                if (serverMaxStreams != null) {
+                    http2Settings.maxConcurrentStreams(serverMaxStreams);
+                }
                 return http2Settings;
             }
 
@@ -40,6 +40,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -74,7 +75,9 @@ public class HttpOrHttp2ChannelPoolTest {
                                                             new NettyConfiguration(AttributeMap.builder()
                                                                     .put(CONNECTION_ACQUIRE_TIMEOUT, Duration.ofSeconds(1))
                                                                     .put(MAX_PENDING_CONNECTION_ACQUIRES, 5)
-                                                                    .build()));
+                                                                    .build()),
+                                                            Http2StreamPlacementStrategy.FIRST_AVAILABLE,
+                                                            0);
     }
 
     @Test
@@ -90,7 +93,9 @@ public class HttpOrHttp2ChannelPoolTest {
                                                             new NettyConfiguration(AttributeMap.builder()
                                                                                                .put(CONNECTION_ACQUIRE_TIMEOUT, Duration.ofSeconds(1))
                                                                                                .put(MAX_PENDING_CONNECTION_ACQUIRES, 0)
-                                                                                               .build()));
+                                                                                               .build()),
+                                                            Http2StreamPlacementStrategy.FIRST_AVAILABLE,
+                                                            0);
 
         Promise<Channel> acquirePromise = eventLoopGroup.next().newPromise();
         when(mockDelegatePool.acquire()).thenReturn(acquirePromise);
@@ -27,6 +27,8 @@ import io.netty.handler.codec.http2.Http2MultiplexHandler;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.Promise;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.After;
 import org.junit.Before;
@@ -177,6 +179,109 @@ public class MultiplexedChannelRecordTest {
         assertThat(record.acquireStream(null)).isFalse();
     }
 
+    @Test
+    public void updateMaxConcurrency_changesNumberOfAvailableStreams() {
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 1, null);
+
+        Promise<Channel> streamPromise = channel.eventLoop().newPromise();
+        assertThat(record.acquireStream(streamPromise)).isTrue();
+        channel.runPendingTasks();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+
+        record.updateMaxConcurrency(2);
+
+        Promise<Channel> streamPromise2 = channel.eventLoop().newPromise();
+        assertThat(record.acquireStream(streamPromise2)).isTrue();
+        channel.runPendingTasks();
+        assertThat(streamPromise2.isSuccess()).isTrue();
+        assertThat(record.streamsInUse()).isEqualTo(2);
+
+        // Lowering the maximum below the number of open streams blocks new streams until enough of them are closed.
+        record.updateMaxConcurrency(1);
+        record.closeAndReleaseChild(streamPromise.getNow());
+        channel.runPendingTasks();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+
+        record.closeAndReleaseChild(streamPromise2.getNow());
+        channel.runPendingTasks();
+        assertThat(record.streamsInUse()).isZero();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isTrue();
+    }
+
+    @Test
+    public void updateMaxConcurrency_belowStreamsInUse_blocksNewStreamsUntilEnoughAreReleased() {
+        EmbeddedChannel channel = newHttp2Channel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 3, null);
+
+        List<Promise<Channel>> streamPromises = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Promise<Channel> streamPromise = channel.eventLoop().newPromise();
+            assertThat(record.acquireStream(streamPromise)).isTrue();
+            streamPromises.add(streamPromise);
+        }
+        channel.runPendingTasks();
+
+        // The server lowers SETTINGS_MAX_CONCURRENT_STREAMS to 1 while 3 streams are in use.
+        record.updateMaxConcurrency(1);
+        channel.runPendingTasks();
+        assertThat(record.streamsInUse()).isEqualTo(3);
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+
+        // Releasing streams only makes a new one available once fewer than the new maximum are in use.
+        record.closeAndReleaseChild(streamPromises.get(0).getNow());
+        channel.runPendingTasks();
+        assertThat(record.streamsInUse()).isEqualTo(2);
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+
+        record.closeAndReleaseChild(streamPromises.get(1).getNow());
+        channel.runPendingTasks();
+        assertThat(record.streamsInUse()).isEqualTo(1);
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+
+        record.closeAndReleaseChild(streamPromises.get(2).getNow());
+        channel.runPendingTasks();
+        assertThat(record.streamsInUse()).isZero();
+
+        Promise<Channel> newStreamPromise = channel.eventLoop().newPromise();
+        assertThat(record.acquireStream(newStreamPromise)).isTrue();
+        channel.runPendingTasks();
+        assertThat(newStreamPromise.isSuccess()).isTrue();
+        assertThat(record.acquireStream(channel.eventLoop().newPromise())).isFalse();
+    }
+
+    @Test
+    public void updateMaxConcurrency_whileAcquiresAreFailing_doesNotLoseStreams() throws InterruptedException {
+        // Streams can't be opened without an Http2MultiplexHandler, so every acquire fails and its claim is released by a
+        // listener on one of the loop group's threads while the maximum is being changed on this thread.
+        EmbeddedChannel channel = new EmbeddedChannel();
+        MultiplexedChannelRecord record = new MultiplexedChannelRecord(channel, 10, null);
+
+        List<Promise<Channel>> streamPromises = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Promise<Channel> streamPromise = loopGroup.next().newPromise();
+            if (record.acquireStream(streamPromise)) {
+                streamPromises.add(streamPromise);
+            }
+            record.updateMaxConcurrency(i % 2 == 0 ? 1 : 10);
+        }
+        record.updateMaxConcurrency(2);
+
+        for (Promise<Channel> streamPromise : streamPromises) {
+            streamPromise.await();
+            assertThat(streamPromise.isSuccess()).isFalse();
+        }
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (record.streamsInUse() != 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(record.streamsInUse()).isZero();
+        assertThat(record.claimStream()).isTrue();
+        assertThat(record.claimStream()).isTrue();
+        assertThat(record.claimStream()).isFalse();
+    }
+
     private EmbeddedChannel newHttp2Channel() {
         EmbeddedChannel channel = new EmbeddedChannel(Http2FrameCodecBuilder.forClient().build(),
                                                       new Http2MultiplexHandler(new NoOpHandler()));
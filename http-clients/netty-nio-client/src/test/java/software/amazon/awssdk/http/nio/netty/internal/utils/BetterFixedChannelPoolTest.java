@@ -0,0 +1,183 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BetterFixedChannelPoolTest {
+    private EventLoopGroup eventLoopGroup;
+    private CountingChannelPool delegatePool;
+
+    @Before
+    public void setup() {
+        eventLoopGroup = new DefaultEventLoopGroup(1);
+        delegatePool = new CountingChannelPool();
+    }
+
+    @After
+    public void teardown() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Test
+    public void acquireBeyondMaxConnections_waitsForRelease() throws Exception {
+        BetterFixedChannelPool pool = pool(2, 10, -1);
+
+        Channel first = pool.acquire().get(5, TimeUnit.SECONDS);
+        pool.acquire().get(5, TimeUnit.SECONDS);
+        Future<Channel> third = pool.acquire();
+
+        Thread.sleep(100);
+        assertThat(third.isDone()).isFalse();
+        assertThat(pool.acquiredChannelCount()).isEqualTo(2);
+        assertThat(pool.pendingAcquireCount()).isEqualTo(1);
+
+        pool.release(first).get(5, TimeUnit.SECONDS);
+
+        assertThat(third.get(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(pool.acquiredChannelCount()).isEqualTo(2);
+        assertThat(pool.pendingAcquireCount()).isZero();
+    }
+
+    @Test
+    public void acquireBeyondMaxPendingAcquires_fails() throws Exception {
+        BetterFixedChannelPool pool = pool(1, 1, -1);
+
+        pool.acquire().get(5, TimeUnit.SECONDS);
+        pool.acquire();
+        Future<Channel> rejected = pool.acquire().await();
+
+        assertThat(rejected.cause()).isInstanceOf(IllegalStateException.class)
+                                    .hasMessageContaining("Too many outstanding acquire operations");
+    }
+
+    @Test
+    public void pendingAcquire_failsAfterAcquireTimeout() throws Exception {
+        BetterFixedChannelPool pool = pool(1, 10, 50);
+
+        pool.acquire().get(5, TimeUnit.SECONDS);
+        Future<Channel> timedOut = pool.acquire().await();
+
+        assertThat(timedOut.cause()).isInstanceOf(TimeoutException.class);
+        assertThat(pool.pendingAcquireCount()).isZero();
+    }
+
+    @Test
+    public void concurrentAcquireAndRelease_neverExceedsMaxConnections() throws Exception {
+        int maxConnections = 4;
+        int threads = 8;
+        int acquiresPerThread = 2_000;
+        BetterFixedChannelPool pool = pool(maxConnections, threads * acquiresPerThread, -1);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                executorService.submit(() -> {
+                    try {
+                        for (int j = 0; j < acquiresPerThread; j++) {
+                            Channel channel = pool.acquire().get(5, TimeUnit.SECONDS);
+                            pool.release(channel).get(5, TimeUnit.SECONDS);
+                        }
+                    } catch (Throwable t) {
+                        synchronized (failures) {
+                            failures.add(t);
+                        }
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(failures).isEmpty();
+        assertThat(delegatePool.maxLeased.get()).isLessThanOrEqualTo(maxConnections);
+        assertThat(pool.acquiredChannelCount()).isZero();
+        assertThat(pool.pendingAcquireCount()).isZero();
+    }
+
+    private BetterFixedChannelPool pool(int maxConnections, int maxPendingAcquires, long acquireTimeoutMillis) {
+        BetterFixedChannelPool.Builder builder = BetterFixedChannelPool.builder()
+                                                                       .channelPool(delegatePool)
+                                                                       .executor(eventLoopGroup.next())
+                                                                       .maxConnections(maxConnections)
+                                                                       .maxPendingAcquires(maxPendingAcquires)
+                                                                       .acquireTimeoutMillis(acquireTimeoutMillis);
+        if (acquireTimeoutMillis >= 0) {
+            builder.acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL);
+        }
+        return builder.build();
+    }
+
+    /**
+     * A pool that creates a new channel for every acquire and records the maximum number of concurrently leased channels.
+     */
+    private static final class CountingChannelPool implements ChannelPool {
+        private final AtomicInteger leased = new AtomicInteger();
+        private final AtomicInteger maxLeased = new AtomicInteger();
+
+        @Override
+        public Future<Channel> acquire() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Channel> acquire(Promise<Channel> promise) {
+            int nowLeased = leased.incrementAndGet();
+            maxLeased.accumulateAndGet(nowLeased, Math::max);
+            return promise.setSuccess(new EmbeddedChannel());
+        }
+
+        @Override
+        public Future<Void> release(Channel channel) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Future<Void> release(Channel channel, Promise<Void> promise) {
+            leased.decrementAndGet();
+            return promise.setSuccess(null);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
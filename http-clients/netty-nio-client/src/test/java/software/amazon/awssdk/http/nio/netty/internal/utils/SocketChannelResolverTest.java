@@ -16,20 +16,37 @@
 package software.amazon.awssdk.http.nio.netty.internal.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.Assume.assumeTrue;
+import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.isNativeTransport;
+import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveDatagramChannelFactory;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveSocketChannelFactory;
 
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.oio.OioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.oio.OioDatagramChannel;
 import io.netty.channel.socket.oio.OioSocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
 import org.junit.Test;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
 
 public class SocketChannelResolverTest {
+    private final List<EventLoopGroup> eventLoopGroups = new ArrayList<>();
+
+    @After
+    public void teardown() {
+        eventLoopGroups.forEach(group -> group.shutdownGracefully().awaitUninterruptibly());
+    }
 
     @Test
     public void canDetectFactoryForStandardNioEventLoopGroup() {
@@ -51,4 +68,52 @@ public class SocketChannelResolverTest {
     public void worksWithOioEventLoopGroupFactory() {
         assertThat(resolveSocketChannelFactory(new OioEventLoopGroup()).newChannel()).isInstanceOf(OioSocketChannel.class);
     }
+
+    @Test
+    public void nioEventLoopGroupIsNotNativeTransport() {
+        EventLoopGroup nioEventLoopGroup = track(new NioEventLoopGroup(1));
+        assertThat(isNativeTransport(nioEventLoopGroup)).isFalse();
+        assertThat(isNativeTransport(new DelegatingEventLoopGroup(nioEventLoopGroup) {})).isFalse();
+    }
+
+    @Test
+    public void epollEventLoopGroupIsNativeTransport() {
+        assumeTrue(Epoll.isAvailable());
+        EventLoopGroup epollEventLoopGroup = track(new EpollEventLoopGroup(1));
+        assertThat(isNativeTransport(epollEventLoopGroup)).isTrue();
+        assertThat(isNativeTransport(new DelegatingEventLoopGroup(epollEventLoopGroup) {})).isTrue();
+    }
+
+    @Test
+    public void canDetectDatagramFactoryForStandardNioEventLoopGroup() {
+        EventLoopGroup nioEventLoopGroup = track(new NioEventLoopGroup(1));
+        assertThat(resolveDatagramChannelFactory(nioEventLoopGroup).newChannel()).isInstanceOf(NioDatagramChannel.class);
+        assertThat(resolveDatagramChannelFactory(new DelegatingEventLoopGroup(nioEventLoopGroup) {}).newChannel())
+            .isInstanceOf(NioDatagramChannel.class);
+    }
+
+    @Test
+    public void canDetectEpollEventLoopGroupDatagramFactory() {
+        assumeTrue(Epoll.isAvailable());
+        EventLoopGroup epollEventLoopGroup = track(new EpollEventLoopGroup(1));
+        assertThat(resolveDatagramChannelFactory(epollEventLoopGroup).newChannel()).isInstanceOf(EpollDatagramChannel.class);
+    }
+
+    @Test
+    public void worksWithOioEventLoopGroupDatagramFactory() {
+        EventLoopGroup oioEventLoopGroup = track(new OioEventLoopGroup());
+        assertThat(resolveDatagramChannelFactory(oioEventLoopGroup).newChannel()).isInstanceOf(OioDatagramChannel.class);
+    }
+
+    @Test
+    public void unknownEventLoopGroupDatagramFactory_throwsException() {
+        EventLoopGroup defaultEventLoopGroup = track(new DefaultEventLoopGroup(1));
+        assertThatThrownBy(() -> resolveDatagramChannelFactory(defaultEventLoopGroup))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private EventLoopGroup track(EventLoopGroup eventLoopGroup) {
+        eventLoopGroups.add(eventLoopGroup);
+        return eventLoopGroup;
+    }
 }
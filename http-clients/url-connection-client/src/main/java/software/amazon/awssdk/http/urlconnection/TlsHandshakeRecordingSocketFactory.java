@@ -0,0 +1,98 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.urlconnection;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.function.Supplier;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
+
+/**
+ * An {@link SSLSocketFactory} that records the handshakes of the sockets created by another factory in a
+ * {@link TlsHandshakeRecorder}.
+ *
+ * <p>{@link javax.net.ssl.HttpsURLConnection} only reuses kept-alive connections that were created by the same socket factory
+ * instance, so a single instance of this should be used for all connections of a client.</p>
+ */
+@SdkInternalApi
+final class TlsHandshakeRecordingSocketFactory extends SSLSocketFactory {
+    private final Supplier<SSLSocketFactory> delegate;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder;
+
+    /**
+     * @param delegate Supplies the factory that creates the sockets. It is invoked for every socket, so that it can follow
+     * changes to {@link javax.net.ssl.HttpsURLConnection#getDefaultSSLSocketFactory()}.
+     * @param tlsHandshakeRecorder The recorder to record the handshakes in.
+     */
+    TlsHandshakeRecordingSocketFactory(Supplier<SSLSocketFactory> delegate, TlsHandshakeRecorder tlsHandshakeRecorder) {
+        this.delegate = delegate;
+        this.tlsHandshakeRecorder = tlsHandshakeRecorder;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+        return delegate.get().getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+        return delegate.get().getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+        return recordHandshake(delegate.get().createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+        return recordHandshake(delegate.get().createSocket(socket, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        return recordHandshake(delegate.get().createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        return recordHandshake(delegate.get().createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        return recordHandshake(delegate.get().createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        return recordHandshake(delegate.get().createSocket(address, port, localAddress, localPort));
+    }
+
+    private Socket recordHandshake(Socket socket) {
+        if (socket instanceof SSLSocket) {
+            // The handshake is started by the connection after the socket is created, so this is no later than its start.
+            long handshakeStartMillis = System.currentTimeMillis();
+            ((SSLSocket) socket).addHandshakeCompletedListener(
+                event -> tlsHandshakeRecorder.handshakeCompleted(event.getSession(), handshakeStartMillis));
+        }
+        return socket;
+    }
+}
@@ -19,6 +19,9 @@ import static software.amazon.awssdk.http.HttpStatusFamily.CLIENT_ERROR;
 import static software.amazon.awssdk.http.HttpStatusFamily.SERVER_ERROR;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.CONNECTION_TIMEOUT;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.READ_TIMEOUT;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_CACHE_SIZE;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TLS_SESSION_TIMEOUT;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
@@ -38,6 +41,7 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocketFactory;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -49,8 +53,11 @@ import software.amazon.awssdk.http.HttpStatusFamily;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsHandshakeMetrics;
+import software.amazon.awssdk.http.TlsHandshakeRecorder;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link SdkHttpClient} that uses {@link HttpURLConnection} to communicate with the service. This is the
@@ -68,13 +75,17 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
 
     private final AttributeMap options;
     private final UrlConnectionFactory connectionFactory;
+    private final TlsHandshakeRecorder tlsHandshakeRecorder = new TlsHandshakeRecorder();
+    private final SSLSocketFactory sslSocketFactory;
 
     private UrlConnectionHttpClient(AttributeMap options, UrlConnectionFactory connectionFactory) {
         this.options = options;
         if (connectionFactory != null) {
             this.connectionFactory = connectionFactory;
+            this.sslSocketFactory = null;
         } else {
             this.connectionFactory = this::createDefaultConnection;
+            this.sslSocketFactory = createSslSocketFactory(options);
         }
 
     }
@@ -109,6 +120,16 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         return new RequestCallable(connection, request);
     }
 
+    /**
+     * @return The number of TLS handshakes this client has completed so far, split by whether they resumed a cached TLS
+     * session. Handshakes of connections created by a custom {@link UrlConnectionFactory} are not counted. See
+     * {@link Builder#tlsSessionCacheSize(Integer)} and {@link Builder#tlsSessionTimeout(Duration)} to configure how sessions
+     * are cached.
+     */
+    public TlsHandshakeMetrics tlsHandshakeMetrics() {
+        return tlsHandshakeRecorder.metrics();
+    }
+
     @Override
     public void close() {
         // Nothing to close. The connections will be closed by closing the InputStreams.
@@ -145,9 +166,40 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         HttpURLConnection connection = invokeSafely(() -> (HttpURLConnection) uri.toURL().openConnection());
         connection.setConnectTimeout(saturatedCast(options.get(CONNECTION_TIMEOUT).toMillis()));
         connection.setReadTimeout(saturatedCast(options.get(READ_TIMEOUT).toMillis()));
+        if (connection instanceof HttpsURLConnection) {
+            ((HttpsURLConnection) connection).setSSLSocketFactory(sslSocketFactory);
+        }
         return connection;
     }
 
+    /**
+     * Create the socket factory used for all HTTPS connections of this client. When TLS session caching is configured, the
+     * client needs its own {@link SSLContext}, because the session cache belongs to the context. Otherwise the sockets are
+     * still created by the default socket factory, as they were before.
+     */
+    private SSLSocketFactory createSslSocketFactory(AttributeMap options) {
+        if (options.get(TLS_SESSION_CACHE_SIZE) == null && options.get(TLS_SESSION_TIMEOUT) == null) {
+            return new TlsHandshakeRecordingSocketFactory(HttpsURLConnection::getDefaultSSLSocketFactory, tlsHandshakeRecorder);
+        }
+
+        TrustManager[] trustManagers = null;
+        if (options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES)) {
+            trustManagers = new TrustManager[] {TrustAllManager.INSTANCE};
+        }
+
+        SSLContext context;
+        try {
+            context = SSLContext.getInstance("TLS");
+            context.init(options.get(TLS_KEY_MANAGERS_PROVIDER).keyManagers(), trustManagers, null);
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new RuntimeException(ex.getMessage(), ex);
+        }
+
+        TlsHandshakeRecorder.configureSessionContext(context.getClientSessionContext(), options);
+        SSLSocketFactory socketFactory = context.getSocketFactory();
+        return new TlsHandshakeRecordingSocketFactory(() -> socketFactory, tlsHandshakeRecorder);
+    }
+
     /**
      * Should only be used in testing
      */
@@ -237,6 +289,28 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
          * means infinity, and is not recommended.
          */
         Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Configure the maximum number of TLS sessions to cache. A cached session lets a new connection to the same host
+         * resume it with an abbreviated handshake instead of a full one. Zero means no limit.
+         *
+         * <p>When this or {@link #tlsSessionTimeout(Duration)} is configured, the client uses its own TLS context (with the
+         * key managers of {@link SdkHttpConfigurationOption#TLS_KEY_MANAGERS_PROVIDER}) instead of
+         * {@link HttpsURLConnection#getDefaultSSLSocketFactory()}. By default, the sessions are cached in the default
+         * context, using the JVM's default cache size.</p>
+         *
+         * @see UrlConnectionHttpClient#tlsHandshakeMetrics()
+         */
+        Builder tlsSessionCacheSize(Integer tlsSessionCacheSize);
+
+        /**
+         * Configure how long a cached TLS session can be resumed for, at a precision of one second. Zero means no limit.
+         *
+         * <p>By default, the JVM's default of 24 hours is used.</p>
+         *
+         * @see #tlsSessionCacheSize(Integer)
+         */
+        Builder tlsSessionTimeout(Duration tlsSessionTimeout);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -277,6 +351,32 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
             connectionTimeout(connectionTimeout);
         }
 
+        @Override
+        public Builder tlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            if (tlsSessionCacheSize != null) {
+                Validate.isNotNegative(tlsSessionCacheSize, "tlsSessionCacheSize");
+            }
+            standardOptions.put(TLS_SESSION_CACHE_SIZE, tlsSessionCacheSize);
+            return this;
+        }
+
+        public void setTlsSessionCacheSize(Integer tlsSessionCacheSize) {
+            tlsSessionCacheSize(tlsSessionCacheSize);
+        }
+
+        @Override
+        public Builder tlsSessionTimeout(Duration tlsSessionTimeout) {
+            if (tlsSessionTimeout != null) {
+                Validate.isNotNegative(tlsSessionTimeout, "tlsSessionTimeout");
+            }
+            standardOptions.put(TLS_SESSION_TIMEOUT, tlsSessionTimeout);
+            return this;
+        }
+
+        public void setTlsSessionTimeout(Duration tlsSessionTimeout) {
+            tlsSessionTimeout(tlsSessionTimeout);
+        }
+
         /**
          * Used by the SDK to create a {@link SdkHttpClient} with service-default values if no other values have been configured
          *
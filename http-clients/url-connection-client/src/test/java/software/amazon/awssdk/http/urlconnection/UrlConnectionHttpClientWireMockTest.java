@@ -14,16 +14,27 @@
  */
 package software.amazon.awssdk.http.urlconnection;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
 
 import java.net.HttpURLConnection;
+import java.net.URI;
 import javax.net.ssl.HttpsURLConnection;
 import javax.net.ssl.SSLSocketFactory;
 import org.junit.After;
 import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.TlsHandshakeMetrics;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
 
 public final class UrlConnectionHttpClientWireMockTest extends SdkHttpClientTestSuite {
 
@@ -47,4 +58,46 @@ public final class UrlConnectionHttpClientWireMockTest extends SdkHttpClientTest
             testForResponseCodeUsingHttps(client, HttpURLConnection.HTTP_OK);
         }
     }
+
+    @Test
+    public void newConnectionToSameHost_resumesTlsSession() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withHeader("Connection", "close")));
+
+        try (UrlConnectionHttpClient client = (UrlConnectionHttpClient) UrlConnectionHttpClient.builder()
+                                                                                              .tlsSessionCacheSize(10)
+                                                                                              .buildWithDefaults(trustAll())) {
+            executeHttpsGet(client);
+            executeHttpsGet(client);
+
+            assertThat(client.tlsHandshakeMetrics()).isEqualTo(TlsHandshakeMetrics.create(1, 1));
+        }
+    }
+
+    @Test
+    public void defaultSocketFactory_recordsTlsHandshakes() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse()));
+
+        try (UrlConnectionHttpClient client = (UrlConnectionHttpClient) UrlConnectionHttpClient.builder()
+                                                                                              .buildWithDefaults(trustAll())) {
+            executeHttpsGet(client);
+
+            TlsHandshakeMetrics metrics = client.tlsHandshakeMetrics();
+            assertThat(metrics.fullHandshakes() + metrics.resumedHandshakes()).isEqualTo(1);
+        }
+    }
+
+    private static AttributeMap trustAll() {
+        return AttributeMap.builder()
+                           .put(TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                           .build();
+    }
+
+    private void executeHttpsGet(SdkHttpClient client) throws Exception {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://localhost:" + mockServer.httpsPort()))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        response.responseBody().ifPresent(IoUtils::drainInputStream);
+    }
 }
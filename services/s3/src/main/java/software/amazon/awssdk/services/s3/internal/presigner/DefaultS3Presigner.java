@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -85,13 +86,13 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private static final String SERVICE_NAME = "s3";
     private static final String SIGNING_NAME = "s3";
 
-    private final List<ExecutionInterceptor> clientInterceptors;
+    private final ExecutionInterceptorChain interceptorChain;
     private final GetObjectRequestMarshaller getObjectRequestMarshaller;
     private final PutObjectRequestMarshaller putObjectRequestMarshaller;
 
     private DefaultS3Presigner(Builder b) {
         super(b);
-        this.clientInterceptors = initializeInterceptors();
+        this.interceptorChain = new ExecutionInterceptorChain(initializeInterceptors());
         this.getObjectRequestMarshaller = initializeGetObjectRequestMarshaller();
         this.putObjectRequestMarshaller = initializePutObjectRequestMarshaller();
     }
@@ -154,12 +155,38 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
 
     @Override
     public PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request) {
+        return presignGetObject(request, () -> resolveCredentials(credentialsProvider()), Instant.now());
+    }
+
+    /**
+     * Presign all the requests with the same client credentials, so that the credentials provider is only invoked once for
+     * the whole batch. The expiration of each request is still calculated from when that request is presigned, and the
+     * interceptors, and so the endpoint resolution, still run for each request.
+     */
+    @Override
+    public List<PresignedGetObjectRequest> presignGetObjects(List<GetObjectPresignRequest> requests) {
+        boolean usesClientCredentials =
+            requests.stream().anyMatch(r -> !credentialsProviderOverride(r.getObjectRequest()).isPresent());
+        AwsCredentials clientCredentials = usesClientCredentials ? resolveCredentials(credentialsProvider()) : null;
+
+        List<PresignedGetObjectRequest> presignedRequests = new ArrayList<>(requests.size());
+        for (GetObjectPresignRequest request : requests) {
+            presignedRequests.add(presignGetObject(request, () -> clientCredentials, Instant.now()));
+        }
+        return presignedRequests;
+    }
+
+    private PresignedGetObjectRequest presignGetObject(GetObjectPresignRequest request,
+                                                       Supplier<AwsCredentials> clientCredentials,
+                                                       Instant now) {
         return presign(PresignedGetObjectRequest.builder(),
                        request,
                        request.getObjectRequest(),
                        GetObjectRequest.class,
                        getObjectRequestMarshaller::marshall,
-                       "GetObject")
+                       "GetObject",
+                       clientCredentials,
+                       now)
             .build();
     }
 
@@ -170,7 +197,9 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                        request.putObjectRequest(),
                        PutObjectRequest.class,
                        putObjectRequestMarshaller::marshall,
-                       "PutObject")
+                       "PutObject",
+                       () -> resolveCredentials(credentialsProvider()),
+                       Instant.now())
             .build();
     }
 
@@ -182,8 +211,11 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                                               SdkRequest requestToPresign,
                                                               Class<U> requestToPresignType,
                                                               Function<U, SdkHttpFullRequest> requestMarshaller,
-                                                              String operationName) {
-        ExecutionContext execCtx = createExecutionContext(presignRequest, requestToPresign, operationName);
+                                                              String operationName,
+                                                              Supplier<AwsCredentials> clientCredentials,
+                                                              Instant now) {
+        ExecutionContext execCtx = createExecutionContext(presignRequest, requestToPresign, operationName,
+                                                          clientCredentials, now);
 
         callBeforeExecutionHooks(execCtx);
         callModifyRequestHooksAndUpdateContext(execCtx);
@@ -204,19 +236,16 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     /**
      * Creates an execution context from the provided requests information.
      */
-    private ExecutionContext createExecutionContext(PresignRequest presignRequest, SdkRequest sdkRequest, String operationName) {
-        AwsCredentialsProvider clientCredentials = credentialsProvider();
-        AwsCredentialsProvider credentialsProvider = sdkRequest.overrideConfiguration()
-                                                               .filter(c -> c instanceof AwsRequestOverrideConfiguration)
-                                                               .map(c -> (AwsRequestOverrideConfiguration) c)
-                                                               .flatMap(AwsRequestOverrideConfiguration::credentialsProvider)
-                                                               .orElse(clientCredentials);
+    private ExecutionContext createExecutionContext(PresignRequest presignRequest,
+                                                    SdkRequest sdkRequest,
+                                                    String operationName,
+                                                    Supplier<AwsCredentials> clientCredentials,
+                                                    Instant now) {
+        AwsCredentials credentials = credentialsProviderOverride(sdkRequest).map(DefaultS3Presigner::resolveCredentials)
+                                                                            .orElseGet(clientCredentials);
 
         Signer signer = sdkRequest.overrideConfiguration().flatMap(RequestOverrideConfiguration::signer).orElse(DEFAULT_SIGNER);
-        Instant signatureExpiration = Instant.now().plus(presignRequest.signatureDuration());
-
-        AwsCredentials credentials = credentialsProvider.resolveCredentials();
-        Validate.validState(credentials != null, "Credential providers must never return null.");
+        Instant signatureExpiration = now.plus(presignRequest.signatureDuration());
 
         ExecutionAttributes executionAttributes = new ExecutionAttributes()
             .putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, credentials)
@@ -232,9 +261,8 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                                                                      .build())
             .putAttribute(PRESIGNER_EXPIRATION, signatureExpiration);
 
-        ExecutionInterceptorChain executionInterceptorChain = new ExecutionInterceptorChain(clientInterceptors);
         return ExecutionContext.builder()
-                               .interceptorChain(executionInterceptorChain)
+                               .interceptorChain(interceptorChain)
                                .interceptorContext(InterceptorContext.builder()
                                                                      .request(sdkRequest)
                                                                      .build())
@@ -243,6 +271,22 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
                                .build();
     }
 
+    /**
+     * Get the credentials provider configured on the provided request, if any.
+     */
+    private static Optional<AwsCredentialsProvider> credentialsProviderOverride(SdkRequest sdkRequest) {
+        return sdkRequest.overrideConfiguration()
+                         .filter(c -> c instanceof AwsRequestOverrideConfiguration)
+                         .map(c -> (AwsRequestOverrideConfiguration) c)
+                         .flatMap(AwsRequestOverrideConfiguration::credentialsProvider);
+    }
+
+    private static AwsCredentials resolveCredentials(AwsCredentialsProvider credentialsProvider) {
+        AwsCredentials credentials = credentialsProvider.resolveCredentials();
+        Validate.validState(credentials != null, "Credential providers must never return null.");
+        return credentials;
+    }
+
     /**
      * Call the before-execution interceptor hooks.
      */
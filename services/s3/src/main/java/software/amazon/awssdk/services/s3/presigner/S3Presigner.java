@@ -17,6 +17,8 @@ package software.amazon.awssdk.services.s3.presigner;
 
 import java.net.URI;
 import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
@@ -266,6 +268,48 @@ public interface S3Presigner extends SdkPresigner {
         return presignGetObject(builder.build());
     }
 
+    /**
+     * Presign several {@link GetObjectRequest}s at once, returning the presigned requests in the same order as the
+     * provided requests.
+     * <p/>
+     * This is equivalent to calling {@link #presignGetObject(GetObjectPresignRequest)} for each request, but it is cheaper
+     * when many URLs are generated with the same presigner: the presigner's credentials are resolved once for the whole
+     * batch. Requests that override the credentials provider are still signed with their own credentials. The expiration
+     * of each presigned request is calculated from when that request is presigned, so every URL is valid for its full
+     * signature duration however long the batch takes.
+     * <p/>
+     * Each request is still passed through the presigner's execution interceptors on its own, including the one that
+     * resolves the bucket's endpoint. The endpoint of a bucket only changes with the key when the bucket is an access point
+     * ARN, but it is applied by rewriting each marshalled request, after any global interceptors have had the chance to
+     * modify it, so it is not reused between requests for the same bucket.
+     *
+     * <b>Example Usage</b>
+     * <p/>
+     *
+     * <pre>
+     * {@code
+     *     S3Presigner presigner = ...;
+     *
+     *     List<GetObjectPresignRequest> requests =
+     *         keys.stream()
+     *             .map(key -> GetObjectPresignRequest.builder()
+     *                                                .signatureDuration(Duration.ofMinutes(10))
+     *                                                .getObjectRequest(r -> r.bucket("my-bucket").key(key))
+     *                                                .build())
+     *             .collect(Collectors.toList());
+     *
+     *     List<PresignedGetObjectRequest> presignedRequests = presigner.presignGetObjects(requests);
+     * }
+     * </pre>
+     */
+    default List<PresignedGetObjectRequest> presignGetObjects(List<GetObjectPresignRequest> requests) {
+        List<PresignedGetObjectRequest> presignedRequests = new ArrayList<>(requests.size());
+        for (GetObjectPresignRequest request : requests) {
+            presignedRequests.add(presignGetObject(request));
+        }
+        return presignedRequests;
+    }
+
     /**
      * Presign a {@link PutObjectRequest} so that it can be executed at a later time without requiring additional
      * signing or authentication.
@@ -17,9 +17,13 @@ package software.amazon.awssdk.services.s3;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.assertj.core.data.Offset;
 import org.junit.After;
 import org.junit.Before;
@@ -35,6 +39,7 @@ import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.model.RequestPayer;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 
@@ -214,6 +219,87 @@ public class S3PresignerTest {
         });
     }
 
+    @Test
+    public void getObjects_MatchesPresigningEachRequest() {
+        List<GetObjectPresignRequest> requests =
+            Arrays.asList(getObjectPresignRequest("foo34343434", "bar"), getObjectPresignRequest("foo34343434", "baz"));
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(requests);
+
+        assertThat(presigned).hasSize(2);
+        for (int i = 0; i < requests.size(); i++) {
+            PresignedGetObjectRequest expected = presigner.presignGetObject(requests.get(i));
+            assertThat(presigned.get(i).url().getPath()).isEqualTo(expected.url().getPath());
+            assertThat(presigned.get(i).isBrowserExecutable()).isTrue();
+            assertThat(presigned.get(i).httpRequest().rawQueryParameters().get("X-Amz-Credential"))
+                .isEqualTo(expected.httpRequest().rawQueryParameters().get("X-Amz-Credential"));
+        }
+    }
+
+    @Test
+    public void getObjects_ResolvesClientCredentialsOncePerBatch() {
+        AtomicInteger resolutions = new AtomicInteger();
+        S3Presigner presigner = presignerBuilder().credentialsProvider(() -> {
+            resolutions.incrementAndGet();
+            return AwsBasicCredentials.create("a", "a");
+        }).build();
+
+        presigner.presignGetObjects(Arrays.asList(getObjectPresignRequest("foo34343434", "bar"),
+                                                  getObjectPresignRequest("foo34343434", "baz"),
+                                                  getObjectPresignRequest("foo34343434", "qux")));
+
+        assertThat(resolutions.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void getObjects_CredentialsCanBeOverriddenAtTheRequestLevel() {
+        AwsCredentials requestCredentials = AwsBasicCredentials.create("b", "b");
+        S3Presigner presigner = presignerBuilder().credentialsProvider(() -> AwsBasicCredentials.create("a", "a")).build();
+
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            AwsRequestOverrideConfiguration.builder()
+                                           .credentialsProvider(() -> requestCredentials)
+                                           .build();
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(Arrays.asList(
+            getObjectPresignRequest("foo34343434", "bar"),
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434")
+                                                             .key("bar")
+                                                             .overrideConfiguration(overrideConfiguration))
+                                   .build()));
+
+        assertThat(presigned.get(0).httpRequest().rawQueryParameters().get("X-Amz-Credential").get(0)).startsWith("a");
+        assertThat(presigned.get(1).httpRequest().rawQueryParameters().get("X-Amz-Credential").get(0)).startsWith("b");
+    }
+
+    @Test
+    public void getObjects_ExpirationIsCalculatedForEachRequest() {
+        AwsRequestOverrideConfiguration slowCredentials =
+            AwsRequestOverrideConfiguration.builder()
+                                           .credentialsProvider(() -> {
+                                               invokeSafely(() -> Thread.sleep(3_000));
+                                               return AwsBasicCredentials.create("b", "b");
+                                           })
+                                           .build();
+
+        List<PresignedGetObjectRequest> presigned = presigner.presignGetObjects(Arrays.asList(
+            GetObjectPresignRequest.builder()
+                                   .signatureDuration(Duration.ofMinutes(5))
+                                   .getObjectRequest(go -> go.bucket("foo34343434")
+                                                             .key("bar")
+                                                             .overrideConfiguration(slowCredentials))
+                                   .build(),
+            getObjectPresignRequest("foo34343434", "baz")));
+
+        // The second request is presigned after the first one's credentials were resolved, but it is still valid for the
+        // whole signature duration.
+        assertThat(presigned.get(1).httpRequest().rawQueryParameters().get("X-Amz-Expires").get(0)).satisfies(expires -> {
+            assertThat(Integer.parseInt(expires)).isCloseTo(300, Offset.offset(2));
+        });
+    }
+
     @Test
     public void putObject_IsNotUrlCompatible() {
         PresignedPutObjectRequest presigned =
@@ -325,4 +411,11 @@ public class S3PresignerTest {
             assertThat(Integer.parseInt(expires)).isCloseTo(1234, Offset.offset(2));
         });
     }
-}
\ No newline at end of file
+
+    private static GetObjectPresignRequest getObjectPresignRequest(String bucket, String key) {
+        return GetObjectPresignRequest.builder()
+                                      .signatureDuration(Duration.ofMinutes(5))
+                                      .getObjectRequest(go -> go.bucket(bucket).key(key))
+                                      .build();
+    }
+}
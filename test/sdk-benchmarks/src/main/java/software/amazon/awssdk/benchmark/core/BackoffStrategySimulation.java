@@ -0,0 +1,209 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.LongUnaryOperator;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.DecorrelatedJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.FullJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.LatencyAwareBackoffStrategy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Replays synthetic throttling traces against each {@link BackoffStrategy} and reports how long it takes to complete all
+ * requests and how many attempts were sent per request (the retry amplification).
+ *
+ * <p>The simulation runs on a virtual clock, so it completes in seconds regardless of the simulated duration. The
+ * simulated service accepts a fixed number of attempts per 100ms window, and throttles the rest with a 429 response.
+ * Each request is retried up to {@value #MAX_RETRIES} times before it fails.</p>
+ */
+public final class BackoffStrategySimulation {
+    private static final Logger log = Logger.loggerFor(BackoffStrategySimulation.class);
+    private static final int MAX_RETRIES = 8;
+    private static final long WINDOW_MILLIS = 100;
+    private static final Duration BASE_DELAY = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(20);
+
+    private BackoffStrategySimulation() {
+    }
+
+    public static void main(String... args) {
+        Map<String, BackoffStrategy> strategies = new LinkedHashMap<>();
+        strategies.put("FullJitter",
+                       FullJitterBackoffStrategy.builder().baseDelay(BASE_DELAY).maxBackoffTime(MAX_BACKOFF).build());
+        strategies.put("EqualJitter",
+                       EqualJitterBackoffStrategy.builder().baseDelay(BASE_DELAY).maxBackoffTime(MAX_BACKOFF).build());
+        strategies.put("DecorrelatedJitter",
+                       DecorrelatedJitterBackoffStrategy.builder().baseDelay(BASE_DELAY).maxBackoffTime(MAX_BACKOFF).build());
+        strategies.put("LatencyAware",
+                       LatencyAwareBackoffStrategy.builder().baseDelay(BASE_DELAY).maxBackoffTime(MAX_BACKOFF).build());
+
+        StringBuilder report = new StringBuilder(String.format("%n%-14s %-20s %12s %10s %10s %14s %9s%n", "Scenario", "Strategy",
+                                                               "Completion", "Mean", "p99", "Amplification", "Failures"));
+        for (Scenario scenario : scenarios()) {
+            for (Map.Entry<String, BackoffStrategy> strategy : strategies.entrySet()) {
+                report.append(scenario.run(strategy.getValue()).format(scenario.name, strategy.getKey())).append('\n');
+            }
+        }
+        log.info(report::toString);
+    }
+
+    private static List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>();
+
+        // 2000 requests arrive at once at a service that accepts 100 attempts per window.
+        scenarios.add(new Scenario("burst", 2000, i -> 0, t -> 100, t -> 20, t -> 20, null));
+
+        // A steady 50 requests per window for 10 seconds. Between 2 and 5 seconds the service only accepts 10 attempts per
+        // window and asks clients to come back after a second.
+        LongUnaryOperator brownoutCapacity = t -> t >= 2_000 && t < 5_000 ? 10 : 100;
+        scenarios.add(new Scenario("brownout", 5000, i -> i / 50 * WINDOW_MILLIS, brownoutCapacity, t -> 20, t -> 20,
+                                   Duration.ofSeconds(1)));
+
+        // 500 requests over one second at a service that accepts 20 attempts per window, and that takes 500ms to throttle.
+        scenarios.add(new Scenario("slow-failure", 500, i -> i * 2, t -> 20, t -> 20, t -> 500, null));
+
+        return scenarios;
+    }
+
+    private static final class Scenario {
+        private final String name;
+        private final int requests;
+        private final LongUnaryOperator arrivalMillis;
+        private final LongUnaryOperator capacityPerWindow;
+        private final LongUnaryOperator successLatencyMillis;
+        private final LongUnaryOperator throttleLatencyMillis;
+        private final Duration retryAfter;
+
+        private Scenario(String name, int requests, LongUnaryOperator arrivalMillis, LongUnaryOperator capacityPerWindow,
+                         LongUnaryOperator successLatencyMillis, LongUnaryOperator throttleLatencyMillis, Duration retryAfter) {
+            this.name = name;
+            this.requests = requests;
+            this.arrivalMillis = arrivalMillis;
+            this.capacityPerWindow = capacityPerWindow;
+            this.successLatencyMillis = successLatencyMillis;
+            this.throttleLatencyMillis = throttleLatencyMillis;
+            this.retryAfter = retryAfter;
+        }
+
+        private Result run(BackoffStrategy strategy) {
+            PriorityQueue<Attempt> attempts = new PriorityQueue<>((a, b) -> Long.compare(a.startMillis, b.startMillis));
+            for (int i = 0; i < requests; i++) {
+                long arrival = arrivalMillis.applyAsLong(i);
+                attempts.add(new Attempt(new SimulatedRequest(arrival), arrival, 0));
+            }
+
+            Map<Long, Long> acceptedPerWindow = new HashMap<>();
+            List<Long> latencies = new ArrayList<>(requests);
+            long totalAttempts = 0;
+            long completion = 0;
+            int failures = 0;
+
+            while (!attempts.isEmpty()) {
+                Attempt attempt = attempts.poll();
+                ++totalAttempts;
+
+                long window = attempt.startMillis / WINDOW_MILLIS;
+                long accepted = acceptedPerWindow.getOrDefault(window, 0L);
+                if (accepted < capacityPerWindow.applyAsLong(attempt.startMillis)) {
+                    acceptedPerWindow.put(window, accepted + 1);
+                    long end = attempt.startMillis + successLatencyMillis.applyAsLong(attempt.startMillis);
+                    latencies.add(end - attempt.request.arrivalMillis);
+                    completion = Math.max(completion, end);
+                    continue;
+                }
+
+                long attemptDuration = throttleLatencyMillis.applyAsLong(attempt.startMillis);
+                long end = attempt.startMillis + attemptDuration;
+                if (attempt.retriesAttempted >= MAX_RETRIES) {
+                    ++failures;
+                    completion = Math.max(completion, end);
+                    continue;
+                }
+
+                RetryPolicyContext context =
+                    RetryPolicyContext.builder()
+                                      .retriesAttempted(attempt.retriesAttempted)
+                                      .exception(SdkServiceException.builder().statusCode(429).build())
+                                      .httpStatusCode(429)
+                                      .executionAttributes(attempt.request.executionAttributes)
+                                      .lastAttemptDuration(Duration.ofMillis(attemptDuration))
+                                      .retryAfter(retryAfter)
+                                      .build();
+                long delay = strategy.computeDelayBeforeNextRetry(context).toMillis();
+                attempts.add(new Attempt(attempt.request, end + delay, attempt.retriesAttempted + 1));
+            }
+
+            Collections.sort(latencies);
+            return new Result(completion, latencies, (double) totalAttempts / requests, failures);
+        }
+    }
+
+    private static final class SimulatedRequest {
+        private final long arrivalMillis;
+        private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+
+        private SimulatedRequest(long arrivalMillis) {
+            this.arrivalMillis = arrivalMillis;
+        }
+    }
+
+    private static final class Attempt {
+        private final SimulatedRequest request;
+        private final long startMillis;
+        private final int retriesAttempted;
+
+        private Attempt(SimulatedRequest request, long startMillis, int retriesAttempted) {
+            this.request = request;
+            this.startMillis = startMillis;
+            this.retriesAttempted = retriesAttempted;
+        }
+    }
+
+    private static final class Result {
+        private final long completionMillis;
+        private final List<Long> sortedLatencies;
+        private final double amplification;
+        private final int failures;
+
+        private Result(long completionMillis, List<Long> sortedLatencies, double amplification, int failures) {
+            this.completionMillis = completionMillis;
+            this.sortedLatencies = sortedLatencies;
+            this.amplification = amplification;
+            this.failures = failures;
+        }
+
+        private String format(String scenario, String strategy) {
+            double mean = sortedLatencies.stream().mapToLong(Long::longValue).average().orElse(0);
+            long p99 = sortedLatencies.isEmpty() ? 0 : sortedLatencies.get((int) (sortedLatencies.size() * 0.99));
+            return String.format("%-14s %-20s %10dms %8.0fms %8dms %14.2f %9d",
+                                 scenario, strategy, completionMillis, mean, p99, amplification, failures);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.benchmark.core;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.util.CapacityManager;
+
+/**
+ * Measures the throughput of acquiring retry capacity from and releasing it to a {@link CapacityManager} shared by many
+ * threads, the way a client's retry capacity is shared by all of its requests during a partial outage.
+ *
+ * <p>With a large maximum capacity every acquire succeeds, and the benchmark measures only contention on the shared
+ * counter. With a small maximum capacity, some acquires fail because other threads are holding the capacity.</p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CapacityManagerBenchmark {
+    private static final int RETRY_COST = 5;
+
+    @Param({"20", "500"})
+    private int maxCapacity;
+
+    private CapacityManager capacityManager;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        capacityManager = new CapacityManager(maxCapacity);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void acquireAndReleaseOneThread(Blackhole blackhole) {
+        acquireAndRelease(blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void acquireAndReleaseEightThreads(Blackhole blackhole) {
+        acquireAndRelease(blackhole);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void acquireAndReleaseThirtyTwoThreads(Blackhole blackhole) {
+        acquireAndRelease(blackhole);
+    }
+
+    private void acquireAndRelease(Blackhole blackhole) {
+        boolean acquired = capacityManager.acquire(RETRY_COST);
+        blackhole.consume(acquired);
+        if (acquired) {
+            capacityManager.release(RETRY_COST);
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CapacityManagerBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
+
+/**
+ * Measures the throughput of acquiring a channel from and releasing it to a {@link BetterFixedChannelPool} at different
+ * levels of concurrency. The delegate pool hands out the same channel immediately, so the benchmark measures only the
+ * overhead of enforcing the maximum number of connections.
+ *
+ * <p>With a maximum number of connections higher than the number of threads, every acquire takes the lock-free path. With
+ * a lower maximum, acquires queue up in the pool's event loop until a channel is released.</p>
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BetterFixedChannelPoolBenchmark {
+
+    @Param({"4", "64"})
+    private int maxConnections;
+
+    private EventLoopGroup eventLoopGroup;
+    private BetterFixedChannelPool channelPool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        eventLoopGroup = new DefaultEventLoopGroup(1);
+        channelPool = BetterFixedChannelPool.builder()
+                                            .channelPool(new ImmediateChannelPool())
+                                            .executor(eventLoopGroup.next())
+                                            .acquireTimeoutAction(BetterFixedChannelPool.AcquireTimeoutAction.FAIL)
+                                            .acquireTimeoutMillis(TimeUnit.SECONDS.toMillis(10))
+                                            .maxConnections(maxConnections)
+                                            .maxPendingAcquires(Integer.MAX_VALUE)
+                                            .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        channelPool.close();
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void acquireAndReleaseOneThread(Blackhole blackhole) {
+        acquireAndRelease(blackhole);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void acquireAndReleaseEightThreads(Blackhole blackhole) {
+        acquireAndRelease(blackhole);
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void acquireAndReleaseThirtyTwoThreads(Blackhole blackhole) {
+        acquireAndRelease(blackhole);
+    }
+
+    private void acquireAndRelease(Blackhole blackhole) {
+        Channel channel = channelPool.acquire().syncUninterruptibly().getNow();
+        blackhole.consume(channel);
+        channelPool.release(channel).syncUninterruptibly();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(BetterFixedChannelPoolBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+
+    /**
+     * A pool that completes every acquire and release immediately, with the same channel.
+     */
+    private static final class ImmediateChannelPool implements ChannelPool {
+        private final Channel channel = new EmbeddedChannel();
+
+        @Override
+        public Future<Channel> acquire() {
+            return acquire(ImmediateEventExecutor.INSTANCE.newPromise());
+        }
+
+        @Override
+        public Future<Channel> acquire(Promise<Channel> promise) {
+            return promise.setSuccess(channel);
+        }
+
+        @Override
+        public Future<Void> release(Channel channel) {
+            return release(channel, ImmediateEventExecutor.INSTANCE.newPromise());
+        }
+
+        @Override
+        public Future<Void> release(Channel channel, Promise<Void> promise) {
+            return promise.setSuccess(null);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Utilities for working with enums.
+ */
+@SdkProtectedApi
+public final class EnumUtils {
+
+    private EnumUtils() {
+    }
+
+    /**
+     * Create a map that indexes all constants of an enum by a key, for example the value a generated enum is sent and
+     * received as. This lets callers find a constant by its key with a single lookup instead of searching
+     * {@link Class#getEnumConstants()}.
+     *
+     * @param enumType The type of the enum.
+     * @param indexFunction A function that computes the key of a constant.
+     * @param <K> The type of the keys.
+     * @param <V> The type of the enum.
+     * @return An unmodifiable map of keys to constants. If several constants have the same key, the one declared first is
+     * used, the same constant a search in declaration order would find.
+     */
+    public static <K, V extends Enum<V>> Map<K, V> index(Class<V> enumType, Function<? super V, K> indexFunction) {
+        V[] constants = enumType.getEnumConstants();
+        Map<K, V> index = new HashMap<>(constants.length * 4 / 3 + 1);
+        for (V constant : constants) {
+            index.putIfAbsent(indexFunction.apply(constant), constant);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2020 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class EnumUtilsTest {
+
+    @Test
+    public void index_MapsEveryKeyToItsConstant() {
+        Map<String, Status> index = EnumUtils.index(Status.class, Status::toString);
+
+        assertThat(index).hasSize(3);
+        assertThat(index.get("available")).isEqualTo(Status.AVAILABLE);
+        assertThat(index.get("failed")).isEqualTo(Status.FAILED);
+        assertThat(index.get("null")).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    public void index_DuplicateKeys_FirstConstantWins() {
+        Map<Boolean, Status> index = EnumUtils.index(Status.class, s -> s.toString().contains("a"));
+
+        assertThat(index).hasSize(2);
+        assertThat(index.get(true)).isEqualTo(Status.AVAILABLE);
+        assertThat(index.get(false)).isEqualTo(Status.UNKNOWN);
+    }
+
+    @Test
+    public void index_IsUnmodifiable() {
+        Map<String, Status> index = EnumUtils.index(Status.class, Status::toString);
+
+        assertThatThrownBy(() -> index.put("other", Status.AVAILABLE)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private enum Status {
+        AVAILABLE("available"),
+        FAILED("failed"),
+        UNKNOWN(null);
+
+        private final String value;
+
+        Status(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+    }
+}